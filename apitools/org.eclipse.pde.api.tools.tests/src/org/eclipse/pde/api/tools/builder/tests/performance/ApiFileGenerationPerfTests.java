@@ -0,0 +1,68 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.builder.tests.performance;
+
+import java.nio.file.Path;
+
+import org.eclipse.pde.api.tools.internal.APIFileGenerator;
+import org.eclipse.pde.api.tools.internal.IApiCoreConstants;
+import org.eclipse.pde.api.tools.model.tests.ApiFileGenerationTests;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Measures the generation of an .api_description file from a synthetic source
+ * tree with different numbers of threads, see {@link ApiFileGenerationTests}
+ * for the checks of the generated file.
+ */
+public class ApiFileGenerationPerfTests {
+
+	private static final int PACKAGES = 20;
+	private static final int TYPES_PER_PACKAGE = 50;
+	private static final int[] THREADS = { 1, 4, 16 };
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testGenerationThroughput() throws Exception {
+		Path project = folder.newFolder("project").toPath(); //$NON-NLS-1$
+		Path bin = folder.newFolder("bin").toPath(); //$NON-NLS-1$
+		int files = ApiFileGenerationTests.createSourceTree(project, PACKAGES, TYPES_PER_PACKAGE);
+
+		for (int threads : THREADS) {
+			Path target = folder.newFolder("target" + threads).toPath(); //$NON-NLS-1$
+			// warm-up
+			generate(project, bin, target, threads);
+			long start = System.nanoTime();
+			generate(project, bin, target, threads);
+			long elapsed = System.nanoTime() - start;
+			System.out.println(String.format("API description generation with %d thread(s): %.0f files/s", //$NON-NLS-1$
+					threads, files / (elapsed / 1e9)));
+		}
+	}
+
+	private void generate(Path project, Path bin, Path target, int threads) {
+		APIFileGenerator generator = new APIFileGenerator();
+		generator.projectName = "perf.project"; //$NON-NLS-1$
+		generator.projectLocation = project.toString();
+		generator.binaryLocations = bin.toString();
+		generator.targetFolder = target.toString();
+		generator.allowNonApiProject = true;
+		generator.encoding = IApiCoreConstants.UTF_8;
+		generator.threads = threads;
+		generator.generateAPIFile();
+	}
+}
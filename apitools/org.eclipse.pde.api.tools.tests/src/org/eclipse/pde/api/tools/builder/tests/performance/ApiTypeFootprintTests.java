@@ -0,0 +1,227 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.builder.tests.performance;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.api.tools.internal.model.AbstractApiTypeRoot;
+import org.eclipse.pde.api.tools.internal.model.ApiMember;
+import org.eclipse.pde.api.tools.internal.model.MemberTable;
+import org.eclipse.pde.api.tools.internal.model.MethodKey;
+import org.eclipse.pde.api.tools.internal.model.TypeStructureBuilder;
+import org.eclipse.pde.api.tools.internal.provisional.model.ApiTypeContainerVisitor;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiField;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiMethod;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
+import org.eclipse.pde.api.tools.model.tests.TestSuiteHelper;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Opcodes;
+
+/**
+ * Measures the heap retained by the type structures of a large generated set
+ * of jars, with the previous storage of the members in linked hash maps and
+ * with the member tables, with and without the string pool of the baseline.
+ */
+public class ApiTypeFootprintTests {
+
+	private static final int BUNDLES = 20;
+	private static final int TYPES_PER_BUNDLE = 250;
+	private static final int FIELDS = 10;
+	private static final int METHODS = 20;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testRetainedBytesPerType() throws Exception {
+		File root = folder.newFolder("bundles"); //$NON-NLS-1$
+		for (int i = 0; i < BUNDLES; i++) {
+			createBundle(new File(root, "footprint.bundle" + i + ".jar"), i); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		IApiBaseline baseline = TestSuiteHelper.createBaseline("footprint", root); //$NON-NLS-1$
+		try {
+			List<IApiTypeRoot> roots = new ArrayList<>();
+			for (IApiComponent component : baseline.getApiComponents()) {
+				if (component.getSymbolicName().startsWith("footprint.")) { //$NON-NLS-1$
+					component.accept(new ApiTypeContainerVisitor() {
+						@Override
+						public void visit(String packageName, IApiTypeRoot typeroot) {
+							roots.add(typeroot);
+						}
+					});
+				}
+			}
+			assertEquals("Unexpected number of types", BUNDLES * TYPES_PER_BUNDLE, roots.size()); //$NON-NLS-1$
+
+			List<IApiType> unpooled = new ArrayList<>(roots.size());
+			long unpooledBytes = buildStructures(roots, false, unpooled);
+			// the members of the same structures in the previous and the
+			// current storage, the difference is the saving of the tables
+			List<Object> maps = new ArrayList<>();
+			long mapBytes = storeMembers(unpooled, false, maps);
+			List<Object> tables = new ArrayList<>();
+			long tableBytes = storeMembers(unpooled, true, tables);
+			List<IApiType> pooled = new ArrayList<>(roots.size());
+			long pooledBytes = buildStructures(roots, true, pooled);
+
+			System.out.println(String.format("Retained bytes per type with linked hash maps, without string pool: %d", //$NON-NLS-1$
+					(unpooledBytes - tableBytes + mapBytes) / roots.size()));
+			System.out.println(String.format("Retained bytes per type with member tables, without string pool: %d", //$NON-NLS-1$
+					unpooledBytes / roots.size()));
+			System.out.println(String.format("Retained bytes per type with member tables and baseline string pool: %d", //$NON-NLS-1$
+					pooledBytes / roots.size()));
+
+			IApiType first = pooled.get(0);
+			IApiType last = pooled.get(pooled.size() - 1);
+			assertEquals(METHODS + 1, last.getMethods().length);
+			assertEquals(FIELDS, last.getFields().length);
+			IApiMethod method = last.getMethod("method0", "(Ljava/lang/String;I)Ljava/lang/String;"); //$NON-NLS-1$ //$NON-NLS-2$
+			assertNotNull("Method not found", method); //$NON-NLS-1$
+			assertSame("Descriptors are not shared", first.getMethods()[1].getSignature(), method.getSignature()); //$NON-NLS-1$
+			assertSame("Names are not shared", first.getField("field0").getName(), last.getField("field0").getName()); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			// keep everything reachable until all was measured
+			assertEquals(roots.size(), unpooled.size());
+			assertEquals(2 * roots.size(), maps.size());
+			assertEquals(2 * roots.size(), tables.size());
+		} finally {
+			baseline.dispose();
+		}
+	}
+
+	/**
+	 * Builds the type structure of all given type roots and returns the number
+	 * of bytes retained by them.
+	 */
+	private long buildStructures(List<IApiTypeRoot> roots, boolean pooled, List<IApiType> types) throws CoreException {
+		// read the contents first, only the structures should be measured
+		List<byte[]> contents = new ArrayList<>(roots.size());
+		for (IApiTypeRoot root : roots) {
+			contents.add(((AbstractApiTypeRoot) root).getContents());
+		}
+		long before = usedMemory();
+		for (int i = 0; i < roots.size(); i++) {
+			IApiTypeRoot root = roots.get(i);
+			IApiComponent component = pooled ? root.getApiComponent() : null;
+			types.add(TypeStructureBuilder.buildTypeStructure(contents.get(i), component, root));
+		}
+		long after = usedMemory();
+		contents.clear();
+		return after - before;
+	}
+
+	/**
+	 * Stores the fields and methods of the given types the way
+	 * {@link org.eclipse.pde.api.tools.internal.model.ApiType} does, in member
+	 * tables, or did before, in linked hash maps keyed by name and by method
+	 * key, and returns the number of bytes retained by the storage.
+	 */
+	private long storeMembers(List<IApiType> types, boolean tables, List<Object> storage) {
+		long before = usedMemory();
+		for (IApiType type : types) {
+			if (tables) {
+				MemberTable fields = new MemberTable(false);
+				for (IApiField field : type.getFields()) {
+					fields.add((ApiMember) field);
+				}
+				fields.trim();
+				MemberTable methods = new MemberTable(true);
+				for (IApiMethod method : type.getMethods()) {
+					methods.add((ApiMember) method);
+				}
+				methods.trim();
+				storage.add(fields);
+				storage.add(methods);
+			} else {
+				Map<String, IApiField> fields = new LinkedHashMap<>();
+				for (IApiField field : type.getFields()) {
+					fields.put(field.getName(), field);
+				}
+				Map<MethodKey, IApiMethod> methods = new LinkedHashMap<>();
+				for (IApiMethod method : type.getMethods()) {
+					methods.put(new MethodKey(type.getName(), method.getName(), method.getSignature(), true), method);
+				}
+				storage.add(fields);
+				storage.add(methods);
+			}
+		}
+		return usedMemory() - before;
+	}
+
+	private static long usedMemory() {
+		Runtime runtime = Runtime.getRuntime();
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+	private void createBundle(File jar, int index) throws IOException {
+		String symbolicName = "footprint.bundle" + index; //$NON-NLS-1$
+		String packageName = "footprint/p" + index; //$NON-NLS-1$
+		Manifest manifest = new Manifest();
+		Attributes attributes = manifest.getMainAttributes();
+		attributes.put(Attributes.Name.MANIFEST_VERSION, "1.0"); //$NON-NLS-1$
+		attributes.putValue("Bundle-ManifestVersion", "2"); //$NON-NLS-1$ //$NON-NLS-2$
+		attributes.putValue("Bundle-SymbolicName", symbolicName); //$NON-NLS-1$
+		attributes.putValue("Bundle-Version", "1.0.0"); //$NON-NLS-1$ //$NON-NLS-2$
+		attributes.putValue("Export-Package", packageName.replace('/', '.')); //$NON-NLS-1$
+		try (JarOutputStream stream = new JarOutputStream(new FileOutputStream(jar), manifest)) {
+			for (int t = 0; t < TYPES_PER_BUNDLE; t++) {
+				String typeName = packageName + "/Type" + t; //$NON-NLS-1$
+				stream.putNextEntry(new JarEntry(typeName + ".class")); //$NON-NLS-1$
+				stream.write(createType(typeName));
+				stream.closeEntry();
+			}
+		}
+	}
+
+	private static byte[] createType(String typeName) {
+		ClassWriter writer = new ClassWriter(0);
+		writer.visit(Opcodes.V17, Opcodes.ACC_PUBLIC | Opcodes.ACC_SUPER | Opcodes.ACC_ABSTRACT, typeName, null, "java/lang/Object", //$NON-NLS-1$
+				new String[] { "java/io/Serializable" }); //$NON-NLS-1$
+		for (int f = 0; f < FIELDS; f++) {
+			writer.visitField(Opcodes.ACC_PUBLIC, "field" + f, "Ljava/util/List;", //$NON-NLS-1$ //$NON-NLS-2$
+					"Ljava/util/List<Ljava/lang/String;>;", null).visitEnd(); //$NON-NLS-1$
+		}
+		writer.visitMethod(Opcodes.ACC_PUBLIC, "<init>", "()V", null, null).visitEnd(); //$NON-NLS-1$ //$NON-NLS-2$
+		for (int m = 0; m < METHODS; m++) {
+			writer.visitMethod(Opcodes.ACC_PUBLIC | Opcodes.ACC_ABSTRACT, "method" + m, //$NON-NLS-1$
+					"(Ljava/lang/String;I)Ljava/lang/String;", null, //$NON-NLS-1$
+					new String[] { "java/io/IOException" }).visitEnd(); //$NON-NLS-1$
+		}
+		writer.visitEnd();
+		return writer.toByteArray();
+	}
+}
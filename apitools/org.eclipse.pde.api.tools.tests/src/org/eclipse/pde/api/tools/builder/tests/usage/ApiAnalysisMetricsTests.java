@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.builder.tests.usage;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.pde.api.tools.internal.builder.ApiAnalysisMetrics;
+import org.eclipse.pde.api.tools.internal.builder.ApiAnalysisMetrics.Phase;
+import org.eclipse.pde.api.tools.internal.problems.ApiProblemFactory;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IElementDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.problems.IApiProblem;
+
+import junit.framework.Test;
+
+/**
+ * Tests the metrics recorded by the API analysis builder against the class
+ * usage fixture <code>testC1</code>
+ */
+public class ApiAnalysisMetricsTests extends UsageTest {
+
+	public ApiAnalysisMetricsTests(String name) {
+		super(name);
+	}
+
+	@Override
+	protected int getDefaultProblemId() {
+		return ApiProblemFactory.createProblemId(IApiProblem.CATEGORY_USAGE, IElementDescriptor.TYPE, IApiProblem.ILLEGAL_EXTEND, IApiProblem.NO_FLAGS);
+	}
+
+	public static Test suite() {
+		return buildTestSuite(ApiAnalysisMetricsTests.class);
+	}
+
+	@Override
+	protected IPath getTestSourcePath() {
+		return super.getTestSourcePath().append("class"); //$NON-NLS-1$
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		ApiAnalysisMetrics.clear();
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		ApiAnalysisMetrics.setEnabled(false);
+		ApiAnalysisMetrics.clear();
+		super.tearDown();
+	}
+
+	/**
+	 * Tests that nothing is recorded while the metrics are disabled
+	 */
+	public void testMetricsDisabled() {
+		ApiAnalysisMetrics.setEnabled(false);
+		x1(false);
+		assertNull("No metrics should be recorded", ApiAnalysisMetrics.getLastBuild(getTestingProjectName())); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests the counters and phase times of a full build
+	 */
+	public void testMetricsFullBuild() throws Exception {
+		ApiAnalysisMetrics.setEnabled(true);
+		x1(false);
+		ApiAnalysisMetrics metrics = ApiAnalysisMetrics.getLastBuild(getTestingProjectName());
+		assertNotNull("The build should be measured", metrics); //$NON-NLS-1$
+		assertTrue("The build should be a full build", metrics.isFullBuild()); //$NON-NLS-1$
+		// testC1 and its secondary type outer, member types are visited with
+		// their top-level type
+		assertTrue("Wrong number of visited types: " + metrics.getVisitedTypes(), metrics.getVisitedTypes() >= 2); //$NON-NLS-1$
+		// the four illegal extends of ClassUsageClass
+		assertTrue("Wrong number of resolved references: " + metrics.getResolvedReferences(), metrics.getResolvedReferences() >= 4); //$NON-NLS-1$
+		assertTrue("Wrong number of markers: " + metrics.getMarkers(), metrics.getMarkers() >= 4); //$NON-NLS-1$
+		assertTrue("The API use scan should be timed", metrics.getTime(Phase.API_USE_SCAN) > 0); //$NON-NLS-1$
+		assertTrue("The marker creation should be timed", metrics.getTime(Phase.MARKERS) > 0); //$NON-NLS-1$
+		// no baseline is set for the usage tests
+		assertEquals("No compatibility compare expected", 0, metrics.getTime(Phase.COMPATIBILITY)); //$NON-NLS-1$
+
+		Path dump = Files.createTempFile("apiMetrics", ".txt"); //$NON-NLS-1$ //$NON-NLS-2$
+		try {
+			ApiAnalysisMetrics.dump(dump);
+			List<String> lines = Files.readAllLines(dump, StandardCharsets.UTF_8);
+			assertEquals("Wrong number of dumped builds", ApiAnalysisMetrics.getLastBuilds().size(), lines.size()); //$NON-NLS-1$
+			assertTrue("The build should be dumped", lines.contains(metrics.toString())); //$NON-NLS-1$
+		} finally {
+			Files.deleteIfExists(dump);
+		}
+	}
+
+	/**
+	 * Tests the counters of an incremental build
+	 */
+	public void testMetricsIncrementalBuild() {
+		ApiAnalysisMetrics.setEnabled(true);
+		x1(true);
+		ApiAnalysisMetrics metrics = ApiAnalysisMetrics.getLastBuild(getTestingProjectName());
+		assertNotNull("The build should be measured", metrics); //$NON-NLS-1$
+		assertTrue("Wrong number of visited types: " + metrics.getVisitedTypes(), metrics.getVisitedTypes() >= 2); //$NON-NLS-1$
+		assertTrue("Wrong number of resolved references: " + metrics.getResolvedReferences(), metrics.getResolvedReferences() >= 4); //$NON-NLS-1$
+		assertTrue("Wrong number of markers: " + metrics.getMarkers(), metrics.getMarkers() >= 4); //$NON-NLS-1$
+	}
+
+	private void x1(boolean inc) {
+		setExpectedProblemIds(new int[] {
+				getDefaultProblemId(), getDefaultProblemId(), getDefaultProblemId(),
+				getDefaultProblemId() });
+		String typename = "testC1"; //$NON-NLS-1$
+		setExpectedMessageArgs(new String[][] {
+				{ ClassUsageTests.CLASS_NAME, typename },
+				{ ClassUsageTests.CLASS_NAME, INNER_NAME1 },
+				{ ClassUsageTests.CLASS_NAME, INNER_NAME2 },
+				{ ClassUsageTests.CLASS_NAME, OUTER_NAME } });
+		deployUsageTest(typename, inc);
+	}
+}
@@ -217,6 +217,7 @@ public abstract class UsageTest extends ApiBuilderTest {
 		classes.add(Java5MethodUsageTests.class);
 		classes.add(Java5ClassUsageTests.class);
 		classes.add(AnnotationUsageTests.class);
+		classes.add(ApiAnalysisMetricsTests.class);
 		// classes.add(EnumUsageTests.class);
 		return classes.toArray(new Class[classes.size()]);
 	}
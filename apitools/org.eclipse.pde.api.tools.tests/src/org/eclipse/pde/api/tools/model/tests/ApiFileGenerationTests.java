@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.model.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.eclipse.pde.api.tools.internal.APIFileGenerator;
+import org.eclipse.pde.api.tools.internal.IApiCoreConstants;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests the generation of an .api_description file from a source tree
+ */
+public class ApiFileGenerationTests {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	/**
+	 * Tests that the generated file does not depend on the number of threads
+	 * parsing the sources
+	 */
+	@Test
+	public void testGenerationIndependentOfThreads() throws Exception {
+		Path project = folder.newFolder("project").toPath(); //$NON-NLS-1$
+		Path bin = folder.newFolder("bin").toPath(); //$NON-NLS-1$
+		createSourceTree(project, 5, 10);
+
+		byte[] expected = generate(project, bin, folder.newFolder("target1").toPath(), 1); //$NON-NLS-1$
+		String description = new String(expected, StandardCharsets.UTF_8);
+		assertTrue("No restriction was generated", description.contains("restrictions")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertTrue("Type missing", description.contains("Type9")); //$NON-NLS-1$ //$NON-NLS-2$
+		for (int threads : new int[] { 2, 4, 16 }) {
+			byte[] generated = generate(project, bin, folder.newFolder("target" + threads).toPath(), threads); //$NON-NLS-1$
+			assertArrayEquals("Generated file differs with " + threads + " threads", expected, generated); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+
+	private static byte[] generate(Path project, Path bin, Path target, int threads) throws IOException {
+		APIFileGenerator generator = new APIFileGenerator();
+		generator.projectName = "test.project"; //$NON-NLS-1$
+		generator.projectLocation = project.toString();
+		generator.binaryLocations = bin.toString();
+		generator.targetFolder = target.toString();
+		generator.allowNonApiProject = true;
+		generator.encoding = IApiCoreConstants.UTF_8;
+		generator.threads = threads;
+		generator.generateAPIFile();
+		return Files.readAllBytes(target.resolve(IApiCoreConstants.API_DESCRIPTION_XML_NAME));
+	}
+
+	/**
+	 * Creates a bundle exporting packages of types with restriction tags on
+	 * the types and their members.
+	 *
+	 * @return the number of created source files
+	 */
+	public static int createSourceTree(Path project, int packages, int typesPerPackage) throws IOException {
+		StringBuilder exports = new StringBuilder();
+		for (int p = 0; p < packages; p++) {
+			String packageName = "test.p" + p; //$NON-NLS-1$
+			exports.append(p == 0 ? "" : ",\n ").append(packageName); //$NON-NLS-1$ //$NON-NLS-2$
+			Path packageDir = project.resolve("src").resolve(packageName.replace('.', File.separatorChar)); //$NON-NLS-1$
+			Files.createDirectories(packageDir);
+			for (int t = 0; t < typesPerPackage; t++) {
+				String typeName = "Type" + t; //$NON-NLS-1$
+				Files.writeString(packageDir.resolve(typeName + ".java"), createType(packageName, typeName, t)); //$NON-NLS-1$
+			}
+		}
+		Path manifest = project.resolve("META-INF").resolve("MANIFEST.MF"); //$NON-NLS-1$ //$NON-NLS-2$
+		Files.createDirectories(manifest.getParent());
+		Files.writeString(manifest, "Manifest-Version: 1.0\n" //$NON-NLS-1$
+				+ "Bundle-ManifestVersion: 2\n" //$NON-NLS-1$
+				+ "Bundle-SymbolicName: test.project\n" //$NON-NLS-1$
+				+ "Bundle-Version: 1.0.0\n" //$NON-NLS-1$
+				+ "Bundle-RequiredExecutionEnvironment: JavaSE-17\n" //$NON-NLS-1$
+				+ "Export-Package: " + exports + "\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		return packages * typesPerPackage;
+	}
+
+	private static String createType(String packageName, String typeName, int index) {
+		StringBuilder source = new StringBuilder();
+		source.append("package ").append(packageName).append(";\n\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		source.append("/**\n * @noextend This class is not intended to be subclassed by clients.\n"); //$NON-NLS-1$
+		if (index % 2 == 0) {
+			source.append(" * @noinstantiate This class is not intended to be instantiated by clients.\n"); //$NON-NLS-1$
+		}
+		source.append(" */\npublic class ").append(typeName).append(" {\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		for (int m = 0; m < 20; m++) {
+			source.append("\t/**\n\t * @noreference This field is not intended to be referenced by clients.\n\t */\n"); //$NON-NLS-1$
+			source.append("\tpublic int field").append(m).append(";\n\n"); //$NON-NLS-1$ //$NON-NLS-2$
+			source.append("\t/**\n\t * @nooverride This method is not intended to be re-implemented or extended by clients.\n\t */\n"); //$NON-NLS-1$
+			source.append("\tpublic String method").append(m).append("(int value, String text) {\n"); //$NON-NLS-1$ //$NON-NLS-2$
+			source.append("\t\treturn text + value + field").append(m).append(";\n\t}\n\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		source.append("}\n"); //$NON-NLS-1$
+		return source.toString();
+	}
+}
@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.model.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.pde.api.tools.internal.model.ApiField;
+import org.eclipse.pde.api.tools.internal.model.ApiMember;
+import org.eclipse.pde.api.tools.internal.model.ApiMethod;
+import org.eclipse.pde.api.tools.internal.model.ApiType;
+import org.eclipse.pde.api.tools.internal.model.MemberTable;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiField;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiMethod;
+import org.junit.Test;
+
+/**
+ * Tests the storage of the fields and methods of an {@link ApiType}
+ */
+public class MemberTableTests {
+
+	private final ApiType type = new ApiType(null, "p.Type", "Lp/Type;", null, 0, null, null); //$NON-NLS-1$ //$NON-NLS-2$
+
+	@Test
+	public void testDeclarationOrder() {
+		List<ApiMethod> methods = new ArrayList<>();
+		methods.add(type.addMethod("z", "()V", null, 0, null)); //$NON-NLS-1$ //$NON-NLS-2$
+		methods.add(type.addMethod("a", "(I)V", null, 0, null)); //$NON-NLS-1$ //$NON-NLS-2$
+		methods.add(type.addMethod("m", "()V", null, 0, null)); //$NON-NLS-1$ //$NON-NLS-2$
+		methods.add(type.addMethod("a", "()V", null, 0, null)); //$NON-NLS-1$ //$NON-NLS-2$
+		assertArrayEquals(methods.toArray(), type.getMethods());
+		for (ApiMethod method : methods) {
+			assertSame(method, type.getMethod(method.getName(), method.getSignature()));
+		}
+		assertNull(type.getMethod("a", "(J)V")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertNull(type.getMethod("b", "()V")); //$NON-NLS-1$ //$NON-NLS-2$
+
+		IApiField second = type.addField("b", "I", null, 0, null); //$NON-NLS-1$ //$NON-NLS-2$
+		IApiField first = type.addField("a", "I", null, 0, null); //$NON-NLS-1$ //$NON-NLS-2$
+		assertArrayEquals(new IApiField[] { second, first }, type.getFields());
+	}
+
+	@Test
+	public void testReplaceExisting() {
+		type.addMethod("a", "()V", null, 0, null); //$NON-NLS-1$ //$NON-NLS-2$
+		type.addMethod("b", "()V", null, 0, null); //$NON-NLS-1$ //$NON-NLS-2$
+		type.addMethod("c", "()V", null, 0, null); //$NON-NLS-1$ //$NON-NLS-2$
+		ApiMethod replacement = type.addMethod("b", "()V", null, 1, null); //$NON-NLS-1$ //$NON-NLS-2$
+
+		IApiMethod[] methods = type.getMethods();
+		assertEquals(3, methods.length);
+		// replaced in place
+		assertSame(replacement, methods[1]);
+		assertSame(replacement, type.getMethod("b", "()V")); //$NON-NLS-1$ //$NON-NLS-2$
+
+		// fields are identified by name only
+		type.addField("f", "I", null, 0, null); //$NON-NLS-1$ //$NON-NLS-2$
+		type.addField("g", "I", null, 0, null); //$NON-NLS-1$ //$NON-NLS-2$
+		ApiField field = type.addField("f", "J", null, 0, null); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals(2, type.getFields().length);
+		assertSame(field, type.getFields()[0]);
+		assertSame(field, type.getField("f")); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testNullSignatures() {
+		ApiMethod unsigned = type.addMethod("m", null, null, 0, null); //$NON-NLS-1$
+		ApiMethod signed = type.addMethod("m", "()V", null, 0, null); //$NON-NLS-1$ //$NON-NLS-2$
+		ApiMethod other = type.addMethod("a", null, null, 0, null); //$NON-NLS-1$
+		assertArrayEquals(new IApiMethod[] { unsigned, signed, other }, type.getMethods());
+		assertSame(unsigned, type.getMethod("m", null)); //$NON-NLS-1$
+		assertSame(signed, type.getMethod("m", "()V")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertSame(other, type.getMethod("a", null)); //$NON-NLS-1$
+
+		ApiMethod replacement = type.addMethod("m", null, null, 1, null); //$NON-NLS-1$
+		assertArrayEquals(new IApiMethod[] { replacement, signed, other }, type.getMethods());
+
+		// the signature is ignored for a table keyed by name
+		MemberTable fields = new MemberTable(false);
+		ApiField field = type.addField("f", null, null, 0, null); //$NON-NLS-1$
+		fields.add(field);
+		assertSame(field, fields.get("f", "I")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertSame(field, fields.get("f", null)); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testManyMembers() {
+		List<String> names = new ArrayList<>();
+		for (int i = 0; i < 200; i++) {
+			names.add("method" + i); //$NON-NLS-1$
+		}
+		Collections.shuffle(names, new Random(42));
+		MemberTable table = new MemberTable(true);
+		List<ApiMember> members = new ArrayList<>();
+		for (String name : names) {
+			ApiMember member = type.addMethod(name, "()V", null, 0, null); //$NON-NLS-1$
+			members.add(member);
+			table.add(member);
+			if (members.size() == 100) {
+				// members can still be added once trimmed
+				table.trim();
+			}
+		}
+		table.trim();
+		assertEquals(members.size(), table.size());
+		assertArrayEquals(members.toArray(), table.toArray(new ApiMember[table.size()]));
+		for (ApiMember member : members) {
+			assertSame(member, table.get(member.getName(), "()V")); //$NON-NLS-1$
+		}
+		assertNull(table.get("method200", "()V")); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+}
@@ -13,6 +13,8 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.tests;
 
+import org.eclipse.pde.api.tools.builder.tests.performance.ApiFileGenerationPerfTests;
+import org.eclipse.pde.api.tools.builder.tests.performance.ApiTypeFootprintTests;
 import org.eclipse.pde.api.tools.builder.tests.performance.PerformanceTest;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
@@ -23,7 +25,7 @@ import org.junit.runners.Suite;
  */
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
-		PerformanceTest.class
+		PerformanceTest.class, ApiFileGenerationPerfTests.class, ApiTypeFootprintTests.class
 })
 public class ApiToolsPerformanceTestSuite {
 
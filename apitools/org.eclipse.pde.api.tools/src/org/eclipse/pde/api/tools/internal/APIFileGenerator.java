@@ -24,12 +24,18 @@ import java.io.StringReader;
 import java.io.StringWriter;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.Enumeration;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
@@ -37,6 +43,7 @@ import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.parsers.SAXParser;
 
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.osgi.util.ManifestElement;
 import org.eclipse.osgi.util.NLS;
@@ -112,6 +119,12 @@ public class APIFileGenerator {
 	public String sourceLocations;
 	public boolean allowNonApiProject = false;
 	public String encoding;
+	/**
+	 * Number of threads parsing the compilation units. The tags are collected
+	 * from the parsed units in the order of the units whatever the number of
+	 * threads, so the generated file does not depend on it.
+	 */
+	public int threads = 1;
 
 	public void generateAPIFile() {
 		if (this.binaryLocations == null || this.projectName == null || this.projectLocation == null || this.targetFolder == null) {
@@ -246,27 +259,27 @@ public class APIFileGenerator {
 			}
 		}
 		ApiDescription apiDescription = new ApiDescription(this.projectName);
-		TagScanner tagScanner = TagScanner.newScanner();
 		if (allFiles != null && allFiles.length != 0) {
 			Map<String, String> options = JavaCore.getOptions();
 			options.put(JavaCore.COMPILER_COMPLIANCE, resolveCompliance(manifestMap));
-			CompilationUnit unit = null;
-			for (int i = 0, max = allFiles.length; i < max; i++) {
-				unit = new CompilationUnit(allFiles[i].getAbsolutePath(), this.encoding);
-				if (this.debug) {
-					System.out.println("Unit name[" + i + "] : " + unit.getName()); //$NON-NLS-1$ //$NON-NLS-2$
-				}
+			if (this.threads > 1) {
 				try {
-					tagScanner.scan(unit, apiDescription, classFileContainer, options, null);
-				} catch (CoreException e) {
-					ApiPlugin.log(e);
-				} finally {
+					scanInParallel(allFiles, apiDescription, classFileContainer, options);
+				} catch (InterruptedException e) {
+					// the API description is incomplete, it is not written
+					Thread.currentThread().interrupt();
+					throw new OperationCanceledException();
+				}
+			} else {
+				TagScanner tagScanner = TagScanner.newScanner();
+				for (int i = 0, max = allFiles.length; i < max; i++) {
+					CompilationUnit unit = newCompilationUnit(allFiles, i);
 					try {
-						if (classFileContainer != null) {
-							classFileContainer.close();
-						}
+						tagScanner.scan(unit, apiDescription, classFileContainer, options, null);
 					} catch (CoreException e) {
-						// ignore
+						ApiPlugin.log(e);
+					} finally {
+						close(classFileContainer);
 					}
 				}
 			}
@@ -281,6 +294,67 @@ public class APIFileGenerator {
 		}
 	}
 
+	/**
+	 * Parses the given compilation units on {@link #threads} threads and scans
+	 * the parsed units for tags one after the other in the order of the given
+	 * files, so that the API description is the same as when scanning them
+	 * sequentially. At most two units per thread are parsed ahead of the scan.
+	 * As when scanning sequentially, a unit that cannot be read is logged and
+	 * any other exception is thrown.
+	 *
+	 * @throws InterruptedException if interrupted while waiting for a unit to
+	 *             be parsed, the API description is then incomplete
+	 */
+	private void scanInParallel(File[] allFiles, ApiDescription apiDescription, IApiTypeContainer classFileContainer,
+			Map<String, String> options) throws InterruptedException {
+		TagScanner tagScanner = TagScanner.newScanner();
+		ExecutorService executor = Executors.newFixedThreadPool(this.threads);
+		try {
+			Deque<Future<org.eclipse.jdt.core.dom.CompilationUnit>> parsed = new ArrayDeque<>();
+			int next = 0;
+			for (int i = 0, max = allFiles.length; i < max; i++) {
+				while (next < max && parsed.size() < 2 * this.threads) {
+					CompilationUnit unit = newCompilationUnit(allFiles, next++);
+					parsed.add(executor.submit(() -> tagScanner.parse(unit, options, null)));
+				}
+				try {
+					tagScanner.scan(parsed.remove().get(), apiDescription, classFileContainer);
+				} catch (ExecutionException e) {
+					Throwable cause = e.getCause();
+					if (cause instanceof RuntimeException runtimeException) {
+						throw runtimeException;
+					}
+					if (cause instanceof Error error) {
+						throw error;
+					}
+					ApiPlugin.log(cause);
+				} finally {
+					close(classFileContainer);
+				}
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private CompilationUnit newCompilationUnit(File[] allFiles, int index) {
+		CompilationUnit unit = new CompilationUnit(allFiles[index].getAbsolutePath(), this.encoding);
+		if (this.debug) {
+			System.out.println("Unit name[" + index + "] : " + unit.getName()); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		return unit;
+	}
+
+	private static void close(IApiTypeContainer container) {
+		try {
+			if (container != null) {
+				container.close();
+			}
+		} catch (CoreException e) {
+			// ignore
+		}
+	}
+
 	/**
 	 * Returns if the given path ends with one of the collected API path names
 	 *
@@ -43,6 +43,7 @@ import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.equinox.app.IApplication;
 import org.eclipse.equinox.app.IApplicationContext;
 import org.eclipse.equinox.frameworkadmin.BundleInfo;
+import org.eclipse.pde.api.tools.internal.builder.ApiAnalysisMetrics;
 import org.eclipse.pde.api.tools.internal.model.ApiBaseline;
 import org.eclipse.pde.api.tools.internal.model.BundleComponent;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
@@ -66,6 +67,7 @@ public class ApiAnalysisApplication implements IApplication {
 		private static final String BASELINE_ARG = "baseline"; //$NON-NLS-1$
 		private static final String BASELINE_DEFAULT_VALUE = "default"; //$NON-NLS-1$
 		private static final String DEPENDENCY_LIST_ARG = "dependencyList"; //$NON-NLS-1$
+		private static final String METRICS_ARG = "metrics"; //$NON-NLS-1$
 
 		private Request() {
 		}
@@ -79,6 +81,9 @@ public class ApiAnalysisApplication implements IApplication {
 						res.failOnError = true;
 					}
 					currentKey = param.substring(1);
+					if (METRICS_ARG.equals(currentKey)) {
+						res.metrics = true;
+					}
 				} else if (PROJECT_ARG.equals(currentKey)) {
 					res.project = new File(param);
 				} else if (BASELINE_ARG.equals(currentKey) && !BASELINE_DEFAULT_VALUE.equals(param)) {
@@ -87,6 +92,8 @@ public class ApiAnalysisApplication implements IApplication {
 					res.failOnError = Boolean.parseBoolean(param);
 				} else if (DEPENDENCY_LIST_ARG.equals(currentKey)) {
 					res.tpFile = new File(param);
+				} else if (METRICS_ARG.equals(currentKey)) {
+					res.metricsFile = new File(param);
 				}
 			}
 			if (FAIL_ON_ERROR_ARG.equals(currentKey)) {
@@ -99,6 +106,8 @@ public class ApiAnalysisApplication implements IApplication {
 		public File baselinePath;
 		public boolean failOnError;
 		public File tpFile;
+		public boolean metrics;
+		public File metricsFile;
 	}
 
 	private ICoreRunnable restoreOriginalProjectState = null;
@@ -127,12 +136,19 @@ public class ApiAnalysisApplication implements IApplication {
 			}
 			setTargetPlatform(args.tpFile);
 
+			if (args.metrics) {
+				ApiAnalysisMetrics.clear();
+				ApiAnalysisMetrics.setEnabled(true);
+			}
 			project.build(IncrementalProjectBuilder.FULL_BUILD, new NullProgressMonitor());
 			// wait untill all jobs has finished that might be sceduled as part of the
 			// build...
 			while (!Job.getJobManager().isIdle()) {
 				Thread.yield();
 			}
+			if (args.metrics) {
+				printMetrics(args.metricsFile);
+			}
 			IMarker[] allProblemMarkers = project.findMarkers(IMarker.PROBLEM, true, IResource.DEPTH_INFINITE);
 			Predicate<IMarker> isAPIMarker = marker -> {
 				try {
@@ -191,6 +207,15 @@ public class ApiAnalysisApplication implements IApplication {
 		}
 	}
 
+	private static void printMetrics(File metricsFile) throws IOException {
+		for (ApiAnalysisMetrics metrics : ApiAnalysisMetrics.getLastBuilds()) {
+			System.out.println("API analysis metrics: " + metrics); //$NON-NLS-1$
+		}
+		if (metricsFile != null) {
+			ApiAnalysisMetrics.dump(metricsFile.toPath());
+		}
+	}
+
 	private static void printMarker(IMarker marker, String type) {
 		String path = getFullPath(marker);
 		String file = marker.getResource().getName();
@@ -66,6 +66,7 @@ import org.eclipse.osgi.util.NLS;
 import org.eclipse.pde.api.tools.internal.ApiBaselineManager.ApiBaselineManagerRule;
 import org.eclipse.pde.api.tools.internal.ApiDescriptionManager;
 import org.eclipse.pde.api.tools.internal.IApiCoreConstants;
+import org.eclipse.pde.api.tools.internal.builder.ApiAnalysisMetrics.Phase;
 import org.eclipse.pde.api.tools.internal.problems.ApiProblemFactory;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
 import org.eclipse.pde.api.tools.internal.provisional.IApiMarkerConstants;
@@ -175,6 +176,11 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 	 */
 	private BuildState buildstate = null;
 
+	/**
+	 * The metrics of the current build
+	 */
+	private ApiAnalysisMetrics metrics = ApiAnalysisMetrics.DISABLED;
+
 	private final ConcurrentLinkedQueue<Runnable> markersQueue = new ConcurrentLinkedQueue<>();
 
 	/**
@@ -388,6 +394,7 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 	protected void work(final boolean fullBuild, IApiBaseline wbaseline, IProject[] projects, IProgressMonitor monitor)
 			throws CoreException {
 		SubMonitor localMonitor = SubMonitor.convert(monitor, BuilderMessages.api_analysis_builder, 8);
+		this.metrics = ApiAnalysisMetrics.begin(currentproject.getName());
 
 		IApiBaseline baseline = ApiPlugin.getDefault().getApiBaselineManager().getDefaultApiBaseline();
 		try {
@@ -398,7 +405,9 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 				}
 				buildAll(baseline, wbaseline, switchMonitor);
 			} else {
+				long start = metrics.start();
 				this.buildstate = BuildState.getLastBuiltState(currentproject);
+				metrics.stop(Phase.BUILD_STATE, start);
 				if (this.buildstate == null) {
 					buildAll(baseline, wbaseline, switchMonitor);
 				} else if (worthDoingFullBuild(projects)) {
@@ -487,6 +496,7 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 				}
 				localMonitor.split(1);
 				if (this.buildstate != null) {
+					long start = metrics.start();
 					for (IProject project : projects) {
 						if (Util.isApiProject(project)) {
 							this.buildstate.addApiToolingDependentProject(project.getName());
@@ -515,6 +525,7 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 					}
 					BuildState.saveBuiltState(this.currentproject, this.buildstate);
 					this.buildstate = null;
+					metrics.stop(Phase.BUILD_STATE, start);
 					localMonitor.split(1);
 				}
 			} catch (OperationCanceledException oce) {
@@ -527,6 +538,9 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 		}
 		if (ApiPlugin.DEBUG_BUILDER) {
 			System.out.println("ApiAnalysisBuilder: Finished build of " + this.currentproject.getName() + " @ " + new Date(System.currentTimeMillis())); //$NON-NLS-1$ //$NON-NLS-2$
+			if (metrics != ApiAnalysisMetrics.DISABLED) {
+				System.out.println("ApiAnalysisBuilder: Metrics of " + metrics); //$NON-NLS-1$
+			}
 		}
 	}
 
@@ -885,6 +899,7 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 			return;
 		}
 		SubMonitor localMonitor = SubMonitor.convert(monitor, BuilderMessages.api_analysis_on_0, 4);
+		metrics.setFullBuild(true);
 		BuildState.setLastBuiltState(this.currentproject, null);
 		this.buildstate = new BuildState();
 		localMonitor
@@ -957,10 +972,11 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 	 */
 	protected void createMarkers() {
 		IApiProblem[] problems = getAnalyzer().getProblems();
+		ApiAnalysisMetrics buildMetrics = this.metrics;
 		if (isRunningAsJob()) {
-			new ApiAnalysisMarkersJob(() -> createMarkersInternally(problems)).schedule();
+			new ApiAnalysisMarkersJob(() -> createMarkersInternally(problems, buildMetrics)).schedule();
 		} else {
-			createMarkersInternally(problems);
+			createMarkersInternally(problems, buildMetrics);
 		}
 	}
 
@@ -968,8 +984,12 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 	 * Creates new markers are for the listing of problems added to this reporter.
 	 * If no problems have been added to this reporter, or we are not running in the
 	 * framework, no work is done.
+	 *
+	 * @param problems the problems to create markers for
+	 * @param buildMetrics the metrics of the build that found the problems
 	 */
-	protected void createMarkersInternally(IApiProblem[] problems) {
+	protected void createMarkersInternally(IApiProblem[] problems, ApiAnalysisMetrics buildMetrics) {
+		long start = buildMetrics.start();
 		try {
 			IResource manifest = Util.getManifestFile(this.currentproject);
 			if (manifest != null) {
@@ -981,6 +1001,7 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 			ApiPlugin.log(e);
 		}
 		String type = null;
+		int count = 0;
 		for (IApiProblem problem : problems) {
 			int category = problem.getCategory();
 			type = getProblemTypeFromCategory(category, problem.getKind());
@@ -991,7 +1012,10 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 				System.out.println("ApiAnalysisBuilder: creating marker for: " + problem.toString()); //$NON-NLS-1$
 			}
 			createMarkerForProblem(category, type, problem);
+			count++;
 		}
+		buildMetrics.addMarkers(count);
+		buildMetrics.stop(Phase.MARKERS, start);
 	}
 
 	/**
@@ -1274,7 +1298,9 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 	 */
 	protected synchronized IApiAnalyzer getAnalyzer() {
 		if (this.analyzer == null) {
-			this.analyzer = new BaseApiAnalyzer();
+			BaseApiAnalyzer baseAnalyzer = new BaseApiAnalyzer();
+			baseAnalyzer.setMetrics(this.metrics);
+			this.analyzer = baseAnalyzer;
 		}
 		return this.analyzer;
 	}
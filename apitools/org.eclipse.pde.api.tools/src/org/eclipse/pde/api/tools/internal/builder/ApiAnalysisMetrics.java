@@ -0,0 +1,295 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.builder;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Records how long the phases of an API analysis build take and how much work
+ * they do. Recording is off by default, in which case the builder and the
+ * analyzer share a single inert instance and only pay for a field read per
+ * phase.
+ * <p>
+ * The metrics of the last build of each project are kept until
+ * {@link #clear()} is called.
+ * </p>
+ *
+ * @since 1.3.700
+ */
+public final class ApiAnalysisMetrics {
+
+	/**
+	 * The measured phases of an API analysis build
+	 */
+	public enum Phase {
+		/**
+		 * Reading, updating and saving the {@link BuildState}
+		 */
+		BUILD_STATE("build state"), //$NON-NLS-1$
+		/**
+		 * Scanning the component for illegal API use
+		 */
+		API_USE_SCAN("API use scan"), //$NON-NLS-1$
+		/**
+		 * Comparing the component against the baseline, including the since
+		 * tag checks that are also reported as {@link #SINCE_TAGS}
+		 */
+		COMPATIBILITY("compatibility compare"), //$NON-NLS-1$
+		/**
+		 * Checking the since tags of the compatible changes
+		 */
+		SINCE_TAGS("since tag checks"), //$NON-NLS-1$
+		/**
+		 * Checking the version of the component
+		 */
+		VERSION_CHECKS("version checks"), //$NON-NLS-1$
+		/**
+		 * Validating the API tags
+		 */
+		TAG_VALIDATION("tag validation"), //$NON-NLS-1$
+		/**
+		 * Creating the problem markers
+		 */
+		MARKERS("marker creation"); //$NON-NLS-1$
+
+		private final String label;
+
+		Phase(String label) {
+			this.label = label;
+		}
+
+		@Override
+		public String toString() {
+			return label;
+		}
+	}
+
+	/**
+	 * The instance used while recording is off, it ignores everything
+	 */
+	static final ApiAnalysisMetrics DISABLED = new ApiAnalysisMetrics(null, false);
+
+	private static volatile boolean fgEnabled = false;
+
+	private static final Map<String, ApiAnalysisMetrics> fgLastBuilds = new ConcurrentHashMap<>();
+
+	private final String fProjectName;
+	private final boolean fRecording;
+	private volatile boolean fFullBuild = false;
+	private final AtomicLongArray fTimes = new AtomicLongArray(Phase.values().length);
+	private final AtomicInteger fVisitedTypes = new AtomicInteger();
+	private final AtomicInteger fResolvedReferences = new AtomicInteger();
+	private final AtomicInteger fMarkers = new AtomicInteger();
+
+	private ApiAnalysisMetrics(String projectName, boolean recording) {
+		fProjectName = projectName;
+		fRecording = recording;
+	}
+
+	/**
+	 * Turns the recording of build metrics on or off. Turning the recording
+	 * off does not discard the metrics recorded so far.
+	 *
+	 * @param enabled whether builds should be measured
+	 */
+	public static void setEnabled(boolean enabled) {
+		fgEnabled = enabled;
+	}
+
+	/**
+	 * @return whether builds are measured
+	 */
+	public static boolean isEnabled() {
+		return fgEnabled;
+	}
+
+	/**
+	 * Returns the metrics to record a new build of the given project into. If
+	 * recording is off the returned metrics ignore everything.
+	 *
+	 * @param projectName the name of the project being built
+	 * @return the metrics of the new build, never <code>null</code>
+	 */
+	public static ApiAnalysisMetrics begin(String projectName) {
+		if (!fgEnabled) {
+			return DISABLED;
+		}
+		ApiAnalysisMetrics metrics = new ApiAnalysisMetrics(projectName, true);
+		fgLastBuilds.put(projectName, metrics);
+		return metrics;
+	}
+
+	/**
+	 * Returns the metrics of the last build of the given project.
+	 *
+	 * @param projectName the name of the project
+	 * @return the metrics or <code>null</code> if no build of the project was
+	 *         measured
+	 */
+	public static ApiAnalysisMetrics getLastBuild(String projectName) {
+		return fgLastBuilds.get(projectName);
+	}
+
+	/**
+	 * @return the metrics of the last build of each measured project, sorted
+	 *         by project name
+	 */
+	public static List<ApiAnalysisMetrics> getLastBuilds() {
+		List<ApiAnalysisMetrics> builds = new ArrayList<>(fgLastBuilds.values());
+		builds.sort(Comparator.comparing(ApiAnalysisMetrics::getProjectName));
+		return builds;
+	}
+
+	/**
+	 * Discards the metrics of all builds recorded so far
+	 */
+	public static void clear() {
+		fgLastBuilds.clear();
+	}
+
+	/**
+	 * Writes the metrics of the last build of each measured project to the
+	 * given file, one line per project.
+	 *
+	 * @param file the file to write
+	 * @throws IOException if the file cannot be written
+	 */
+	public static void dump(Path file) throws IOException {
+		Path parent = file.toAbsolutePath().getParent();
+		if (parent != null) {
+			Files.createDirectories(parent);
+		}
+		try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+			for (ApiAnalysisMetrics metrics : getLastBuilds()) {
+				writer.write(metrics.toString());
+				writer.newLine();
+			}
+		}
+	}
+
+	/**
+	 * Returns the start time of a phase to pass to {@link #stop(Phase, long)}.
+	 *
+	 * @return the current time in nanoseconds, or 0 if nothing is recorded
+	 */
+	public long start() {
+		return fRecording ? System.nanoTime() : 0;
+	}
+
+	/**
+	 * Adds the time passed since the given start time to the given phase.
+	 *
+	 * @param phase the phase that ended
+	 * @param start the value returned by {@link #start()} when the phase began
+	 */
+	public void stop(Phase phase, long start) {
+		if (fRecording) {
+			fTimes.addAndGet(phase.ordinal(), System.nanoTime() - start);
+		}
+	}
+
+	void setFullBuild(boolean fullBuild) {
+		if (fRecording) {
+			fFullBuild = fullBuild;
+		}
+	}
+
+	void addVisitedTypes(int count) {
+		if (fRecording) {
+			fVisitedTypes.addAndGet(count);
+		}
+	}
+
+	void addResolvedReferences(int count) {
+		if (fRecording) {
+			fResolvedReferences.addAndGet(count);
+		}
+	}
+
+	void addMarkers(int count) {
+		if (fRecording) {
+			fMarkers.addAndGet(count);
+		}
+	}
+
+	/**
+	 * @return the name of the measured project
+	 */
+	public String getProjectName() {
+		return fProjectName;
+	}
+
+	/**
+	 * @return whether the measured build analyzed the whole project
+	 */
+	public boolean isFullBuild() {
+		return fFullBuild;
+	}
+
+	/**
+	 * Returns the wall time spent in the given phase.
+	 *
+	 * @param phase the phase
+	 * @return the time in nanoseconds
+	 */
+	public long getTime(Phase phase) {
+		return fTimes.get(phase.ordinal());
+	}
+
+	/**
+	 * @return the number of types visited by the API use scan
+	 */
+	public int getVisitedTypes() {
+		return fVisitedTypes.get();
+	}
+
+	/**
+	 * @return the number of references resolved by the API use scan
+	 */
+	public int getResolvedReferences() {
+		return fResolvedReferences.get();
+	}
+
+	/**
+	 * @return the number of problem markers created
+	 */
+	public int getMarkers() {
+		return fMarkers.get();
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder buffer = new StringBuilder();
+		buffer.append(fProjectName).append(fFullBuild ? " (full build)" : " (incremental build)"); //$NON-NLS-1$ //$NON-NLS-2$
+		for (Phase phase : Phase.values()) {
+			buffer.append(", ").append(phase).append(": "); //$NON-NLS-1$ //$NON-NLS-2$
+			buffer.append(String.format("%.1f ms", getTime(phase) / 1_000_000d)); //$NON-NLS-1$
+		}
+		buffer.append(", types visited: ").append(getVisitedTypes()); //$NON-NLS-1$
+		buffer.append(", references resolved: ").append(getResolvedReferences()); //$NON-NLS-1$
+		buffer.append(", markers: ").append(getMarkers()); //$NON-NLS-1$
+		return buffer.toString();
+	}
+}
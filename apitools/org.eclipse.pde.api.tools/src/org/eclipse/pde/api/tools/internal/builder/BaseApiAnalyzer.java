@@ -78,6 +78,7 @@ import org.eclipse.osgi.util.NLS;
 import org.eclipse.pde.api.tools.internal.ApiBaselineManager;
 import org.eclipse.pde.api.tools.internal.ApiFilterStore;
 import org.eclipse.pde.api.tools.internal.IApiCoreConstants;
+import org.eclipse.pde.api.tools.internal.builder.ApiAnalysisMetrics.Phase;
 import org.eclipse.pde.api.tools.internal.comparator.Delta;
 import org.eclipse.pde.api.tools.internal.model.BundleComponent;
 import org.eclipse.pde.api.tools.internal.model.ProjectComponent;
@@ -180,12 +181,26 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 	 */
 	private boolean fContinueOnResolutionError = false;
 
+	/**
+	 * The metrics to record the analysis into, inert unless set by the builder
+	 */
+	private ApiAnalysisMetrics fMetrics = ApiAnalysisMetrics.DISABLED;
+
 	/**
 	 * Constructs an API analyzer
 	 */
 	public BaseApiAnalyzer() {
 	}
 
+	/**
+	 * Sets the metrics to record the phases of the following analyses into.
+	 *
+	 * @param metrics the metrics, <code>null</code> to stop recording
+	 */
+	public void setMetrics(ApiAnalysisMetrics metrics) {
+		fMetrics = metrics != null ? metrics : ApiAnalysisMetrics.DISABLED;
+	}
+
 	@Override
 	public void analyzeComponent(final BuildState state, final IApiFilterStore filterStore, final Properties preferences, final IApiBaseline baseline, final IApiComponent component, final IBuildContext context, IProgressMonitor monitor) {
 		SubMonitor localMonitor = SubMonitor.convert(monitor, BuilderMessages.BaseApiAnalyzer_analyzing_api, 6);
@@ -262,6 +277,7 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 					fBuildState = getBuildState();
 				}
 				// compatibility checks
+				long start = fMetrics.start();
 				if (reference != null) {
 					localMonitor.subTask(NLS.bind(BuilderMessages.BaseApiAnalyzer_comparing_api_profiles, new String[] {
 							reference.getSymbolicName(), baseline.getName() }));
@@ -278,8 +294,11 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 							component.getSymbolicName(), baseline.getName() }));
 					checkCompatibility(null, component, localMonitor.split(1));
 				}
+				fMetrics.stop(Phase.COMPATIBILITY, start);
 				// version checks
+				start = fMetrics.start();
 				checkApiComponentVersion(reference, component, baseline);
+				fMetrics.stop(Phase.VERSION_CHECKS, start);
 				localMonitor.split(1);
 				checkfilters = true;
 			} else {
@@ -290,9 +309,13 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 			}
 
 			// usage checks
+			long start = fMetrics.start();
 			checkApiUsage(bcontext, component, localMonitor.split(1));
+			fMetrics.stop(Phase.API_USE_SCAN, start);
 			// tag validation
+			start = fMetrics.start();
 			checkTagValidation(bcontext, localMonitor.split(1));
+			fMetrics.stop(Phase.TAG_VALIDATION, start);
 			if (checkfilters) {
 				// check for unused filters only if the scans have been done
 				checkUnusedProblemFilters(bcontext, component, localMonitor.split(1));
@@ -1255,6 +1278,8 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 			if (ApiPlugin.DEBUG_API_ANALYZER) {
 				System.out.println("API usage scan: " + (end - start) + " ms\t" + illegal.length + " problems"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
 			}
+			fMetrics.addVisitedTypes(analyzer.getVisitedTypeCount());
+			fMetrics.addResolvedReferences(analyzer.getResolvedReferenceCount());
 			for (IApiProblem element : illegal) {
 				addProblem(element);
 			}
@@ -1431,10 +1456,12 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 			if (!fPendingDeltaInfos.isEmpty()) {
 				SubMonitor checkLoopMonitor = subMonitor.split(1).setWorkRemaining(fPendingDeltaInfos.size());
 				subMonitor.subTask(BuilderMessages.BaseApiAnalyzer_checking_since_tags);
+				long start = fMetrics.start();
 				for (IDelta d : fPendingDeltaInfos) {
 					checkLoopMonitor.split(1);
 					checkSinceTags((Delta) d, component);
 				}
+				fMetrics.stop(Phase.SINCE_TAGS, start);
 			}
 		}
 	}
@@ -1474,10 +1501,12 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 				localmonitor.subTask(BuilderMessages.BaseApiAnalyzer_checking_since_tags);
 				SubMonitor checkLoopMonitor = localmonitor.split(1).setWorkRemaining(fPendingDeltaInfos.size());
 				if (!fPendingDeltaInfos.isEmpty()) {
+					long start = fMetrics.start();
 					for (IDelta d : fPendingDeltaInfos) {
 						checkLoopMonitor.split(1);
 						checkSinceTags((Delta) d, component);
 					}
+					fMetrics.stop(Phase.SINCE_TAGS, start);
 				}
 			}
 		}
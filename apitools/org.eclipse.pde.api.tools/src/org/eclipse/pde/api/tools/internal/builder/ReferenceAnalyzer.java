@@ -94,6 +94,7 @@ public class ReferenceAnalyzer {
 					if (type.isMemberType() || type.isLocal() || type.isAnonymous()) {
 						return;
 					}
+					fVisitedTypes++;
 					List<IReference> references = type.extractReferences(fAllReferenceKinds, null);
 					// keep potential matches
 					for (IReference ref : references) {
@@ -141,6 +142,16 @@ public class ReferenceAnalyzer {
 	 */
 	List<IReference> fReferences = new LinkedList<>();
 
+	/**
+	 * Number of types visited by the last analysis
+	 */
+	private int fVisitedTypes = 0;
+
+	/**
+	 * Number of references resolved by the last analysis
+	 */
+	private int fResolvedReferences = 0;
+
 	/**
 	 * Problem detectors indexed by the log base 2 of each reference kind they
 	 * are interested in. Provides a fast way to hand references off to
@@ -230,6 +241,8 @@ public class ReferenceAnalyzer {
 	 */
 	public IApiProblem[] analyze(IApiComponent component, IApiTypeContainer scope, IProgressMonitor monitor) throws CoreException {
 		SubMonitor localMonitor = SubMonitor.convert(monitor, 4);
+		fVisitedTypes = 0;
+		fResolvedReferences = 0;
 		try {
 			// build problem detectors
 			IApiProblemDetector[] detectors = buildProblemDetectors(component, ProblemDetectorBuilder.K_ALL,
@@ -245,6 +258,11 @@ public class ReferenceAnalyzer {
 			localMonitor.subTask(BuilderMessages.ReferenceAnalyzer_analyzing_api_checking_use);
 			if (fReferences.size() != 0) {
 				ReferenceResolver.resolveReferences(fReferences);
+				for (IReference ref : fReferences) {
+					if (ref.getResolvedReference() != null) {
+						fResolvedReferences++;
+					}
+				}
 			}
 			// 3. create problems
 			List<IApiProblem> allProblems = new LinkedList<>();
@@ -267,6 +285,26 @@ public class ReferenceAnalyzer {
 		}
 	}
 
+	/**
+	 * Returns the number of top-level types visited by the last call to
+	 * {@link #analyze(IApiComponent, IApiTypeContainer, IProgressMonitor)}
+	 *
+	 * @return the number of visited types
+	 */
+	public int getVisitedTypeCount() {
+		return fVisitedTypes;
+	}
+
+	/**
+	 * Returns the number of references that could be resolved by the last call
+	 * to {@link #analyze(IApiComponent, IApiTypeContainer, IProgressMonitor)}
+	 *
+	 * @return the number of resolved references
+	 */
+	public int getResolvedReferenceCount() {
+		return fResolvedReferences;
+	}
+
 	/**
 	 * Returns the collection of problem detectors for the given reference kind
 	 */
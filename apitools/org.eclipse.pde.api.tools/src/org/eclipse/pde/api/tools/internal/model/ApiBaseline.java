@@ -172,6 +172,12 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 
 	private volatile boolean restored;
 
+	/**
+	 * Names, descriptors and signatures shared by the type structures of this
+	 * baseline
+	 */
+	private final StringPool fStringPool = new StringPool();
+
 	/**
 	 * Constructs a new API baseline with the given name.
 	 *
@@ -845,6 +851,17 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 			iApiComponent.dispose();
 		}
 		fSystemLibraryComponentList.clear();
+		fStringPool.clear();
+	}
+
+	/**
+	 * Returns the pool for the names, descriptors and signatures of the type
+	 * structures built for the components of this baseline.
+	 *
+	 * @return the string pool of this baseline
+	 */
+	public StringPool getStringPool() {
+		return fStringPool;
 	}
 
 	/**
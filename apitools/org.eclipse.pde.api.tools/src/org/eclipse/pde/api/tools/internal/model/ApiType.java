@@ -67,13 +67,13 @@ public class ApiType extends ApiMember implements IApiType {
 	private static final String NO_ENCLOSING_METHOD = Util.EMPTY_STRING;
 
 	/**
-	 * Maps field name to field element.
+	 * Field elements by name.
 	 */
-	private Map<String, ApiField> fFields;
+	private MemberTable fFields;
 	/**
-	 * Maps method name/signature pair to method element.
+	 * Method elements by name/signature pair.
 	 */
-	private LinkedHashMap<MethodKey, ApiMethod> fMethods;
+	private MemberTable fMethods;
 
 	/**
 	 * Map of member type names to class file (or null until resolved)
@@ -165,7 +165,7 @@ public class ApiType extends ApiMember implements IApiType {
 	@Override
 	public IApiField getField(String name) {
 		if (fFields != null) {
-			return fFields.get(name);
+			return (IApiField) fFields.get(name, null);
 		}
 		return null;
 	}
@@ -173,7 +173,7 @@ public class ApiType extends ApiMember implements IApiType {
 	@Override
 	public IApiField[] getFields() {
 		if (fFields != null) {
-			return fFields.values().toArray(new IApiField[fFields.size()]);
+			return fFields.toArray(new IApiField[fFields.size()]);
 		}
 		return EMPTY_FIELDS;
 	}
@@ -193,10 +193,10 @@ public class ApiType extends ApiMember implements IApiType {
 	 */
 	public ApiMethod addMethod(String name, String signature, String genericSig, int modifiers, String[] exceptions) {
 		if (fMethods == null) {
-			fMethods = new LinkedHashMap<>();
+			fMethods = new MemberTable(true);
 		}
 		ApiMethod method = new ApiMethod(this, name, signature, genericSig, modifiers, exceptions);
-		fMethods.put(new MethodKey(getName(), name, signature, true), method);
+		fMethods.add(method);
 		return method;
 	}
 
@@ -210,17 +210,30 @@ public class ApiType extends ApiMember implements IApiType {
 	 */
 	public ApiField addField(String name, String signature, String genericSig, int modifiers, Object value) {
 		if (fFields == null) {
-			fFields = new LinkedHashMap<>();
+			fFields = new MemberTable(false);
 		}
 		ApiField field = new ApiField(this, name, signature, genericSig, modifiers, value);
-		fFields.put(name, field);
+		fFields.add(field);
 		return field;
 	}
 
+	/**
+	 * Used when the type structure is built to release the memory reserved
+	 * for further members.
+	 */
+	public void trimMembers() {
+		if (fFields != null) {
+			fFields.trim();
+		}
+		if (fMethods != null) {
+			fMethods.trim();
+		}
+	}
+
 	@Override
 	public IApiMethod getMethod(String name, String signature) {
 		if (fMethods != null) {
-			return fMethods.get(new MethodKey(getName(), name, signature, true));
+			return (IApiMethod) fMethods.get(name, signature);
 		}
 		return null;
 	}
@@ -228,7 +241,7 @@ public class ApiType extends ApiMember implements IApiType {
 	@Override
 	public IApiMethod[] getMethods() {
 		if (fMethods != null) {
-			return fMethods.values().toArray(new IApiMethod[fMethods.size()]);
+			return fMethods.toArray(new IApiMethod[fMethods.size()]);
 		}
 		return EMPTY_METHODS;
 	}
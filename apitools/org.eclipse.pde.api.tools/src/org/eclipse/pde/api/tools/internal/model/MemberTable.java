@@ -0,0 +1,146 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.model;
+
+import java.util.Arrays;
+
+/**
+ * Compact storage for the fields or methods of an {@link ApiType}.
+ * <p>
+ * The members are kept in declaration order in one array, a second array
+ * holds their indexes sorted by name (and signature for methods) and is used
+ * to look members up by binary search. Adding a member with the key of an
+ * existing one replaces it in place, like a {@link java.util.LinkedHashMap}
+ * would.
+ * </p>
+ * <p>
+ * The table is filled while the type structure is built and only read after
+ * that.
+ * </p>
+ *
+ * @since 1.3.700
+ */
+public final class MemberTable {
+
+	private static final ApiMember[] EMPTY = new ApiMember[0];
+	private static final int[] NO_INDEXES = new int[0];
+
+	/**
+	 * If the signature is part of the key of a member
+	 */
+	private final boolean fSignatureKey;
+	private ApiMember[] fMembers = EMPTY;
+	private int[] fSorted = NO_INDEXES;
+	private int fSize;
+
+	/**
+	 * @param signatureKey if members are identified by name and signature
+	 *            (methods) rather than only by name (fields)
+	 */
+	public MemberTable(boolean signatureKey) {
+		fSignatureKey = signatureKey;
+	}
+
+	/**
+	 * Adds the given member, replacing a member with the same key.
+	 *
+	 * @param member the member to add
+	 */
+	public void add(ApiMember member) {
+		int position = search(member.getName(), member.getSignature());
+		if (position >= 0) {
+			fMembers[fSorted[position]] = member;
+			return;
+		}
+		if (fSize == fMembers.length) {
+			int capacity = Math.max(4, fSize * 2);
+			fMembers = Arrays.copyOf(fMembers, capacity);
+			fSorted = Arrays.copyOf(fSorted, capacity);
+		}
+		int insertion = -(position + 1);
+		System.arraycopy(fSorted, insertion, fSorted, insertion + 1, fSize - insertion);
+		fSorted[insertion] = fSize;
+		fMembers[fSize++] = member;
+	}
+
+	/**
+	 * Returns the member with the given key or <code>null</code> if none.
+	 *
+	 * @param name member name
+	 * @param signature member signature, ignored for tables keyed by name
+	 *            only
+	 * @return the member or <code>null</code>
+	 */
+	public ApiMember get(String name, String signature) {
+		int position = search(name, signature);
+		return position >= 0 ? fMembers[fSorted[position]] : null;
+	}
+
+	/**
+	 * Copies the members in declaration order into the given array.
+	 *
+	 * @param array array with at least {@link #size()} elements
+	 * @return the given array
+	 */
+	public <T> T[] toArray(T[] array) {
+		System.arraycopy(fMembers, 0, array, 0, fSize);
+		return array;
+	}
+
+	public int size() {
+		return fSize;
+	}
+
+	/**
+	 * Releases the capacity reserved for members that have not been added.
+	 */
+	public void trim() {
+		if (fMembers.length != fSize) {
+			fMembers = Arrays.copyOf(fMembers, fSize);
+			fSorted = Arrays.copyOf(fSorted, fSize);
+		}
+	}
+
+	/**
+	 * @return the position of the key in the sorted indexes or
+	 *         <code>-(insertion point + 1)</code>
+	 */
+	private int search(String name, String signature) {
+		int low = 0;
+		int high = fSize - 1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			ApiMember member = fMembers[fSorted[mid]];
+			int cmp = member.getName().compareTo(name);
+			if (cmp == 0 && fSignatureKey) {
+				cmp = compare(member.getSignature(), signature);
+			}
+			if (cmp < 0) {
+				low = mid + 1;
+			} else if (cmp > 0) {
+				high = mid - 1;
+			} else {
+				return mid;
+			}
+		}
+		return -(low + 1);
+	}
+
+	private static int compare(String sig1, String sig2) {
+		if (sig1 == null) {
+			return sig2 == null ? 0 : -1;
+		}
+		return sig2 == null ? 1 : sig1.compareTo(sig2);
+	}
+}
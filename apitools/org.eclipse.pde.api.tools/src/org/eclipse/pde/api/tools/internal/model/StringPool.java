@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.model;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Pool of the names, descriptors and signatures read from the class files of
+ * an {@link ApiBaseline}, so that the type structures of the baseline share
+ * one instance of each distinct string.
+ * <p>
+ * The strings are held weakly, a string is dropped from the pool once no type
+ * structure refers to it anymore, so the pool of a long-lived baseline does
+ * not grow with the type structures that were built and discarded. Unlike
+ * {@link String#intern()} the pool is released together with its baseline.
+ * </p>
+ *
+ * @since 1.3.700
+ */
+public final class StringPool {
+
+	private final Map<String, WeakReference<String>> fStrings = new WeakHashMap<>();
+
+	/**
+	 * Returns the pooled instance equal to the given string.
+	 *
+	 * @param string the string or <code>null</code>
+	 * @return the pooled string or <code>null</code> if the given string is
+	 *         <code>null</code>
+	 */
+	public String get(String string) {
+		if (string == null) {
+			return null;
+		}
+		synchronized (fStrings) {
+			WeakReference<String> reference = fStrings.get(string);
+			String pooled = reference == null ? null : reference.get();
+			if (pooled == null) {
+				fStrings.put(string, new WeakReference<>(string));
+				return string;
+			}
+			return pooled;
+		}
+	}
+
+	/**
+	 * @return the number of distinct strings in the pool
+	 */
+	public int size() {
+		synchronized (fStrings) {
+			return fStrings.size();
+		}
+	}
+
+	/**
+	 * Removes all strings from the pool.
+	 */
+	public void clear() {
+		synchronized (fStrings) {
+			fStrings.clear();
+		}
+	}
+}
@@ -45,6 +45,10 @@ public class TypeStructureBuilder extends ClassVisitor {
 	ApiType fType;
 	IApiComponent fComponent;
 	IApiTypeRoot fFile;
+	/**
+	 * Pool of the baseline of the component or <code>null</code> if none
+	 */
+	StringPool fPool;
 
 	/**
 	 * Builds a type structure for a class file. Note that if an API component
@@ -59,6 +63,29 @@ public class TypeStructureBuilder extends ClassVisitor {
 		super(Util.LATEST_OPCODES_ASM, cv);
 		fComponent = component;
 		fFile = file;
+		fPool = getStringPool(component);
+	}
+
+	/**
+	 * Returns the string pool of the baseline the given component belongs to.
+	 *
+	 * @param component API component or <code>null</code>
+	 * @return the pool or <code>null</code> if the component is not part of an
+	 *         {@link ApiBaseline}
+	 */
+	static StringPool getStringPool(IApiComponent component) {
+		if (component instanceof Component c && c.getBaseline() instanceof ApiBaseline baseline) {
+			return baseline.getStringPool();
+		}
+		return null;
+	}
+
+	private static String pooled(StringPool pool, String string) {
+		return pool == null ? string : pool.get(string);
+	}
+
+	private String pooled(String string) {
+		return pooled(fPool, string);
 	}
 
 	@Override
@@ -70,7 +97,7 @@ public class TypeStructureBuilder extends ClassVisitor {
 		String enclosingName = null;
 		int index = name.lastIndexOf('$');
 		if (index > -1) {
-			enclosingName = name.substring(0, index).replace('/', '.');
+			enclosingName = pooled(name.substring(0, index).replace('/', '.'));
 		}
 		int laccess = access;
 		// TODO: inner types should be have enclosing type as parent instead of
@@ -79,14 +106,14 @@ public class TypeStructureBuilder extends ClassVisitor {
 			laccess &= ~Opcodes.ACC_DEPRECATED;
 			laccess |= Flags.AccDeprecated;
 		}
-		fType = new ApiType(fComponent, name.replace('/', '.'), simpleSig.toString(), signature, laccess, enclosingName, fFile);
+		fType = new ApiType(fComponent, pooled(name.replace('/', '.')), pooled(simpleSig.toString()), pooled(signature), laccess, enclosingName, fFile);
 		if (superName != null) {
-			fType.setSuperclassName(superName.replace('/', '.'));
+			fType.setSuperclassName(pooled(superName.replace('/', '.')));
 		}
 		if (interfaces != null && interfaces.length > 0) {
 			String[] names = new String[interfaces.length];
 			for (int i = 0; i < names.length; i++) {
-				names[i] = interfaces[i].replace('/', '.');
+				names[i] = pooled(interfaces[i].replace('/', '.'));
 			}
 			fType.setSuperInterfaceNames(names);
 		}
@@ -102,7 +129,7 @@ public class TypeStructureBuilder extends ClassVisitor {
 				fType.setAnonymous();
 			} else if (outerName == null) {
 				fType.setLocal();
-				fType.setSimpleName(innerName);
+				fType.setSimpleName(pooled(innerName));
 			}
 		}
 		if (outerName != null && innerName != null) {
@@ -113,10 +140,10 @@ public class TypeStructureBuilder extends ClassVisitor {
 			if (currentOuterName.equals(fType.getName())) {
 				// this is a real type member defined in the descriptor (not
 				// just a reference to a type member)
-				fType.addMemberType(currentName);
+				fType.addMemberType(pooled(currentName));
 			} else if (currentName.equals(fType.getName())) {
 				fType.setModifiers(access);
-				fType.setSimpleName(innerName);
+				fType.setSimpleName(pooled(innerName));
 				fType.setMemberType();
 			}
 		}
@@ -134,7 +161,7 @@ public class TypeStructureBuilder extends ClassVisitor {
 			laccess &= ~Opcodes.ACC_DEPRECATED;
 			laccess |= Flags.AccDeprecated;
 		}
-		fType.addField(name, desc, signature, laccess, value);
+		fType.addField(pooled(name), pooled(desc), pooled(signature), laccess, value);
 		return null;
 	}
 
@@ -149,10 +176,10 @@ public class TypeStructureBuilder extends ClassVisitor {
 		if (exceptions != null && exceptions.length > 0) {
 			names = new String[exceptions.length];
 			for (int i = 0; i < names.length; i++) {
-				names[i] = exceptions[i].replace('/', '.');
+				names[i] = pooled(exceptions[i].replace('/', '.'));
 			}
 		}
-		final ApiMethod method = fType.addMethod(name, desc, signature, laccess, names);
+		final ApiMethod method = fType.addMethod(pooled(name), pooled(desc), pooled(signature), laccess, names);
 		return new MethodVisitor(Util.LATEST_OPCODES_ASM,
 				super.visitMethod(laccess, name, desc, signature, exceptions)) {
 			@Override
@@ -170,6 +197,12 @@ public class TypeStructureBuilder extends ClassVisitor {
 		};
 	}
 
+	@Override
+	public void visitEnd() {
+		fType.trimMembers();
+		super.visitEnd();
+	}
+
 	private static IApiType logAndReturn(IApiTypeRoot file, Exception e) {
 		if (ApiPlugin.DEBUG_BUILDER) {
 			ApiPlugin.log(Status.error(NLS.bind(Messages.TypeStructureBuilder_badClassFileEncountered, file.getTypeName()), e));
@@ -394,6 +427,7 @@ public class TypeStructureBuilder extends ClassVisitor {
 	public static IApiType buildStubTypeStructure(byte[] contents, IApiComponent apiComponent, ArchiveApiTypeRoot archiveApiTypeRoot) {
 		// decode the byte[]
 		ApiType type = null;
+		StringPool stringPool = getStringPool(apiComponent);
 		try (DataInputStream inputStream = new DataInputStream(new ByteArrayInputStream(contents))) {
 			Map<Integer, String> pool = new HashMap<>();
 			short currentVersion = inputStream.readShort(); // read file version
@@ -416,25 +450,25 @@ public class TypeStructureBuilder extends ClassVisitor {
 			simpleSig.append('L');
 			simpleSig.append(name);
 			simpleSig.append(';');
-			type = new ApiType(apiComponent, name.replace('/', '.'), simpleSig.toString(), null, access, null, archiveApiTypeRoot);
+			type = new ApiType(apiComponent, pooled(stringPool, name.replace('/', '.')), pooled(stringPool, simpleSig.toString()), null, access, null, archiveApiTypeRoot);
 			int superclassNameIndex = inputStream.readShort();
 			if (superclassNameIndex != -1) {
 				String superclassName = pool.get(Integer.valueOf(superclassNameIndex));
-				type.setSuperclassName(superclassName.replace('/', '.'));
+				type.setSuperclassName(pooled(stringPool, superclassName.replace('/', '.')));
 			}
 			int interfacesLength = inputStream.readShort();
 			if (interfacesLength != 0) {
 				String[] names = new String[interfacesLength];
 				for (int i = 0; i < names.length; i++) {
 					String interfaceName = pool.get(Integer.valueOf(inputStream.readShort()));
-					names[i] = interfaceName.replace('/', '.');
+					names[i] = pooled(stringPool, interfaceName.replace('/', '.'));
 				}
 				type.setSuperInterfaceNames(names);
 			}
 			int fieldsLength = inputStream.readShort();
 			for (int i = 0; i < fieldsLength; i++) {
 				String fieldName = pool.get(Integer.valueOf(inputStream.readShort()));
-				type.addField(fieldName, null, null, 0, null);
+				type.addField(pooled(stringPool, fieldName), null, null, 0, null);
 			}
 			int methodsLength = inputStream.readShort();
 			for (int i = 0; i < methodsLength; i++) {
@@ -444,8 +478,9 @@ public class TypeStructureBuilder extends ClassVisitor {
 				if (currentVersion == 3) {
 					isPolymorphic = inputStream.readByte();
 				}
-				type.addMethod(methodSelector, methodSignature, null, isPolymorphic == 1 ? ApiMethod.Polymorphic : 0, null);
+				type.addMethod(pooled(stringPool, methodSelector), pooled(stringPool, methodSignature), null, isPolymorphic == 1 ? ApiMethod.Polymorphic : 0, null);
 			}
+			type.trimMembers();
 		} catch (IOException e) {
 			ApiPlugin.log(e);
 		}
@@ -17,6 +17,7 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.text.MessageFormat;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -658,6 +659,28 @@ public class TagScanner {
 	 *             the description may still be modified
 	 */
 	public void scan(CompilationUnit source, IApiDescription description, IApiTypeContainer container, Map<String, String> options, IProgressMonitor monitor) throws CoreException {
+		scan(parse(source, options, monitor), description, container);
+	}
+
+	/**
+	 * Parses the specified source {@linkplain CompilationUnit} into the AST
+	 * scanned by {@link #scan(org.eclipse.jdt.core.dom.CompilationUnit, IApiDescription, IApiTypeContainer)}.
+	 * <p>
+	 * Parsing is independent of the API description, so several compilation
+	 * units can be parsed concurrently.
+	 * </p>
+	 *
+	 * @param source the source file to parse
+	 * @param options a map of Java compiler options to use when creating the
+	 *            AST or <code>null</code> if default options should be used,
+	 *            the map is not modified
+	 * @param monitor
+	 * @return the AST of the source including the Javadoc comments
+	 *
+	 * @throws CoreException if the source could not be read
+	 * @since 1.3.700
+	 */
+	public org.eclipse.jdt.core.dom.CompilationUnit parse(CompilationUnit source, Map<String, String> options, IProgressMonitor monitor) throws CoreException {
 		SubMonitor localmonitor = SubMonitor.convert(monitor, 2);
 		ASTParser parser = ASTParser.newParser(AST.getJLSLatest());
 		try (InputStream inputStream = source.getInputStream()) {
@@ -671,14 +694,28 @@ public class TagScanner {
 			throw new CoreException(Status.error(MessageFormat.format("Error reading compilation unit: {0}", source.getName()), e)); //$NON-NLS-1$
 		}
 		localmonitor.split(1);
-		Map<String, String> loptions = options;
-		if (loptions == null) {
-			loptions = JavaCore.getOptions();
-		}
+		Map<String, String> loptions = options == null ? JavaCore.getOptions() : new HashMap<>(options);
 		loptions.put(JavaCore.COMPILER_DOC_COMMENT_SUPPORT, JavaCore.ENABLED);
 		parser.setCompilerOptions(loptions);
-		org.eclipse.jdt.core.dom.CompilationUnit cunit = (org.eclipse.jdt.core.dom.CompilationUnit) parser.createAST(localmonitor.split(1));
+		return (org.eclipse.jdt.core.dom.CompilationUnit) parser.createAST(localmonitor.split(1));
+	}
+
+	/**
+	 * Scans the specified AST, as returned by
+	 * {@link #parse(CompilationUnit, Map, IProgressMonitor)}, for contributed
+	 * API javadoc tags. Tags on methods will have unresolved signatures.
+	 *
+	 * @param ast the AST of the compilation unit to scan for tags
+	 * @param description the API description to annotate with any new tag rules
+	 *            found
+	 * @param container optional class file container containing the class file
+	 *            for the given source that can be used to resolve method
+	 *            signatures if required (for tags on methods). If not provided
+	 *            (<code>null</code>), method signatures will be unresolved.
+	 * @since 1.3.700
+	 */
+	public void scan(org.eclipse.jdt.core.dom.CompilationUnit ast, IApiDescription description, IApiTypeContainer container) {
 		Visitor visitor = new Visitor(description, container);
-		cunit.accept(visitor);
+		ast.accept(visitor);
 	}
 }
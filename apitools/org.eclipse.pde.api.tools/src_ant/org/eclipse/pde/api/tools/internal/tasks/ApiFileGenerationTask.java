@@ -163,6 +163,22 @@ public class ApiFileGenerationTask extends Task/* APIFileGenerator */ {
 		apiFileGenerator.sourceLocations = sourceLocations;
 	}
 
+	/**
+	 * Set the number of threads parsing the source files.
+	 * <p>
+	 * The generated file is the same whatever the number of threads.
+	 * </p>
+	 * <p>
+	 * Default is <code>1</code>.
+	 * </p>
+	 *
+	 * @param threads the given number of threads
+	 * @since 1.3.700
+	 */
+	public void setThreads(String threads) {
+		apiFileGenerator.threads = Integer.parseInt(threads);
+	}
+
 	@Override
 	public void execute() {
 		apiFileGenerator.generateAPIFile();
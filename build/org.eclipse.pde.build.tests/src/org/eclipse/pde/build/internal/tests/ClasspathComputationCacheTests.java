@@ -0,0 +1,170 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which accompanies this distribution,
+ * and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors: IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.pde.build.internal.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.jar.Attributes;
+
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.pde.build.tests.PDETestCase;
+import org.eclipse.pde.internal.build.builder.ClasspathComputationCache;
+import org.eclipse.pde.internal.build.site.PDEState;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.BlockJUnit4ClassRunner;
+
+@RunWith(BlockJUnit4ClassRunner.class)
+public class ClasspathComputationCacheTests extends PDETestCase {
+
+	@Test
+	public void testCachedResultsMatchComputedResults() throws Exception {
+		PDEState state = createState(newTest("ClasspathCacheMatch"));
+		ClasspathComputationCache cache = new ClasspathComputationCache();
+		cache.validate(state.getState().getTimeStamp());
+
+		for (BundleDescription bundle : state.getState().getBundles()) {
+			// the first lookup computes, the second one is answered from the cache
+			for (int i = 0; i < 2; i++) {
+				assertArrayEquals(bundle.getSymbolicName(), ids(PDEState.getDependentBundles(bundle)), ids(cache.getDependentBundles(bundle)));
+				assertEquals(bundle.getSymbolicName(), readProperties(bundle), cache.getBuildProperties(bundle, ClasspathComputationCacheTests::readProperties));
+			}
+		}
+		BundleDescription c = state.getState().getBundle("c", null);
+		assertArrayEquals(new String[] {"a", "b"}, Arrays.stream(cache.getDependentBundles(c)).map(BundleDescription::getSymbolicName).sorted().toArray());
+	}
+
+	@Test
+	public void testCacheHit() throws Exception {
+		PDEState state = createState(newTest("ClasspathCacheHit"));
+		ClasspathComputationCache cache = new ClasspathComputationCache();
+		cache.validate(state.getState().getTimeStamp());
+		BundleDescription c = state.getState().getBundle("c", null);
+
+		AtomicInteger computed = new AtomicInteger();
+		Function<BundleDescription, Map<String, String>> computer = bundle -> {
+			computed.incrementAndGet();
+			return Map.of("a", "+a/pack/*");
+		};
+		Map<String, String> packages = cache.getVisiblePackages(c, computer);
+		assertSame(packages, cache.getVisiblePackages(c, computer));
+		assertEquals(1, computed.get());
+
+		assertSame(cache.getDependentBundles(c), cache.getDependentBundles(c));
+
+		AtomicInteger read = new AtomicInteger();
+		Function<BundleDescription, Properties> reader = bundle -> {
+			read.incrementAndGet();
+			return readProperties(bundle);
+		};
+		Properties properties = cache.getBuildProperties(c, reader);
+		// every caller gets its own copy, changes do not reach the cache
+		properties.put("bin.includes", "changed");
+		Properties again = cache.getBuildProperties(c, reader);
+		assertNotSame(properties, again);
+		assertEquals(readProperties(c), again);
+		assertEquals(1, read.get());
+
+		// the same state does not clear the cache
+		cache.validate(state.getState().getTimeStamp());
+		cache.getVisiblePackages(c, computer);
+		cache.getBuildProperties(c, reader);
+		assertEquals(1, computed.get());
+		assertEquals(1, read.get());
+	}
+
+	@Test
+	public void testInvalidatedWhenStateChanges() throws Exception {
+		IFolder buildFolder = newTest("ClasspathCacheInvalidated");
+		PDEState state = createState(buildFolder);
+		ClasspathComputationCache cache = new ClasspathComputationCache();
+		long timeStamp = state.getState().getTimeStamp();
+		cache.validate(timeStamp);
+		BundleDescription c = state.getState().getBundle("c", null);
+
+		AtomicInteger version = new AtomicInteger(1);
+		Function<BundleDescription, Properties> reader = bundle -> {
+			Properties properties = readProperties(bundle);
+			properties.put("version", String.valueOf(version.get()));
+			return properties;
+		};
+		Function<BundleDescription, Map<String, String>> computer = bundle -> Map.of("version", String.valueOf(version.get()));
+		assertEquals("1", cache.getBuildProperties(c, reader).get("version"));
+		assertEquals("1", cache.getVisiblePackages(c, computer).get("version"));
+
+		// a model change, the bundle is added to the state and resolved again
+		version.set(2);
+		Attributes attributes = new Attributes();
+		attributes.put(new Attributes.Name("Require-Bundle"), "c");
+		IFolder d = buildFolder.getFolder("d");
+		Utils.generateBundleManifest(d, "d", "1.0.0", attributes);
+		state.addBundle(d.getLocation().toFile());
+		state.getState().resolve(false);
+		assertNotEquals(timeStamp, state.getState().getTimeStamp());
+
+		// still the cached values until the cache is validated against the new state
+		assertEquals("1", cache.getBuildProperties(c, reader).get("version"));
+		cache.validate(state.getState().getTimeStamp());
+		assertEquals("2", cache.getBuildProperties(c, reader).get("version"));
+		assertEquals("2", cache.getVisiblePackages(c, computer).get("version"));
+
+		BundleDescription bundleD = state.getState().getBundle("d", null);
+		assertArrayEquals(ids(PDEState.getDependentBundles(bundleD)), ids(cache.getDependentBundles(bundleD)));
+		assertArrayEquals(new long[] {c.getBundleId()}, ids(cache.getDependentBundles(bundleD)));
+	}
+
+	/**
+	 * Bundle a exports a package, b requires a, c requires b and imports the
+	 * package of a.
+	 */
+	private static PDEState createState(IFolder buildFolder) throws Exception {
+		Attributes a = new Attributes();
+		a.put(new Attributes.Name("Export-Package"), "a.pack");
+		Attributes b = new Attributes();
+		b.put(new Attributes.Name("Require-Bundle"), "a");
+		Attributes c = new Attributes();
+		c.put(new Attributes.Name("Require-Bundle"), "b");
+		c.put(new Attributes.Name("Import-Package"), "a.pack");
+
+		PDEState state = new PDEState();
+		for (Map.Entry<String, Attributes> bundle : Map.of("a", a, "b", b, "c", c).entrySet()) {
+			IFolder folder = buildFolder.getFolder(bundle.getKey());
+			Utils.generateBundleManifest(folder, bundle.getKey(), "1.0.0", bundle.getValue());
+			state.addBundle(folder.getLocation().toFile());
+		}
+		state.getState().resolve(false);
+		return state;
+	}
+
+	private static Properties readProperties(BundleDescription bundle) {
+		Properties properties = new Properties();
+		properties.put("bin.includes", "META-INF/,.");
+		properties.put("bundle", bundle.getSymbolicName());
+		return properties;
+	}
+
+	private static long[] ids(BundleDescription[] bundles) {
+		return Arrays.stream(bundles).mapToLong(BundleDescription::getBundleId).sorted().toArray();
+	}
+}
@@ -0,0 +1,90 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which accompanies this distribution,
+ * and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors: IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.pde.build.internal.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.jar.Attributes;
+
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.pde.build.tests.PDETestCase;
+import org.eclipse.pde.internal.build.site.PDEState;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.BlockJUnit4ClassRunner;
+
+@RunWith(BlockJUnit4ClassRunner.class)
+public class PDEStateTests extends PDETestCase {
+
+	@Test
+	public void testAddBundlesMatchesAddBundle() throws Exception {
+		IFolder buildFolder = newTest("PDEStateAddBundles");
+
+		List<File> bundles = new ArrayList<>();
+		for (int i = 0; i < 40; i++) {
+			IFolder bundle = buildFolder.getFolder("bundle" + i);
+			Attributes attributes = new Attributes();
+			attributes.put(new Attributes.Name("Export-Package"), "bundle" + i + ".pack");
+			if (i > 0) {
+				attributes.put(new Attributes.Name("Require-Bundle"), "bundle" + (i - 1));
+				attributes.put(new Attributes.Name("Import-Package"), "bundle" + (i / 2) + ".pack");
+			}
+			// a missing requirement leaves a part of the bundles unresolved
+			if (i % 10 == 7) {
+				attributes.put(new Attributes.Name("Require-Bundle"), "bundle" + (i - 1) + ",missing");
+			}
+			Utils.generateBundleManifest(bundle, "bundle" + i, i % 3 == 0 ? "1.0.0.qualifier" : "1.0.0", attributes);
+			bundles.add(bundle.getLocation().toFile());
+		}
+
+		PDEState sequential = new PDEState();
+		for (File bundle : bundles) {
+			sequential.addBundle(bundle);
+		}
+		sequential.getState().resolve(false);
+
+		PDEState parallel = new PDEState();
+		parallel.addBundles(bundles);
+		parallel.getState().resolve(false);
+
+		BundleDescription[] expected = sequential.getState().getBundles();
+		BundleDescription[] actual = parallel.getState().getBundles();
+		assertEquals(bundles.size(), expected.length);
+		assertEquals(expected.length, actual.length);
+		for (BundleDescription expectedBundle : expected) {
+			BundleDescription actualBundle = parallel.getState().getBundle(expectedBundle.getBundleId());
+			assertNotNull(expectedBundle.getSymbolicName(), actualBundle);
+			assertEquals(expectedBundle.getLocation(), actualBundle.getLocation());
+			assertEquals(expectedBundle.getSymbolicName(), actualBundle.getSymbolicName());
+			assertEquals(expectedBundle.getVersion(), actualBundle.getVersion());
+			assertEquals(expectedBundle.getSymbolicName(), expectedBundle.isResolved(), actualBundle.isResolved());
+			assertArrayEquals(expectedBundle.getSymbolicName(), ids(expectedBundle.getResolvedRequires()), ids(actualBundle.getResolvedRequires()));
+			assertEquals(sequential.getExtraData().get(expectedBundle.getBundleId()).length, parallel.getExtraData().get(actualBundle.getBundleId()).length);
+		}
+		assertArrayEquals(ids(sequential.getState().getResolvedBundles()), ids(parallel.getState().getResolvedBundles()));
+		assertTrue(parallel.getState().getBundle(expected[0].getBundleId()).isResolved());
+	}
+
+	private static long[] ids(BundleDescription[] bundles) {
+		return Arrays.stream(bundles).mapToLong(BundleDescription::getBundleId).sorted().toArray();
+	}
+}
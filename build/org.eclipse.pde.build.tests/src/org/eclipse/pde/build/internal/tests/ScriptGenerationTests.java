@@ -27,6 +27,7 @@ import java.io.FileOutputStream;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.URL;
+import java.nio.file.Files;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -2452,4 +2453,33 @@ public class ScriptGenerationTests extends PDETestCase {
 		Utils.storeBuildProperties(second, properties);
 		runBuild(second);
 	}
+
+	@Test
+	public void testParallelScriptGeneration() throws Exception {
+		IFolder buildFolder = newTest("parallelScriptGeneration");
+		String[] bundles = new String[] { "a", "b", "c", "d" };
+		for (int i = 0; i < bundles.length; i++) {
+			IFolder folder = Utils.createFolder(buildFolder, "plugins/" + bundles[i]);
+			Attributes manifestAdditions = new Attributes();
+			if (i > 0)
+				manifestAdditions.put(new Attributes.Name("Require-Bundle"), bundles[i - 1] + "," + OSGI);
+			Utils.generateBundleManifest(folder, bundles[i], "1.0.0", manifestAdditions);
+			Utils.generatePluginBuildProperties(folder, null);
+		}
+		Utils.generateFeature(buildFolder, "f", null, bundles);
+
+		Properties properties = BuildConfiguration.getScriptGenerationProperties(buildFolder, "feature", "f");
+		generateScripts(buildFolder, properties);
+		Map<String, String> sequential = new HashMap<>();
+		for (String bundle : bundles) {
+			sequential.put(bundle, Files.readString(buildFolder.getFile("plugins/" + bundle + "/build.xml").getLocation().toFile().toPath()));
+		}
+
+		properties.put("parallelScriptGeneration", "true");
+		generateScripts(buildFolder, properties);
+		for (String bundle : bundles) {
+			String parallel = Files.readString(buildFolder.getFile("plugins/" + bundle + "/build.xml").getLocation().toFile().toPath());
+			assertEquals(sequential.get(bundle), parallel);
+		}
+	}
 }
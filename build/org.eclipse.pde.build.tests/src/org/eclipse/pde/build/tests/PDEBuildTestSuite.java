@@ -14,7 +14,9 @@
 package org.eclipse.pde.build.tests;
 
 import org.eclipse.pde.build.internal.tests.AssembleTests;
+import org.eclipse.pde.build.internal.tests.ClasspathComputationCacheTests;
 import org.eclipse.pde.build.internal.tests.FetchTests;
+import org.eclipse.pde.build.internal.tests.PDEStateTests;
 import org.eclipse.pde.build.internal.tests.ProductTests;
 import org.eclipse.pde.build.internal.tests.ScriptGenerationTests;
 import org.eclipse.pde.build.internal.tests.SourceTests;
@@ -24,6 +26,7 @@ import org.junit.runners.Suite;
 
 @RunWith(Suite.class)
 @Suite.SuiteClasses({ SourceTests.class, ScriptGenerationTests.class, ProductTests.class, LicenseTests.class,
-		AssembleTests.class, P2TestSuite.class, FetchTests.class })
+		AssembleTests.class, P2TestSuite.class, FetchTests.class, PDEStateTests.class,
+		ClasspathComputationCacheTests.class })
 public class PDEBuildTestSuite {
 }
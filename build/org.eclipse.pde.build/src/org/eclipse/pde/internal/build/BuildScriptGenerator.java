@@ -106,6 +106,7 @@ public class BuildScriptGenerator extends AbstractScriptGenerator {
 	private BundleDescription[] bundlesToBuild;
 	private boolean flatten = false;
 	private boolean sourceReferences = false;
+	private boolean parallelScriptGeneration = false;
 
 	// what kind of source bundles to auto output.  See #generateSourceBundles()
 	private String sourceBundleMode = null;
@@ -255,6 +256,7 @@ public class BuildScriptGenerator extends AbstractScriptGenerator {
 			generator.setContextMetadata(contextMetadata);
 			generator.setContextArtifacts(contextArtifacts);
 			generator.setGenerateSourceReferences(sourceReferences);
+			generator.setParallelScriptGeneration(parallelScriptGeneration);
 		}
 
 		if (generator != null) {
@@ -679,4 +681,8 @@ public class BuildScriptGenerator extends AbstractScriptGenerator {
 	public void setGenerateSourceReferences(boolean generateSourceRef) {
 		this.sourceReferences = generateSourceRef;
 	}
+
+	public void setParallelScriptGeneration(boolean parallelScriptGeneration) {
+		this.parallelScriptGeneration = parallelScriptGeneration;
+	}
 }
@@ -45,6 +45,7 @@ public class Messages extends NLS {
 	public static String error_retrieveFailed;
 	public static String error_invalidURLInMapFileEntry;
 	public static String error_licenseRootWithoutLicenseRef;
+	public static String error_generatingScripts;
 
 	// exception
 	public static String exception_missingElement;
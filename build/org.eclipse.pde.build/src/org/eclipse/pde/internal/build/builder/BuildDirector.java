@@ -14,6 +14,7 @@
 package org.eclipse.pde.internal.build.builder;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -22,6 +23,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IStatus;
@@ -75,6 +80,7 @@ public class BuildDirector extends AbstractBuildScriptGenerator {
 	protected boolean generateJnlp = false;
 	protected boolean workspaceBinaries = false;
 	private boolean sourceReferences = false;
+	private boolean parallelScriptGeneration = false;
 
 	public static boolean p2Gathering = false;
 
@@ -99,6 +105,11 @@ public class BuildDirector extends AbstractBuildScriptGenerator {
 	}
 
 	private final Map<String, String> extractedLocations = new HashMap<>();
+	private final ClasspathComputationCache classpathCache = new ClasspathComputationCache();
+
+	ClasspathComputationCache getClasspathCache() {
+		return classpathCache;
+	}
 
 	public String getExtractedRoot(ClasspathElement element) {
 		if (element.getSubPath() == null)
@@ -521,6 +532,7 @@ public class BuildDirector extends AbstractBuildScriptGenerator {
 			return;
 
 		Set<BundleDescription> generatedScripts = new HashSet<>(models.size());
+		List<ModelBuildScriptGenerator> generators = new ArrayList<>(models.size());
 		for (BundleDescription model : models) {
 			if (generatedScripts.contains(model))
 				continue;
@@ -532,7 +544,7 @@ public class BuildDirector extends AbstractBuildScriptGenerator {
 			@SuppressWarnings("rawtypes")
 			Set matchingEntries = (Set) ((Properties) model.getUserObject()).get(PLUGIN_ENTRY);
 			if (matchingEntries == null || matchingEntries.isEmpty())
-				return;
+				break;
 
 			@SuppressWarnings("rawtypes")
 			Iterator entryIter = matchingEntries.iterator();
@@ -553,9 +565,51 @@ public class BuildDirector extends AbstractBuildScriptGenerator {
 			generator.setSignJars(signJars);
 			generator.setAssociatedEntry(correspondingEntry);
 			generator.setGenerateSourceReferences(sourceReferences);
+			generators.add(generator);
+		}
+
+		if (parallelScriptGeneration && generators.size() > 1)
+			computeClasspaths(generators);
+
+		for (ModelBuildScriptGenerator generator : generators) {
 			generator.generate();
 		}
+	}
+
+	/**
+	 * Compute the classpaths of the given generators concurrently. The generators are
+	 * prepared in order first since this updates the shared state the same way the
+	 * sequential generation does, the scripts are then written in order by the caller
+	 * so the output does not depend on the number of threads.
+	 */
+	private void computeClasspaths(List<ModelBuildScriptGenerator> generators) throws CoreException {
+		for (ModelBuildScriptGenerator generator : generators) {
+			generator.prepare();
+		}
 
+		int threads = Math.min(generators.size(), Runtime.getRuntime().availableProcessors());
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<Void>> results = new ArrayList<>(generators.size());
+			for (ModelBuildScriptGenerator generator : generators) {
+				results.add(executor.submit(() -> {
+					generator.computeClasspaths();
+					return null;
+				}));
+			}
+			for (Future<Void> result : results) {
+				result.get();
+			}
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof CoreException)
+				throw (CoreException) e.getCause();
+			throw new CoreException(new Status(IStatus.ERROR, PI_PDEBUILD, EXCEPTION_GENERIC, Messages.error_generatingScripts, e.getCause()));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CoreException(new Status(IStatus.CANCEL, PI_PDEBUILD, EXCEPTION_GENERIC, Messages.error_generatingScripts, e));
+		} finally {
+			executor.shutdownNow();
+		}
 	}
 
 	/**
@@ -676,6 +730,16 @@ public class BuildDirector extends AbstractBuildScriptGenerator {
 		this.sourceReferences = generateSourceRef;
 	}
 
+	/**
+	 * Sets whether or not the classpaths of the plug-ins are computed concurrently
+	 * before their build scripts are written.
+	 * 
+	 * @param value whether or not to compute the classpaths concurrently
+	 */
+	public void setParallelScriptGeneration(boolean value) {
+		parallelScriptGeneration = value;
+	}
+
 	/**
 	 * Sets whether or not to generate the feature version suffix
 	 * 
@@ -0,0 +1,78 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.build.builder;
+
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.pde.internal.build.AbstractScriptGenerator;
+import org.eclipse.pde.internal.build.site.PDEState;
+
+/**
+ * Per build memo of the information {@link ClasspathComputer3_0} computes for
+ * every bundle found while walking the prerequisites of the bundle being compiled.
+ * This information only depends on the bundle and on the resolution of the state,
+ * so it is kept until the state is modified.
+ */
+public class ClasspathComputationCache {
+	private final Map<BundleDescription, Map<String, String>> visiblePackages = new ConcurrentHashMap<>();
+	private final Map<BundleDescription, BundleDescription[]> dependentBundles = new ConcurrentHashMap<>();
+	private final Map<BundleDescription, Properties> buildProperties = new ConcurrentHashMap<>();
+	private volatile long stateTimeStamp = -1;
+
+	/**
+	 * Discard the content of the cache if the state has changed since it was filled.
+	 *
+	 * @param timeStamp the current time stamp of the state
+	 */
+	public synchronized void validate(long timeStamp) {
+		if (stateTimeStamp == timeStamp)
+			return;
+		visiblePackages.clear();
+		dependentBundles.clear();
+		buildProperties.clear();
+		stateTimeStamp = timeStamp;
+	}
+
+	/**
+	 * Return the access rules for the packages visible to the given bundle,
+	 * keyed by exporter. The returned map must not be modified.
+	 */
+	public Map<String, String> getVisiblePackages(BundleDescription bundle, Function<BundleDescription, Map<String, String>> computer) {
+		return visiblePackages.computeIfAbsent(bundle, computer);
+	}
+
+	/**
+	 * Return the bundles the given bundle imports packages from or requires.
+	 *
+	 * @see PDEState#getDependentBundles(BundleDescription)
+	 */
+	public BundleDescription[] getDependentBundles(BundleDescription bundle) {
+		return dependentBundles.computeIfAbsent(bundle, PDEState::getDependentBundles);
+	}
+
+	/**
+	 * Return the build properties of the given bundle. Callers are free to modify
+	 * the returned properties, they get their own copy.
+	 */
+	public Properties getBuildProperties(BundleDescription bundle, Function<BundleDescription, Properties> reader) {
+		Properties properties = buildProperties.computeIfAbsent(bundle, reader);
+		if (properties == null || properties == AbstractScriptGenerator.MissingProperties.getInstance())
+			return properties;
+		return (Properties) properties.clone();
+	}
+}
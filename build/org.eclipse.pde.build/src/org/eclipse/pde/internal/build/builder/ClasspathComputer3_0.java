@@ -48,7 +48,6 @@ import org.eclipse.pde.internal.build.IPDEBuildConstants;
 import org.eclipse.pde.internal.build.IXMLConstants;
 import org.eclipse.pde.internal.build.Messages;
 import org.eclipse.pde.internal.build.Utils;
-import org.eclipse.pde.internal.build.site.PDEState;
 import org.osgi.framework.Filter;
 
 public class ClasspathComputer3_0 implements IClasspathComputer, IPDEBuildConstants, IXMLConstants, IBuildPropertiesConstants {
@@ -150,6 +149,7 @@ public class ClasspathComputer3_0 implements IClasspathComputer, IPDEBuildConsta
 	private static final String EXCLUDE_ALL_RULE = "?**/*"; //$NON-NLS-1$
 
 	private final ModelBuildScriptGenerator generator;
+	private final ClasspathComputationCache cache;
 	private Map<String, String> visiblePackages = null;
 	private Map<String, ClasspathElement> pathElements = null;
 	private boolean allowBinaryCycles = false;
@@ -158,6 +158,7 @@ public class ClasspathComputer3_0 implements IClasspathComputer, IPDEBuildConsta
 
 	public ClasspathComputer3_0(ModelBuildScriptGenerator modelGenerator) {
 		this.generator = modelGenerator;
+		this.cache = modelGenerator.getClasspathCache();
 	}
 
 	/**
@@ -173,6 +174,7 @@ public class ClasspathComputer3_0 implements IClasspathComputer, IPDEBuildConsta
 		List<Object> classpath = new ArrayList<>(20);
 		List<BundleDescription> pluginChain = new ArrayList<>(10); //The list of plugins added to detect cycle
 		modelLocation = generator.getLocation(model);
+		cache.validate(generator.getSite(false).getRegistry().getState().getTimeStamp());
 		Set<BundleDescription> addedPlugins = new HashSet<>(10); //The set of all the plugins already added to the classpath (this allows for optimization)
 		pathElements = new HashMap<>();
 		visiblePackages = getVisiblePackages(model);
@@ -207,6 +209,10 @@ public class ClasspathComputer3_0 implements IClasspathComputer, IPDEBuildConsta
 	}
 
 	private Map<String, String> getVisiblePackages(BundleDescription model) {
+		return cache.getVisiblePackages(model, this::computeVisiblePackages);
+	}
+
+	private Map<String, String> computeVisiblePackages(BundleDescription model) {
 		Map<String, String> packages = new HashMap<>(20);
 		StateHelper helper = BundleHelper.getPlatformAdmin().getStateHelper();
 		addVisiblePackagesFromState(helper, model, packages);
@@ -327,6 +333,10 @@ public class ClasspathComputer3_0 implements IClasspathComputer, IPDEBuildConsta
 	}
 
 	private Properties getBuildPropertiesFor(BundleDescription bundle) {
+		return cache.getBuildProperties(bundle, this::readBuildPropertiesFor);
+	}
+
+	private Properties readBuildPropertiesFor(BundleDescription bundle) {
 		try {
 			Properties bundleProperties = AbstractScriptGenerator.readProperties(generator.getLocation(bundle), PROPERTIES_FILE, IStatus.OK);
 			if (Utils.isStringIn(generator.getClasspathEntries(bundle), ModelBuildScriptGenerator.DOT) != -1) {
@@ -570,7 +580,7 @@ public class ClasspathComputer3_0 implements IClasspathComputer, IPDEBuildConsta
 
 		// add libraries from pre-requisite plug-ins.  Don't worry about the export flag
 		// as all required plugins may be required for compilation.
-		BundleDescription[] requires = PDEState.getDependentBundles(target);
+		BundleDescription[] requires = cache.getDependentBundles(target);
 		pluginChain.add(target);
 		for (BundleDescription require : requires) {
 			addPluginAndPrerequisites(require, classpath, baseLocation, pluginChain, addedPlugins);
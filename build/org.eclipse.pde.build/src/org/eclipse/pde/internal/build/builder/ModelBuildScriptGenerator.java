@@ -157,6 +157,11 @@ public class ModelBuildScriptGenerator extends AbstractBuildScriptGenerator {
 	private boolean generateErrorPropertyAttribute = true;
 	private boolean sourceReferences = false;
 
+	private boolean variablesInitialized = false;
+	private ClasspathComputationCache classpathCache = null;
+	//Classpaths computed ahead of the script generation, keyed by the name of the compiled entry
+	private Map<String, List<Object>> precomputedClasspaths = null;
+
 	/**
 	 * @see AbstractScriptGenerator#generate()
 	 */
@@ -175,7 +180,8 @@ public class ModelBuildScriptGenerator extends AbstractBuildScriptGenerator {
 		//		if (featureGenerator != null && featureGenerator.getBuildProperties().containsKey(GENERATION_SOURCE_PLUGIN_PREFIX + model.getSymbolicName()))
 		//			return;
 
-		initializeVariables();
+		if (!variablesInitialized)
+			initializeVariables();
 		if (BundleHelper.getDefault().isDebugging())
 			System.out.println("Generating plugin " + model.getSymbolicName()); //$NON-NLS-1$
 
@@ -197,7 +203,40 @@ public class ModelBuildScriptGenerator extends AbstractBuildScriptGenerator {
 		return bundle.getSymbolicName() + '_' + bundle.getVersion();
 	}
 
+	/**
+	 * Initialize the state needed by {@link #generate()} without writing anything.
+	 * Calling this method is optional, {@link #generate()} initializes the generator if needed.
+	 */
+	public void prepare() throws CoreException {
+		if (binaryPlugin || model == null || variablesInitialized)
+			return;
+		initializeVariables();
+	}
+
+	/**
+	 * Compute the classpath of all the entries compiled by this plug-in ahead of {@link #generate()}.
+	 * The computation only reads the state and the build.properties files, it can therefore be run
+	 * concurrently for different plug-ins once {@link #prepare()} has been called on all of them.
+	 */
+	public void computeClasspaths() throws CoreException {
+		if (!variablesInitialized)
+			return;
+
+		Properties properties = getBuildProperties();
+		if (TRUE.equalsIgnoreCase((String) properties.get(PROPERTY_CUSTOM)) || properties.getProperty(SOURCE_PLUGIN, null) != null)
+			return;
+
+		List<CompiledEntry> entries = getEntriesInCompileOrder(properties);
+		Map<String, List<Object>> classpaths = new HashMap<>(entries.size());
+		IClasspathComputer classpath = new ClasspathComputer3_0(this);
+		for (CompiledEntry jar : entries) {
+			classpaths.put(jar.getName(false), classpath.getClasspath(model, jar));
+		}
+		precomputedClasspaths = classpaths;
+	}
+
 	private void initializeVariables() throws CoreException {
+		variablesInitialized = true;
 		fullName = getNormalizedName(model);
 		pluginZipDestination = PLUGIN_DESTINATION + '/' + fullName + ".zip"; //$NON-NLS-1$
 		pluginUpdateJarDestination = PLUGIN_DESTINATION + '/' + fullName + ".jar"; //$NON-NLS-1$
@@ -1198,6 +1237,17 @@ public class ModelBuildScriptGenerator extends AbstractBuildScriptGenerator {
 		script.printTargetEnd();
 	}
 
+	/**
+	 * Return the cache shared by the classpath computations of this build.
+	 */
+	ClasspathComputationCache getClasspathCache() {
+		if (featureGenerator != null)
+			return featureGenerator.getClasspathCache();
+		if (classpathCache == null)
+			classpathCache = new ClasspathComputationCache();
+		return classpathCache;
+	}
+
 	/**
 	 * Sets the featureGenerator.
 	 * @param featureGenerator The featureGenerator to set
@@ -1207,38 +1257,44 @@ public class ModelBuildScriptGenerator extends AbstractBuildScriptGenerator {
 	}
 
 	/**
-	 * Add the "build.jars" target to the given Ant script using the specified plug-in model.
-	 * 
-	 * @param pluginModel the plug-in model to reference
+	 * Return the entries to compile, in the order given by the jars.compile.order property
+	 * followed by the entries that are not listed in it.
 	 */
-	private void generateBuildJarsTarget(BundleDescription pluginModel) throws CoreException {
-		Properties properties = getBuildProperties();
+	private ArrayList<CompiledEntry> getEntriesInCompileOrder(Properties properties) throws CoreException {
 		CompiledEntry[] availableJars = extractEntriesToCompile(properties);
-		compiledJarNames = new ArrayList<>(availableJars.length);
+		ArrayList<CompiledEntry> result = new ArrayList<>(availableJars.length);
 		Map<String, CompiledEntry> jars = new HashMap<>(availableJars.length);
 		for (CompiledEntry availableJar : availableJars)
 			jars.put(availableJar.getName(false), availableJar);
 
 		// Put the jars in a correct compile order
-		String jarOrder = (String) getBuildProperties().get(PROPERTY_JAR_ORDER);
-		IClasspathComputer classpath = new ClasspathComputer3_0(this);
-
+		String jarOrder = (String) properties.get(PROPERTY_JAR_ORDER);
 		if (jarOrder != null) {
 			String[] order = Utils.getArrayFromString(jarOrder);
 			for (String element : order) {
-				CompiledEntry jar = jars.get(element);
-				if (jar == null)
-					continue;
-
-				compiledJarNames.add(jar);
-				generateCompilationTarget(classpath.getClasspath(pluginModel, jar), jar);
-				generateSRCTarget(jar);
-				jars.remove(element);
+				CompiledEntry jar = jars.remove(element);
+				if (jar != null)
+					result.add(jar);
 			}
 		}
-		for (CompiledEntry jar : jars.values()) {
-			compiledJarNames.add(jar);
-			generateCompilationTarget(classpath.getClasspath(pluginModel, jar), jar);
+		result.addAll(jars.values());
+		return result;
+	}
+
+	/**
+	 * Add the "build.jars" target to the given Ant script using the specified plug-in model.
+	 * 
+	 * @param pluginModel the plug-in model to reference
+	 */
+	private void generateBuildJarsTarget(BundleDescription pluginModel) throws CoreException {
+		Properties properties = getBuildProperties();
+		compiledJarNames = getEntriesInCompileOrder(properties);
+		IClasspathComputer classpath = new ClasspathComputer3_0(this);
+		for (CompiledEntry jar : compiledJarNames) {
+			List<Object> jarClasspath = precomputedClasspaths != null ? precomputedClasspaths.get(jar.getName(false)) : null;
+			if (jarClasspath == null)
+				jarClasspath = classpath.getClasspath(pluginModel, jar);
+			generateCompilationTarget(jarClasspath, jar);
 			generateSRCTarget(jar);
 		}
 		script.println();
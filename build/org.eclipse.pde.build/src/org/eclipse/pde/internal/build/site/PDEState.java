@@ -136,24 +136,32 @@ public class PDEState implements IPDEBuildConstants, IBuildPropertiesConstants {
 		try {
 			BundleDescription descriptor;
 			descriptor = factory.createBundleDescription(state, enhancedManifest, bundleLocation.getAbsolutePath(), getNextId());
-			bundleClasspaths.put(Long.valueOf(descriptor.getBundleId()), BundleHelper.getClasspath(enhancedManifest));
-			String patchValue = fillPatchData(enhancedManifest);
-			if (patchValue != null)
-				patchBundles.put(Long.valueOf(descriptor.getBundleId()), patchValue);
-			rememberQualifierTagPresence(descriptor);
-			rememberManifestConversion(descriptor, enhancedManifest);
-			rememberManifestEntries(descriptor, enhancedManifest, MANIFEST_ENTRIES);
-			rememberSourceReference(descriptor, oldVersion);
-			if (addBundleDescription(descriptor) == true && addedBundle != null)
-				addedBundle.add(descriptor);
+			addCreatedBundle(descriptor, enhancedManifest, oldVersion);
 		} catch (BundleException e) {
-			IStatus status = new Status(IStatus.WARNING, IPDEBuildConstants.PI_PDEBUILD, EXCEPTION_STATE_PROBLEM, NLS.bind(Messages.exception_stateAddition, BundleHelper.getManifestHeader(enhancedManifest, Constants.BUNDLE_NAME)), e);
-			BundleHelper.getDefault().getLog().log(status);
+			logStateAdditionProblem(enhancedManifest, e);
 			return false;
 		}
 		return true;
 	}
 
+	private void addCreatedBundle(BundleDescription descriptor, Dictionary<String, String> enhancedManifest, String oldVersion) {
+		bundleClasspaths.put(Long.valueOf(descriptor.getBundleId()), BundleHelper.getClasspath(enhancedManifest));
+		String patchValue = fillPatchData(enhancedManifest);
+		if (patchValue != null)
+			patchBundles.put(Long.valueOf(descriptor.getBundleId()), patchValue);
+		rememberQualifierTagPresence(descriptor);
+		rememberManifestConversion(descriptor, enhancedManifest);
+		rememberManifestEntries(descriptor, enhancedManifest, MANIFEST_ENTRIES);
+		rememberSourceReference(descriptor, oldVersion);
+		if (addBundleDescription(descriptor) == true && addedBundle != null)
+			addedBundle.add(descriptor);
+	}
+
+	private void logStateAdditionProblem(Dictionary<String, String> enhancedManifest, BundleException e) {
+		IStatus status = new Status(IStatus.WARNING, IPDEBuildConstants.PI_PDEBUILD, EXCEPTION_STATE_PROBLEM, NLS.bind(Messages.exception_stateAddition, BundleHelper.getManifestHeader(enhancedManifest, Constants.BUNDLE_NAME)), e);
+		BundleHelper.getDefault().getLog().log(status);
+	}
+
 	private void rememberQualifierTagPresence(BundleDescription descriptor) {
 		Properties bundleProperties = null;
 		bundleProperties = (Properties) descriptor.getUserObject();
@@ -253,31 +261,33 @@ public class PDEState implements IPDEBuildConstants, IBuildPropertiesConstants {
 
 	public boolean addBundle(File bundleLocation) {
 		Dictionary<String, String> manifest;
-		manifest = loadManifest(bundleLocation);
+		manifest = loadQualifiedManifest(bundleLocation);
 		if (manifest == null) {
 			return addFlexibleRoot(bundleLocation);
 		}
-		try {
-			hasQualifier(bundleLocation, manifest);
-		} catch (BundleException e) {
-			//should not happen since we know the header
-		}
 		return addBundle(manifest, bundleLocation);
 	}
 
 	private boolean addFlexibleRoot(File bundleLocation) {
-		if (!new File(bundleLocation, PDE_CORE_PREFS).exists())
+		File root = getFlexibleRoot(bundleLocation);
+		if (root == null)
 			return false;
+		return addBundle(root);
+	}
+
+	private File getFlexibleRoot(File bundleLocation) {
+		if (!new File(bundleLocation, PDE_CORE_PREFS).exists())
+			return null;
 
 		try {
 			Properties properties = AbstractScriptGenerator.readProperties(bundleLocation.getAbsolutePath(), PDE_CORE_PREFS, IStatus.OK);
 			String root = properties.getProperty(BUNDLE_ROOT_PATH);
 			if (root != null)
-				return addBundle(new File(bundleLocation, root));
+				return new File(bundleLocation, root);
 		} catch (CoreException e) {
 			//ignore
 		}
-		return false;
+		return null;
 	}
 
 	private String updateVersionNumber(Dictionary<String, String> manifest) {
@@ -366,6 +376,19 @@ public class PDEState implements IPDEBuildConstants, IBuildPropertiesConstants {
 			manifest.put(Constants.BUNDLE_VERSION, "0.0.0"); //$NON-NLS-1$
 	}
 
+	//Return the manifest of the bundle, with the qualifier to use recorded if the version has one
+	private Dictionary<String, String> loadQualifiedManifest(File bundleLocation) {
+		Dictionary<String, String> manifest = loadManifest(bundleLocation);
+		if (manifest == null)
+			return null;
+		try {
+			hasQualifier(bundleLocation, manifest);
+		} catch (BundleException e) {
+			//should not happen since we know the header
+		}
+		return manifest;
+	}
+
 	private Dictionary<String, String> loadManifest(File bundleLocation) {
 		Dictionary<String, String> manifest = basicLoadManifest(bundleLocation);
 		if (manifest == null)
@@ -379,9 +402,63 @@ public class PDEState implements IPDEBuildConstants, IBuildPropertiesConstants {
 		return manifest;
 	}
 
+	/**
+	 * Add the given bundles to the state. The manifests are read and the bundle descriptions
+	 * are created concurrently. Everything that changes this object or the state, that is
+	 * handing out the ids, replacing the qualifiers and adding the descriptions to the state,
+	 * happens sequentially in the order of the given collection, so the ids and the
+	 * resolution are the same as when {@link #addBundle(File)} is called for each bundle.
+	 */
 	public void addBundles(Collection<File> bundles) {
-		for (File bundle : bundles) {
-			addBundle(bundle);
+		List<File> locations = new ArrayList<>(bundles);
+		List<Dictionary<String, String>> manifests = locations.parallelStream().map(this::loadQualifiedManifest).toList();
+
+		//Ids are handed out in order, flexible roots are rare and followed sequentially
+		List<PendingBundle> pending = new ArrayList<>(locations.size());
+		for (int i = 0; i < locations.size(); i++) {
+			File location = locations.get(i);
+			Dictionary<String, String> manifest = manifests.get(i);
+			while (manifest == null && (location = getFlexibleRoot(location)) != null)
+				manifest = loadQualifiedManifest(location);
+			if (manifest != null)
+				pending.add(new PendingBundle(manifest, location, updateVersionNumber(manifest), getNextId()));
+		}
+
+		//Creating a description only reads the state, it is added to the state below
+		pending.parallelStream().forEach(PendingBundle::createDescription);
+
+		for (PendingBundle bundle : pending) {
+			if (bundle.error != null)
+				logStateAdditionProblem(bundle.manifest, bundle.error);
+			else
+				addCreatedBundle(bundle.descriptor, bundle.manifest, bundle.oldVersion);
+		}
+	}
+
+	/**
+	 * A bundle whose description is created before being added to the state.
+	 */
+	private class PendingBundle {
+		final Dictionary<String, String> manifest;
+		final File location;
+		final String oldVersion;
+		final long bundleId;
+		BundleDescription descriptor;
+		BundleException error;
+
+		PendingBundle(Dictionary<String, String> manifest, File location, String oldVersion, long bundleId) {
+			this.manifest = manifest;
+			this.location = location;
+			this.oldVersion = oldVersion;
+			this.bundleId = bundleId;
+		}
+
+		void createDescription() {
+			try {
+				descriptor = factory.createBundleDescription(state, manifest, location.getAbsolutePath(), bundleId);
+			} catch (BundleException e) {
+				error = e;
+			}
 		}
 	}
 
@@ -330,6 +330,10 @@ public class BuildScriptGeneratorTask extends Task {
 		}
 	}
 
+	public void setParallelScriptGeneration(boolean parallel) {
+		generator.setParallelScriptGeneration(parallel);
+	}
+
 	public void setContextRepository(String contexts) {
 		String[] locations = Utils.getArrayFromString(contexts, ","); //$NON-NLS-1$
 		ArrayList<URI> uris = new ArrayList<>();
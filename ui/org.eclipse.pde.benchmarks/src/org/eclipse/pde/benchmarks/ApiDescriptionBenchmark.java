@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.pde.api.tools.internal.ApiDescription;
+import org.eclipse.pde.api.tools.internal.provisional.ApiDescriptionVisitor;
+import org.eclipse.pde.api.tools.internal.provisional.Factory;
+import org.eclipse.pde.api.tools.internal.provisional.IApiAnnotations;
+import org.eclipse.pde.api.tools.internal.provisional.RestrictionModifiers;
+import org.eclipse.pde.api.tools.internal.provisional.VisibilityModifiers;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IElementDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IMethodDescriptor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Visits and resolves the annotations of an {@link ApiDescription} populated
+ * with packages, types and restricted methods.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ApiDescriptionBenchmark {
+
+	private static final int PACKAGES = 50;
+	private static final int TYPES_PER_PACKAGE = 40;
+	private static final int METHODS_PER_TYPE = 10;
+
+	private ApiDescription description;
+	private IMethodDescriptor[] methods;
+
+	@Setup
+	public void setUp() {
+		description = new ApiDescription("bench.description"); //$NON-NLS-1$
+		methods = new IMethodDescriptor[PACKAGES * TYPES_PER_PACKAGE * METHODS_PER_TYPE];
+		int index = 0;
+		for (int p = 0; p < PACKAGES; p++) {
+			String packageName = "bench.api.p" + p; //$NON-NLS-1$
+			description.setVisibility(Factory.packageDescriptor(packageName),
+					p % 5 == 0 ? VisibilityModifiers.PRIVATE : VisibilityModifiers.API);
+			for (int t = 0; t < TYPES_PER_PACKAGE; t++) {
+				String typeName = packageName + ".Type" + t; //$NON-NLS-1$
+				description.setRestrictions(Factory.typeDescriptor(typeName),
+						t % 3 == 0 ? RestrictionModifiers.NO_EXTEND | RestrictionModifiers.NO_INSTANTIATE
+								: RestrictionModifiers.NO_RESTRICTIONS);
+				for (int m = 0; m < METHODS_PER_TYPE; m++) {
+					IMethodDescriptor method = Factory.methodDescriptor(typeName, "method" + m, "(I)V"); //$NON-NLS-1$ //$NON-NLS-2$
+					if (m % 2 == 0) {
+						description.setRestrictions(method, RestrictionModifiers.NO_OVERRIDE | RestrictionModifiers.NO_REFERENCE);
+					}
+					methods[index++] = method;
+				}
+			}
+		}
+	}
+
+	@Benchmark
+	public int visit() {
+		int[] count = new int[1];
+		description.accept(new ApiDescriptionVisitor() {
+			@Override
+			public boolean visitElement(IElementDescriptor element, IApiAnnotations annotations) {
+				count[0]++;
+				return true;
+			}
+		}, null);
+		return count[0];
+	}
+
+	@Benchmark
+	public void resolveAnnotations(Blackhole blackhole) {
+		for (IMethodDescriptor method : methods) {
+			blackhole.consume(description.resolveAnnotations(method));
+		}
+	}
+}
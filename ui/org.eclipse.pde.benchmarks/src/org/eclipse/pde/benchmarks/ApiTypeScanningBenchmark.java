@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.api.tools.internal.builder.Reference;
+import org.eclipse.pde.api.tools.internal.builder.ReferenceExtractor;
+import org.eclipse.pde.api.tools.internal.model.AbstractApiTypeRoot;
+import org.eclipse.pde.api.tools.internal.model.ApiModelFactory;
+import org.eclipse.pde.api.tools.internal.model.TypeStructureBuilder;
+import org.eclipse.pde.api.tools.internal.provisional.builder.IReference;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
+import org.objectweb.asm.ClassReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Builds the type structures of generated class files with
+ * {@link TypeStructureBuilder} and extracts their references with
+ * {@link ReferenceExtractor}, as the API analysis builder does for every
+ * analyzed type.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ApiTypeScanningBenchmark {
+
+	private static final int TYPES = 500;
+
+	private Path directory;
+	private IApiBaseline baseline;
+	private IApiComponent component;
+	private IApiTypeRoot[] roots;
+	private byte[][] contents;
+	private IApiType[] types;
+
+	@Setup
+	public void setUp() throws IOException, CoreException {
+		directory = Files.createTempDirectory("pde-benchmarks"); //$NON-NLS-1$
+		Map<String, byte[]> generated = Fixtures.generateTypes(TYPES);
+		Path jar = Fixtures.writeTypesBundle(directory, "bench.types", generated); //$NON-NLS-1$
+		baseline = ApiModelFactory.newApiBaseline("benchmark"); //$NON-NLS-1$
+		component = ApiModelFactory.newApiComponent(baseline, jar.toString());
+		if (component == null) {
+			throw new IllegalStateException("Not an API component: " + jar); //$NON-NLS-1$
+		}
+		baseline.addApiComponents(new IApiComponent[] { component });
+		roots = new IApiTypeRoot[TYPES];
+		contents = new byte[TYPES][];
+		types = new IApiType[TYPES];
+		for (int i = 0; i < TYPES; i++) {
+			roots[i] = component.findTypeRoot(Fixtures.typeName(i).replace('/', '.'));
+			if (roots[i] == null) {
+				throw new IllegalStateException("Type not found: " + Fixtures.typeName(i)); //$NON-NLS-1$
+			}
+			contents[i] = ((AbstractApiTypeRoot) roots[i]).getContents();
+			types[i] = roots[i].getStructure();
+		}
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		if (baseline != null) {
+			baseline.dispose();
+		}
+		Fixtures.delete(directory);
+	}
+
+	@Benchmark
+	public void buildTypeStructure(Blackhole blackhole) {
+		for (int i = 0; i < TYPES; i++) {
+			blackhole.consume(TypeStructureBuilder.buildTypeStructure(contents[i], component, roots[i]));
+		}
+	}
+
+	@Benchmark
+	public void extractReferences(Blackhole blackhole) {
+		for (int i = 0; i < TYPES; i++) {
+			HashSet<Reference> references = new HashSet<>();
+			new ClassReader(contents[i]).accept(new ReferenceExtractor(types[i], references, IReference.MASK_REF_ALL),
+					ClassReader.SKIP_FRAMES);
+			blackhole.consume(references);
+		}
+	}
+}
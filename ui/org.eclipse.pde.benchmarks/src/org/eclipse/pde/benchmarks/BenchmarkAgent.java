@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.benchmarks;
+
+import java.io.File;
+import java.lang.instrument.Instrumentation;
+import java.util.jar.JarFile;
+
+/**
+ * Java agent of the test runtime running the benchmarks and of the VMs JMH
+ * forks for them.
+ * <p>
+ * JMH is not part of this bundle. The agent appends the jars named by the
+ * <code>pde.benchmarks.classpath</code> system property to the system class
+ * path, where the forked VMs expect JMH, and delegates the JMH packages to the
+ * system class loader, so that the benchmarks generated in this bundle use the
+ * same JMH classes as the runner. The packaged bundle is the agent jar, it also
+ * provides the generated benchmark list to JMH.
+ * </p>
+ * <p>
+ * In the forked VMs the agent is started with the <code>fork</code> argument
+ * and also starts a framework with the bundles of the test runtime, see
+ * {@link ForkedFramework}.
+ * </p>
+ */
+public final class BenchmarkAgent {
+
+	/** The system property with the jars to append to the system class path */
+	static final String CLASSPATH = "pde.benchmarks.classpath"; //$NON-NLS-1$
+
+	/** The system property the agent sets to the location of its jar */
+	static final String AGENT = "pde.benchmarks.agent"; //$NON-NLS-1$
+
+	/** The argument of the agent in the forked VMs */
+	static final String FORK = "fork"; //$NON-NLS-1$
+
+	private static final String BOOT_DELEGATION = "org.osgi.framework.bootdelegation"; //$NON-NLS-1$
+	private static final String JMH_PACKAGES = "org.openjdk.jmh.*"; //$NON-NLS-1$
+
+	private BenchmarkAgent() {
+	}
+
+	@SuppressWarnings("resource") // the jars stay open for the system class loader
+	public static void premain(String args, Instrumentation instrumentation) throws Exception {
+		for (String jar : System.getProperty(CLASSPATH, "").split(File.pathSeparator)) { //$NON-NLS-1$
+			if (!jar.isEmpty()) {
+				instrumentation.appendToSystemClassLoaderSearch(new JarFile(jar));
+			}
+		}
+		System.setProperty(AGENT,
+				new File(BenchmarkAgent.class.getProtectionDomain().getCodeSource().getLocation().toURI()).getPath());
+
+		// the framework is not started yet, bundles load JMH from the system
+		// class loader
+		System.setProperty("osgi.parentClassloader", "app"); //$NON-NLS-1$ //$NON-NLS-2$
+		String delegation = System.getProperty(BOOT_DELEGATION);
+		System.setProperty(BOOT_DELEGATION,
+				delegation == null || delegation.isBlank() ? JMH_PACKAGES : delegation + ',' + JMH_PACKAGES);
+
+		if (FORK.equals(args)) {
+			ForkedFramework.start();
+		}
+	}
+}
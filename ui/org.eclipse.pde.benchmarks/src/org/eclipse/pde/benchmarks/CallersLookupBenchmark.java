@@ -0,0 +1,145 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.ExportPackageDescription;
+import org.eclipse.osgi.service.resolver.State;
+import org.eclipse.osgi.service.resolver.StateObjectFactory;
+import org.eclipse.pde.internal.core.DependentsIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+import org.osgi.framework.BundleException;
+import org.osgi.framework.Constants;
+import org.osgi.framework.FrameworkUtil;
+
+/**
+ * Measures the expansion of a widely used bundle in the callers mode of the
+ * Plug-in Dependencies view on a resolved state of 5000 generated bundles,
+ * all of which require the first one. The lookup in the {@link DependentsIndex}
+ * is compared with going over the wires of every bundle of the state.
+ */
+@org.openjdk.jmh.annotations.State(org.openjdk.jmh.annotations.Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CallersLookupBenchmark {
+
+	private static final int BUNDLES = 5000;
+
+	private State state;
+	private DependentsIndex index;
+	private BundleDescription widelyUsed;
+	private BundleDescription[] sample;
+
+	@Setup
+	public void setUp() throws BundleException {
+		StateObjectFactory factory = StateObjectFactory.defaultFactory;
+		state = factory.createState(true);
+		BundleDescription[] bundles = new BundleDescription[BUNDLES];
+		for (int i = 0; i < BUNDLES; i++) {
+			Map<String, String> headers = Fixtures.bundleHeaders(i);
+			if (i > 3) {
+				// like org.eclipse.core.runtime, the first bundle is required by all others
+				headers.put(Constants.REQUIRE_BUNDLE, headers.get(Constants.REQUIRE_BUNDLE) + ',' + Fixtures.BUNDLE_PREFIX + 0);
+			}
+			bundles[i] = factory.createBundleDescription(state, FrameworkUtil.asDictionary(headers),
+					Fixtures.BUNDLE_PREFIX + i, i + 1);
+			state.addBundle(bundles[i]);
+		}
+		state.resolve(false);
+		for (BundleDescription bundle : bundles) {
+			if (!bundle.isResolved()) {
+				throw new IllegalStateException("Not resolved: " + bundle); //$NON-NLS-1$
+			}
+		}
+		widelyUsed = bundles[0];
+		sample = new BundleDescription[] { bundles[BUNDLES / 4], bundles[BUNDLES / 2], bundles[BUNDLES - 2] };
+		index = new DependentsIndex(state);
+		index.getDependents(widelyUsed);
+	}
+
+	@Benchmark
+	public BundleDescription[] expandWidelyUsed() {
+		return index.getDependents(widelyUsed);
+	}
+
+	@Benchmark
+	public List<BundleDescription> expandWidelyUsedByScan() {
+		return scanDependents(widelyUsed);
+	}
+
+	@Benchmark
+	public int expandSample() {
+		int count = 0;
+		for (BundleDescription bundle : sample) {
+			count += index.getDependents(bundle).length;
+		}
+		return count;
+	}
+
+	@Benchmark
+	public int expandSampleByScan() {
+		int count = 0;
+		for (BundleDescription bundle : sample) {
+			count += scanDependents(bundle).size();
+		}
+		return count;
+	}
+
+	@Benchmark
+	public BundleDescription[] buildIndex() {
+		DependentsIndex newIndex = new DependentsIndex(state);
+		return newIndex.getDependents(widelyUsed);
+	}
+
+	/**
+	 * Finds the dependents of the given bundle by going over the resolved
+	 * requirements of all bundles of the state.
+	 */
+	private List<BundleDescription> scanDependents(BundleDescription bundle) {
+		List<BundleDescription> dependents = new ArrayList<>();
+		for (BundleDescription candidate : state.getResolvedBundles()) {
+			if (isWiredTo(candidate, bundle)) {
+				dependents.add(candidate);
+			}
+		}
+		return dependents;
+	}
+
+	private static boolean isWiredTo(BundleDescription candidate, BundleDescription bundle) {
+		for (BundleDescription required : candidate.getResolvedRequires()) {
+			if (required == bundle) {
+				return true;
+			}
+		}
+		for (ExportPackageDescription imported : candidate.getResolvedImports()) {
+			if (imported.getExporter() == bundle && candidate != bundle) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
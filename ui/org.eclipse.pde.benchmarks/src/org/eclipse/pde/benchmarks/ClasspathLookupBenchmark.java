@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.benchmarks;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.internal.core.ClasspathUtilCore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Looks up the class path of the plug-ins of the running platform, which is
+ * the default target platform of the benchmark runtime, with
+ * {@link ClasspathUtilCore}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ClasspathLookupBenchmark {
+
+	private IPluginModelBase[] models;
+	private String[] ids;
+	private String[] libraryNames;
+
+	@Setup
+	public void setUp() {
+		models = Arrays.stream(PluginRegistry.getActiveModels(false))
+				.filter(model -> model.getInstallLocation() != null).toArray(IPluginModelBase[]::new);
+		if (models.length == 0) {
+			throw new IllegalStateException("No plug-in models available"); //$NON-NLS-1$
+		}
+		ids = Arrays.stream(models).map(model -> model.getPluginBase().getId()).toArray(String[]::new);
+		libraryNames = Arrays.stream(ids).map(id -> "$ws$/" + id + ".jar").toArray(String[]::new); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@Benchmark
+	public void classpathEntriesForBundle(Blackhole blackhole) {
+		for (String id : ids) {
+			blackhole.consume(ClasspathUtilCore.classpathEntriesForBundle(id).toList());
+		}
+	}
+
+	@Benchmark
+	public void collectLibraries(Blackhole blackhole) {
+		for (IPluginModelBase model : models) {
+			blackhole.consume(ClasspathUtilCore.collectLibraries(model));
+		}
+	}
+
+	@Benchmark
+	public void expandLibraryName(Blackhole blackhole) {
+		for (String name : libraryNames) {
+			blackhole.consume(ClasspathUtilCore.expandLibraryName(name));
+		}
+	}
+}
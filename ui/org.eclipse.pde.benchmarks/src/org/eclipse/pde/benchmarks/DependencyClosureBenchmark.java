@@ -0,0 +1,87 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.benchmarks;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.State;
+import org.eclipse.osgi.service.resolver.StateObjectFactory;
+import org.eclipse.pde.internal.core.DependencyManager;
+import org.eclipse.pde.internal.core.DependencyManager.Options;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+import org.osgi.framework.BundleException;
+import org.osgi.framework.FrameworkUtil;
+
+/**
+ * Computes requirement closures with {@link DependencyManager} in a resolved
+ * state of generated bundles that form a long chain of bundle and package
+ * requirements.
+ */
+@org.openjdk.jmh.annotations.State(org.openjdk.jmh.annotations.Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class DependencyClosureBenchmark {
+
+	private static final int BUNDLES = 1000;
+
+	private List<BundleDescription> last;
+	private List<BundleDescription> sample;
+
+	@Setup
+	public void setUp() throws BundleException {
+		StateObjectFactory factory = StateObjectFactory.defaultFactory;
+		State state = factory.createState(true);
+		BundleDescription[] bundles = new BundleDescription[BUNDLES];
+		for (int i = 0; i < BUNDLES; i++) {
+			bundles[i] = factory.createBundleDescription(state, FrameworkUtil.asDictionary(Fixtures.bundleHeaders(i)),
+					Fixtures.BUNDLE_PREFIX + i, i + 1);
+			state.addBundle(bundles[i]);
+		}
+		state.resolve(false);
+		for (BundleDescription bundle : bundles) {
+			if (!bundle.isResolved()) {
+				throw new IllegalStateException("Not resolved: " + bundle); //$NON-NLS-1$
+			}
+		}
+		last = List.of(bundles[BUNDLES - 1]);
+		sample = List.of(bundles[BUNDLES / 4], bundles[BUNDLES / 2], bundles[BUNDLES - 1]);
+	}
+
+	@Benchmark
+	public Set<BundleDescription> closureOfLast() {
+		return DependencyManager.findRequirementsClosure(last);
+	}
+
+	@Benchmark
+	public Set<BundleDescription> closureOfLastWithOptional() {
+		return DependencyManager.findRequirementsClosure(last, Options.INCLUDE_OPTIONAL_DEPENDENCIES);
+	}
+
+	@Benchmark
+	public Set<BundleDescription> closureOfSample() {
+		return DependencyManager.findRequirementsClosure(sample, Options.INCLUDE_OPTIONAL_DEPENDENCIES,
+				Options.INCLUDE_ALL_FRAGMENTS);
+	}
+}
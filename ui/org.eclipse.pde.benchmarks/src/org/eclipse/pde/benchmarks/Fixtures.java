@@ -0,0 +1,243 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.benchmarks;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.stream.Stream;
+
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+/**
+ * Generates the synthetic bundles and classes the benchmarks run on.
+ */
+final class Fixtures {
+
+	static final String BUNDLE_PREFIX = "bench.bundle"; //$NON-NLS-1$
+	static final String TYPE_PACKAGE_PREFIX = "bench/types/p"; //$NON-NLS-1$
+	static final int PACKAGES_PER_BUNDLE = 10;
+	static final int TYPE_PACKAGES = 10;
+
+	private Fixtures() {
+	}
+
+	/**
+	 * Returns the manifest headers of the generated bundle with the given
+	 * index. Each bundle exports {@link #PACKAGES_PER_BUNDLE} packages, imports
+	 * half of the packages of the previous bundle and requires the three
+	 * bundles before it.
+	 */
+	static Map<String, String> bundleHeaders(int index) {
+		Map<String, String> headers = new LinkedHashMap<>();
+		headers.put("Manifest-Version", "1.0"); //$NON-NLS-1$ //$NON-NLS-2$
+		headers.put("Bundle-ManifestVersion", "2"); //$NON-NLS-1$ //$NON-NLS-2$
+		headers.put("Bundle-SymbolicName", BUNDLE_PREFIX + index + ";singleton:=true"); //$NON-NLS-1$ //$NON-NLS-2$
+		headers.put("Bundle-Version", "1.0." + index); //$NON-NLS-1$ //$NON-NLS-2$
+		StringBuilder exports = new StringBuilder();
+		for (int p = 0; p < PACKAGES_PER_BUNDLE; p++) {
+			if (p > 0) {
+				exports.append(',');
+			}
+			exports.append(BUNDLE_PREFIX).append(index).append(".p").append(p); //$NON-NLS-1$
+			exports.append(";version=\"1.0.0\";uses:=\"").append(BUNDLE_PREFIX).append(index).append(".p0\""); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		headers.put("Export-Package", exports.toString()); //$NON-NLS-1$
+		if (index > 0) {
+			StringBuilder imports = new StringBuilder();
+			for (int p = 0; p < PACKAGES_PER_BUNDLE / 2; p++) {
+				if (p > 0) {
+					imports.append(',');
+				}
+				imports.append(BUNDLE_PREFIX).append(index - 1).append(".p").append(p); //$NON-NLS-1$
+				imports.append(";version=\"[1.0.0,2.0.0)\""); //$NON-NLS-1$
+			}
+			headers.put("Import-Package", imports.toString()); //$NON-NLS-1$
+			StringBuilder requires = new StringBuilder();
+			for (int r = Math.max(0, index - 3); r < index; r++) {
+				if (requires.length() > 0) {
+					requires.append(',');
+				}
+				requires.append(BUNDLE_PREFIX).append(r).append(";bundle-version=\"1.0.0\""); //$NON-NLS-1$
+				if (r % 2 == 0) {
+					requires.append(";resolution:=optional"); //$NON-NLS-1$
+				}
+			}
+			headers.put("Require-Bundle", requires.toString()); //$NON-NLS-1$
+		}
+		return headers;
+	}
+
+	/**
+	 * Returns the MANIFEST.MF of the generated bundle with the given index.
+	 */
+	static String bundleManifest(int index) {
+		StringBuilder manifest = new StringBuilder();
+		for (Map.Entry<String, String> header : bundleHeaders(index).entrySet()) {
+			manifest.append(header.getKey()).append(": "); //$NON-NLS-1$
+			// wrap long values like manifest writers do
+			String value = header.getValue();
+			int line = header.getKey().length() + 2;
+			for (int i = 0; i < value.length(); i++) {
+				if (line == 70) {
+					manifest.append("\n "); //$NON-NLS-1$
+					line = 1;
+				}
+				manifest.append(value.charAt(i));
+				line++;
+			}
+			manifest.append('\n');
+		}
+		return manifest.toString();
+	}
+
+	/**
+	 * Returns the internal name of the generated type with the given index.
+	 */
+	static String typeName(int index) {
+		return TYPE_PACKAGE_PREFIX + (index % TYPE_PACKAGES) + "/Type" + index; //$NON-NLS-1$
+	}
+
+	/**
+	 * Generates the class files of the given number of types, keyed by their
+	 * internal names. Every type implements {@link Runnable}, extends the
+	 * previous type in groups of five and references fields, methods and
+	 * constructors of other generated types and of the JRE.
+	 */
+	static Map<String, byte[]> generateTypes(int count) {
+		Map<String, byte[]> types = new LinkedHashMap<>();
+		for (int i = 0; i < count; i++) {
+			types.put(typeName(i), generateType(i, count));
+		}
+		return types;
+	}
+
+	private static byte[] generateType(int index, int count) {
+		String name = typeName(index);
+		String superName = index % 5 == 0 ? "java/lang/Object" : typeName(index - 1); //$NON-NLS-1$
+		String next = typeName((index + 1) % count);
+		String other = typeName((index + 7) % count);
+		ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+		writer.visit(Opcodes.V17, Opcodes.ACC_PUBLIC | Opcodes.ACC_SUPER, name, null, superName, new String[] {
+				"java/lang/Runnable" }); //$NON-NLS-1$
+		writer.visitField(Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC, "next", 'L' + next + ';', null, null).visitEnd(); //$NON-NLS-1$
+		for (int f = 0; f < 5; f++) {
+			writer.visitField(Opcodes.ACC_PROTECTED, "value" + f, "I", null, null).visitEnd(); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		writer.visitField(Opcodes.ACC_PRIVATE, "items", "Ljava/util/List;", "Ljava/util/List<Ljava/lang/String;>;", null).visitEnd(); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+		MethodVisitor init = writer.visitMethod(Opcodes.ACC_PUBLIC, "<init>", "()V", null, null); //$NON-NLS-1$ //$NON-NLS-2$
+		init.visitCode();
+		init.visitVarInsn(Opcodes.ALOAD, 0);
+		init.visitMethodInsn(Opcodes.INVOKESPECIAL, superName, "<init>", "()V", false); //$NON-NLS-1$ //$NON-NLS-2$
+		init.visitVarInsn(Opcodes.ALOAD, 0);
+		init.visitTypeInsn(Opcodes.NEW, "java/util/ArrayList"); //$NON-NLS-1$
+		init.visitInsn(Opcodes.DUP);
+		init.visitMethodInsn(Opcodes.INVOKESPECIAL, "java/util/ArrayList", "<init>", "()V", false); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		init.visitFieldInsn(Opcodes.PUTFIELD, name, "items", "Ljava/util/List;"); //$NON-NLS-1$ //$NON-NLS-2$
+		init.visitInsn(Opcodes.RETURN);
+		init.visitMaxs(0, 0);
+		init.visitEnd();
+
+		MethodVisitor run = writer.visitMethod(Opcodes.ACC_PUBLIC, "run", "()V", null, null); //$NON-NLS-1$ //$NON-NLS-2$
+		run.visitCode();
+		run.visitFieldInsn(Opcodes.GETSTATIC, name, "next", 'L' + next + ';'); //$NON-NLS-1$
+		run.visitMethodInsn(Opcodes.INVOKEVIRTUAL, next, "run", "()V", false); //$NON-NLS-1$ //$NON-NLS-2$
+		run.visitTypeInsn(Opcodes.NEW, other);
+		run.visitInsn(Opcodes.DUP);
+		run.visitMethodInsn(Opcodes.INVOKESPECIAL, other, "<init>", "()V", false); //$NON-NLS-1$ //$NON-NLS-2$
+		run.visitMethodInsn(Opcodes.INVOKEVIRTUAL, other, "run", "()V", false); //$NON-NLS-1$ //$NON-NLS-2$
+		run.visitInsn(Opcodes.RETURN);
+		run.visitMaxs(0, 0);
+		run.visitEnd();
+
+		for (int m = 0; m < 10; m++) {
+			MethodVisitor compute = writer.visitMethod(Opcodes.ACC_PUBLIC, "compute" + m, "(I)I", null, null); //$NON-NLS-1$ //$NON-NLS-2$
+			compute.visitCode();
+			compute.visitVarInsn(Opcodes.ALOAD, 0);
+			compute.visitFieldInsn(Opcodes.GETFIELD, name, "value" + (m % 5), "I"); //$NON-NLS-1$ //$NON-NLS-2$
+			compute.visitVarInsn(Opcodes.ILOAD, 1);
+			compute.visitMethodInsn(Opcodes.INVOKESTATIC, typeName((index + m) % count), "helper", "(I)I", false); //$NON-NLS-1$ //$NON-NLS-2$
+			compute.visitInsn(Opcodes.IADD);
+			compute.visitVarInsn(Opcodes.ALOAD, 0);
+			compute.visitFieldInsn(Opcodes.GETFIELD, name, "items", "Ljava/util/List;"); //$NON-NLS-1$ //$NON-NLS-2$
+			compute.visitMethodInsn(Opcodes.INVOKEINTERFACE, "java/util/List", "size", "()I", true); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			compute.visitInsn(Opcodes.IADD);
+			compute.visitInsn(Opcodes.IRETURN);
+			compute.visitMaxs(0, 0);
+			compute.visitEnd();
+		}
+
+		MethodVisitor helper = writer.visitMethod(Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC, "helper", "(I)I", null, null); //$NON-NLS-1$ //$NON-NLS-2$
+		helper.visitCode();
+		helper.visitVarInsn(Opcodes.ILOAD, 0);
+		helper.visitMethodInsn(Opcodes.INVOKESTATIC, "java/lang/Math", "abs", "(I)I", false); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		helper.visitInsn(Opcodes.IRETURN);
+		helper.visitMaxs(0, 0);
+		helper.visitEnd();
+
+		writer.visitEnd();
+		return writer.toByteArray();
+	}
+
+	/**
+	 * Writes a bundle jar exporting the packages of the given generated types.
+	 */
+	static Path writeTypesBundle(Path directory, String symbolicName, Map<String, byte[]> types) throws IOException {
+		Manifest manifest = new Manifest();
+		Attributes attributes = manifest.getMainAttributes();
+		attributes.put(Attributes.Name.MANIFEST_VERSION, "1.0"); //$NON-NLS-1$
+		attributes.putValue("Bundle-ManifestVersion", "2"); //$NON-NLS-1$ //$NON-NLS-2$
+		attributes.putValue("Bundle-SymbolicName", symbolicName); //$NON-NLS-1$
+		attributes.putValue("Bundle-Version", "1.0.0"); //$NON-NLS-1$ //$NON-NLS-2$
+		StringBuilder exports = new StringBuilder();
+		for (int p = 0; p < TYPE_PACKAGES; p++) {
+			if (p > 0) {
+				exports.append(',');
+			}
+			exports.append((TYPE_PACKAGE_PREFIX + p).replace('/', '.'));
+		}
+		attributes.putValue("Export-Package", exports.toString()); //$NON-NLS-1$
+		Path jar = directory.resolve(symbolicName + "_1.0.0.jar"); //$NON-NLS-1$
+		try (OutputStream stream = Files.newOutputStream(jar); JarOutputStream out = new JarOutputStream(stream, manifest)) {
+			for (Map.Entry<String, byte[]> type : types.entrySet()) {
+				out.putNextEntry(new JarEntry(type.getKey() + ".class")); //$NON-NLS-1$
+				out.write(type.getValue());
+				out.closeEntry();
+			}
+		}
+		return jar;
+	}
+
+	static void delete(Path directory) throws IOException {
+		if (directory == null || !Files.exists(directory)) {
+			return;
+		}
+		try (Stream<Path> paths = Files.walk(directory)) {
+			for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+				Files.delete(path);
+			}
+		}
+	}
+}
@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.eclipse.core.runtime.adaptor.EclipseStarter;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.wiring.BundleWiring;
+
+/**
+ * Starts a framework with the bundles of the test runtime in a VM forked by
+ * JMH. This bundle becomes the context class loader of the main thread, the
+ * forked main of JMH loads the generated benchmarks through it.
+ * <p>
+ * The test runtime passes the {@link #PROPERTIES} of its framework to the
+ * forked VMs as system properties. Every forked VM has a configuration area
+ * and a workspace of its own, which are deleted when the VM exits.
+ * </p>
+ * <p>
+ * The class is loaded by the system class loader of the forked VM, after the
+ * agent added the framework to the system class path, and only uses the
+ * framework.
+ * </p>
+ */
+final class ForkedFramework {
+
+	/** The framework properties of the test runtime used by the forked VMs */
+	static final List<String> PROPERTIES = List.of("osgi.install.area", "osgi.framework", //$NON-NLS-1$ //$NON-NLS-2$
+			"osgi.framework.extensions", "osgi.bundles", "osgi.bundles.defaultStartLevel", "osgi.dev", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+			"osgi.os", "osgi.ws", "osgi.arch", "osgi.nl"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+
+	private static final String SYMBOLIC_NAME = "org.eclipse.pde.benchmarks"; //$NON-NLS-1$
+
+	private ForkedFramework() {
+	}
+
+	static void start() throws Exception {
+		Path area = Files.createTempDirectory(SYMBOLIC_NAME);
+		System.setProperty("osgi.configuration.area", area.resolve("configuration").toUri().toString()); //$NON-NLS-1$ //$NON-NLS-2$
+		System.setProperty("osgi.instance.area", area.resolve("workspace").toUri().toString()); //$NON-NLS-1$ //$NON-NLS-2$
+		// the VM exits when the forked main is done
+		System.setProperty("osgi.framework.activeThreadType", "daemon"); //$NON-NLS-1$ //$NON-NLS-2$
+		Runtime.getRuntime().addShutdownHook(new Thread(() -> shutdown(area)));
+
+		BundleContext context = EclipseStarter.startup(new String[0], null);
+		Bundle bundle = Stream.of(context.getBundles()).filter(b -> SYMBOLIC_NAME.equals(b.getSymbolicName()))
+				.findFirst().orElseThrow(() -> new IllegalStateException(SYMBOLIC_NAME + " is not installed")); //$NON-NLS-1$
+		bundle.start(Bundle.START_TRANSIENT);
+		Thread.currentThread().setContextClassLoader(bundle.adapt(BundleWiring.class).getClassLoader());
+	}
+
+	private static void shutdown(Path area) {
+		try {
+			if (EclipseStarter.isRunning()) {
+				EclipseStarter.shutdown();
+			}
+		} catch (Exception e) {
+			e.printStackTrace();
+		}
+		// not Fixtures.delete, the system class loader does not see the
+		// bundles it uses
+		try (Stream<Path> files = Files.walk(area)) {
+			for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+				Files.delete(file);
+			}
+		} catch (IOException e) {
+			e.printStackTrace();
+		}
+	}
+}
@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.osgi.util.ManifestElement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.osgi.framework.BundleException;
+import org.osgi.framework.Constants;
+
+/**
+ * Parses the manifests of generated bundles and their package and bundle
+ * headers with {@link ManifestElement}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ManifestParsingBenchmark {
+
+	private static final int BUNDLES = 200;
+
+	private byte[][] manifests;
+	private String[] exports;
+	private String[] requires;
+
+	@Setup
+	public void setUp() {
+		manifests = new byte[BUNDLES][];
+		exports = new String[BUNDLES];
+		requires = new String[BUNDLES];
+		for (int i = 0; i < BUNDLES; i++) {
+			manifests[i] = Fixtures.bundleManifest(i + 1).getBytes(StandardCharsets.UTF_8);
+			exports[i] = Fixtures.bundleHeaders(i + 1).get(Constants.EXPORT_PACKAGE);
+			requires[i] = Fixtures.bundleHeaders(i + 1).get(Constants.REQUIRE_BUNDLE);
+		}
+	}
+
+	@Benchmark
+	public void parseBundleManifest(Blackhole blackhole) throws IOException, BundleException {
+		for (byte[] manifest : manifests) {
+			blackhole.consume(ManifestElement.parseBundleManifest(new ByteArrayInputStream(manifest), null));
+		}
+	}
+
+	@Benchmark
+	public void parseExportPackage(Blackhole blackhole) throws BundleException {
+		for (String export : exports) {
+			blackhole.consume(ManifestElement.parseHeader(Constants.EXPORT_PACKAGE, export));
+		}
+	}
+
+	@Benchmark
+	public void parseRequireBundle(Blackhole blackhole) throws BundleException {
+		for (String require : requires) {
+			blackhole.consume(ManifestElement.parseHeader(Constants.REQUIRE_BUNDLE, require));
+		}
+	}
+}
@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.benchmarks;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.eclipse.core.runtime.URIUtil;
+import org.junit.Test;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks of this bundle from the test runtime.
+ * <p>
+ * Every benchmark runs in a VM of its own, forked with the arguments of the
+ * test runtime. The {@link BenchmarkAgent} starts a framework with the bundles
+ * of the test runtime in the forked VMs. The
+ * <code>pde.benchmarks.include</code> system property selects the benchmarks
+ * to run and <code>pde.benchmarks.result</code> names the file the JSON results
+ * are written to.
+ * </p>
+ */
+public class PDEBenchmarks {
+
+	@Test
+	public void runBenchmarks() throws Exception {
+		ChainedOptionsBuilder options = new OptionsBuilder()
+				.include(System.getProperty("pde.benchmarks.include", ".*")) //$NON-NLS-1$ //$NON-NLS-2$
+				.forks(1)
+				.jvmArgs(getForkArguments())
+				.addProfiler(GCProfiler.class)
+				.shouldFailOnError(true);
+		String result = System.getProperty("pde.benchmarks.result"); //$NON-NLS-1$
+		if (result != null) {
+			options.result(result).resultFormat(ResultFormatType.JSON);
+		}
+		Collection<RunResult> results = new Runner(options.build()).run();
+		assertFalse("No benchmark was run", results.isEmpty()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Returns the arguments of the forked VMs: the arguments of this VM, with
+	 * the agent started for a fork, the framework on the class path and the
+	 * framework properties of the test runtime.
+	 */
+	private static String[] getForkArguments() throws Exception {
+		String agent = System.getProperty(BenchmarkAgent.AGENT);
+		assertNotNull("The test runtime was not started with the benchmark agent", agent); //$NON-NLS-1$
+		List<String> arguments = new ArrayList<>();
+		for (String argument : ManagementFactory.getRuntimeMXBean().getInputArguments()) {
+			// the agent is added for a fork below, and the forked VMs can not
+			// share the debug port of this VM
+			if (!argument.startsWith("-javaagent:") && !argument.startsWith("-agentlib:jdwp")) { //$NON-NLS-1$ //$NON-NLS-2$
+				arguments.add(argument);
+			}
+		}
+		arguments.add("-javaagent:" + agent + '=' + BenchmarkAgent.FORK); //$NON-NLS-1$
+		File framework = URIUtil.toFile(URIUtil.toURI(new URL(System.getProperty("osgi.framework")))); //$NON-NLS-1$
+		arguments.add("-D" + BenchmarkAgent.CLASSPATH + '=' + System.getProperty(BenchmarkAgent.CLASSPATH) //$NON-NLS-1$
+				+ File.pathSeparator + framework);
+		for (String property : ForkedFramework.PROPERTIES) {
+			String value = System.getProperty(property);
+			if (value != null) {
+				arguments.add("-D" + property + '=' + value); //$NON-NLS-1$
+			}
+		}
+		return arguments.toArray(String[]::new);
+	}
+}
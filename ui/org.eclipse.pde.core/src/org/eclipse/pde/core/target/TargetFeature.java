@@ -28,6 +28,9 @@ import org.eclipse.osgi.util.NLS;
 import org.eclipse.pde.core.IModel;
 import org.eclipse.pde.internal.core.ExternalFeatureModelManager;
 import org.eclipse.pde.internal.core.ICoreConstants;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.feature.ExternalFeatureModel;
+import org.eclipse.pde.internal.core.feature.FeatureSummary;
 import org.eclipse.pde.internal.core.ifeature.IFeature;
 import org.eclipse.pde.internal.core.ifeature.IFeatureChild;
 import org.eclipse.pde.internal.core.ifeature.IFeatureImport;
@@ -41,13 +44,17 @@ import org.eclipse.pde.internal.core.target.Messages;
  */
 public class TargetFeature {
 
-	private final IFeatureModel featureModel;
+	private IFeatureModel featureModel;
+
+	// set if the full model is only loaded on demand
+	private final FeatureSummary summary;
+	private final File featureXML;
 
 	/**
 	 * Constructs a target feature for a feature on the local filesystem. The
 	 * file may point at the feature.xml or a folder containing the feature.xml.
 	 * The feature.xml will be read to collect the information about the
-	 * feature.
+	 * feature, the full feature model is loaded when first requested.
 	 *
 	 * @param featureLocation
 	 *            the location of the feature (feature.xml or directory
@@ -57,7 +64,11 @@ public class TargetFeature {
 	 *             featureLocation is <code>null</code>
 	 */
 	public TargetFeature(File featureLocation) throws CoreException {
-		this(loadModel(featureLocation));
+		featureXML = getFeatureXML(featureLocation);
+		summary = FeatureSummary.read(featureXML);
+		if (summary == null) {
+			featureModel = ExternalFeatureModelManager.createModel(featureXML);
+		}
 	}
 
 	/**
@@ -75,6 +86,8 @@ public class TargetFeature {
 		Objects.requireNonNull(featureModel, "The feature model can't be null"); //$NON-NLS-1$
 		this.featureModel = Objects.requireNonNull(Adapters.adapt(featureModel, IFeatureModel.class),
 				"The feature model must be an instance of IFeatureModel or adapt to it!"); //$NON-NLS-1$
+		this.summary = null;
+		this.featureXML = null;
 	}
 
 	/**
@@ -83,6 +96,9 @@ public class TargetFeature {
 	 * @return id or <code>null</code>
 	 */
 	public String getId() {
+		if (summary != null) {
+			return summary.getId();
+		}
 		return featureModel.getFeature().getId();
 	}
 
@@ -93,6 +109,9 @@ public class TargetFeature {
 	 * @return version or <code>null</code>
 	 */
 	public String getVersion() {
+		if (summary != null) {
+			return summary.getVersion();
+		}
 		return featureModel.getFeature().getVersion();
 	}
 
@@ -103,6 +122,9 @@ public class TargetFeature {
 	 * @return install location path or <code>null</code>
 	 */
 	public String getLocation() {
+		if (summary != null) {
+			return summary.getLocation();
+		}
 		return featureModel.getInstallLocation();
 	}
 
@@ -113,6 +135,9 @@ public class TargetFeature {
 	 * @return a list of name version descriptors, possibly empty
 	 */
 	public NameVersionDescriptor[] getPlugins() {
+		if (summary != null) {
+			return summary.getPlugins();
+		}
 		return Arrays.stream(featureModel.getFeature().getPlugins())
 				.map(plugin -> new NameVersionDescriptor(plugin.getId(), plugin.getVersion()))
 				.toArray(NameVersionDescriptor[]::new);
@@ -125,6 +150,9 @@ public class TargetFeature {
 	 * @return a list of name version descriptors, possibly empty
 	 */
 	public NameVersionDescriptor[] getDependentFeatures() {
+		if (summary != null) {
+			return summary.getDependentFeatures();
+		}
 		List<NameVersionDescriptor> result = new ArrayList<>();
 		IFeature feature = featureModel.getFeature();
 		IFeatureImport[] featureImports = feature.getImports();
@@ -150,31 +178,42 @@ public class TargetFeature {
 	 *         with
 	 * @since 3.15
 	 */
-	public final IModel getFeatureModel() {
+	public final synchronized IModel getFeatureModel() {
+		if (featureModel == null) {
+			try {
+				featureModel = ExternalFeatureModelManager.createModel(featureXML);
+			} catch (CoreException e) {
+				// removed since the summary was read
+				PDECore.log(e);
+				ExternalFeatureModel model = new ExternalFeatureModel();
+				model.setInstallLocation(featureXML.getParent());
+				featureModel = model;
+			}
+		}
 		return featureModel;
 	}
 
 	/**
-	 * Initializes the content of this target feature by reading the feature.xml
+	 * Returns the feature.xml for the given location
 	 *
 	 * @param file
 	 *            feature.xml or directory containing it
-	 * @return the loaded {@link IFeatureModel}
+	 * @return the existing feature.xml
 	 */
-	private static IFeatureModel loadModel(File file) throws CoreException {
+	private static File getFeatureXML(File file) throws CoreException {
 		if (file == null || !file.exists()) {
 			throw new CoreException(Status.error(NLS.bind(Messages.TargetFeature_FileDoesNotExist, file)));
 		}
-		File featureXML;
+		File manifest;
 		if (ICoreConstants.FEATURE_FILENAME_DESCRIPTOR.equalsIgnoreCase(file.getName())) {
-			featureXML = file;
+			manifest = file;
 		} else {
-			featureXML = new File(file, ICoreConstants.FEATURE_FILENAME_DESCRIPTOR);
-			if (!featureXML.exists()) {
-				throw new CoreException(Status.error(NLS.bind(Messages.TargetFeature_FileDoesNotExist, featureXML)));
+			manifest = new File(file, ICoreConstants.FEATURE_FILENAME_DESCRIPTOR);
+			if (!manifest.exists()) {
+				throw new CoreException(Status.error(NLS.bind(Messages.TargetFeature_FileDoesNotExist, manifest)));
 			}
 		}
-		return ExternalFeatureModelManager.createModel(featureXML);
+		return manifest;
 	}
 
 }
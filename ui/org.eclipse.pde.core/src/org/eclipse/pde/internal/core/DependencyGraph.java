@@ -0,0 +1,212 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 IBM Corporation and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.State;
+import org.osgi.framework.wiring.BundleRevision;
+import org.osgi.framework.wiring.BundleWire;
+import org.osgi.framework.wiring.BundleWiring;
+
+/**
+ * Immutable snapshot of the wiring of a resolved {@link State} used to compute
+ * requirement closures.
+ * <p>
+ * Every resolved bundle of the state is given an index and the bundles it
+ * requires, optionally requires or has attached as fragments are stored as
+ * arrays of indices, so that a closure is a plain breadth-first walk over a
+ * {@link BitSet}. Wires of requirements declared by a fragment are attributed
+ * to the fragment, they are only followed once the fragment is part of the
+ * closure.
+ * </p>
+ * <p>
+ * A graph is only valid as long as the time stamp of its state does not change,
+ * see {@link #isValidFor(State)}.
+ * </p>
+ */
+final class DependencyGraph {
+
+	private static final int[] NONE = new int[0];
+
+	private final State state;
+	private final long timeStamp;
+	private final Map<BundleDescription, Integer> indices;
+	private final BundleDescription[] bundles;
+	private final int[][] required;
+	private final int[][] optional;
+	private final int[][] fragments;
+
+	private DependencyGraph(State state, long timeStamp, BundleDescription[] bundles) {
+		this.state = state;
+		this.timeStamp = timeStamp;
+		this.bundles = bundles;
+		this.indices = new HashMap<>(bundles.length * 4 / 3 + 1);
+		for (int i = 0; i < bundles.length; i++) {
+			indices.put(bundles[i], i);
+		}
+		this.required = new int[bundles.length][];
+		this.optional = new int[bundles.length][];
+		this.fragments = new int[bundles.length][];
+	}
+
+	/**
+	 * Creates the dependency graph of the current resolution of the given state.
+	 */
+	static DependencyGraph create(State state) {
+		// read the time stamp first, a concurrent modification then leads to
+		// a graph that is considered outdated
+		long timeStamp = state.getTimeStamp();
+		BundleDescription[] bundles = Arrays.stream(state.getBundles()).filter(DependencyGraph::isIncluded)
+				.toArray(BundleDescription[]::new);
+		DependencyGraph graph = new DependencyGraph(state, timeStamp, bundles);
+
+		List<Set<Integer>> requiredEdges = newEdgeLists(bundles.length);
+		List<Set<Integer>> optionalEdges = newEdgeLists(bundles.length);
+		for (int i = 0; i < bundles.length; i++) {
+			BundleDescription bundle = bundles[i];
+			graph.fragments[i] = NONE;
+			BundleWiring wiring = bundle.getWiring();
+			if (wiring == null || !wiring.isInUse()) {
+				continue;
+			}
+			graph.fragments[i] = graph.indicesOf(bundle.getFragments());
+			for (BundleWire wire : wiring.getRequiredWires(null)) {
+				// Use revision of required capability to support the case if
+				// fragments contribute new packages to their host's API.
+				int provider = graph.indexOf(wire.getCapability().getRevision());
+				BundleRevision declaringBundle = wire.getRequirement().getRevision();
+				int declaring = declaringBundle == bundle ? i : graph.indexOf(declaringBundle);
+				if (provider < 0 || declaring < 0) {
+					continue;
+				}
+				if (DependencyManager.isOptional(wire.getRequirement())) {
+					optionalEdges.get(declaring).add(provider);
+				} else {
+					requiredEdges.get(declaring).add(provider);
+				}
+			}
+		}
+		for (int i = 0; i < bundles.length; i++) {
+			graph.required[i] = toArray(requiredEdges.get(i));
+			graph.optional[i] = toArray(optionalEdges.get(i));
+		}
+		return graph;
+	}
+
+	/**
+	 * Returns whether this graph still reflects the given state.
+	 */
+	boolean isValidFor(State s) {
+		return state == s && timeStamp == s.getTimeStamp();
+	}
+
+	/**
+	 * Returns whether the given bundle can be part of a closure computed by
+	 * this graph. Bundles that are not resolved are never part of a closure.
+	 */
+	boolean contains(BundleDescription bundle) {
+		return bundle.getContainingState() == state && indices.containsKey(bundle);
+	}
+
+	/**
+	 * Computes the requirements closure of the given bundles.
+	 *
+	 * @param roots
+	 *            the bundles to start from, <code>null</code> elements and
+	 *            bundles not resolved are ignored
+	 * @param includeOptional
+	 *            whether optional requirements are followed
+	 * @param fragmentFilter
+	 *            the fragments to add to the closure along with their host or
+	 *            <code>null</code> to not add fragments
+	 * @return a new modifiable set
+	 */
+	Set<BundleDescription> findRequirementsClosure(Collection<BundleDescription> roots, boolean includeOptional,
+			Predicate<BundleDescription> fragmentFilter) {
+		BitSet closure = new BitSet(bundles.length);
+		int[] pending = new int[bundles.length];
+		int head = 0;
+		int tail = 0;
+		for (BundleDescription root : roots) {
+			int index = root != null ? indexOf(root) : -1;
+			if (index >= 0 && !closure.get(index)) {
+				closure.set(index);
+				pending[tail++] = index;
+			}
+		}
+		while (head < tail) {
+			int bundle = pending[head++];
+			if (fragmentFilter != null) {
+				for (int fragment : fragments[bundle]) {
+					if (!closure.get(fragment) && fragmentFilter.test(bundles[fragment])) {
+						closure.set(fragment);
+						pending[tail++] = fragment;
+					}
+				}
+			}
+			tail = addAll(required[bundle], closure, pending, tail);
+			if (includeOptional) {
+				tail = addAll(optional[bundle], closure, pending, tail);
+			}
+		}
+		Set<BundleDescription> result = new HashSet<>(tail * 4 / 3 + 1);
+		for (int i = closure.nextSetBit(0); i >= 0; i = closure.nextSetBit(i + 1)) {
+			result.add(bundles[i]);
+		}
+		return result;
+	}
+
+	private static int addAll(int[] dependencies, BitSet closure, int[] pending, int tail) {
+		for (int dependency : dependencies) {
+			if (!closure.get(dependency)) {
+				closure.set(dependency);
+				pending[tail++] = dependency;
+			}
+		}
+		return tail;
+	}
+
+	private int indexOf(BundleRevision bundle) {
+		Integer index = indices.get(bundle);
+		return index != null ? index : -1;
+	}
+
+	private int[] indicesOf(BundleDescription[] descriptions) {
+		return Arrays.stream(descriptions).mapToInt(this::indexOf).filter(i -> i >= 0).toArray();
+	}
+
+	private static boolean isIncluded(BundleDescription bundle) {
+		return bundle.isResolved() && !bundle.isRemovalPending();
+	}
+
+	private static List<Set<Integer>> newEdgeLists(int size) {
+		return Stream.<Set<Integer>> generate(LinkedHashSet::new).limit(size).toList();
+	}
+
+	private static int[] toArray(Set<Integer> edges) {
+		return edges.isEmpty() ? NONE : edges.stream().mapToInt(Integer::intValue).toArray();
+	}
+}
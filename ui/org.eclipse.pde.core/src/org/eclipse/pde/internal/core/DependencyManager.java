@@ -15,6 +15,7 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.core;
 
+import java.lang.ref.SoftReference;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -24,6 +25,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Queue;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.CoreException;
@@ -53,6 +55,13 @@ public class DependencyManager {
 	private DependencyManager() { // static use only
 	}
 
+	/**
+	 * The graph of the last state other than the PDE state closures were
+	 * computed in. It is held softly, so it is reused across calls but does
+	 * not keep the state alive when memory runs low.
+	 */
+	private static volatile SoftReference<DependencyGraph> otherDependencyGraph = new SoftReference<>(null);
+
 	public enum Options {
 		/** Specifies to include all optional dependencies into the closure. */
 		INCLUDE_OPTIONAL_DEPENDENCIES,
@@ -170,6 +179,17 @@ public class DependencyManager {
 			throw new AssertionError("Cannot combine INCLUDE_ALL_FRAGMENTS and INCLUDE_NON_TEST_FRAGMENTS"); //$NON-NLS-1$
 		}
 
+		DependencyGraph graph = getDependencyGraph(bundles);
+		if (graph != null) {
+			Predicate<BundleDescription> fragmentFilter = null;
+			if (includeAllFragments) {
+				fragmentFilter = f -> true;
+			} else if (includeNonTestFragments) {
+				fragmentFilter = f -> !isTestWorkspaceProject(f);
+			}
+			return graph.findRequirementsClosure(bundles, includeOptional, fragmentFilter);
+		}
+
 		Set<BundleDescription> closure = new HashSet<>(bundles.size() * 4 / 3 + 1);
 		Queue<BundleDescription> pending = new ArrayDeque<>(bundles.size());
 
@@ -215,6 +235,50 @@ public class DependencyManager {
 		return closure;
 	}
 
+	/**
+	 * Returns the dependency graph of the state containing the given bundles,
+	 * creating it if the state changed since the last closure computation.
+	 *
+	 * @return the graph or <code>null</code> if the bundles do not belong to
+	 *         the same state or are not all resolved
+	 */
+	private static DependencyGraph getDependencyGraph(Collection<BundleDescription> bundles) {
+		State state = null;
+		for (BundleDescription bundle : bundles) {
+			if (bundle == null) {
+				continue;
+			}
+			if (state == null) {
+				state = bundle.getContainingState();
+			}
+			if (state == null || bundle.getContainingState() != state) {
+				return null;
+			}
+		}
+		if (state == null) {
+			return null;
+		}
+		DependencyGraph graph;
+		PDECore core = PDECore.getDefault();
+		PDEState pdeState = core != null ? core.getModelManager().getCurrentState() : null;
+		if (pdeState != null && pdeState.getState() == state) {
+			graph = pdeState.getDependencyGraph();
+		} else {
+			graph = otherDependencyGraph.get();
+			if (graph == null || !graph.isValidFor(state)) {
+				graph = DependencyGraph.create(state);
+				otherDependencyGraph = new SoftReference<>(graph);
+			}
+		}
+		for (BundleDescription bundle : bundles) {
+			if (bundle != null && bundle.isResolved() && !graph.contains(bundle)) {
+				// the state was modified meanwhile, walk the current wiring
+				return null;
+			}
+		}
+		return graph;
+	}
+
 	private static void addNewRequiredBundle(BundleDescription bundle, Set<BundleDescription> requiredBundles,
 			Queue<BundleDescription> pending) {
 		if (bundle != null && bundle.isResolved() && !bundle.isRemovalPending() && requiredBundles.add(bundle)) {
@@ -222,7 +286,7 @@ public class DependencyManager {
 		}
 	}
 
-	private static boolean isOptional(BundleRequirement requirement) {
+	static boolean isOptional(BundleRequirement requirement) {
 		return Constants.RESOLUTION_OPTIONAL.equals(requirement.getDirectives().get(Constants.RESOLUTION_DIRECTIVE));
 	}
 
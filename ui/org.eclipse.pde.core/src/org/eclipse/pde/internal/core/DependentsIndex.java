@@ -0,0 +1,319 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.eclipse.osgi.service.resolver.BundleDelta;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.ExportPackageDescription;
+import org.eclipse.osgi.service.resolver.GenericDescription;
+import org.eclipse.osgi.service.resolver.HostSpecification;
+import org.eclipse.osgi.service.resolver.State;
+import org.eclipse.osgi.service.resolver.StateDelta;
+
+/**
+ * Reverse dependency index of the resolved bundles of a {@link State}.
+ * <p>
+ * The index maps the symbolic names of required bundles, the names of
+ * imported packages, the symbolic names of fragment hosts and the symbolic
+ * names of capability providers to the bundles that are wired to them. It is
+ * built once from the resolved bundles of the state and updated with the
+ * bundles of every {@link StateDelta}, so looking up the dependents of a
+ * bundle does not require to go over all bundles of the state.
+ * </p>
+ * <p>
+ * The index of the PDE state is provided by
+ * {@link PluginModelManager#getDependentsIndex()}.
+ * </p>
+ */
+public class DependentsIndex implements IStateDeltaListener {
+
+	/**
+	 * An entry of one of the name indexes a bundle was added to
+	 *
+	 * @param index
+	 *            the index
+	 * @param name
+	 *            the name the bundle was added under
+	 */
+	private record Wire(Map<String, Set<BundleDescription>> index, String name) {
+	}
+
+	/**
+	 * The bundles indexed with a bundle id, together with the entries they
+	 * were added to. The entries are recorded since the wires of a bundle
+	 * description change in place when it is resolved again.
+	 *
+	 * @param bundle
+	 *            the indexed bundle
+	 * @param wires
+	 *            the entries the bundle was added to
+	 */
+	private record Indexed(BundleDescription bundle, List<Wire> wires) {
+	}
+
+	private final Map<String, Set<BundleDescription>> fRequirers = new HashMap<>();
+	private final Map<String, Set<BundleDescription>> fImporters = new HashMap<>();
+	private final Map<String, Set<BundleDescription>> fFragments = new HashMap<>();
+	private final Map<String, Set<BundleDescription>> fCapabilityRequirers = new HashMap<>();
+	private final Map<Long, Indexed> fIndexed = new HashMap<>();
+
+	private volatile State fState;
+	private volatile boolean fStale;
+
+	/**
+	 * Creates an index of the resolved bundles of the given state. The index
+	 * is built on the first lookup.
+	 *
+	 * @param state
+	 *            the state to index
+	 */
+	public DependentsIndex(State state) {
+		fState = state;
+		fStale = true;
+	}
+
+	/**
+	 * Sets the state to index. The index is built again on the next lookup
+	 * if the state is not the indexed one.
+	 *
+	 * @param state
+	 *            the state to index
+	 */
+	public synchronized void setState(State state) {
+		if (fState != state) {
+			fState = state;
+			fStale = true;
+		}
+	}
+
+	/**
+	 * Returns whether the index is built for the given state, lookups then do
+	 * not build it first. Does not wait for a lookup or a build in progress.
+	 *
+	 * @param state
+	 *            the state to check
+	 * @return <code>true</code> if the given state is indexed
+	 */
+	public boolean isBuilt(State state) {
+		return !fStale && fState == state;
+	}
+
+	/**
+	 * Builds the index now if its state is not indexed yet.
+	 */
+	public synchronized void build() {
+		ensureIndexed();
+	}
+
+	@Override
+	public synchronized void stateResolved(StateDelta delta) {
+		if (fStale) {
+			return;
+		}
+		if (delta == null || delta.getState() != fState) {
+			fStale = true;
+			return;
+		}
+		for (BundleDelta change : delta.getChanges()) {
+			BundleDescription bundle = change.getBundle();
+			remove(bundle.getBundleId());
+			if ((change.getType() & BundleDelta.REMOVED) == 0 && bundle.isResolved()) {
+				add(bundle);
+			}
+		}
+	}
+
+	@Override
+	public void stateChanged(State newState) {
+		setState(newState);
+	}
+
+	/**
+	 * Returns the bundles that are wired to the given bundle, that is the
+	 * bundles requiring it, importing packages it exports, attached to it as
+	 * fragments or requiring capabilities it provides.
+	 *
+	 * @param bundle
+	 *            the bundle to find the dependents of
+	 * @return the dependents of the bundle, may be empty
+	 */
+	public synchronized BundleDescription[] getDependents(BundleDescription bundle) {
+		ensureIndexed();
+		Set<BundleDescription> dependents = new LinkedHashSet<>();
+		String name = bundle.getSymbolicName();
+		if (name != null) {
+			addMatching(dependents, fRequirers.get(name), dependent -> contains(dependent.getResolvedRequires(), bundle));
+			addMatching(dependents, fFragments.get(name), dependent -> {
+				HostSpecification host = dependent.getHost();
+				return host != null && contains(host.getHosts(), bundle);
+			});
+			addMatching(dependents, fCapabilityRequirers.get(name), dependent -> {
+				for (GenericDescription capability : dependent.getResolvedGenericRequires()) {
+					if (capability.getSupplier() == bundle) {
+						return true;
+					}
+				}
+				return false;
+			});
+		}
+		for (ExportPackageDescription export : bundle.getSelectedExports()) {
+			addMatching(dependents, fImporters.get(export.getName()), dependent -> {
+				for (ExportPackageDescription imported : dependent.getResolvedImports()) {
+					if (imported.getExporter() == bundle) {
+						return true;
+					}
+				}
+				return false;
+			});
+		}
+		dependents.remove(bundle);
+		return dependents.toArray(new BundleDescription[dependents.size()]);
+	}
+
+	/**
+	 * Returns the bundles requiring a bundle with the given symbolic name.
+	 *
+	 * @param symbolicName
+	 *            the symbolic name of the required bundle
+	 * @return the requiring bundles, may be empty
+	 */
+	public synchronized Set<BundleDescription> getRequirers(String symbolicName) {
+		return lookup(fRequirers, symbolicName);
+	}
+
+	/**
+	 * Returns the bundles importing the package with the given name.
+	 *
+	 * @param packageName
+	 *            the name of the imported package
+	 * @return the importing bundles, may be empty
+	 */
+	public synchronized Set<BundleDescription> getImporters(String packageName) {
+		return lookup(fImporters, packageName);
+	}
+
+	/**
+	 * Returns the fragments attached to a host with the given symbolic name.
+	 *
+	 * @param hostSymbolicName
+	 *            the symbolic name of the host
+	 * @return the attached fragments, may be empty
+	 */
+	public synchronized Set<BundleDescription> getFragments(String hostSymbolicName) {
+		return lookup(fFragments, hostSymbolicName);
+	}
+
+	private Set<BundleDescription> lookup(Map<String, Set<BundleDescription>> index, String name) {
+		ensureIndexed();
+		Set<BundleDescription> bundles = index.get(name);
+		return bundles == null ? Collections.emptySet() : new HashSet<>(bundles);
+	}
+
+	private void ensureIndexed() {
+		if (!fStale) {
+			return;
+		}
+		long start = System.currentTimeMillis();
+		fRequirers.clear();
+		fImporters.clear();
+		fFragments.clear();
+		fCapabilityRequirers.clear();
+		fIndexed.clear();
+		if (fState != null) {
+			for (BundleDescription bundle : fState.getResolvedBundles()) {
+				add(bundle);
+			}
+		}
+		fStale = false;
+		if (PDECore.DEBUG_MODEL) {
+			System.out.println("Dependents index of " + fIndexed.size() + " bundles built in " //$NON-NLS-1$ //$NON-NLS-2$
+					+ (System.currentTimeMillis() - start) + " ms"); //$NON-NLS-1$
+		}
+	}
+
+	private void add(BundleDescription bundle) {
+		List<Wire> wires = new ArrayList<>();
+		for (BundleDescription required : bundle.getResolvedRequires()) {
+			add(wires, fRequirers, required.getSymbolicName(), bundle);
+		}
+		for (ExportPackageDescription imported : bundle.getResolvedImports()) {
+			if (imported.getExporter() != bundle) {
+				add(wires, fImporters, imported.getName(), bundle);
+			}
+		}
+		HostSpecification host = bundle.getHost();
+		if (host != null) {
+			for (BundleDescription hostBundle : host.getHosts()) {
+				add(wires, fFragments, hostBundle.getSymbolicName(), bundle);
+			}
+		}
+		for (GenericDescription capability : bundle.getResolvedGenericRequires()) {
+			BundleDescription supplier = capability.getSupplier();
+			if (supplier != null && supplier != bundle) {
+				add(wires, fCapabilityRequirers, supplier.getSymbolicName(), bundle);
+			}
+		}
+		fIndexed.put(bundle.getBundleId(), new Indexed(bundle, wires));
+	}
+
+	private static void add(List<Wire> wires, Map<String, Set<BundleDescription>> index, String name,
+			BundleDescription bundle) {
+		if (name != null && index.computeIfAbsent(name, n -> new HashSet<>()).add(bundle)) {
+			wires.add(new Wire(index, name));
+		}
+	}
+
+	private void remove(long bundleId) {
+		Indexed indexed = fIndexed.remove(bundleId);
+		if (indexed == null) {
+			return;
+		}
+		for (Wire wire : indexed.wires()) {
+			Set<BundleDescription> bundles = wire.index().get(wire.name());
+			if (bundles != null && bundles.remove(indexed.bundle()) && bundles.isEmpty()) {
+				wire.index().remove(wire.name());
+			}
+		}
+	}
+
+	private static void addMatching(Set<BundleDescription> result, Set<BundleDescription> candidates,
+			Predicate<BundleDescription> filter) {
+		if (candidates != null) {
+			for (BundleDescription candidate : candidates) {
+				if (!result.contains(candidate) && filter.test(candidate)) {
+					result.add(candidate);
+				}
+			}
+		}
+	}
+
+	private static boolean contains(BundleDescription[] bundles, BundleDescription bundle) {
+		for (BundleDescription candidate : bundles) {
+			if (candidate == bundle) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
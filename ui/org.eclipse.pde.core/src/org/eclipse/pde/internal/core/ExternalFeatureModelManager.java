@@ -21,14 +21,17 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.ListenerList;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.osgi.util.NLS;
@@ -132,17 +135,15 @@ public class ExternalFeatureModelManager {
 			return new IFeatureModel[0];
 		}
 
-		List<IFeatureModel> result = new ArrayList<>();
 		TargetFeature[] features = target.getAllFeatures();
-		if (features != null) {
-			for (TargetFeature feature : features) {
-				IFeatureModel model = getFreshFeatureModel(feature);
-				if (model.isLoaded()) {
-					result.add(model);
-				}
-			}
+		if (features == null) {
+			return new IFeatureModel[0];
 		}
-		return result.toArray(new IFeatureModel[result.size()]);
+		// the feature.xml files are independent, parse them concurrently
+		return Arrays.stream(features).parallel() //
+				.map(ExternalFeatureModelManager::getFreshFeatureModel) //
+				.filter(IFeatureModel::isLoaded) //
+				.toArray(IFeatureModel[]::new);
 	}
 
 	private void notifyListeners(IFeatureModel[] oldModels, IFeatureModel[] newFeatureModels) {
@@ -222,24 +223,53 @@ public class ExternalFeatureModelManager {
 		return new TargetFeature[0];
 	}
 
-	private static TargetFeature[] createFeatures(URL[] featurePaths, IProgressMonitor monitor) {
+	/**
+	 * Reads the features found at the given paths, a feature found more than
+	 * once with the same id and version is returned once.
+	 *
+	 * @param featurePaths
+	 *            the directories of the features, see
+	 *            {@link PluginPathFinder#getFeaturePaths(String)}
+	 * @param monitor
+	 *            progress monitor, reports one unit of work per path
+	 * @return the features read from the paths
+	 */
+	public static TargetFeature[] createFeatures(URL[] featurePaths, IProgressMonitor monitor) {
 		SubMonitor subMonitor = SubMonitor.convert(monitor, featurePaths.length);
-		Map<String, TargetFeature> uniqueFeatures = new LinkedHashMap<>();
+		// parse concurrently, the progress is reported from this thread as the
+		// results are collected in the order of the paths so that duplicate
+		// features are resolved as when parsed one after the other
+		List<CompletableFuture<TargetFeature>> parsed = new ArrayList<>(featurePaths.length);
 		for (URL featurePath : featurePaths) {
-			File manifest = new File(featurePath.getFile(), ICoreConstants.FEATURE_FILENAME_DESCRIPTOR);
-			if (!manifest.exists() || !manifest.isFile()) {
+			parsed.add(CompletableFuture.supplyAsync(() -> createFeature(featurePath)));
+		}
+		Map<String, TargetFeature> uniqueFeatures = new LinkedHashMap<>();
+		try {
+			for (CompletableFuture<TargetFeature> feature : parsed) {
 				subMonitor.split(1);
-				continue;
-			}
-			try {
-				TargetFeature model = new TargetFeature(manifest);
-				uniqueFeatures.put(model.getId() + "_" + model.getVersion(), model); //$NON-NLS-1$
-			} catch (CoreException e) {
-				// Ignore bad files in the collection
+				TargetFeature model = feature.join();
+				if (model != null) {
+					uniqueFeatures.put(model.getId() + "_" + model.getVersion(), model); //$NON-NLS-1$
+				}
 			}
-			subMonitor.split(1);
+		} catch (OperationCanceledException e) {
+			parsed.forEach(feature -> feature.cancel(false));
+			throw e;
 		}
 		Collection<TargetFeature> models = uniqueFeatures.values();
 		return models.toArray(new TargetFeature[models.size()]);
 	}
+
+	private static TargetFeature createFeature(URL featurePath) {
+		File manifest = new File(featurePath.getFile(), ICoreConstants.FEATURE_FILENAME_DESCRIPTOR);
+		if (!manifest.exists() || !manifest.isFile()) {
+			return null;
+		}
+		try {
+			return new TargetFeature(manifest);
+		} catch (CoreException e) {
+			// Ignore bad files in the collection
+			return null;
+		}
+	}
 }
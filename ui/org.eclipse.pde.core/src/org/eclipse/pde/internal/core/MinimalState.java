@@ -24,6 +24,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
@@ -78,6 +79,10 @@ public class MinimalState {
 
 	private boolean fNoProfile;
 
+	private final VisiblePackagesCache<List<PDEClasspathContainer.Rule>> fVisiblePackages = new VisiblePackagesCache<>();
+
+	private volatile DependencyGraph fDependencyGraph;
+
 	protected static StateObjectFactory stateObjectFactory;
 
 	protected String fSystemBundle = IPDEBuildConstants.BUNDLE_OSGI;
@@ -230,6 +235,43 @@ public class MinimalState {
 		return internalResolveState(incremental);
 	}
 
+	/**
+	 * Returns the access rules of the packages visible to the given bundle,
+	 * grouped by exporter. Rules of bundles from this state are cached until a
+	 * resolution of the state affects them.
+	 *
+	 * @param desc
+	 *            the bundle
+	 * @param computer
+	 *            computes the rules of a bundle that are not cached yet
+	 * @return an unmodifiable map of the visible packages of the bundle
+	 */
+	Map<BundleDescription, List<PDEClasspathContainer.Rule>> getVisiblePackages(BundleDescription desc,
+			Function<BundleDescription, Map<BundleDescription, List<PDEClasspathContainer.Rule>>> computer) {
+		if (desc.getContainingState() != fState) {
+			return computer.apply(desc);
+		}
+		return fVisiblePackages.get(desc, computer);
+	}
+
+	/**
+	 * Returns the dependency graph of the current resolution of this state.
+	 * The graph is kept with this state, so it does not outlive it.
+	 */
+	DependencyGraph getDependencyGraph() {
+		DependencyGraph graph = fDependencyGraph;
+		if (graph == null || !graph.isValidFor(fState)) {
+			graph = DependencyGraph.create(fState);
+			fDependencyGraph = graph;
+		}
+		return graph;
+	}
+
+	private StateDelta resolved(StateDelta delta) {
+		fVisiblePackages.invalidate(delta);
+		return delta;
+	}
+
 	/**
 	 * Resolves the state incrementally based on the given bundle names.
 	 *
@@ -237,19 +279,19 @@ public class MinimalState {
 	 */
 	public StateDelta resolveState(String[] symbolicNames) {
 		if (initializePlatformProperties()) {
-			return fState.resolve(false);
+			return resolved(fState.resolve(false));
 		}
 		List<BundleDescription> bundles = new ArrayList<>();
 		for (String symbolicName : symbolicNames) {
 			BundleDescription[] descriptions = fState.getBundles(symbolicName);
 			Collections.addAll(bundles, descriptions);
 		}
-		return fState.resolve(bundles.toArray(new BundleDescription[bundles.size()]));
+		return resolved(fState.resolve(bundles.toArray(new BundleDescription[bundles.size()])));
 	}
 
 	private synchronized StateDelta internalResolveState(boolean incremental) {
 		boolean fullBuildRequired = initializePlatformProperties();
-		return fState.resolve(incremental && !fullBuildRequired);
+		return resolved(fState.resolve(incremental && !fullBuildRequired));
 	}
 
 	protected boolean initializePlatformProperties() {
@@ -47,6 +47,7 @@ import org.eclipse.pde.internal.core.builders.FeatureRebuilder;
 import org.eclipse.pde.internal.core.builders.PluginRebuilder;
 import org.eclipse.pde.internal.core.project.BundleProjectService;
 import org.eclipse.pde.internal.core.schema.SchemaRegistry;
+import org.eclipse.pde.internal.core.search.PluginSearchIndex;
 import org.eclipse.pde.internal.core.target.P2TargetUtils;
 import org.eclipse.pde.internal.core.target.TargetPlatformService;
 import org.osgi.framework.BundleContext;
@@ -178,6 +179,7 @@ public class PDECore extends Plugin implements DebugOptionsListener {
 	private SourceLocationManager fSourceLocationManager;
 	private JavadocLocationManager fJavadocLocationManager;
 	private SearchablePluginsManager fSearchablePluginsManager;
+	private PluginSearchIndex fPluginSearchIndex;
 	private ClasspathContainerResolverManager fClasspathContainerResolverManager;
 
 	// Tracing options manager
@@ -316,6 +318,13 @@ public class PDECore extends Plugin implements DebugOptionsListener {
 		return fSearchablePluginsManager;
 	}
 
+	public synchronized PluginSearchIndex getPluginSearchIndex() {
+		if (fPluginSearchIndex == null) {
+			fPluginSearchIndex = new PluginSearchIndex();
+		}
+		return fPluginSearchIndex;
+	}
+
 	public boolean areModelsInitialized() {
 		return getModelManager().isInitialized();
 	}
@@ -399,6 +408,10 @@ public class PDECore extends Plugin implements DebugOptionsListener {
 			fSearchablePluginsManager.shutdown();
 			fSearchablePluginsManager = null;
 		}
+		if (fPluginSearchIndex != null) {
+			fPluginSearchIndex.shutdown();
+			fPluginSearchIndex = null;
+		}
 		if (fFeatureModelManager != null) {
 			fFeatureModelManager.shutdown();
 			fFeatureModelManager = null;
@@ -313,6 +313,8 @@ public class PDECoreMessages extends NLS {
 
 	public static String PluginModelManager_1;
 
+	public static String PluginSearchIndex_indexing;
+
 	public static String BundleBuilder_building;
 
 	public static String PluginModelManager_CurrentTargetPlatformContainsErrors;
@@ -15,6 +15,7 @@ package org.eclipse.pde.internal.core;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.ListIterator;
 
@@ -216,6 +217,35 @@ public class PDEExtensionRegistry {
 		return list.toArray(new IPluginExtensionPoint[list.size()]);
 	}
 
+	/**
+	 * Returns the unique identifiers of the extension points declared by the
+	 * given plug-in. Unlike {@link #findExtensionPointsForPlugin(IPluginModelBase)}
+	 * no plug-in model objects are created.
+	 */
+	public String[] findExtensionPointIdsForPlugin(IPluginModelBase base) {
+		IContributor contributor = fStrategy.createContributor(base);
+		if (contributor == null) {
+			return new String[0];
+		}
+		return Arrays.stream(getRegistry().getExtensionPoints(contributor)).map(IExtensionPoint::getUniqueIdentifier)
+				.toArray(String[]::new);
+	}
+
+	/**
+	 * Returns the unique identifiers of the extension points the given plug-in
+	 * contributes extensions to. Unlike
+	 * {@link #findExtensionsForPlugin(IPluginModelBase)} no plug-in model
+	 * objects are created.
+	 */
+	public String[] findExtendedPointIdsForPlugin(IPluginModelBase base) {
+		IContributor contributor = fStrategy.createContributor(base);
+		if (contributor == null) {
+			return new String[0];
+		}
+		return Arrays.stream(getRegistry().getExtensions(contributor))
+				.map(IExtension::getExtensionPointUniqueIdentifier).distinct().toArray(String[]::new);
+	}
+
 	private ISharedPluginModel getExtensionsModel(IPluginModelBase base) {
 		if (base instanceof IBundlePluginModelBase) {
 			return ((IBundlePluginModelBase) base).getExtensionsModel();
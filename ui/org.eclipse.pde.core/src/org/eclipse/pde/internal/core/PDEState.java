@@ -18,9 +18,12 @@ import java.io.File;
 import java.net.URI;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 
@@ -227,6 +230,67 @@ public class PDEState extends MinimalState {
 		return fTargetModels.toArray(new IPluginModelBase[fTargetModels.size()]);
 	}
 
+	/**
+	 * Adds the target bundles at the given locations to this state and
+	 * creates their target models. A bundle with the same symbolic name and
+	 * version as a bundle already in the state is skipped, like duplicates are
+	 * removed when the state is created.
+	 *
+	 * @param locations
+	 *            the bundle locations
+	 * @param monitor
+	 *            progress monitor
+	 * @return the target models of the added bundles
+	 */
+	public IPluginModelBase[] addTargetBundles(Collection<File> locations, IProgressMonitor monitor) {
+		SubMonitor subMonitor = SubMonitor.convert(monitor, PDECoreMessages.PDEState_CreatingTargetModelState,
+				locations.size());
+		List<IPluginModelBase> models = new ArrayList<>(locations.size());
+		for (File location : locations) {
+			try {
+				subMonitor.subTask(location.getName());
+				BundleDescription desc = addBundle(location, -1);
+				if (desc != null) {
+					if (isDuplicate(desc)) {
+						fState.removeBundle(desc);
+					} else {
+						IPluginModelBase model = createExternalModel(desc);
+						fTargetModels.add(model);
+						models.add(model);
+					}
+				}
+			} catch (CoreException e) {
+				if (e.getStatus().getCode() != ManifestUtils.STATUS_CODE_NOT_A_BUNDLE_MANIFEST) {
+					PDECore.log(e);
+				}
+			}
+			subMonitor.split(1);
+		}
+		return models.toArray(new IPluginModelBase[models.size()]);
+	}
+
+	private boolean isDuplicate(BundleDescription desc) {
+		for (BundleDescription other : fState.getBundles(desc.getSymbolicName())) {
+			if (other.getBundleId() != desc.getBundleId() && other.getVersion().equals(desc.getVersion())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Removes the given target models and their bundles from this state.
+	 *
+	 * @param models
+	 *            the target models to remove
+	 */
+	public void removeTargetModels(Collection<IPluginModelBase> models) {
+		for (IPluginModelBase model : models) {
+			removeBundleDescription(model.getBundleDescription());
+		}
+		fTargetModels.removeAll(new HashSet<>(models));
+	}
+
 	/**
 	 * In previous releases the state was saved to the PDE .metadata directory.  If
 	 * any of these states are still around we should delete them.
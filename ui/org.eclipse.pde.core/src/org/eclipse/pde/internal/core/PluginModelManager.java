@@ -21,22 +21,28 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Dictionary;
+import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Set;
 import java.util.TreeMap;
 
+import org.eclipse.core.filesystem.URIUtil;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.Adapters;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.MultiStatus;
@@ -70,6 +76,12 @@ public class PluginModelManager implements IModelProviderListener {
 	private static final String fExternalPluginListFile = "SavedExternalPluginList.txt"; //$NON-NLS-1$
 	private static PluginModelManager fModelManager;
 
+	/**
+	 * The target models are recreated instead of applying the difference if
+	 * more than one in this many bundles of the target changed.
+	 */
+	private static final int MAX_TARGET_DIFFERENCE = 4;
+
 	/**
 	 * Job to update class path containers asynchronously. Avoids blocking the UI thread
 	 * while saving the manifest editor. The job is given a workspace lock so other jobs can't
@@ -189,7 +201,8 @@ public class PluginModelManager implements IModelProviderListener {
 
 	private final ExternalModelManager fExternalManager; // keeps track of changes in target models
 	private final WorkspacePluginModelManager fWorkspaceManager; // keeps track of changes in the workspace
-	private PDEState fState; // keeps the combined view of the target and workspace
+	private volatile PDEState fState; // keeps the combined view of the target and workspace
+	private boolean fPreferWorkspaceBundles; // whether workspace bundles replaced target bundles when fState was created
 
 	/**
 	 * only access synchronized with fEntriesSynchronizer
@@ -202,6 +215,7 @@ public class PluginModelManager implements IModelProviderListener {
 
 	private ArrayList<IPluginModelListener> fListeners; // a list of listeners interested in changes to the plug-in models
 	private ArrayList<IStateDeltaListener> fStateListeners; // a list of listeners interested in changes to the PDE/resolver State
+	private final DependentsIndex fDependentsIndex = new DependentsIndex(null); // reverse dependencies of the bundles of fState, built on demand
 	private boolean fCancelled = false;
 
 	/**
@@ -213,6 +227,7 @@ public class PluginModelManager implements IModelProviderListener {
 		fExternalManager = new ExternalModelManager();
 		fExternalManager.addModelProviderListener(this);
 		fWorkspaceManager.addModelProviderListener(this);
+		addStateDeltaListener(fDependentsIndex);
 	}
 
 	/**
@@ -512,8 +527,9 @@ public class PluginModelManager implements IModelProviderListener {
 	 */
 	public void targetReloaded(IProgressMonitor monitor) {
 		synchronized (fEntriesSynchronizer) {
+			Map<String, LocalModelEntry> previousEntries = fEntries;
 			fEntries = null;
-			initializeTable(monitor);
+			initializeTable(monitor, previousEntries);
 		}
 	}
 
@@ -531,6 +547,18 @@ public class PluginModelManager implements IModelProviderListener {
 
 	/** Has to be called synchronized with fEntriesSynchronizer **/
 	private void initializeTable(IProgressMonitor monitor) {
+		initializeTable(monitor, null);
+	}
+
+	/**
+	 * Has to be called synchronized with fEntriesSynchronizer
+	 *
+	 * @param previousEntries
+	 *            the table before the target was reloaded or <code>null</code>,
+	 *            if present only the difference to the new target is applied
+	 *            when possible
+	 **/
+	private void initializeTable(IProgressMonitor monitor, Map<String, LocalModelEntry> previousEntries) {
 		if (fEntries != null) {
 			return;
 		}
@@ -580,6 +608,18 @@ public class PluginModelManager implements IModelProviderListener {
 			fCancelled = true;
 		}
 
+		if (previousEntries != null && oldState != null && !fCancelled
+				&& applyTargetDifference(previousEntries, externalUris, subMon.split(35))) {
+			saveExternalPluginList(externalUris);
+			if (PDECore.DEBUG_MODEL) {
+				long time = System.currentTimeMillis() - startTime;
+				System.out.println("PDE plug-in models updated with target difference: " + time + " ms"); //$NON-NLS-1$//$NON-NLS-2$
+			}
+			return;
+		}
+
+		fPreferWorkspaceBundles = PDECore.getDefault().getPreferencesManager()
+				.getBoolean(ICoreConstants.WORKSPACE_PLUGINS_OVERRIDE_TARGET);
 		fState = new PDEState(externalUris, true, true, subMon.split(15));
 		fExternalManager.setModels(fState.getTargetModels());
 		addToTable(entries, fExternalManager.getAllModels());
@@ -636,6 +676,159 @@ public class PluginModelManager implements IModelProviderListener {
 
 	}
 
+	/**
+	 * Applies the difference between the bundles of the current target models
+	 * and the given bundle locations to the existing state and table. Only the
+	 * added, removed and changed bundles are processed, the state is resolved
+	 * incrementally and listeners are notified about the affected entries only.
+	 * <p>
+	 * The difference is not applied if the preference to prefer workspace
+	 * plug-ins changed, the environment or the execution environments of the
+	 * state changed, the system bundle is removed or too large a part of the
+	 * target changed. The models must be recreated in that case.
+	 * </p>
+	 *
+	 * @param entries
+	 *            the table of the current models
+	 * @param externalUris
+	 *            the locations of the bundles of the new target
+	 * @param monitor
+	 *            progress monitor
+	 * @return <code>true</code> if the difference was applied,
+	 *         <code>false</code> if nothing was changed and the models have to
+	 *         be recreated
+	 */
+	private boolean applyTargetDifference(Map<String, LocalModelEntry> entries, URI[] externalUris,
+			IProgressMonitor monitor) {
+		boolean preferWorkspaceBundle = PDECore.getDefault().getPreferencesManager()
+				.getBoolean(ICoreConstants.WORKSPACE_PLUGINS_OVERRIDE_TARGET);
+		if (preferWorkspaceBundle != fPreferWorkspaceBundles || isPlatformChanged()) {
+			return false;
+		}
+
+		Map<File, IPluginModelBase> current = new LinkedHashMap<>();
+		for (IPluginModelBase model : fExternalManager.getAllModels()) {
+			current.put(new File(model.getInstallLocation()), model);
+		}
+		Set<File> added = new LinkedHashSet<>();
+		Set<File> locations = new HashSet<>();
+		for (URI uri : externalUris) {
+			IPath path = URIUtil.toPath(uri);
+			if (path == null) {
+				continue;
+			}
+			File location = path.toFile();
+			IPluginModelBase model = current.get(location);
+			// an external model is out of sync if the bundle was replaced in place
+			if (model != null && model.isInSync()) {
+				locations.add(location);
+			} else if (locations.add(location)) {
+				added.add(location);
+			}
+		}
+		List<IPluginModelBase> removed = new ArrayList<>();
+		current.forEach((location, model) -> {
+			if (!locations.contains(location) || added.contains(location)) {
+				removed.add(model);
+			}
+		});
+		if ((added.size() + removed.size()) * MAX_TARGET_DIFFERENCE > externalUris.length) {
+			return false;
+		}
+		String systemBundle = fState.getSystemBundle();
+		for (IPluginModelBase model : removed) {
+			if (systemBundle != null && systemBundle.equals(model.getPluginBase().getId())) {
+				return false;
+			}
+		}
+
+		fEntries = entries;
+		Map<String, LocalModelEntry> previous = new HashMap<>();
+		Set<String> ids = new LinkedHashSet<>();
+		// remove first, so that a bundle replaced in place is not a duplicate
+		for (IPluginModelBase model : removed) {
+			String id = model.getPluginBase().getId();
+			LocalModelEntry entry = id == null ? null : entries.get(id);
+			if (entry != null) {
+				previous.putIfAbsent(id, entry);
+				ids.add(id);
+				entry.removeModel(model);
+			}
+		}
+		fState.removeTargetModels(removed);
+
+		IPluginModelBase[] models = fState.addTargetBundles(added, monitor);
+		for (IPluginModelBase model : models) {
+			String id = model.getPluginBase().getId();
+			if (id == null) {
+				continue;
+			}
+			LocalModelEntry entry = entries.get(id);
+			if (entry == null) {
+				entry = new LocalModelEntry(id);
+				entries.put(id, entry);
+			} else {
+				previous.putIfAbsent(id, entry);
+			}
+			ids.add(id);
+			entry.addModel(model);
+			if (entry.hasWorkspaceModels() && preferWorkspaceBundle) {
+				fState.removeBundleDescription(model.getBundleDescription());
+			}
+		}
+		fExternalManager.setModels(fState.getTargetModels());
+
+		PluginModelDelta delta = new PluginModelDelta();
+		for (String id : ids) {
+			LocalModelEntry entry = entries.get(id);
+			if (!entry.hasExternalModels() && !entry.hasWorkspaceModels()) {
+				entries.remove(id);
+				delta.addEntry(entry, PluginModelDelta.REMOVED);
+			} else if (previous.containsKey(id)) {
+				delta.addEntry(entry, PluginModelDelta.CHANGED);
+			} else {
+				delta.addEntry(entry, PluginModelDelta.ADDED);
+			}
+		}
+
+		StateDelta stateDelta = fState.resolveState(ids.toArray(new String[ids.size()]));
+		updateAffectedEntries(stateDelta);
+		// only the projects depending on the changed bundles are built, unlike
+		// on a reload there is no state change touching all projects
+		fireStateDelta(stateDelta);
+		if (delta.getKind() != 0) {
+			fireDelta(delta);
+		}
+		if (PDECore.DEBUG_MODEL) {
+			System.out.println("Target difference applied: " + added.size() + " bundles added, " + removed.size() //$NON-NLS-1$ //$NON-NLS-2$
+					+ " bundles removed"); //$NON-NLS-1$
+		}
+		return true;
+	}
+
+	/**
+	 * Returns whether the target environment or the known execution
+	 * environments differ from the ones the state was created with. The
+	 * platform properties of an existing state are only updated when its
+	 * execution environments change.
+	 */
+	private boolean isPlatformChanged() {
+		Dictionary<?, ?>[] properties = fState.getState().getPlatformProperties();
+		if (properties == null || properties.length == 0) {
+			return true;
+		}
+		Dictionary<String, String> environment = TargetPlatformHelper.getTargetEnvironment(fState);
+		for (Enumeration<String> keys = environment.keys(); keys.hasMoreElements();) {
+			String key = keys.nextElement();
+			if (!Objects.equals(environment.get(key), properties[0].get(key))) {
+				return true;
+			}
+		}
+		Set<String> known = new LinkedHashSet<>(TargetPlatformHelper.getKnownExecutionEnvironments());
+		Set<String> provided = fState.getfProvidedExecutionEnvironments();
+		return provided == null ? !known.isEmpty() : !provided.equals(known);
+	}
+
 	/**
 	 * Returns an array of URI plug-in locations for external bundles loaded from the
 	 * current target platform.
@@ -1209,6 +1402,51 @@ public class PluginModelManager implements IModelProviderListener {
 		}
 	}
 
+	/**
+	 * Returns the reverse dependency index of the bundles of the current
+	 * state. The index is kept up to date with the changes of the state.
+	 * Waits for the target platform to be initialized, see
+	 * {@link #getBuiltDependentsIndex()} for callers in the UI thread.
+	 *
+	 * @return the dependents index of the current state
+	 */
+	public DependentsIndex getDependentsIndex() {
+		synchronized (fEntriesSynchronizer) {
+			initializeTable(null);
+			// the state is recreated without notification when the target is reloaded
+			fDependentsIndex.setState(fState.getState());
+			return fDependentsIndex;
+		}
+	}
+
+	/**
+	 * Returns the reverse dependency index of the bundles of the current
+	 * state if it is already built for that state. Unlike
+	 * {@link #getDependentsIndex()} this method neither waits for the target
+	 * platform to be initialized or reloaded nor builds the index, so it can
+	 * be called from the UI thread.
+	 *
+	 * @return the dependents index of the current state or <code>null</code>
+	 *         if it has to be built first
+	 */
+	public DependentsIndex getBuiltDependentsIndex() {
+		PDEState state = fState;
+		if (state == null || !fDependentsIndex.isBuilt(state.getState())) {
+			return null;
+		}
+		return fDependentsIndex;
+	}
+
+	/**
+	 * Returns the current state without initializing it.
+	 *
+	 * @return the current state or <code>null</code> if the target platform
+	 *         has not been initialized yet
+	 */
+	PDEState getCurrentState() {
+		return fState;
+	}
+
 	/**
 	 * Returns the id of the system bundle currently in the resolver state
 	 *
@@ -1231,6 +1469,7 @@ public class PluginModelManager implements IModelProviderListener {
 		if (fStateListeners != null) {
 			fStateListeners.clear();
 		}
+		fDependentsIndex.setState(null);
 	}
 
 	public void addExtensionDeltaListener(IExtensionDeltaListener listener) {
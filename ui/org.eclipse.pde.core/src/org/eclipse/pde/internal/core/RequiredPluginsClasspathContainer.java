@@ -21,6 +21,7 @@ import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -314,16 +315,27 @@ public class RequiredPluginsClasspathContainer extends PDEClasspathContainer imp
 	}
 
 	private Map<BundleDescription, List<Rule>> retrieveVisiblePackagesFromState(BundleDescription desc) {
+		PDEState state = PDECore.getDefault().getModelManager().getCurrentState();
+		if (state != null) {
+			// the rules only depend on the resolution of the state, share them
+			// between containers until the bundle gets re-resolved
+			return state.getVisiblePackages(desc, RequiredPluginsClasspathContainer::computeVisiblePackages);
+		}
+		return computeVisiblePackages(desc);
+	}
+
+	private static Map<BundleDescription, List<Rule>> computeVisiblePackages(BundleDescription desc) {
 		Map<BundleDescription, List<Rule>> visiblePackages = new HashMap<>();
 		StateHelper helper = BundleHelper.getPlatformAdmin().getStateHelper();
 		addVisiblePackagesFromState(helper, desc, visiblePackages);
 		if (desc.getHost() != null) {
 			addVisiblePackagesFromState(helper, (BundleDescription) desc.getHost().getSupplier(), visiblePackages);
 		}
-		return visiblePackages;
+		visiblePackages.replaceAll((exporter, rules) -> List.copyOf(rules));
+		return Collections.unmodifiableMap(visiblePackages);
 	}
 
-	private void addVisiblePackagesFromState(StateHelper helper, BundleDescription desc,
+	private static void addVisiblePackagesFromState(StateHelper helper, BundleDescription desc,
 			Map<BundleDescription, List<Rule>> visiblePackages) {
 		if (desc == null) {
 			return;
@@ -342,7 +354,7 @@ public class RequiredPluginsClasspathContainer extends PDEClasspathContainer imp
 		}
 	}
 
-	private Rule getRule(StateHelper helper, BundleDescription desc, ExportPackageDescription export) {
+	private static Rule getRule(StateHelper helper, BundleDescription desc, ExportPackageDescription export) {
 		boolean discouraged = helper.getAccessCode(desc, export) == StateHelper.ACCESS_DISCOURAGED;
 		String name = export.getName();
 		IPath path = name.equals(".") ? IPath.fromOSString("*") : IPath.fromOSString(name.replace('.', '/') + "/*"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
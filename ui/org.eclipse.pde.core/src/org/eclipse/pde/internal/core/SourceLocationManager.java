@@ -20,13 +20,18 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.StringTokenizer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IConfigurationElement;
@@ -65,6 +70,12 @@ public class SourceLocationManager implements ICoreConstants {
 	 */
 	private BundleManifestSourceLocationManager fBundleManifestLocator = null;
 
+	/**
+	 * Index of the user specified locations, recreated when the preference
+	 * changes
+	 */
+	private volatile LocationIndex fUserLocationIndex;
+
 	/**
 	 * Searches source locations for one that provides source for the given pluginBase.
 	 * Will search user specified locations, then bundle manifest specified locations, then
@@ -202,6 +213,7 @@ public class SourceLocationManager implements ICoreConstants {
 	public void reset() {
 		fExtensionLocations = null;
 		fBundleManifestLocator = null;
+		fUserLocationIndex = null;
 	}
 
 	/**
@@ -293,14 +305,12 @@ public class SourceLocationManager implements ICoreConstants {
 	 */
 	private IPath searchUserSpecifiedLocations(IPath relativePath) {
 		List<IPath> userLocations = getUserLocations();
-		for (IPath location : userLocations) {
-			IPath fullPath = location.append(relativePath);
-			File file = fullPath.toFile();
-			if (file.exists()) {
-				return fullPath;
-			}
+		LocationIndex index = fUserLocationIndex;
+		if (index == null || !index.locations.equals(userLocations)) {
+			index = new LocationIndex(userLocations);
+			fUserLocationIndex = index;
 		}
-		return null;
+		return index.find(relativePath);
 	}
 
 	/**
@@ -313,20 +323,29 @@ public class SourceLocationManager implements ICoreConstants {
 	 *         found or if the file does not exist
 	 */
 	private IPath searchExtensionLocations(IPath relativePath, IPluginBase plugin) {
-		for (IPath location : getExtensionLocations()) {
-			IPath fullPath = location.append(relativePath);
-			File file = fullPath.toFile();
-			if (file.exists()) {
-				return fullPath;
-			}
+		SourceExtensions extensions = getExtensions();
+		IPath fullPath = extensions.getIndex().find(relativePath);
+		if (fullPath != null) {
+			return fullPath;
 		}
-		return getExtensions().locators.stream().map(locator -> {
+		// only found locations are remembered, locators may provide source
+		// later on, e.g. once it has been downloaded
+		String key = plugin.getId() + '_' + plugin.getVersion();
+		IPath located = extensions.located.get(key);
+		if (located != null && located.toFile().exists()) {
+			return located;
+		}
+		located = extensions.locators.stream().map(locator -> {
 			try {
 				return locator.locator.locateSource(plugin);
 			} catch (RuntimeException e) {
 				return null;
 			}
 		}).filter(Objects::nonNull).findFirst().orElse(null);
+		if (located != null) {
+			extensions.located.put(key, located);
+		}
+		return located;
 	}
 
 	/**
@@ -476,6 +495,147 @@ public class SourceLocationManager implements ICoreConstants {
 	private static final class SourceExtensions {
 		final Collection<IPath> locations = new LinkedHashSet<>();
 		final List<OrderedPluginSourcePathLocator> locators = new ArrayList<>();
+		final Map<String, IPath> located = new ConcurrentHashMap<>();
+		private LocationIndex index;
+
+		synchronized LocationIndex getIndex() {
+			if (index == null) {
+				index = new LocationIndex(List.copyOf(locations));
+			}
+			return index;
+		}
+	}
+
+	/**
+	 * Remembers the content of the root of source locations and the lookups
+	 * that found nothing, so that looking up source for a bundle a location
+	 * does not contain, or looking up a missing source again, does not access
+	 * the file system beyond checking whether the roots have changed.
+	 * <p>
+	 * A miss is remembered with the modification stamps of the roots. It is
+	 * forgotten when one of them changes, e.g. when the source of a bundle is
+	 * added to a location. Files added within an existing entry of a root are
+	 * found once a root changes or the index is recreated.
+	 * </p>
+	 */
+	private static final class LocationIndex {
+
+		final List<IPath> locations;
+
+		private final List<RootListing> roots;
+
+		private final Map<IPath, long[]> misses = new ConcurrentHashMap<>();
+
+		LocationIndex(List<IPath> locations) {
+			this.locations = locations;
+			this.roots = locations.stream().map(RootListing::new).toList();
+		}
+
+		/**
+		 * @param relativePath
+		 *            location of source file within the source locations
+		 * @return path to the source file in the first location containing it
+		 *         or <code>null</code>
+		 */
+		IPath find(IPath relativePath) {
+			long[] stamps = new long[roots.size()];
+			boolean stable = true;
+			for (int i = 0; i < stamps.length; i++) {
+				RootListing listing = roots.get(i);
+				stamps[i] = listing.refresh();
+				stable &= listing.isStable();
+			}
+			boolean remember = stable && relativePath != null;
+			if (remember && Arrays.equals(misses.get(relativePath), stamps)) {
+				return null;
+			}
+			String root = relativePath != null && !relativePath.isEmpty() ? relativePath.segment(0) : null;
+			for (int i = 0; i < locations.size(); i++) {
+				if (root != null && !roots.get(i).mayContain(root)) {
+					continue;
+				}
+				IPath fullPath = locations.get(i).append(relativePath);
+				if (fullPath.toFile().exists()) {
+					misses.remove(relativePath);
+					return fullPath;
+				}
+			}
+			if (remember) {
+				misses.put(relativePath, stamps);
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * The names of the entries at the root of a source location. The names are
+	 * listed again whenever the modification time of the root changes.
+	 */
+	private static final class RootListing {
+
+		/**
+		 * Modification times are only precise to a few seconds on some file
+		 * systems, a listing taken that close to the last modification may miss
+		 * entries added right after it and is not trusted.
+		 */
+		private static final long TIMESTAMP_GRANULARITY = 2000;
+
+		private final File root;
+		private long lastModified;
+		private long listed;
+		/**
+		 * Lower case names of the entries, <code>null</code> if the root could
+		 * not be listed
+		 */
+		private Set<String> names;
+
+		RootListing(IPath location) {
+			root = location.toFile();
+			listed = -1;
+		}
+
+		/**
+		 * Lists the root again if it changed since it was listed or if that
+		 * listing is not trusted.
+		 *
+		 * @return the modification stamp of the root
+		 */
+		synchronized long refresh() {
+			long modified = root.lastModified();
+			if (listed == -1 || modified != lastModified || !isStable()) {
+				lastModified = modified;
+				listed = System.currentTimeMillis();
+				String[] entries = root.list();
+				names = entries != null ? Arrays.stream(entries).map(RootListing::normalize).collect(Collectors.toSet()) : null;
+			}
+			return modified;
+		}
+
+		/**
+		 * @return whether the listing was taken long enough after the last
+		 *         modification of the root to be trusted
+		 */
+		synchronized boolean isStable() {
+			return listed - lastModified >= TIMESTAMP_GRANULARITY;
+		}
+
+		/**
+		 * Returns whether the root may contain an entry with the given name.
+		 * Names are compared ignoring case, as the file system may do, the
+		 * existence of the entry has to be checked by the caller.
+		 *
+		 * @param name
+		 *            name of an entry of the root
+		 * @return <code>false</code> if the root is known not to contain the
+		 *         entry
+		 */
+		synchronized boolean mayContain(String name) {
+			return names == null || names.contains(normalize(name));
+		}
+
+		private static String normalize(String name) {
+			return name.toLowerCase(Locale.ROOT);
+		}
 	}
 
 	private static final class OrderedPluginSourcePathLocator implements Comparable<OrderedPluginSourcePathLocator> {
@@ -0,0 +1,117 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 IBM Corporation and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.eclipse.osgi.service.resolver.BundleDelta;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.HostSpecification;
+import org.eclipse.osgi.service.resolver.StateDelta;
+
+/**
+ * Caches, for the bundles of a {@link MinimalState}, the access rules of the
+ * packages visible to them grouped by exporter.
+ * <p>
+ * An entry only depends on the wiring of its bundle, it is therefore discarded
+ * when a {@link StateDelta} reports a change for the bundle, for its host or
+ * for one of the bundles it gets packages from.
+ * </p>
+ *
+ * @param <R>
+ *            the type of the rules of an exporter
+ */
+public class VisiblePackagesCache<R> {
+
+	private final Map<BundleDescription, Map<BundleDescription, R>> fVisiblePackages = new ConcurrentHashMap<>();
+
+	/**
+	 * Incremented by every invalidation, guarded by this cache
+	 */
+	private long fGeneration;
+
+	/**
+	 * Returns the visible packages of the given bundle, computing them with
+	 * the given function if they are not cached yet. The returned map must not
+	 * be modified.
+	 * <p>
+	 * A result computed while entries were discarded is returned but not
+	 * cached, since it may have been computed from the wiring before the
+	 * change.
+	 * </p>
+	 */
+	public Map<BundleDescription, R> get(BundleDescription desc,
+			Function<BundleDescription, Map<BundleDescription, R>> computer) {
+		Map<BundleDescription, R> packages = fVisiblePackages.get(desc);
+		if (packages != null) {
+			return packages;
+		}
+		long generation;
+		synchronized (this) {
+			generation = fGeneration;
+		}
+		// not computeIfAbsent(), walking the state can take a while
+		packages = computer.apply(desc);
+		synchronized (this) {
+			if (generation == fGeneration) {
+				fVisiblePackages.put(desc, packages);
+			}
+		}
+		return packages;
+	}
+
+	/**
+	 * Returns whether the visible packages of the given bundle are cached.
+	 */
+	public boolean contains(BundleDescription desc) {
+		return fVisiblePackages.containsKey(desc);
+	}
+
+	/**
+	 * Discards the entries affected by the given delta.
+	 *
+	 * @param delta
+	 *            the delta of a resolution of the state, may be
+	 *            <code>null</code> to discard all entries
+	 */
+	public synchronized void invalidate(StateDelta delta) {
+		fGeneration++;
+		if (delta == null) {
+			fVisiblePackages.clear();
+			return;
+		}
+		BundleDelta[] changes = delta.getChanges();
+		if (changes.length == 0 || fVisiblePackages.isEmpty()) {
+			return;
+		}
+		Set<BundleDescription> changed = new HashSet<>();
+		for (BundleDelta change : changes) {
+			changed.add(change.getBundle());
+		}
+		fVisiblePackages.entrySet().removeIf(entry -> changed.contains(entry.getKey())
+				|| isHostChanged(entry.getKey(), changed)
+				|| !Collections.disjoint(entry.getValue().keySet(), changed));
+	}
+
+	private static boolean isHostChanged(BundleDescription desc, Set<BundleDescription> changed) {
+		HostSpecification host = desc.getHost();
+		return host != null && changed.contains(host.getSupplier());
+	}
+
+}
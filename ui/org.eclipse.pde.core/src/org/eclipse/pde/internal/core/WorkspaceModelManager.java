@@ -22,6 +22,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
 import java.util.Objects;
@@ -128,14 +129,37 @@ public abstract class WorkspaceModelManager<T> extends AbstractModelManager
 		ensureModelsMapCreated();
 
 		IProject[] projects = PDECore.getWorkspace().getRoot().getProjects();
+		List<IProject> interesting = new ArrayList<>(projects.length);
 		for (IProject project : projects) {
 			if (isInterestingProject(project)) {
-				createModel(project, false);
+				interesting.add(project);
 			}
 		}
+		createModels(interesting);
 		addListeners();
 	}
 
+	/**
+	 * Returns whether the models of the workspace have been created.
+	 */
+	protected boolean isInitialized() {
+		return fModels != null;
+	}
+
+	/**
+	 * Creates the models of the given projects when the manager is initialized.
+	 * Subclasses may override to create the models more efficiently than one
+	 * after another, the models must be added in the order of the projects.
+	 *
+	 * @param projects
+	 *            the interesting projects of the workspace
+	 */
+	protected void createModels(List<IProject> projects) {
+		for (IProject project : projects) {
+			createModel(project, false);
+		}
+	}
+
 	protected abstract boolean isInterestingProject(IProject project);
 
 	protected abstract void createModel(IProject project, boolean notify);
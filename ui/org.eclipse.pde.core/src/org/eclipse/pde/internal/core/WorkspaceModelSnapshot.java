@@ -0,0 +1,206 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.pde.internal.core.project.PDEProject;
+
+/**
+ * Snapshot of the manifest headers of the workspace bundle models, stored in
+ * the state location when the workspace model manager shuts down.
+ * <p>
+ * An entry is only used if the modification stamps of the manifest,
+ * plugin.xml and fragment.xml of the project are the same as when the entry
+ * was written and the manifest is in sync with the file system. The headers of
+ * such a project do not have to be read and parsed again on startup.
+ * </p>
+ */
+public class WorkspaceModelSnapshot {
+
+	/**
+	 * The snapshot of a single project
+	 *
+	 * @param manifestPath
+	 *            the full path of the manifest, changes with the bundle root
+	 * @param manifestStamp
+	 *            the modification stamp of the manifest
+	 * @param pluginXmlStamp
+	 *            the modification stamp of the plugin.xml
+	 * @param fragmentXmlStamp
+	 *            the modification stamp of the fragment.xml
+	 * @param headers
+	 *            the manifest headers
+	 */
+	public record Entry(String manifestPath, long manifestStamp, long pluginXmlStamp, long fragmentXmlStamp,
+			Map<String, String> headers) {
+
+		/**
+		 * Returns whether the entry still describes the given project.
+		 */
+		public boolean isValid(IProject project) {
+			IFile manifest = PDEProject.getManifest(project);
+			return manifestPath.equals(manifest.getFullPath().toString())
+					&& manifestStamp == manifest.getModificationStamp()
+					&& pluginXmlStamp == PDEProject.getPluginXml(project).getModificationStamp()
+					&& fragmentXmlStamp == PDEProject.getFragmentXml(project).getModificationStamp()
+					&& manifest.isSynchronized(IResource.DEPTH_ZERO);
+		}
+	}
+
+	private static final int FORMAT_VERSION = 1;
+
+	private static final Path SNAPSHOT_LOCATION = PDECore.getDefault().getStateLocation().append(".workspace_models") //$NON-NLS-1$
+			.toPath();
+
+	private WorkspaceModelSnapshot() {
+	}
+
+	/**
+	 * Creates the snapshot entry of a project from the given manifest headers.
+	 *
+	 * @param project
+	 *            the plug-in project
+	 * @param headers
+	 *            the current manifest headers of the project
+	 * @return the entry
+	 */
+	static Entry createEntry(IProject project, Map<String, String> headers) {
+		IFile manifest = PDEProject.getManifest(project);
+		return new Entry(manifest.getFullPath().toString(), manifest.getModificationStamp(),
+				PDEProject.getPluginXml(project).getModificationStamp(),
+				PDEProject.getFragmentXml(project).getModificationStamp(), headers);
+	}
+
+	/**
+	 * Reads the snapshot.
+	 *
+	 * @return the entries keyed by project name, empty if there is no valid
+	 *         snapshot
+	 */
+	public static Map<String, Entry> read() {
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(SNAPSHOT_LOCATION)))) {
+			if (in.readInt() != FORMAT_VERSION) {
+				return Map.of();
+			}
+			int count = in.readInt();
+			Map<String, Entry> entries = new HashMap<>(count * 2);
+			for (int i = 0; i < count; i++) {
+				String project = readString(in);
+				String manifestPath = readString(in);
+				long manifestStamp = in.readLong();
+				long pluginXmlStamp = in.readLong();
+				long fragmentXmlStamp = in.readLong();
+				int headerCount = in.readInt();
+				Map<String, String> headers = new LinkedHashMap<>(headerCount * 2);
+				for (int h = 0; h < headerCount; h++) {
+					headers.put(readString(in), readString(in));
+				}
+				entries.put(project,
+						new Entry(manifestPath, manifestStamp, pluginXmlStamp, fragmentXmlStamp, headers));
+			}
+			return entries;
+		} catch (NoSuchFileException e) {
+			return Map.of();
+		} catch (IOException e) {
+			PDECore.log(e);
+			return Map.of();
+		}
+	}
+
+	/**
+	 * Replaces the snapshot with the given entries.
+	 *
+	 * @param entries
+	 *            the entries keyed by project name
+	 */
+	static void write(Map<String, Entry> entries) {
+		try {
+			Files.createDirectories(SNAPSHOT_LOCATION.getParent());
+			Path temp = Files.createTempFile(SNAPSHOT_LOCATION.getParent(), ".workspace_models", ".tmp"); //$NON-NLS-1$ //$NON-NLS-2$
+			try {
+				try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+					out.writeInt(FORMAT_VERSION);
+					out.writeInt(entries.size());
+					for (Map.Entry<String, Entry> mapEntry : entries.entrySet()) {
+						Entry entry = mapEntry.getValue();
+						writeString(out, mapEntry.getKey());
+						writeString(out, entry.manifestPath());
+						out.writeLong(entry.manifestStamp());
+						out.writeLong(entry.pluginXmlStamp());
+						out.writeLong(entry.fragmentXmlStamp());
+						Collection<Map.Entry<String, String>> headers = entry.headers().entrySet();
+						out.writeInt(headers.size());
+						for (Map.Entry<String, String> header : headers) {
+							writeString(out, header.getKey());
+							writeString(out, header.getValue());
+						}
+					}
+				}
+				try {
+					Files.move(temp, SNAPSHOT_LOCATION, StandardCopyOption.ATOMIC_MOVE,
+							StandardCopyOption.REPLACE_EXISTING);
+				} catch (AtomicMoveNotSupportedException e) {
+					Files.move(temp, SNAPSHOT_LOCATION, StandardCopyOption.REPLACE_EXISTING);
+				}
+			} finally {
+				Files.deleteIfExists(temp);
+			}
+		} catch (IOException e) {
+			PDECore.log(e);
+		}
+	}
+
+	/**
+	 * Removes the snapshot, the next initialization of the workspace models
+	 * reads all manifests.
+	 */
+	public static void clear() {
+		try {
+			Files.deleteIfExists(SNAPSHOT_LOCATION);
+		} catch (IOException e) {
+			PDECore.log(e);
+		}
+	}
+
+	// header values can be longer than writeUTF allows
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		byte[] bytes = new byte[in.readInt()];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
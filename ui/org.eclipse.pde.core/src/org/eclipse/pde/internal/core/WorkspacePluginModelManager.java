@@ -24,9 +24,12 @@ import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.core.resources.IContainer;
 import org.eclipse.core.resources.IFile;
@@ -110,13 +113,84 @@ public class WorkspacePluginModelManager extends WorkspaceModelManager<IPluginMo
 	 */
 	@Override
 	protected void createModel(IProject project, boolean notify) {
+		IPluginModelBase model = loadPluginModel(project, null);
+
+		if (PDEProject.getOptionsFile(project).exists()) {
+			PDECore.getDefault().getTracingOptionsManager().reset();
+		}
+
+		if (model != null) {
+			getModelsMap().put(project, model);
+			if (notify) {
+				addChange(model, IModelProviderEvent.MODELS_ADDED);
+			}
+		}
+	}
+
+	/**
+	 * Creates the models of all plug-in projects on initialization.
+	 * <p>
+	 * The manifest headers of projects that did not change since the last
+	 * session are taken from the {@link WorkspaceModelSnapshot}, all other
+	 * files are parsed concurrently. The models are added in the order of the
+	 * projects.
+	 * </p>
+	 */
+	@Override
+	protected void createModels(List<IProject> projects) {
+		long start = System.currentTimeMillis();
+		Map<String, WorkspaceModelSnapshot.Entry> snapshot = WorkspaceModelSnapshot.read();
+		AtomicInteger reused = new AtomicInteger();
+		IPluginModelBase[] models = projects.parallelStream().map(project -> {
+			WorkspaceModelSnapshot.Entry entry = snapshot.get(project.getName());
+			if (entry != null && entry.isValid(project)) {
+				reused.incrementAndGet();
+				return loadPluginModel(project, entry.headers());
+			}
+			return loadPluginModel(project, null);
+		}).toArray(IPluginModelBase[]::new);
+
+		boolean resetTracingOptions = false;
+		for (int i = 0; i < models.length; i++) {
+			IProject project = projects.get(i);
+			if (models[i] != null) {
+				getModelsMap().put(project, models[i]);
+			}
+			resetTracingOptions |= PDEProject.getOptionsFile(project).exists();
+		}
+		if (resetTracingOptions) {
+			PDECore.getDefault().getTracingOptionsManager().reset();
+		}
+		if (PDECore.DEBUG_MODEL) {
+			System.out.println(models.length + " workspace models initialized in " //$NON-NLS-1$
+					+ (System.currentTimeMillis() - start) + " ms, " + reused + " manifests taken from snapshot"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+
+	/**
+	 * Creates and loads the plug-in model of the given project without adding
+	 * it to the manager. May be called concurrently for different projects.
+	 *
+	 * @param project
+	 *            the project
+	 * @param headers
+	 *            the manifest headers to load the bundle model from or
+	 *            <code>null</code> to parse the manifest
+	 * @return the model or <code>null</code> if the project has no manifest,
+	 *         plugin.xml or fragment.xml
+	 */
+	private IPluginModelBase loadPluginModel(IProject project, Map<String, String> headers) {
 		IPluginModelBase model = null;
 		IFile manifest = PDEProject.getManifest(project);
 		IFile pluginXml = PDEProject.getPluginXml(project);
 		IFile fragmentXml = PDEProject.getFragmentXml(project);
 		if (manifest.exists()) {
 			WorkspaceBundleModel bmodel = new WorkspaceBundleModel(manifest);
-			loadModel(bmodel, false);
+			if (headers != null) {
+				bmodel.load(headers);
+			} else {
+				loadModel(bmodel, false);
+			}
 			if (bmodel.isFragmentModel()) {
 				model = new BundleFragmentModel();
 			} else {
@@ -142,17 +216,7 @@ public class WorkspacePluginModelManager extends WorkspaceModelManager<IPluginMo
 			model = new WorkspaceFragmentModel(fragmentXml, true);
 			loadModel(model, false);
 		}
-
-		if (PDEProject.getOptionsFile(project).exists()) {
-			PDECore.getDefault().getTracingOptionsManager().reset();
-		}
-
-		if (model != null) {
-			getModelsMap().put(project, model);
-			if (notify) {
-				addChange(model, IModelProviderEvent.MODELS_ADDED);
-			}
-		}
+		return model;
 	}
 
 	/**
@@ -408,6 +472,37 @@ public class WorkspacePluginModelManager extends WorkspaceModelManager<IPluginMo
 		return model;
 	}
 
+	/**
+	 * Stores the manifest headers of the bundle models that are in sync with
+	 * their manifest in the {@link WorkspaceModelSnapshot}.
+	 */
+	@Override
+	public void shutdown() {
+		if (isInitialized()) {
+			Map<String, WorkspaceModelSnapshot.Entry> entries = new LinkedHashMap<>();
+			synchronized (getModelsMap()) {
+				for (Map.Entry<IProject, IPluginModelBase> entry : getModelsMap().entrySet()) {
+					if (entry.getValue() instanceof IBundlePluginModelBase model && model.getBundleModel() != null
+							&& model.getBundleModel().isInSync()) {
+						Map<String, String> headers = new LinkedHashMap<>();
+						model.getBundleModel().getBundle().getManifestHeaders()
+								.forEach((key, header) -> {
+									if (header.getValue() != null) {
+										headers.put(key, header.getValue());
+									}
+								});
+						IProject project = entry.getKey();
+						entries.put(project.getName(), WorkspaceModelSnapshot.createEntry(project, headers));
+					}
+				}
+			}
+			if (!entries.isEmpty()) {
+				WorkspaceModelSnapshot.write(entries);
+			}
+		}
+		super.shutdown();
+	}
+
 	/**
 	 * Returns a plug-in model associated with the given project, or <code>null</code>
 	 * if the project is not a plug-in project or the manifest file is missing vital data
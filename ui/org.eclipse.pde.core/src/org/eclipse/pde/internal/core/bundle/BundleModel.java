@@ -78,6 +78,19 @@ public abstract class BundleModel extends AbstractModel implements IBundleModel
 		}
 	}
 
+	/**
+	 * Loads the model from previously parsed manifest headers instead of the
+	 * manifest file.
+	 *
+	 * @param headers
+	 *            the manifest headers
+	 */
+	public void load(Map<String, String> headers) {
+		setLoaded(true); // Must set loaded before creating headers as calls to getModel() throw stack overflows
+		fBundle.load(headers);
+		updateTimeStamp();
+	}
+
 	public void load(BundleDescription desc, PDEState state) {
 		long id = desc.getBundleId();
 		Map<String, String> properties = new HashMap<>();
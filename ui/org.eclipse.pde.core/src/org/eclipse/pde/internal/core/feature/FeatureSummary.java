@@ -0,0 +1,176 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.feature;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import javax.xml.parsers.SAXParser;
+
+import org.eclipse.pde.core.target.NameVersionDescriptor;
+import org.xml.sax.Attributes;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * The identity of a feature and the plug-ins and features it refers to, read
+ * from its feature.xml without building the document tree of a full
+ * {@link ExternalFeatureModel}.
+ * <p>
+ * Resolving a target only needs this information for most of its features,
+ * the full model is created on demand.
+ * </p>
+ */
+public final class FeatureSummary {
+
+	private final String fId;
+	private final String fVersion;
+	private final String fLocation;
+	private final NameVersionDescriptor[] fPlugins;
+	private final NameVersionDescriptor[] fDependentFeatures;
+
+	private FeatureSummary(String id, String version, String location, NameVersionDescriptor[] plugins,
+			NameVersionDescriptor[] dependentFeatures) {
+		fId = id;
+		fVersion = version;
+		fLocation = location;
+		fPlugins = plugins;
+		fDependentFeatures = dependentFeatures;
+	}
+
+	/**
+	 * Reads the summary of the given feature.xml.
+	 *
+	 * @param manifest
+	 *            feature XML file in the local file system
+	 * @return the summary or <code>null</code> if the file cannot be read or
+	 *         is not a well-formed feature.xml, the full model has to be
+	 *         created in that case
+	 */
+	public static FeatureSummary read(File manifest) {
+		SummaryHandler handler = new SummaryHandler();
+		try (InputStream stream = new BufferedInputStream(new FileInputStream(manifest))) {
+			@SuppressWarnings("restriction")
+			SAXParser parser = org.eclipse.core.internal.runtime.XmlProcessorFactory
+					.createSAXParserWithErrorOnDOCTYPE();
+			parser.parse(stream, handler);
+		} catch (Exception e) {
+			// let the full model report the problem
+			return null;
+		}
+		if (!handler.fRootFound) {
+			return null;
+		}
+		return new FeatureSummary(handler.fId, handler.fVersion, manifest.getParent(),
+				handler.fPlugins.toArray(NameVersionDescriptor[]::new),
+				handler.fDependentFeatures.toArray(NameVersionDescriptor[]::new));
+	}
+
+	public String getId() {
+		return fId;
+	}
+
+	public String getVersion() {
+		return fVersion;
+	}
+
+	/**
+	 * @return the path of the directory containing the feature.xml
+	 */
+	public String getLocation() {
+		return fLocation;
+	}
+
+	/**
+	 * @return the plug-ins included by the feature
+	 */
+	public NameVersionDescriptor[] getPlugins() {
+		return fPlugins.clone();
+	}
+
+	/**
+	 * @return the features imported and included by the feature, in this
+	 *         order
+	 */
+	public NameVersionDescriptor[] getDependentFeatures() {
+		return fDependentFeatures.clone();
+	}
+
+	private static class SummaryHandler extends DefaultHandler {
+
+		private int fDepth;
+		private boolean fRootFound;
+		private boolean fInRequires;
+		private String fId;
+		private String fVersion;
+		private final List<NameVersionDescriptor> fPlugins = new ArrayList<>();
+		private final List<NameVersionDescriptor> fImports = new ArrayList<>();
+		private final List<NameVersionDescriptor> fIncludes = new ArrayList<>();
+		private final List<NameVersionDescriptor> fDependentFeatures = new ArrayList<>();
+
+		@Override
+		public void startElement(String uri, String localName, String qName, Attributes attributes) {
+			fDepth++;
+			String tag = qName.toLowerCase(Locale.ENGLISH);
+			if (fDepth == 1) {
+				// the full model accepts any root element as the feature
+				fRootFound = true;
+				fId = attributes.getValue("id"); //$NON-NLS-1$
+				fVersion = attributes.getValue("version"); //$NON-NLS-1$
+			} else if (fDepth == 2) {
+				switch (tag) {
+					case "plugin" : //$NON-NLS-1$
+						fPlugins.add(new NameVersionDescriptor(attributes.getValue("id"), //$NON-NLS-1$
+								attributes.getValue("version"))); //$NON-NLS-1$
+						break;
+					case "includes" : //$NON-NLS-1$
+						fIncludes.add(new NameVersionDescriptor(attributes.getValue("id"), null, //$NON-NLS-1$
+								NameVersionDescriptor.TYPE_FEATURE));
+						break;
+					case "requires" : //$NON-NLS-1$
+						fInRequires = true;
+						break;
+					default :
+						break;
+				}
+			} else if (fDepth == 3 && fInRequires && tag.equals("import")) { //$NON-NLS-1$
+				// same precedence as FeatureImport: a plug-in import wins
+				if (attributes.getValue("plugin") == null) { //$NON-NLS-1$
+					String feature = attributes.getValue("feature"); //$NON-NLS-1$
+					if (feature != null) {
+						fImports.add(new NameVersionDescriptor(feature, null, NameVersionDescriptor.TYPE_FEATURE));
+					}
+				}
+			}
+		}
+
+		@Override
+		public void endElement(String uri, String localName, String qName) {
+			if (fDepth == 2) {
+				fInRequires = false;
+			}
+			fDepth--;
+		}
+
+		@Override
+		public void endDocument() {
+			fDependentFeatures.addAll(fImports);
+			fDependentFeatures.addAll(fIncludes);
+		}
+	}
+}
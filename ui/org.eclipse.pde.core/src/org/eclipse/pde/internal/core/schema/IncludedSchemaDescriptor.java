@@ -31,6 +31,7 @@ public class IncludedSchemaDescriptor implements ISchemaDescriptor {
 	private String fSchemaLocation;
 	private Schema fSchema;
 	private long fLastModified;
+	private SchemaIndex fIndex;
 
 	public IncludedSchemaDescriptor(URL schemaURL) {
 		fSchemaURL = schemaURL;
@@ -40,6 +41,18 @@ public class IncludedSchemaDescriptor implements ISchemaDescriptor {
 		}
 	}
 
+	/**
+	 * Creates a descriptor for an included schema of the schema registry.
+	 * Abbreviated schemas are restored from the given index when possible.
+	 *
+	 * @param schemaURL the url location of the schema
+	 * @param index the index of the schema registry
+	 */
+	IncludedSchemaDescriptor(URL schemaURL, SchemaIndex index) {
+		this(schemaURL);
+		fIndex = index;
+	}
+
 	public static URL computeURL(ISchemaDescriptor parentDesc, String schemaLocation, List<IPath> additionalSearchLocations) throws MalformedURLException {
 		URL parentURL = parentDesc == null ? null : parentDesc.getSchemaURL();
 		if (schemaLocation.startsWith("schema://")) { //$NON-NLS-1$
@@ -158,10 +171,14 @@ public class IncludedSchemaDescriptor implements ISchemaDescriptor {
 	}
 
 	@Override
-	public ISchema getSchema(boolean abbreviated) {
+	public synchronized ISchema getSchema(boolean abbreviated) {
 		if (fSchema == null && fSchemaURL != null) {
-			fSchema = new Schema(this, fSchemaURL, abbreviated);
-			fSchema.load();
+			if (fIndex != null && abbreviated) {
+				fSchema = fIndex.getSchema(this);
+			} else {
+				fSchema = new Schema(this, fSchemaURL, abbreviated);
+				fSchema.load();
+			}
 		}
 		return fSchema;
 	}
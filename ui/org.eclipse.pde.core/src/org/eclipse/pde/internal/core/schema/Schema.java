@@ -462,6 +462,24 @@ public class Schema extends PlatformObject implements ISchema {
 		}
 	}
 
+	/**
+	 * Completes a schema whose elements and includes were restored from the
+	 * {@link SchemaIndex} instead of being read from the XML document.
+	 *
+	 * @param valid
+	 *            whether the schema had a valid meta.schema annotation
+	 * @param references
+	 *            the element references of the restored compositors
+	 */
+	void indexLoaded(boolean valid, Vector<SchemaElementReference> references) {
+		fValid = valid;
+		addOmittedDocumentSections();
+		fLoaded = true;
+		if (!references.isEmpty()) {
+			resolveReferences(references);
+		}
+	}
+
 	private ISchemaAttribute processAttribute(ISchemaElement element, Node elementNode) {
 		String aname = getAttribute(elementNode, "name"); //$NON-NLS-1$
 		if (aname == null) {
@@ -29,9 +29,23 @@ public class SchemaDescriptor implements ISchemaDescriptor {
 	private long fLastModified;
 	private boolean fEditable;
 	private SchemaProvider schemaProvider;
+	private SchemaIndex fIndex;
 
 	public SchemaDescriptor(String extPointID, URL schemaURL) {
-		this(extPointID, schemaURL, null);
+		this(extPointID, schemaURL, (SchemaProvider) null);
+	}
+
+	/**
+	 * Creates a new schema descriptor for a schema of the schema registry.
+	 * Abbreviated schemas are restored from the given index when possible.
+	 *
+	 * @param extPointID the extension point the schema describes
+	 * @param schemaURL the url location of the schema
+	 * @param index the index of the schema registry
+	 */
+	public SchemaDescriptor(String extPointID, URL schemaURL, SchemaIndex index) {
+		this(extPointID, schemaURL, (SchemaProvider) null);
+		fIndex = index;
 	}
 
 	/**
@@ -78,15 +92,19 @@ public class SchemaDescriptor implements ISchemaDescriptor {
 	}
 
 	@Override
-	public ISchema getSchema(boolean abbreviated) {
+	public synchronized ISchema getSchema(boolean abbreviated) {
 		if (fSchema == null && fSchemaURL != null) {
-			if (fEditable) {
-				fSchema = new EditableSchema(this, fSchemaURL, abbreviated);
+			if (fIndex != null && abbreviated) {
+				fSchema = fIndex.getSchema(this);
 			} else {
-				fSchema = new Schema(this, fSchemaURL, abbreviated);
+				if (fEditable) {
+					fSchema = new EditableSchema(this, fSchemaURL, abbreviated);
+				} else {
+					fSchema = new Schema(this, fSchemaURL, abbreviated);
+				}
+				fSchema.setSchemaProvider(schemaProvider);
+				fSchema.load();
 			}
-			fSchema.setSchemaProvider(schemaProvider);
-			fSchema.load();
 		}
 		return fSchema;
 	}
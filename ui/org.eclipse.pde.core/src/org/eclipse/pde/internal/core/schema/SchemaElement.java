@@ -187,6 +187,22 @@ public class SchemaElement extends RepeatableSchemaObject implements ISchemaElem
 		return null;
 	}
 
+	/**
+	 * Returns the icon property declared by the schema, without falling back
+	 * to the resource attributes of the element.
+	 */
+	String getDeclaredIconProperty() {
+		return iconName;
+	}
+
+	/**
+	 * Returns the label property declared by the schema, without falling back
+	 * to the translatable attributes of the element.
+	 */
+	String getDeclaredLabelProperty() {
+		return labelProperty;
+	}
+
 	@Override
 	public String getLabelProperty() {
 		if (labelProperty != null) {
@@ -0,0 +1,525 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.schema;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.lang.ref.SoftReference;
+import java.net.MalformedURLException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Vector;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.runtime.URIUtil;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.ischema.ISchemaAttribute;
+import org.eclipse.pde.internal.core.ischema.ISchemaComplexType;
+import org.eclipse.pde.internal.core.ischema.ISchemaCompositor;
+import org.eclipse.pde.internal.core.ischema.ISchemaDescriptor;
+import org.eclipse.pde.internal.core.ischema.ISchemaElement;
+import org.eclipse.pde.internal.core.ischema.ISchemaEnumeration;
+import org.eclipse.pde.internal.core.ischema.ISchemaInclude;
+import org.eclipse.pde.internal.core.ischema.ISchemaObject;
+import org.eclipse.pde.internal.core.ischema.ISchemaRestriction;
+import org.eclipse.pde.internal.core.ischema.ISchemaRootElement;
+import org.eclipse.pde.internal.core.ischema.ISchemaSimpleType;
+import org.eclipse.pde.internal.core.ischema.ISchemaType;
+
+/**
+ * Index of the abbreviated schemas loaded by the {@link SchemaRegistry},
+ * stored in the state location when the registry shuts down.
+ * <p>
+ * The index holds the elements, attributes, types, compositors and includes
+ * of every schema, keyed by the schema URL. An entry is only used if the
+ * schema file, or the jar containing it, has the same time stamp as when the
+ * entry was written, so such a schema does not have to be parsed again.
+ * Abbreviated schemas only contain the documentation of attributes, the
+ * documentation of the schema and its elements is still read from the schema
+ * file on demand.
+ * </p>
+ * <p>
+ * Schemas parsed in this session are held softly until the index is saved, a
+ * schema collected in the meantime is parsed again by the next session.
+ * </p>
+ */
+public class SchemaIndex {
+
+	/**
+	 * The indexed content of a single schema
+	 *
+	 * @param timeStamp
+	 *            the time stamp of the schema file or jar
+	 * @param data
+	 *            the encoded schema
+	 */
+	record Entry(long timeStamp, byte[] data) {
+	}
+
+	/**
+	 * A schema parsed in this session
+	 *
+	 * @param timeStamp
+	 *            the time stamp of the schema file or jar before it was
+	 *            parsed
+	 * @param schema
+	 *            the parsed schema, cleared when memory runs low
+	 */
+	private record Parsed(long timeStamp, SoftReference<Schema> schema) {
+	}
+
+	private static final int FORMAT_VERSION = 2;
+
+	private static final Path INDEX_LOCATION = PDECore.getDefault().getStateLocation().append(".schema_index") //$NON-NLS-1$
+			.toPath();
+
+	private static final byte TYPE_NONE = 0;
+	private static final byte TYPE_SIMPLE = 1;
+	private static final byte TYPE_COMPLEX = 2;
+
+	private static final byte CHILD_COMPOSITOR = 0;
+	private static final byte CHILD_REFERENCE = 1;
+
+	private final Path fLocation;
+
+	private Map<String, Entry> fEntries;
+
+	private final Map<String, Parsed> fParsed = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates the index stored in the state location.
+	 */
+	public SchemaIndex() {
+		this(INDEX_LOCATION);
+	}
+
+	/**
+	 * Creates an index stored in the given file.
+	 *
+	 * @param location
+	 *            the file of the index
+	 */
+	public SchemaIndex(Path location) {
+		fLocation = location;
+	}
+
+	/**
+	 * Returns the abbreviated schema of the given descriptor. The schema is
+	 * restored from the index if its entry is still valid and parsed from the
+	 * schema file otherwise.
+	 *
+	 * @param descriptor
+	 *            the descriptor of the schema
+	 * @return the schema, check {@link Schema#isLoaded()} to see whether it
+	 *         could be read
+	 */
+	public Schema getSchema(ISchemaDescriptor descriptor) {
+		URL url = descriptor.getSchemaURL();
+		String key = url.toExternalForm();
+		long timeStamp = getTimeStamp(url);
+		if (timeStamp != 0) {
+			Entry entry = getEntries().get(key);
+			if (entry != null && entry.timeStamp() == timeStamp) {
+				Schema schema = new Schema(descriptor, url, true);
+				try {
+					read(schema, entry.data());
+					return schema;
+				} catch (IOException e) {
+					PDECore.log(e);
+				}
+			}
+		}
+		Schema schema = new Schema(descriptor, url, true);
+		schema.load();
+		if (timeStamp != 0 && schema.isLoaded()) {
+			fParsed.put(key, new Parsed(timeStamp, new SoftReference<>(schema)));
+		}
+		return schema;
+	}
+
+	/**
+	 * Returns whether the index has a valid entry for the schema at the given
+	 * URL, so the schema is restored instead of parsed.
+	 *
+	 * @param url
+	 *            the URL of the schema
+	 * @return <code>true</code> if the schema is restored from the index
+	 */
+	public boolean isIndexed(URL url) {
+		Entry entry = getEntries().get(url.toExternalForm());
+		return entry != null && entry.timeStamp() == getTimeStamp(url);
+	}
+
+	/**
+	 * Writes the entries that are still valid and the schemas parsed in this
+	 * session to the state location.
+	 */
+	public synchronized void save() {
+		if (fParsed.isEmpty()) {
+			return;
+		}
+		Map<String, Entry> entries = new LinkedHashMap<>();
+		for (Map.Entry<String, Entry> entry : getEntries().entrySet()) {
+			try {
+				if (entry.getValue().timeStamp() == getTimeStamp(new URL(entry.getKey()))) {
+					entries.put(entry.getKey(), entry.getValue());
+				}
+			} catch (MalformedURLException e) {
+				// drop the entry
+			}
+		}
+		for (Map.Entry<String, Parsed> parsed : fParsed.entrySet()) {
+			Schema schema = parsed.getValue().schema().get();
+			if (schema == null || !schema.isLoaded()) {
+				// collected or disposed in the meantime
+				continue;
+			}
+			try {
+				entries.put(parsed.getKey(), new Entry(parsed.getValue().timeStamp(), write(schema)));
+			} catch (IOException e) {
+				PDECore.log(e);
+			}
+		}
+		fParsed.clear();
+		fEntries = entries;
+		try {
+			Files.createDirectories(fLocation.getParent());
+			Path temp = Files.createTempFile(fLocation.getParent(), ".schema_index", ".tmp"); //$NON-NLS-1$ //$NON-NLS-2$
+			try {
+				try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+					out.writeInt(FORMAT_VERSION);
+					out.writeInt(entries.size());
+					for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+						out.writeUTF(entry.getKey());
+						out.writeLong(entry.getValue().timeStamp());
+						out.writeInt(entry.getValue().data().length);
+						out.write(entry.getValue().data());
+					}
+				}
+				try {
+					Files.move(temp, fLocation, StandardCopyOption.ATOMIC_MOVE,
+							StandardCopyOption.REPLACE_EXISTING);
+				} catch (AtomicMoveNotSupportedException e) {
+					Files.move(temp, fLocation, StandardCopyOption.REPLACE_EXISTING);
+				}
+			} finally {
+				Files.deleteIfExists(temp);
+			}
+		} catch (IOException e) {
+			PDECore.log(e);
+		}
+	}
+
+	/**
+	 * Removes the index from the state location, schemas are parsed again by
+	 * registries created afterwards.
+	 */
+	public static void clear() {
+		try {
+			Files.deleteIfExists(INDEX_LOCATION);
+		} catch (IOException e) {
+			PDECore.log(e);
+		}
+	}
+
+	private synchronized Map<String, Entry> getEntries() {
+		if (fEntries == null) {
+			fEntries = readEntries(fLocation);
+		}
+		return fEntries;
+	}
+
+	private static Map<String, Entry> readEntries(Path location) {
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(location)))) {
+			if (in.readInt() != FORMAT_VERSION) {
+				return Map.of();
+			}
+			int count = in.readInt();
+			Map<String, Entry> entries = new HashMap<>(count * 2);
+			for (int i = 0; i < count; i++) {
+				String url = in.readUTF();
+				long timeStamp = in.readLong();
+				byte[] data = new byte[in.readInt()];
+				in.readFully(data);
+				entries.put(url, new Entry(timeStamp, data));
+			}
+			return entries;
+		} catch (NoSuchFileException e) {
+			return Map.of();
+		} catch (IOException e) {
+			PDECore.log(e);
+			return Map.of();
+		}
+	}
+
+	/**
+	 * Returns the time stamp of a schema file, or of the jar containing it.
+	 *
+	 * @return the time stamp or <code>0</code> if the schema is not stored in
+	 *         the local file system
+	 */
+	static long getTimeStamp(URL url) {
+		try {
+			URL fileURL = url;
+			if ("jar".equals(url.getProtocol())) { //$NON-NLS-1$
+				String path = url.getFile();
+				int separator = path.indexOf("!/"); //$NON-NLS-1$
+				if (separator == -1) {
+					return 0;
+				}
+				fileURL = new URL(path.substring(0, separator));
+			}
+			if (!"file".equals(fileURL.getProtocol())) { //$NON-NLS-1$
+				return 0;
+			}
+			File file = URIUtil.toFile(URIUtil.toURI(fileURL));
+			return file != null ? file.lastModified() : 0;
+		} catch (MalformedURLException | URISyntaxException e) {
+			return 0;
+		}
+	}
+
+	private static byte[] write(Schema schema) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			writeString(out, schema.getName());
+			writeString(out, schema.getPluginId());
+			writeString(out, schema.getPointId());
+			out.writeBoolean(schema.isValid());
+			ISchemaInclude[] includes = schema.getIncludes();
+			out.writeInt(includes.length);
+			for (ISchemaInclude include : includes) {
+				writeString(out, include.getLocation());
+			}
+			ISchemaElement[] elements = schema.getElements();
+			out.writeInt(elements.length);
+			for (ISchemaElement element : elements) {
+				writeElement(out, (SchemaElement) element);
+			}
+		}
+		return bytes.toByteArray();
+	}
+
+	private static void writeElement(DataOutputStream out, SchemaElement element) throws IOException {
+		writeString(out, element.getName());
+		out.writeInt(element.getMinOccurs());
+		out.writeInt(element.getMaxOccurs());
+		writeString(out, element.getDeclaredLabelProperty());
+		writeString(out, element.getDeclaredIconProperty());
+		out.writeBoolean(element.hasTranslatableContent());
+		out.writeBoolean(element.isDeprecated());
+		if (element instanceof ISchemaRootElement root) {
+			writeString(out, root.getDeprecatedSuggestion());
+			out.writeBoolean(root.isInternal());
+		}
+		ISchemaType type = element.getType();
+		if (type instanceof ISchemaComplexType complexType) {
+			out.writeByte(TYPE_COMPLEX);
+			writeString(out, complexType.getName());
+			out.writeBoolean(complexType.isMixed());
+			ISchemaAttribute[] attributes = complexType.getAttributes();
+			out.writeInt(attributes.length);
+			for (ISchemaAttribute attribute : attributes) {
+				writeAttribute(out, attribute);
+			}
+			ISchemaCompositor compositor = complexType.getCompositor();
+			out.writeBoolean(compositor != null);
+			if (compositor != null) {
+				writeCompositor(out, compositor);
+			}
+		} else if (type instanceof ISchemaSimpleType) {
+			out.writeByte(TYPE_SIMPLE);
+			writeString(out, type.getName());
+		} else {
+			out.writeByte(TYPE_NONE);
+		}
+	}
+
+	private static void writeAttribute(DataOutputStream out, ISchemaAttribute attribute) throws IOException {
+		writeString(out, attribute.getName());
+		out.writeInt(attribute.getUse());
+		Object value = attribute.getValue();
+		writeString(out, value != null ? value.toString() : null);
+		out.writeInt(attribute.getKind());
+		writeString(out, attribute.getBasedOn());
+		writeString(out, attribute.getDescription());
+		out.writeBoolean(attribute.isTranslatable());
+		out.writeBoolean(attribute.isDeprecated());
+		ISchemaSimpleType type = attribute.getType();
+		out.writeBoolean(type != null);
+		if (type != null) {
+			writeString(out, type.getName());
+			ISchemaRestriction restriction = type.getRestriction();
+			Object[] choices = restriction != null ? restriction.getChildren() : null;
+			out.writeInt(choices != null ? choices.length : -1);
+			if (choices != null) {
+				for (Object choice : choices) {
+					writeString(out, ((ISchemaEnumeration) choice).getName());
+				}
+			}
+		}
+	}
+
+	private static void writeCompositor(DataOutputStream out, ISchemaCompositor compositor) throws IOException {
+		out.writeInt(compositor.getKind());
+		out.writeInt(compositor.getMinOccurs());
+		out.writeInt(compositor.getMaxOccurs());
+		ISchemaObject[] children = compositor.getChildren();
+		out.writeInt(children.length);
+		for (ISchemaObject child : children) {
+			if (child instanceof ISchemaCompositor childCompositor) {
+				out.writeByte(CHILD_COMPOSITOR);
+				writeCompositor(out, childCompositor);
+			} else if (child instanceof SchemaElementReference reference) {
+				out.writeByte(CHILD_REFERENCE);
+				writeString(out, reference.getReferenceName());
+				out.writeInt(reference.getMinOccurs());
+				out.writeInt(reference.getMaxOccurs());
+			} else {
+				throw new IOException("Unexpected compositor child " + child); //$NON-NLS-1$
+			}
+		}
+	}
+
+	private static void read(Schema schema, byte[] data) throws IOException {
+		try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+			schema.setName(readString(in));
+			schema.setPluginId(readString(in));
+			schema.setPointId(readString(in));
+			boolean valid = in.readBoolean();
+			int includeCount = in.readInt();
+			for (int i = 0; i < includeCount; i++) {
+				schema.addInclude(new SchemaInclude(schema, readString(in), true));
+			}
+			Vector<SchemaElementReference> references = new Vector<>();
+			int elementCount = in.readInt();
+			for (int i = 0; i < elementCount; i++) {
+				schema.addElement(readElement(in, schema, references));
+			}
+			schema.indexLoaded(valid, references);
+		}
+	}
+
+	private static ISchemaElement readElement(DataInputStream in, Schema schema,
+			Vector<SchemaElementReference> references) throws IOException {
+		String name = readString(in);
+		SchemaElement element = "extension".equals(name) //$NON-NLS-1$
+				? new SchemaRootElement(schema, name)
+				: new SchemaElement(schema, name);
+		element.setMinOccurs(in.readInt());
+		element.setMaxOccurs(in.readInt());
+		element.setLabelProperty(readString(in));
+		element.setIconProperty(readString(in));
+		element.setTranslatableProperty(in.readBoolean());
+		element.setDeprecatedProperty(in.readBoolean());
+		if (element instanceof SchemaRootElement root) {
+			root.setDeprecatedSuggestion(readString(in));
+			root.setInternal(in.readBoolean());
+		}
+		switch (in.readByte()) {
+			case TYPE_COMPLEX :
+				SchemaComplexType complexType = new SchemaComplexType(schema, readString(in));
+				complexType.setMixed(in.readBoolean());
+				int attributeCount = in.readInt();
+				for (int i = 0; i < attributeCount; i++) {
+					complexType.addAttribute(readAttribute(in, element, schema));
+				}
+				if (in.readBoolean()) {
+					complexType.setCompositor(readCompositor(in, element, references));
+				}
+				element.setType(complexType);
+				break;
+			case TYPE_SIMPLE :
+				element.setType(new SchemaSimpleType(schema, readString(in)));
+				break;
+			default :
+				break;
+		}
+		return element;
+	}
+
+	private static ISchemaAttribute readAttribute(DataInputStream in, SchemaElement element, Schema schema)
+			throws IOException {
+		SchemaAttribute attribute = new SchemaAttribute(element, readString(in));
+		attribute.setUse(in.readInt());
+		attribute.setValue(readString(in));
+		attribute.setKind(in.readInt());
+		attribute.setBasedOn(readString(in));
+		attribute.setDescription(readString(in));
+		attribute.setTranslatableProperty(in.readBoolean());
+		attribute.setDeprecatedProperty(in.readBoolean());
+		if (in.readBoolean()) {
+			SchemaSimpleType type = new SchemaSimpleType(schema, readString(in));
+			int choiceCount = in.readInt();
+			if (choiceCount >= 0) {
+				List<ISchemaEnumeration> choices = new ArrayList<>(choiceCount);
+				for (int i = 0; i < choiceCount; i++) {
+					choices.add(new SchemaEnumeration(schema, readString(in)));
+				}
+				ChoiceRestriction restriction = new ChoiceRestriction(schema);
+				restriction.setChildren(choices);
+				type.setRestriction(restriction);
+			}
+			attribute.setType(type);
+		}
+		return attribute;
+	}
+
+	private static ISchemaCompositor readCompositor(DataInputStream in, ISchemaObject parent,
+			Vector<SchemaElementReference> references) throws IOException {
+		SchemaCompositor compositor = new SchemaCompositor(parent, in.readInt());
+		compositor.setMinOccurs(in.readInt());
+		compositor.setMaxOccurs(in.readInt());
+		int childCount = in.readInt();
+		for (int i = 0; i < childCount; i++) {
+			if (in.readByte() == CHILD_COMPOSITOR) {
+				compositor.addChild(readCompositor(in, compositor, references));
+			} else {
+				SchemaElementReference reference = new SchemaElementReference(compositor, readString(in));
+				reference.setMinOccurs(in.readInt());
+				reference.setMaxOccurs(in.readInt());
+				references.add(reference);
+				compositor.addChild(reference);
+			}
+		}
+		return compositor;
+	}
+
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		out.writeBoolean(value != null);
+		if (value != null) {
+			out.writeUTF(value);
+		}
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		return in.readBoolean() ? in.readUTF() : null;
+	}
+}
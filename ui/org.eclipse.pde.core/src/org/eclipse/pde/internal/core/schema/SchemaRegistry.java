@@ -16,7 +16,8 @@ package org.eclipse.pde.internal.core.schema;
 import java.io.File;
 import java.net.MalformedURLException;
 import java.net.URL;
-import java.util.HashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.pde.core.plugin.IFragment;
@@ -33,17 +34,26 @@ import org.eclipse.pde.internal.core.ischema.ISchemaDescriptor;
 import org.eclipse.pde.internal.core.text.plugin.PluginExtensionPointNode;
 import org.eclipse.pde.internal.core.util.CoreUtility;
 
+/**
+ * Registry of the abbreviated schemas of the extension points, used from
+ * different threads by validation, content assist and the editors.
+ * <p>
+ * Descriptors are replaced atomically when the URL or time stamp of their
+ * schema changes. Schemas that did not change since the last session are
+ * restored from the {@link SchemaIndex} instead of being parsed.
+ * </p>
+ */
 public class SchemaRegistry {
 
-	private final HashMap<String, ISchemaDescriptor> fRegistry = new HashMap<>();
+	private final ConcurrentMap<String, ISchemaDescriptor> fRegistry = new ConcurrentHashMap<>();
+
+	private final SchemaIndex fIndex = new SchemaIndex();
 
 	public ISchema getSchema(String extPointID) {
 		IPluginExtensionPoint point = PDECore.getDefault().getExtensionsRegistry().findExtensionPoint(extPointID);
 		if (point == null) {
 			// if there is an old schema associated with this extension point, release it.
-			if (fRegistry.containsKey(extPointID)) {
-				fRegistry.remove(extPointID);
-			}
+			fRegistry.remove(extPointID);
 			return null;
 		}
 
@@ -52,12 +62,10 @@ public class SchemaRegistry {
 			return null;
 		}
 
-		ISchemaDescriptor desc = getExistingDescriptor(extPointID, url);
-		if (desc == null) {
-			desc = new SchemaDescriptor(extPointID, url);
-			fRegistry.put(extPointID, desc);
-		}
-
+		ISchemaDescriptor desc = fRegistry.compute(extPointID,
+				(key, existing) -> existing == null || hasSchemaChanged(existing, url)
+						? new SchemaDescriptor(key, url, fIndex)
+						: existing);
 		return desc.getSchema(true);
 	}
 
@@ -68,28 +76,16 @@ public class SchemaRegistry {
 				return null;
 			}
 
-			ISchemaDescriptor desc = getExistingDescriptor(url.toString(), url);
-			if (desc == null) {
-				desc = new IncludedSchemaDescriptor(url);
-				fRegistry.put(url.toString(), desc);
-			}
+			ISchemaDescriptor desc = fRegistry.compute(url.toString(),
+					(key, existing) -> existing == null || hasSchemaChanged(existing, url)
+							? new IncludedSchemaDescriptor(url, fIndex)
+							: existing);
 			return desc.getSchema(true);
 		} catch (MalformedURLException e) {
 		}
 		return null;
 	}
 
-	private ISchemaDescriptor getExistingDescriptor(String key, URL url) {
-		ISchemaDescriptor desc = null;
-		if (fRegistry.containsKey(key)) {
-			desc = fRegistry.get(key);
-			if (hasSchemaChanged(desc, url)) {
-				desc = null;
-			}
-		}
-		return desc;
-	}
-
 	public static URL getSchemaURL(IPluginExtensionPoint point, IPluginModelBase base) {
 		URL url = getSchemaURL(point);
 		if (url != null) {
@@ -183,6 +179,7 @@ public class SchemaRegistry {
 	}
 
 	public void shutdown() {
+		fIndex.save();
 		fRegistry.clear();
 	}
 
@@ -0,0 +1,203 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.search;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.regex.Pattern;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.BundleSpecification;
+import org.eclipse.osgi.service.resolver.HostSpecification;
+import org.eclipse.osgi.service.resolver.State;
+import org.eclipse.osgi.service.resolver.StateDelta;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.plugin.ModelEntry;
+import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.internal.core.IPluginModelListener;
+import org.eclipse.pde.internal.core.IStateDeltaListener;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.PDECoreMessages;
+import org.eclipse.pde.internal.core.PDEExtensionRegistry;
+import org.eclipse.pde.internal.core.PluginModelDelta;
+import org.eclipse.pde.internal.core.PluginModelManager;
+
+/**
+ * Index of the identifiers declared and referenced by the plug-ins of the
+ * target platform, used by the {@link PluginSearchOperation} to skip the
+ * plug-ins that cannot match a search without loading their extensions.
+ * <p>
+ * Entries are built from the bundle descriptions of the state and from the
+ * extension registry of PDE, which is persisted between sessions, so no
+ * <code>plugin.xml</code> is parsed into plug-in models to build them. They are
+ * built in the background when the target models are loaded or changed, and
+ * are kept until the plug-in is changed or removed or its model is discarded
+ * on a target platform reload. Workspace plug-ins are not indexed since they
+ * can be modified at any time.
+ * </p>
+ */
+public class PluginSearchIndex implements IPluginModelListener, IStateDeltaListener {
+
+	private record Entry(String id, boolean fragment, String hostId, String[] imports, String[] extensionPoints,
+			String[] extensionPointReferences) {
+	}
+
+	// weak keys, the models of a previous target are dropped with it
+	private final Map<IPluginModelBase, Entry> fEntries = Collections.synchronizedMap(new WeakHashMap<>());
+
+	private final Job fIndexJob = Job.create(PDECoreMessages.PluginSearchIndex_indexing, this::index);
+
+	public PluginSearchIndex() {
+		fIndexJob.setSystem(true);
+		fIndexJob.setPriority(Job.DECORATE);
+		PluginModelManager manager = PDECore.getDefault().getModelManager();
+		manager.addPluginModelListener(this);
+		manager.addStateDeltaListener(this);
+		if (manager.isInitialized()) {
+			fIndexJob.schedule();
+		}
+	}
+
+	public void shutdown() {
+		PluginModelManager manager = PDECore.getDefault().getModelManager();
+		manager.removePluginModelListener(this);
+		manager.removeStateDeltaListener(this);
+		fIndexJob.cancel();
+		fEntries.clear();
+	}
+
+	/**
+	 * Returns whether the given model may contain matches for the given
+	 * search.
+	 *
+	 * @param model
+	 *            the model to search
+	 * @param input
+	 *            the search input
+	 * @param pattern
+	 *            the pattern created from the search string of the input
+	 * @return <code>false</code> if the model is known to not contain any
+	 *         match, <code>true</code> otherwise
+	 */
+	public boolean mayMatch(IPluginModelBase model, PluginSearchInput input, Pattern pattern) {
+		if (model.getUnderlyingResource() != null) {
+			return true;
+		}
+		Entry entry = getEntry(model);
+		if (entry == null) {
+			return true;
+		}
+		int searchLimit = input.getSearchLimit();
+		boolean declarations = searchLimit != PluginSearchInput.LIMIT_REFERENCES;
+		boolean references = searchLimit != PluginSearchInput.LIMIT_DECLARATIONS;
+		switch (input.getSearchElement()) {
+			case PluginSearchInput.ELEMENT_PLUGIN :
+				return declarations && !entry.fragment() && matches(pattern, entry.id())
+						|| references && (matches(pattern, entry.hostId()) || matches(pattern, entry.imports()));
+			case PluginSearchInput.ELEMENT_FRAGMENT :
+				return entry.fragment() && matches(pattern, entry.id());
+			case PluginSearchInput.ELEMENT_EXTENSION_POINT :
+				return declarations && matches(pattern, entry.extensionPoints())
+						|| references && matches(pattern, entry.extensionPointReferences());
+			default :
+				return true;
+		}
+	}
+
+	/**
+	 * Returns whether the given model is indexed.
+	 *
+	 * @param model
+	 *            the model to check
+	 * @return <code>true</code> if the index has an entry for the model
+	 */
+	public boolean isIndexed(IPluginModelBase model) {
+		return fEntries.containsKey(model);
+	}
+
+	private Entry getEntry(IPluginModelBase model) {
+		Entry entry = fEntries.get(model);
+		if (entry == null) {
+			entry = createEntry(model);
+			if (entry != null) {
+				fEntries.put(model, entry);
+			}
+		}
+		return entry;
+	}
+
+	private void index(IProgressMonitor monitor) {
+		for (IPluginModelBase model : PluginRegistry.getExternalModels()) {
+			if (monitor.isCanceled()) {
+				return;
+			}
+			getEntry(model);
+		}
+	}
+
+	private static Entry createEntry(IPluginModelBase model) {
+		BundleDescription bundle = model.getBundleDescription();
+		if (bundle == null || bundle.getSymbolicName() == null) {
+			return null;
+		}
+		HostSpecification host = bundle.getHost();
+		String hostId = host != null ? host.getName() : null;
+		String[] imports = Arrays.stream(bundle.getRequiredBundles()).map(BundleSpecification::getName)
+				.toArray(String[]::new);
+		PDEExtensionRegistry registry = PDECore.getDefault().getExtensionsRegistry();
+		return new Entry(bundle.getSymbolicName(), host != null, hostId, imports,
+				registry.findExtensionPointIdsForPlugin(model), registry.findExtendedPointIdsForPlugin(model));
+	}
+
+	private static boolean matches(Pattern pattern, String... ids) {
+		for (String id : ids) {
+			if (id != null && pattern.matcher(id).matches()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public void modelsChanged(PluginModelDelta delta) {
+		discard(delta.getChangedEntries());
+		discard(delta.getRemovedEntries());
+		if ((delta.getKind() & (PluginModelDelta.ADDED | PluginModelDelta.CHANGED)) != 0) {
+			fIndexJob.schedule();
+		}
+	}
+
+	@Override
+	public void stateResolved(StateDelta delta) {
+	}
+
+	@Override
+	public void stateChanged(State newState) {
+		// the target content changed, index the new models
+		fIndexJob.schedule();
+	}
+
+	private void discard(ModelEntry[] entries) {
+		for (ModelEntry entry : entries) {
+			for (IPluginModelBase model : entry.getExternalModels()) {
+				fEntries.remove(model);
+			}
+		}
+	}
+
+}
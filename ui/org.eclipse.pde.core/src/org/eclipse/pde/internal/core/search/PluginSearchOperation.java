@@ -28,6 +28,7 @@ import org.eclipse.pde.core.plugin.IPluginExtension;
 import org.eclipse.pde.core.plugin.IPluginExtensionPoint;
 import org.eclipse.pde.core.plugin.IPluginImport;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.internal.core.PDECore;
 import org.eclipse.pde.internal.core.ifeature.IFeatureModel;
 import org.eclipse.pde.internal.core.ifeature.IFeaturePlugin;
 import org.eclipse.pde.internal.core.util.PatternConstructor;
@@ -47,9 +48,12 @@ public class PluginSearchOperation {
 		IPluginModelBase[] plugins = fInput.getSearchScope().getMatchingModels();
 		IFeatureModel[] features = fInput.getSearchScope().getMatchingFeatureModels();
 		SubMonitor subMonitor = SubMonitor.convert(monitor, plugins.length + features.length);
+		PluginSearchIndex index = PDECore.getDefault().getPluginSearchIndex();
 
 		for (IPluginModelBase candidate : plugins) {
-			visit(candidate);
+			if (index.mayMatch(candidate, fInput, fPattern)) {
+				visit(candidate);
+			}
 			subMonitor.split(1);
 		}
 
@@ -0,0 +1,420 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.target;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.equinox.p2.metadata.IArtifactKey;
+import org.eclipse.equinox.p2.metadata.IInstallableUnit;
+import org.eclipse.equinox.p2.repository.artifact.IArtifactDescriptor;
+import org.eclipse.equinox.p2.repository.artifact.IArtifactRepository;
+import org.eclipse.equinox.p2.repository.artifact.IFileArtifactRepository;
+import org.eclipse.equinox.p2.repository.artifact.IProcessingStepDescriptor;
+import org.eclipse.equinox.p2.repository.artifact.spi.ArtifactDescriptor;
+import org.eclipse.pde.internal.core.PDECore;
+
+/**
+ * Copies the artifacts of installable units into the bundle pool before the
+ * provisioning engine runs, so the collect phase finds them already present.
+ * <p>
+ * Artifacts are fetched concurrently with a limited number of fetches per
+ * source repository. Artifacts that are already in the pool with the same
+ * checksums are skipped. Every artifact is written to a temporary file in the
+ * pool first and verified against the checksums of its source descriptor.
+ * Once all fetches finished, the stale descriptors of the fetched artifacts are
+ * removed, the artifacts are moved to their final location and their
+ * descriptors are added to the pool. An interrupted materialization therefore
+ * never leaves a descriptor pointing to an incomplete file, and an artifact
+ * that fails to fetch keeps its previous descriptor.
+ * </p>
+ * <p>
+ * Artifacts that cannot be materialized here, because they are only available
+ * in a processed format, are folder shaped or the fetch failed, are left to
+ * the collect phase of the engine, which also reports the problems.
+ * </p>
+ */
+public class ArtifactMaterializer {
+
+	/**
+	 * Default number of artifacts fetched concurrently from one repository
+	 */
+	public static final int DEFAULT_REPOSITORY_LIMIT = 4;
+
+	private static final String ARTIFACT_CHECKSUM_PREFIX = "artifact.checksum."; //$NON-NLS-1$
+	private static final String ARTIFACT_FOLDER = "artifact.folder"; //$NON-NLS-1$
+	private static final String TEMP_FOLDER = ".tmp"; //$NON-NLS-1$
+	private static final String TEMP_PREFIX = "materialize"; //$NON-NLS-1$
+	private static final String TEMP_SUFFIX = ".part"; //$NON-NLS-1$
+
+	/**
+	 * The outcome of a materialization
+	 *
+	 * @param fetched
+	 *            number of artifacts copied into the pool
+	 * @param skipped
+	 *            number of artifacts that were already in the pool
+	 * @param bytes
+	 *            number of bytes copied into the pool
+	 */
+	public record Result(int fetched, int skipped, long bytes) {
+	}
+
+	private record Fetch(IArtifactKey key, IArtifactRepository source, IArtifactDescriptor descriptor) {
+	}
+
+	private record Fetched(IArtifactDescriptor descriptor, Path temp, File target, long size) {
+	}
+
+	private final IFileArtifactRepository fPool;
+	private final List<IArtifactRepository> fSources;
+	private final int fRepositoryLimit;
+
+	/**
+	 * @param pool
+	 *            the bundle pool to materialize the artifacts into
+	 * @param sources
+	 *            the repositories to fetch artifacts from, in order of
+	 *            preference
+	 * @param repositoryLimit
+	 *            the maximum number of concurrent fetches from one repository
+	 */
+	public ArtifactMaterializer(IFileArtifactRepository pool, Collection<IArtifactRepository> sources,
+			int repositoryLimit) {
+		fPool = pool;
+		fSources = List.copyOf(sources);
+		fRepositoryLimit = Math.max(1, repositoryLimit);
+	}
+
+	/**
+	 * Materializes the artifacts of the given units into the pool.
+	 *
+	 * @param units
+	 *            the units whose artifacts are required
+	 * @param monitor
+	 *            progress monitor or <code>null</code>
+	 * @return the outcome of the materialization
+	 * @throws CoreException
+	 *             if the bundle pool cannot be updated
+	 * @throws OperationCanceledException
+	 *             if the monitor was cancelled
+	 */
+	public Result materialize(Collection<IInstallableUnit> units, IProgressMonitor monitor) throws CoreException {
+		SubMonitor subMonitor = SubMonitor.convert(monitor, Messages.P2TargetUtils_MaterializingArtifacts, 100);
+		Set<IArtifactKey> keys = new LinkedHashSet<>();
+		for (IInstallableUnit unit : units) {
+			keys.addAll(unit.getArtifacts());
+		}
+
+		int skipped = 0;
+		Map<IArtifactKey, IArtifactDescriptor[]> stale = new HashMap<>();
+		Map<IArtifactRepository, List<Fetch>> fetches = new LinkedHashMap<>();
+		SubMonitor planMonitor = subMonitor.split(10).setWorkRemaining(keys.size());
+		for (IArtifactKey key : keys) {
+			planMonitor.split(1);
+			Fetch fetch = findSource(key);
+			if (fetch == null) {
+				continue;
+			}
+			IArtifactDescriptor[] existing = fPool.getArtifactDescriptors(key);
+			if (isInPool(existing, fetch.descriptor())) {
+				skipped++;
+				continue;
+			}
+			if (existing.length > 0) {
+				stale.put(key, existing);
+			}
+			fetches.computeIfAbsent(fetch.source(), s -> new ArrayList<>()).add(fetch);
+		}
+		if (fetches.isEmpty()) {
+			return new Result(0, skipped, 0);
+		}
+
+		Path tempFolder = createTempFolder();
+		try {
+			List<Fetched> fetched = fetchAll(fetches, tempFolder, subMonitor.split(80));
+			List<IArtifactDescriptor> added = install(fetched, stale, subMonitor.split(10));
+			// the completed artifacts are registered even if cancelled
+			subMonitor.checkCanceled();
+			long bytes = fetched.stream().mapToLong(Fetched::size).sum();
+			return new Result(added.size(), skipped, bytes);
+		} finally {
+			deleteTempFolder(tempFolder);
+		}
+	}
+
+	/**
+	 * Fetches the artifacts into the temporary folder of this materialization.
+	 * The progress is reported from the calling thread.
+	 */
+	private List<Fetched> fetchAll(Map<IArtifactRepository, List<Fetch>> fetches, Path tempFolder,
+			SubMonitor monitor) {
+		int total = fetches.values().stream().mapToInt(List::size).sum();
+		monitor.setWorkRemaining(total);
+		List<Fetched> fetched = new ArrayList<>();
+		List<ExecutorService> executors = new ArrayList<>();
+		List<Future<Fetched>> futures = new ArrayList<>(total);
+		List<Fetch> submitted = new ArrayList<>(total);
+		try {
+			for (List<Fetch> repositoryFetches : fetches.values()) {
+				ExecutorService executor = Executors
+						.newFixedThreadPool(Math.min(fRepositoryLimit, repositoryFetches.size()));
+				executors.add(executor);
+				for (Fetch fetch : repositoryFetches) {
+					futures.add(executor.submit(() -> monitor.isCanceled() ? null : fetch(fetch, tempFolder)));
+					submitted.add(fetch);
+				}
+			}
+			for (int i = 0; i < futures.size(); i++) {
+				monitor.subTask(submitted.get(i).key().getId());
+				try {
+					Fetched result = futures.get(i).get();
+					if (result != null) {
+						fetched.add(result);
+					}
+				} catch (ExecutionException e) {
+					// fetch() handles the expected failures
+					PDECore.log(e.getCause());
+				}
+				monitor.worked(1);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OperationCanceledException();
+		} finally {
+			executors.forEach(ExecutorService::shutdownNow);
+		}
+		return fetched;
+	}
+
+	/**
+	 * Replaces the stale descriptors of the fetched artifacts. Stale
+	 * descriptors of artifacts that could not be fetched are kept, they are
+	 * left to the collect phase together with the artifact.
+	 *
+	 * @return the descriptors added to the pool
+	 */
+	private List<IArtifactDescriptor> install(List<Fetched> fetched, Map<IArtifactKey, IArtifactDescriptor[]> stale,
+			SubMonitor monitor) throws CoreException {
+		monitor.setWorkRemaining(10);
+		List<IArtifactDescriptor> replaced = new ArrayList<>();
+		for (Fetched artifact : fetched) {
+			IArtifactDescriptor[] existing = stale.get(artifact.descriptor().getArtifactKey());
+			if (existing != null) {
+				replaced.addAll(List.of(existing));
+			}
+		}
+		if (!replaced.isEmpty()) {
+			// removes the stale files, the fetched ones may take their place
+			fPool.removeDescriptors(replaced.toArray(IArtifactDescriptor[]::new), monitor.split(3));
+		}
+		List<IArtifactDescriptor> added = new ArrayList<>(fetched.size());
+		for (Fetched artifact : fetched) {
+			Path target = artifact.target().toPath();
+			try {
+				Files.createDirectories(target.getParent());
+				try {
+					Files.move(artifact.temp(), target, StandardCopyOption.ATOMIC_MOVE,
+							StandardCopyOption.REPLACE_EXISTING);
+				} catch (AtomicMoveNotSupportedException e) {
+					Files.move(artifact.temp(), target, StandardCopyOption.REPLACE_EXISTING);
+				}
+				added.add(artifact.descriptor());
+			} catch (IOException e) {
+				// left to the collect phase
+			}
+		}
+		if (!added.isEmpty()) {
+			// a single save of the pool index for all artifacts
+			fPool.addDescriptors(added.toArray(IArtifactDescriptor[]::new), monitor.split(7));
+		}
+		return added;
+	}
+
+	/**
+	 * Fetches one artifact into the temporary folder and verifies it against
+	 * the checksums of the source descriptor.
+	 *
+	 * @return the fetched artifact, or <code>null</code> if the artifact could
+	 *         not be fetched or does not match its checksums
+	 */
+	private Fetched fetch(Fetch fetch, Path tempFolder) {
+		ArtifactDescriptor descriptor = new ArtifactDescriptor(fetch.descriptor());
+		descriptor.setProcessingSteps(new IProcessingStepDescriptor[0]);
+		descriptor.setProperty(IArtifactDescriptor.FORMAT, null);
+		descriptor.setRepository(fPool);
+		File target = fPool.getArtifactFile(descriptor);
+		if (target == null) {
+			// the pool does not map artifacts to files
+			return null;
+		}
+		Map<String, MessageDigest> digests = createDigests(fetch.descriptor());
+		Path temp = null;
+		boolean verified = false;
+		try {
+			temp = Files.createTempFile(tempFolder, fetch.key().getId(), TEMP_SUFFIX);
+			OutputStream stream = new BufferedOutputStream(Files.newOutputStream(temp));
+			for (MessageDigest digest : digests.values()) {
+				stream = new DigestOutputStream(stream, digest);
+			}
+			try (OutputStream out = stream) {
+				IStatus status = fetch.source().getArtifact(fetch.descriptor(), out, null);
+				if (!status.isOK() && status.getSeverity() != IStatus.INFO) {
+					return null;
+				}
+			}
+			for (Map.Entry<String, MessageDigest> digest : digests.entrySet()) {
+				String checksum = HexFormat.of().formatHex(digest.getValue().digest());
+				if (!checksum.equalsIgnoreCase(fetch.descriptor().getProperty(digest.getKey()))) {
+					return null;
+				}
+			}
+			verified = true;
+			return new Fetched(descriptor, temp, target, Files.size(temp));
+		} catch (IOException e) {
+			// left to the collect phase
+			return null;
+		} finally {
+			if (temp != null && !verified) {
+				try {
+					Files.deleteIfExists(temp);
+				} catch (IOException e) {
+					// removed with the temporary folder
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns a digest for every checksum of the descriptor whose algorithm is
+	 * available, keyed by the checksum property.
+	 */
+	private static Map<String, MessageDigest> createDigests(IArtifactDescriptor descriptor) {
+		Map<String, MessageDigest> digests = new HashMap<>();
+		for (String property : descriptor.getProperties().keySet()) {
+			if (property.startsWith(ARTIFACT_CHECKSUM_PREFIX)) {
+				try {
+					digests.put(property,
+							MessageDigest.getInstance(property.substring(ARTIFACT_CHECKSUM_PREFIX.length())));
+				} catch (NoSuchAlgorithmException e) {
+					// not verified
+				}
+			}
+		}
+		return digests;
+	}
+
+	/**
+	 * Returns the first source that has the artifact in its canonical format.
+	 * Folder shaped artifacts are transferred as zip streams and unpacked by
+	 * the pool, they are left to the collect phase.
+	 */
+	private Fetch findSource(IArtifactKey key) {
+		for (IArtifactRepository source : fSources) {
+			if (source == fPool || !source.contains(key)) {
+				continue;
+			}
+			for (IArtifactDescriptor descriptor : source.getArtifactDescriptors(key)) {
+				if (descriptor.getProperty(IArtifactDescriptor.FORMAT) == null
+						&& descriptor.getProcessingSteps().length == 0
+						&& !Boolean.parseBoolean(descriptor.getProperty(ARTIFACT_FOLDER))) {
+					return new Fetch(key, source, descriptor);
+				}
+			}
+		}
+		return null;
+	}
+
+	private boolean isInPool(IArtifactDescriptor[] existing, IArtifactDescriptor source) {
+		for (IArtifactDescriptor descriptor : existing) {
+			File file = fPool.getArtifactFile(descriptor);
+			if (file != null && file.exists() && checksumsMatch(descriptor, source)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * The checksums match if no checksum that is known for both descriptors
+	 * differs.
+	 */
+	private static boolean checksumsMatch(IArtifactDescriptor existing, IArtifactDescriptor source) {
+		for (Map.Entry<String, String> property : source.getProperties().entrySet()) {
+			if (property.getKey().startsWith(ARTIFACT_CHECKSUM_PREFIX)) {
+				String checksum = existing.getProperty(property.getKey());
+				if (checksum != null && !checksum.equalsIgnoreCase(property.getValue())) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Creates the folder for the partially fetched artifacts of this
+	 * materialization. It is inside the pool so that completed artifacts can be
+	 * moved atomically, and separate from the folders of other
+	 * materializations into the same pool.
+	 */
+	private Path createTempFolder() throws CoreException {
+		Path folder = new File(fPool.getLocation()).toPath().resolve(TEMP_FOLDER);
+		try {
+			Files.createDirectories(folder);
+			return Files.createTempDirectory(folder, TEMP_PREFIX);
+		} catch (IOException e) {
+			throw new CoreException(Status.error(e.getMessage(), e));
+		}
+	}
+
+	private static void deleteTempFolder(Path folder) {
+		try (DirectoryStream<Path> files = Files.newDirectoryStream(folder)) {
+			for (Path file : files) {
+				Files.deleteIfExists(file);
+			}
+			Files.deleteIfExists(folder);
+		} catch (IOException e) {
+			PDECore.log(e);
+		}
+	}
+}
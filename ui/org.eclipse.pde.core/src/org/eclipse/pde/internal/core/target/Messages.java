@@ -49,6 +49,7 @@ public class Messages extends NLS {
 	public static String LocalTargetHandle_5;
 	public static String P2TargetUtils_cant_refresh_artifacts;
 	public static String P2TargetUtils_cant_refresh_metadata;
+	public static String P2TargetUtils_MaterializingArtifacts;
 	public static String P2TargetUtils_ProvisioningSourceTask;
 	public static String ProfileBundleContainer_0;
 	public static String ProfileBundleContainer_2;
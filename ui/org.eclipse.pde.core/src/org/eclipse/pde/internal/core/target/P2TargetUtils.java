@@ -79,10 +79,12 @@ import org.eclipse.equinox.p2.metadata.Version;
 import org.eclipse.equinox.p2.metadata.VersionRange;
 import org.eclipse.equinox.p2.planner.IPlanner;
 import org.eclipse.equinox.p2.planner.IProfileChangeRequest;
+import org.eclipse.equinox.p2.query.CollectionResult;
 import org.eclipse.equinox.p2.query.IQuery;
 import org.eclipse.equinox.p2.query.IQueryResult;
 import org.eclipse.equinox.p2.query.IQueryable;
 import org.eclipse.equinox.p2.query.QueryUtil;
+import org.eclipse.equinox.p2.repository.ICompositeRepository;
 import org.eclipse.equinox.p2.repository.IRepository;
 import org.eclipse.equinox.p2.repository.IRepositoryManager;
 import org.eclipse.equinox.p2.repository.IRepositoryReference;
@@ -100,6 +102,7 @@ import org.eclipse.pde.core.target.ITargetPlatformService;
 import org.eclipse.pde.internal.core.ICoreConstants;
 import org.eclipse.pde.internal.core.PDECore;
 import org.eclipse.pde.internal.core.target.IUBundleContainer.UnitDeclaration;
+import org.eclipse.pde.internal.core.target.TargetResolutionCache.CachedUnit;
 import org.eclipse.pde.internal.core.util.CoreUtility;
 import org.osgi.framework.BundleContext;
 import org.osgi.framework.InvalidSyntaxException;
@@ -818,10 +821,19 @@ public class P2TargetUtils {
 
 		try {
 			// Now resolve the profile and refresh the relate IU containers
-			if (getIncludeAllRequired()) {
-				resolveWithPlanner(target, profile, progress.split(60));
-			} else {
-				resolveWithSlicer(target, profile, progress.split(60));
+			SubMonitor resolveMonitor = progress.split(60).setWorkRemaining(100);
+			String resolutionKey = getResolutionKey(target, resolveMonitor.split(10));
+			List<CachedUnit> cachedUnits = resolutionKey == null ? null : TargetResolutionCache.get(resolutionKey);
+			if (cachedUnits == null || !resolveFromCache(target, profile, cachedUnits, resolveMonitor.split(90))) {
+				resolveMonitor.setWorkRemaining(90);
+				if (getIncludeAllRequired()) {
+					resolveWithPlanner(target, profile, resolveMonitor.split(90));
+				} else {
+					resolveWithSlicer(target, profile, resolveMonitor.split(90));
+				}
+				if (resolutionKey != null) {
+					cacheResolution(resolutionKey, profile.getProfileId());
+				}
 			}
 			fProfile = profile;
 			// If we are updating a profile then delete the old snapshot on success.
@@ -839,6 +851,182 @@ public class P2TargetUtils {
 		}
 	}
 
+	/**
+	 * Computes the key of the resolution of the given target for the
+	 * {@link TargetResolutionCache}. The key covers the resolution settings,
+	 * the declared units and the time stamps of all metadata repositories
+	 * involved.
+	 *
+	 * @return the key or <code>null</code> if the resolution of the target
+	 *         cannot be cached
+	 */
+	private String getResolutionKey(ITargetDefinition target, IProgressMonitor monitor) {
+		ITargetLocation[] locations = target.getTargetLocations();
+		if (locations == null || !Arrays.stream(locations).allMatch(IUBundleContainer.class::isInstance)) {
+			// other locations contribute units that are not covered by the key
+			return null;
+		}
+		List<String> inputs = new ArrayList<>();
+		inputs.add(getProvisionMode());
+		inputs.add(Boolean.toString(getIncludeSource()));
+		inputs.add(Boolean.toString(getIncludeAllEnvironments()));
+		inputs.add(Boolean.toString(getIncludeConfigurePhase()));
+		inputs.add(Boolean.toString(isFollowRepositoryReferences()));
+		inputs.add(generateEnvironmentProperties(target));
+		inputs.add(generateNLProperty(target));
+		iuBundleContainersOf(target).map(IUBundleContainer::getDeclaredUnits).flatMap(Collection::stream)
+				.map(unit -> unit.id() + '/' + unit.version()).sorted().forEach(inputs::add);
+		try {
+			List<URI> repositories = getMetadataRepositories(target).stream().sorted().toList();
+			SubMonitor subMonitor = SubMonitor.convert(monitor, repositories.size());
+			Set<URI> visited = new HashSet<>();
+			for (URI location : repositories) {
+				if (!addRepositoryStamps(location, inputs, visited, subMonitor.split(1))) {
+					return null;
+				}
+			}
+		} catch (CoreException e) {
+			return null;
+		}
+		return TargetResolutionCache.computeKey(inputs);
+	}
+
+	/**
+	 * Adds the time stamps of the given metadata repository, its children and
+	 * the repositories it references to the inputs of a resolution key.
+	 *
+	 * @return <code>false</code> if a repository has no time stamp or cannot
+	 *         be loaded
+	 */
+	private boolean addRepositoryStamps(URI location, List<String> inputs, Set<URI> visited,
+			IProgressMonitor monitor) {
+		if (!visited.add(location)) {
+			return true;
+		}
+		IMetadataRepository repository;
+		try {
+			repository = getRepoManager().loadRepository(location, monitor);
+		} catch (CoreException e) {
+			return false;
+		}
+		String stamp = repository.getProperty(IRepository.PROP_TIMESTAMP);
+		if (stamp == null) {
+			return false;
+		}
+		inputs.add(location + "@" + stamp); //$NON-NLS-1$
+		if (repository instanceof ICompositeRepository<?> composite) {
+			for (URI child : composite.getChildren()) {
+				if (!addRepositoryStamps(child, inputs, visited, null)) {
+					return false;
+				}
+			}
+		}
+		if (isFollowRepositoryReferences()) {
+			for (IRepositoryReference reference : repository.getReferences()) {
+				if (reference.getType() == IRepository.TYPE_METADATA && reference.isEnabled()
+						&& !addRepositoryStamps(reference.getLocation(), inputs, visited, null)) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Provisions the given profile with the units of a cached resolution,
+	 * without computing the closure of the root units.
+	 *
+	 * @return <code>false</code> if a cached unit is no longer available, the
+	 *         target has to be resolved in that case
+	 * @throws CoreException if provisioning failed
+	 */
+	private boolean resolveFromCache(ITargetDefinition target, IProfile profile, List<CachedUnit> cachedUnits,
+			IProgressMonitor monitor) throws CoreException {
+		SubMonitor subMonitor = SubMonitor.convert(monitor, Messages.IUBundleContainer_0, 100);
+		Collection<URI> repositories = getMetadataRepositories(target);
+		IQueryable<IInstallableUnit> allMetadata = getQueryableMetadata(repositories, isFollowRepositoryReferences(),
+				subMonitor.split(5));
+		List<IInstallableUnit> units = new ArrayList<>(cachedUnits.size());
+		Map<IInstallableUnit, String> roots = new HashMap<>();
+		CachedUnit sourceUnit = null;
+		SubMonitor queryMonitor = subMonitor.split(5).setWorkRemaining(cachedUnits.size());
+		for (CachedUnit cachedUnit : cachedUnits) {
+			queryMonitor.split(1);
+			if (SOURCE_IU_ID.equals(cachedUnit.id())) {
+				// generated, not available from any repository
+				sourceUnit = cachedUnit;
+				continue;
+			}
+			IInstallableUnit unit = queryFirst(allMetadata,
+					QueryUtil.createIUQuery(cachedUnit.id(), cachedUnit.version()), null).orElse(null);
+			if (unit == null) {
+				return false;
+			}
+			units.add(unit);
+			if (cachedUnit.root()) {
+				roots.put(unit, cachedUnit.versionDeclaration());
+			}
+		}
+		if (sourceUnit != null) {
+			units.add(createSourceIU(new CollectionResult<>(units), sourceUnit.version()));
+		}
+
+		IEngine engine = getEngine();
+		ProvisioningContext context = new ProvisioningContext(getAgent());
+		Collection<URI> artifactRepositories = getArtifactRepositories(target);
+		context.setMetadataRepositories(repositories.toArray(URI[]::new));
+		context.setArtifactRepositories(artifactRepositories.toArray(URI[]::new));
+		context.setProperty(ProvisioningContext.FOLLOW_REPOSITORY_REFERENCES, Boolean.toString(isFollowRepositoryReferences()));
+		context.setProperty(ProvisioningContext.FOLLOW_ARTIFACT_REPOSITORY_REFERENCES, Boolean.toString(isFollowRepositoryReferences()));
+		IProvisioningPlan plan = engine.createPlan(profile, context);
+		setProperties(plan::setProfileProperty, target, getProvisionMode());
+		for (IInstallableUnit unit : units) {
+			plan.addInstallableUnit(unit);
+		}
+		// remove all units that are in the current profile but not in the cached resolution
+		Set<IInstallableUnit> toRemove = profile.query(QueryUtil.ALL_UNITS, null).toSet();
+		units.forEach(toRemove::remove);
+		for (IInstallableUnit unit : toRemove) {
+			plan.removeInstallableUnit(unit);
+		}
+		roots.forEach((unit, versionDeclarations) -> {
+			plan.setInstallableUnitProfileProperty(unit, PROP_INSTALLED_IU, Boolean.toString(true));
+			if (versionDeclarations != null) {
+				plan.setInstallableUnitProfileProperty(unit, PROP_IU_VERSION_DECLARATION, versionDeclarations);
+			}
+		});
+
+		materializeArtifacts(artifactRepositories, List.of(), units, subMonitor.split(40));
+
+		// execute the provisioning plan
+		IPhaseSet phases = createPhaseSet();
+		IStatus result = engine.perform(plan, phases, subMonitor.split(50));
+		if (result.getSeverity() == IStatus.ERROR || result.getSeverity() == IStatus.CANCEL) {
+			throw new CoreException(result);
+		}
+		return true;
+	}
+
+	/**
+	 * Records the units of the resolved profile in the
+	 * {@link TargetResolutionCache}.
+	 */
+	private void cacheResolution(String resolutionKey, String profileId) throws CoreException {
+		IProfile resolved = getProfileRegistry().getProfile(profileId);
+		if (resolved == null) {
+			return;
+		}
+		List<CachedUnit> units = new ArrayList<>();
+		for (IInstallableUnit unit : resolved.query(QueryUtil.createIUAnyQuery(), null)) {
+			boolean root = Boolean.parseBoolean(resolved.getInstallableUnitProperty(unit, PROP_INSTALLED_IU));
+			String versionDeclarations = root
+					? resolved.getInstallableUnitProperty(unit, PROP_IU_VERSION_DECLARATION)
+					: null;
+			units.add(new CachedUnit(unit.getId(), unit.getVersion(), root, versionDeclarations));
+		}
+		TargetResolutionCache.put(resolutionKey, units);
+	}
+
 	private IProfile createProfile(ITargetDefinition target) throws CoreException {
 		// create a new profile
 		IProfileRegistry registry = getProfileRegistry();
@@ -1103,7 +1291,7 @@ public class P2TargetUtils {
 	 */
 	private void resolveWithPlanner(ITargetDefinition target, IProfile profile, IProgressMonitor monitor)
 			throws CoreException {
-		SubMonitor subMonitor = SubMonitor.convert(monitor, Messages.IUBundleContainer_0, 220);
+		SubMonitor subMonitor = SubMonitor.convert(monitor, Messages.IUBundleContainer_0, 270);
 
 		// Get the root IUs for every relevant container in the target definition
 		Map<IInstallableUnit, String> units = getRootIUs(target, subMonitor.split(20));
@@ -1138,7 +1326,8 @@ public class P2TargetUtils {
 		context.setProperty(ProvisioningContext.FOLLOW_REPOSITORY_REFERENCES, Boolean.toString(isFollowRepositoryReferences()));
 		context.setProperty(ProvisioningContext.FOLLOW_ARTIFACT_REPOSITORY_REFERENCES, Boolean.toString(isFollowRepositoryReferences()));
 		context.setMetadataRepositories(getMetadataRepositories(target).toArray(URI[]::new));
-		context.setArtifactRepositories(getArtifactRepositories(target).toArray(URI[]::new));
+		Collection<URI> artifactRepositories = getArtifactRepositories(target);
+		context.setArtifactRepositories(artifactRepositories.toArray(URI[]::new));
 
 		IProvisioningPlan plan = planner.getProvisioningPlan(request, context, subMonitor.split(20));
 		IStatus status = plan.getStatus();
@@ -1154,6 +1343,10 @@ public class P2TargetUtils {
 		}
 		subMonitor.split(10);
 
+		materializeArtifacts(artifactRepositories, extraArtifactRepositories,
+				plan.getAdditions().query(QueryUtil.createIUAnyQuery(), null).toUnmodifiableSet(),
+				subMonitor.split(50));
+
 		// execute the provisioning plan
 		IPhaseSet phases = createPhaseSet();
 		IEngine engine = getEngine();
@@ -1334,7 +1527,7 @@ public class P2TargetUtils {
 	 */
 	private void resolveWithSlicer(ITargetDefinition target, IProfile profile, IProgressMonitor monitor)
 			throws CoreException {
-		SubMonitor subMonitor = SubMonitor.convert(monitor, Messages.IUBundleContainer_0, 110);
+		SubMonitor subMonitor = SubMonitor.convert(monitor, Messages.IUBundleContainer_0, 140);
 
 		// resolve IUs
 		Map<IInstallableUnit, String> units = getRootIUs(target, subMonitor.split(40));
@@ -1368,8 +1561,9 @@ public class P2TargetUtils {
 
 		IEngine engine = getEngine();
 		ProvisioningContext context = new ProvisioningContext(getAgent());
+		Collection<URI> artifactRepositories = getArtifactRepositories(target);
 		context.setMetadataRepositories(repositories.toArray(URI[]::new));
-		context.setArtifactRepositories(getArtifactRepositories(target).toArray(URI[]::new));
+		context.setArtifactRepositories(artifactRepositories.toArray(URI[]::new));
 		context.setProperty(ProvisioningContext.FOLLOW_REPOSITORY_REFERENCES, Boolean.toString(isFollowRepositoryReferences()));
 		context.setProperty(ProvisioningContext.FOLLOW_ARTIFACT_REPOSITORY_REFERENCES, Boolean.toString(isFollowRepositoryReferences()));
 		IProvisioningPlan plan = engine.createPlan(profile, context);
@@ -1393,6 +1587,8 @@ public class P2TargetUtils {
 
 		subMonitor.split(5);
 
+		materializeArtifacts(artifactRepositories, List.of(), newSet, subMonitor.split(30));
+
 		// execute the provisioning plan
 		IPhaseSet phases = createPhaseSet();
 		IStatus result = engine.perform(plan, phases, subMonitor.split(50));
@@ -1401,6 +1597,35 @@ public class P2TargetUtils {
 		}
 	}
 
+	/**
+	 * Copies the artifacts of the given units into the bundle pool, fetching
+	 * them concurrently. Artifacts that are not copied here are collected by
+	 * the engine when the plan is performed.
+	 *
+	 * @param locations the locations of the artifact repositories of the target
+	 * @param extraRepositories additional artifact repositories
+	 * @param units the units whose artifacts are needed
+	 * @param monitor progress monitor, done will not be called
+	 * @throws CoreException if the bundle pool cannot be updated
+	 */
+	private void materializeArtifacts(Collection<URI> locations, Collection<IArtifactRepository> extraRepositories,
+			Collection<IInstallableUnit> units, IProgressMonitor monitor) throws CoreException {
+		SubMonitor subMonitor = SubMonitor.convert(monitor, 2 * locations.size() + 10);
+		IArtifactRepositoryManager manager = getArtifactRepositoryManager();
+		List<IArtifactRepository> sources = new ArrayList<>();
+		for (URI location : locations) {
+			try {
+				sources.add(manager.loadRepository(location, subMonitor.split(1)));
+			} catch (ProvisionException e) {
+				// reported when the engine collects the artifacts
+			}
+		}
+		sources.addAll(extraRepositories);
+		ArtifactMaterializer materializer = new ArtifactMaterializer(getBundlePool(), sources,
+				ArtifactMaterializer.DEFAULT_REPOSITORY_LIMIT);
+		materializer.materialize(units, subMonitor.split(locations.size() + 10));
+	}
+
 	/**
 	 * Sets up a slice operation to download the set of installable units that are both required
 	 * by the provided root IUs and available in the repositories specified in the metadata.
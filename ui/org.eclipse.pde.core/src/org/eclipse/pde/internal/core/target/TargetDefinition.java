@@ -16,9 +16,11 @@
 package org.eclipse.pde.internal.core.target;
 
 import java.io.ByteArrayInputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -28,6 +30,7 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -62,6 +65,7 @@ import org.eclipse.pde.core.target.TargetFeature;
 import org.eclipse.pde.internal.core.ExternalFeatureModelManager;
 import org.eclipse.pde.internal.core.ICoreConstants;
 import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.PluginPathFinder;
 import org.eclipse.pde.internal.core.TargetPlatformHelper;
 import org.w3c.dom.DOMException;
 import org.w3c.dom.Document;
@@ -117,8 +121,25 @@ public class TargetDefinition implements ITargetDefinition {
 	public static final int MODE_PLUGIN = 0;
 	public static final int MODE_FEATURE = 1;
 
-	// cache of features found for a given location, maps a string path location to a array of IFeatureModels (IFeatureModel[])
-	private static Map<String, TargetFeature[]> fFeaturesInLocation = new HashMap<>();
+	// cache of features found for a given location, maps a string path location to the features found there, the
+	// least recently used locations are evicted
+	private static final int MAX_FEATURE_LOCATIONS = 8;
+	private static final Map<String, LocationFeatures> fFeaturesInLocation = Collections
+			.synchronizedMap(new LinkedHashMap<String, LocationFeatures>(16, 0.75f, true) {
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<String, LocationFeatures> eldest) {
+					return size() > MAX_FEATURE_LOCATIONS;
+				}
+			});
+
+	/**
+	 * The features of a location along with the time stamps of their manifests
+	 * when they were read, see {@link #getManifestStamps(URL[])}
+	 */
+	private record LocationFeatures(Map<String, Long> manifestStamps, TargetFeature[] features) {
+	}
 
 	// internal cache for features.  A target managed by features will contain a set of features as well as a set of plug-ins that don't belong to a feature
 	private TargetFeature[] fFeatures;
@@ -934,9 +955,9 @@ public class TargetDefinition implements ITargetDefinition {
 	 * the locationPath is <code>null</code> the default target platform location
 	 * will be used.  The locationPath string may container string variables which
 	 * will be resolved.  This target definition may cache the feature models for
-	 * faster retrieval.
-	 *
-	 * TODO When to clear the cache
+	 * faster retrieval, the cached models are discarded once features are
+	 * added to, removed from or changed in the location or
+	 * {@link #flushCaches(String)} is called.
 	 *
 	 * @param locationPath string path to the directory containing features.  May container string variables or be <code>null</code>
 	 * @return list of feature models found in the location, possible empty
@@ -952,20 +973,35 @@ public class TargetDefinition implements ITargetDefinition {
 			path = manager.performStringSubstitution(path);
 		}
 
-		TargetFeature[] models = null;
-		if (fFeaturesInLocation != null) {
-			models = fFeaturesInLocation.get(path);
+		if (path.isEmpty()) {
+			return new TargetFeature[0];
 		}
-
-		if (models != null) {
-			return models; /*(IFeatureModel[])models.toArray(new IFeatureModel[models.size()]);*/
+		URL[] featurePaths = PluginPathFinder.getFeaturePaths(path);
+		Map<String, Long> manifestStamps = getManifestStamps(featurePaths);
+		LocationFeatures cached = fFeaturesInLocation.get(path);
+		if (cached != null && cached.manifestStamps().equals(manifestStamps)) {
+			return cached.features();
 		}
 
-		models = ExternalFeatureModelManager.createFeatures(path, new ArrayList<>(), monitor);
-		fFeaturesInLocation.put(path, models);
+		TargetFeature[] models = ExternalFeatureModelManager.createFeatures(featurePaths, monitor);
+		fFeaturesInLocation.put(path, new LocationFeatures(manifestStamps, models));
 		return models;
 	}
 
+	/**
+	 * Returns the modification times of the feature manifests found at the
+	 * given paths, features added, removed or changed in place change the
+	 * result.
+	 */
+	private static Map<String, Long> getManifestStamps(URL[] featurePaths) {
+		Map<String, Long> stamps = new HashMap<>();
+		for (URL featurePath : featurePaths) {
+			File manifest = new File(featurePath.getFile(), ICoreConstants.FEATURE_FILENAME_DESCRIPTOR);
+			stamps.put(manifest.getPath(), Long.valueOf(manifest.lastModified()));
+		}
+		return stamps;
+	}
+
 	@Override
 	public TargetFeature[] getAllFeatures() {
 		if (!isResolved()) {
@@ -0,0 +1,212 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.target;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.eclipse.equinox.p2.metadata.Version;
+import org.eclipse.pde.internal.core.PDECore;
+
+/**
+ * Persistent cache of the units a target resolved to with the planner or the
+ * slicer.
+ * <p>
+ * Entries are keyed by a hash over everything the resolution depends on: the
+ * declared units, the repositories and their metadata time stamps, and the
+ * resolution settings. A target with the same key resolves to the same units,
+ * so they can be provisioned directly without computing the closure again,
+ * also after a restart or when switching between targets.
+ * </p>
+ * <p>
+ * The least recently used entries are removed once there are more than
+ * {@link #MAX_ENTRIES}.
+ * </p>
+ */
+public class TargetResolutionCache {
+
+	/**
+	 * A unit of a cached resolution
+	 *
+	 * @param id
+	 *            the unit id
+	 * @param version
+	 *            the unit version
+	 * @param root
+	 *            whether the unit was declared in the target
+	 * @param versionDeclaration
+	 *            the version declaration of a root unit or <code>null</code>
+	 */
+	public record CachedUnit(String id, Version version, boolean root, String versionDeclaration) {
+	}
+
+	static final int MAX_ENTRIES = 20;
+
+	private static final String FORMAT_VERSION = "1"; //$NON-NLS-1$
+	private static final String SEPARATOR = "\t"; //$NON-NLS-1$
+	private static final String ENTRY_SUFFIX = ".units"; //$NON-NLS-1$
+	private static final String NO_DECLARATION = "-"; //$NON-NLS-1$
+
+	private static final Path CACHE_LOCATION = PDECore.getDefault().getStateLocation().append(".resolution_cache") //$NON-NLS-1$
+			.toPath();
+
+	private TargetResolutionCache() {
+	}
+
+	/**
+	 * Computes the key for the given inputs of a resolution.
+	 *
+	 * @param inputs
+	 *            every value the resolution depends on, in a stable order
+	 * @return the key
+	 */
+	static String computeKey(List<String> inputs) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+			digest.update(FORMAT_VERSION.getBytes(StandardCharsets.UTF_8));
+			for (String input : inputs) {
+				digest.update((byte) 0);
+				digest.update(input.getBytes(StandardCharsets.UTF_8));
+			}
+			return HexFormat.of().formatHex(digest.digest());
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Returns the units cached for the given key.
+	 *
+	 * @param key
+	 *            the key of the resolution
+	 * @return the units or <code>null</code> if there is no valid entry
+	 */
+	static List<CachedUnit> get(String key) {
+		Path entry = CACHE_LOCATION.resolve(key + ENTRY_SUFFIX);
+		try {
+			List<String> lines = Files.readAllLines(entry, StandardCharsets.UTF_8);
+			List<CachedUnit> units = new ArrayList<>(lines.size());
+			for (String line : lines) {
+				String[] fields = line.split(SEPARATOR);
+				if (fields.length != 4) {
+					return null;
+				}
+				String declaration = NO_DECLARATION.equals(fields[3]) ? null : fields[3];
+				units.add(new CachedUnit(fields[0], Version.create(fields[1]), Boolean.parseBoolean(fields[2]),
+						declaration));
+			}
+			// keep recently used entries when trimming the cache
+			Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+			return units;
+		} catch (NoSuchFileException e) {
+			return null;
+		} catch (IOException | IllegalArgumentException e) {
+			PDECore.log(e);
+			return null;
+		}
+	}
+
+	/**
+	 * Stores the units of a resolution for the given key.
+	 *
+	 * @param key
+	 *            the key of the resolution
+	 * @param units
+	 *            the units the target resolved to
+	 */
+	static void put(String key, Collection<CachedUnit> units) {
+		try {
+			Files.createDirectories(CACHE_LOCATION);
+			Path temp = Files.createTempFile(CACHE_LOCATION, key, ".tmp"); //$NON-NLS-1$
+			try {
+				try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+					for (CachedUnit unit : units) {
+						writer.write(String.join(SEPARATOR, unit.id(), unit.version().toString(),
+								Boolean.toString(unit.root()),
+								unit.versionDeclaration() == null ? NO_DECLARATION : unit.versionDeclaration()));
+						writer.newLine();
+					}
+				}
+				Path entry = CACHE_LOCATION.resolve(key + ENTRY_SUFFIX);
+				try {
+					Files.move(temp, entry, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+				} catch (AtomicMoveNotSupportedException e) {
+					Files.move(temp, entry, StandardCopyOption.REPLACE_EXISTING);
+				}
+			} finally {
+				Files.deleteIfExists(temp);
+			}
+			trim();
+		} catch (IOException e) {
+			PDECore.log(e);
+		}
+	}
+
+	/**
+	 * Removes all cached resolutions.
+	 */
+	public static void clear() {
+		try (Stream<Path> entries = list()) {
+			entries.forEach(TargetResolutionCache::delete);
+		} catch (IOException e) {
+			PDECore.log(e);
+		}
+	}
+
+	private static void trim() throws IOException {
+		List<Path> entries;
+		try (Stream<Path> stream = list()) {
+			entries = stream.sorted(Comparator.comparing(TargetResolutionCache::lastModified).reversed()).toList();
+		}
+		entries.stream().skip(MAX_ENTRIES).forEach(TargetResolutionCache::delete);
+	}
+
+	private static Stream<Path> list() throws IOException {
+		if (!Files.isDirectory(CACHE_LOCATION)) {
+			return Stream.empty();
+		}
+		return Files.list(CACHE_LOCATION).filter(p -> p.getFileName().toString().endsWith(ENTRY_SUFFIX));
+	}
+
+	private static FileTime lastModified(Path entry) {
+		try {
+			return Files.getLastModifiedTime(entry);
+		} catch (IOException e) {
+			return FileTime.fromMillis(0);
+		}
+	}
+
+	private static void delete(Path entry) {
+		try {
+			Files.deleteIfExists(entry);
+		} catch (IOException e) {
+			PDECore.log(e);
+		}
+	}
+}
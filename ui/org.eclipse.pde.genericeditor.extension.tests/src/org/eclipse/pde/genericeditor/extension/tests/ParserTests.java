@@ -0,0 +1,210 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.genericeditor.extension.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+
+import java.util.List;
+
+import javax.xml.stream.XMLStreamException;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.pde.internal.genericeditor.target.extension.model.LocationNode;
+import org.eclipse.pde.internal.genericeditor.target.extension.model.Node;
+import org.eclipse.pde.internal.genericeditor.target.extension.model.UnitNode;
+import org.eclipse.pde.internal.genericeditor.target.extension.model.xml.Parser;
+import org.junit.Test;
+
+public class ParserTests {
+
+	private static final String TARGET = """
+			<?xml version="1.0" encoding="UTF-8" standalone="no"?>
+			<?pde version="3.8"?>
+			<target name="test">
+				<locations>
+					<location includeAllPlatforms="false" includeMode="planner" type="InstallableUnit">
+						<repository location="https://download.eclipse.org/releases/2024-03"/>
+						<unit id="org.eclipse.a" version="1.0.0"/>
+						<unit id="org.eclipse.b" version="2.0.0"/>
+					</location>
+					<!-- <location type="Directory" path="/tmp/commented"/> -->
+					<location includeMode="slicer" type="InstallableUnit">
+						<repository location="https://download.eclipse.org/releases/2024-06"/>
+						<unit id="org.eclipse.c" version="3.0.0"/>
+					</location>
+				</locations>
+			</target>
+			""";
+
+	@Test
+	public void testEditsMatchFullParse() throws BadLocationException {
+		IDocument document = new Document(TARGET);
+		Parser parser = new Parser();
+		parser.parseModel(document);
+		assertSameModel(document, parser);
+
+		// change an attribute value
+		replace(document, "version=\"2.0.0\"", "version=\"2.1.0\"");
+		parser.parseModel(document);
+		assertSameModel(document, parser);
+
+		// insert a unit
+		insertAfter(document, "<unit id=\"org.eclipse.a\" version=\"1.0.0\"/>",
+				"\n\t\t\t\t<unit id=\"org.eclipse.d\" version=\"4.0.0\"/>");
+		parser.parseModel(document);
+		assertSameModel(document, parser);
+
+		// open a comment that swallows the rest of the document
+		insertAfter(document, "<locations>", "<!--");
+		parser.parseModel(document);
+		assertSameModel(document, parser);
+
+		// and close it again after the first location
+		insertAfter(document, "</location>", "-->");
+		parser.parseModel(document);
+		assertSameModel(document, parser);
+
+		// remove the comment start
+		replace(document, "<locations><!--", "<locations>");
+		parser.parseModel(document);
+		assertSameModel(document, parser);
+
+		// remove the second location
+		int start = document.get().indexOf("<location includeMode=\"slicer\"");
+		int end = document.get().indexOf("</location>", start) + "</location>".length();
+		document.replace(start, end - start, "");
+		parser.parseModel(document);
+		assertSameModel(document, parser);
+
+		// start a new tag at the end of a line
+		insertAfter(document, "<unit id=\"org.eclipse.d\" version=\"4.0.0\"/>", "\n\t\t\t\t<unit id=\"org.");
+		parser.parseModel(document);
+		assertSameModel(document, parser);
+	}
+
+	@Test
+	public void testCommentClosedByEdit() throws BadLocationException {
+		// the comment is not closed, the unit is an element
+		IDocument document = new Document(TARGET.replace("<!-- <location type=\"Directory\" path=\"/tmp/commented\"/> -->",
+				"<!-- <unit id=\"org.eclipse.x\"/>"));
+		Parser parser = new Parser();
+		parser.parseModel(document);
+		assertSameModel(document, parser);
+
+		insertAfter(document, "<unit id=\"org.eclipse.x\"/>", " -->");
+		parser.parseModel(document);
+		assertSameModel(document, parser);
+
+		// "<!-->" does not close the comment it opens
+		insertAfter(document, "</locations>", "<!-->");
+		parser.parseModel(document);
+		assertSameModel(document, parser);
+
+		insertAfter(document, "</target>", "<!-- -->");
+		parser.parseModel(document);
+		assertSameModel(document, parser);
+	}
+
+	@Test
+	public void testUnchangedDocumentKeepsModel() throws XMLStreamException, BadLocationException {
+		IDocument document = new Document(TARGET);
+		Parser parser = new Parser();
+		parser.parse(document);
+		Node root = parser.getRootNode();
+		assertNotNull(root);
+
+		parser.parse(document);
+		assertSame(root, parser.getRootNode());
+
+		replace(document, "org.eclipse.c", "org.eclipse.e");
+		parser.parse(document);
+		UnitNode unit = (UnitNode) root.getChildNodes().get(0).getChildNodes().get(1).getChildNodes().get(1);
+		assertEquals("org.eclipse.c", unit.getId());
+		unit = (UnitNode) parser.getRootNode().getChildNodes().get(0).getChildNodes().get(1).getChildNodes().get(1);
+		assertEquals("org.eclipse.e", unit.getId());
+	}
+
+	@Test
+	public void testParseModelDoesNotValidate() throws XMLStreamException, BadLocationException {
+		IDocument document = new Document(TARGET);
+		Parser parser = new Parser();
+		parser.parse(document);
+
+		// not well-formed
+		replace(document, "</locations>", "</location>");
+		parser.parseModel(document);
+		assertNotNull(parser.getRootNode());
+		assertThrows(XMLStreamException.class, () -> parser.parse(document));
+		// the error is remembered for the text
+		assertThrows(XMLStreamException.class, () -> parser.parse(document));
+		assertNotNull(parser.getRootNode());
+
+		replace(document, "</location>\n</target>", "</locations>\n</target>");
+		parser.parse(document);
+	}
+
+	@Test
+	public void testNoTarget() throws XMLStreamException {
+		Parser parser = new Parser();
+		parser.parse(new Document("<?xml version=\"1.0\"?>\n<other/>"));
+		assertNull(parser.getRootNode());
+	}
+
+	private static void replace(IDocument document, String text, String replacement) throws BadLocationException {
+		int offset = document.get().indexOf(text);
+		document.replace(offset, text.length(), replacement);
+	}
+
+	private static void insertAfter(IDocument document, String text, String insertion) throws BadLocationException {
+		int offset = document.get().indexOf(text) + text.length();
+		document.replace(offset, 0, insertion);
+	}
+
+	private static void assertSameModel(IDocument document, Parser parser) {
+		Parser fullParser = new Parser();
+		fullParser.parseModel(new Document(document.get()));
+		assertSameNode(fullParser.getRootNode(), parser.getRootNode());
+	}
+
+	private static void assertSameNode(Node expected, Node actual) {
+		if (expected == null) {
+			assertNull(actual);
+			return;
+		}
+		assertNotNull(actual);
+		assertEquals(expected.getClass(), actual.getClass());
+		assertEquals(expected.getNodeTag(), actual.getNodeTag());
+		assertEquals(expected.getNodeTag(), expected.getOffsetStart(), actual.getOffsetStart());
+		assertEquals(expected.getNodeTag(), expected.getOffsetEnd(), actual.getOffsetEnd());
+		if (expected instanceof UnitNode unit) {
+			assertEquals(unit.getId(), ((UnitNode) actual).getId());
+			assertEquals(unit.getVersion(), ((UnitNode) actual).getVersion());
+		}
+		if (expected instanceof LocationNode location) {
+			assertEquals(location.getRepositoryLocations(), ((LocationNode) actual).getRepositoryLocations());
+		}
+		List<Node> expectedChildren = expected.getChildNodes();
+		List<Node> actualChildren = actual.getChildNodes();
+		assertEquals(expected.getNodeTag(), expectedChildren.size(), actualChildren.size());
+		for (int i = 0; i < expectedChildren.size(); i++) {
+			assertSameNode(expectedChildren.get(i), actualChildren.get(i));
+		}
+	}
+}
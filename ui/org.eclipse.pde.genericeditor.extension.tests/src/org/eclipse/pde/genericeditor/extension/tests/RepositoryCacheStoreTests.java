@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.genericeditor.extension.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import org.eclipse.equinox.p2.metadata.IVersionedId;
+import org.eclipse.equinox.p2.metadata.Version;
+import org.eclipse.equinox.p2.metadata.VersionedId;
+import org.eclipse.pde.internal.genericeditor.target.extension.model.RepositoryCacheStore;
+import org.eclipse.pde.internal.genericeditor.target.extension.model.RepositoryCacheStore.Content;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class RepositoryCacheStoreTests {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private static final List<IVersionedId> UNITS = List.of(new VersionedId("org.eclipse.fake", Version.create("1.0.0")),
+			new VersionedId("org.eclipse.fake", Version.create("1.0.1")));
+
+	@Test
+	public void testLocalRepositoryUnchanged() throws IOException {
+		URI repository = createRepository("repository", "content.xml");
+		RepositoryCacheStore.write(repository, RepositoryCacheStore.getStamp(repository), -1, UNITS, List.of());
+
+		Content content = RepositoryCacheStore.read(repository);
+		assertNotNull(content);
+		assertEquals(UNITS, content.units());
+		assertTrue(content.children().isEmpty());
+	}
+
+	@Test
+	public void testLocalRepositoryModified() throws IOException {
+		URI repository = createRepository("repository", "content.xml");
+		RepositoryCacheStore.write(repository, RepositoryCacheStore.getStamp(repository), -1, UNITS, List.of());
+		assertNotNull(RepositoryCacheStore.read(repository));
+
+		touch(repository, "content.xml");
+		assertNull(RepositoryCacheStore.read(repository));
+	}
+
+	@Test
+	public void testLocalRepositoryModifiedWhileFetched() throws IOException {
+		URI repository = createRepository("repository", "content.xml");
+		long stamp = RepositoryCacheStore.getStamp(repository);
+		touch(repository, "content.xml");
+		RepositoryCacheStore.write(repository, stamp, -1, UNITS, List.of());
+
+		assertNull(RepositoryCacheStore.read(repository));
+	}
+
+	@Test
+	public void testLocalChildModified() throws IOException {
+		URI repository = createRepository("composite", "compositeContent.xml");
+		URI child = createRepository("composite/child", "content.xml");
+		List<URI> children = List.of(repository.relativize(child));
+		RepositoryCacheStore.write(repository, RepositoryCacheStore.getStamp(repository), -1, UNITS, children);
+
+		Content content = RepositoryCacheStore.read(repository);
+		assertNotNull(content);
+		assertEquals(children, content.children());
+
+		touch(child, "content.xml");
+		assertNull(RepositoryCacheStore.read(repository));
+	}
+
+	@Test
+	public void testLocalRepositoryDeleted() throws IOException {
+		URI repository = createRepository("repository", "content.xml");
+		RepositoryCacheStore.write(repository, RepositoryCacheStore.getStamp(repository), -1, UNITS, List.of());
+
+		Files.delete(Path.of(repository).resolve("content.xml"));
+		assertNull(RepositoryCacheStore.read(repository));
+	}
+
+	@Test
+	public void testRemoteRepositoryWithoutTimeStamp() {
+		// nothing listens there, the p2.timestamp is not known and the content
+		// is kept for a while
+		URI repository = URI.create("http://localhost:1/repository/");
+		long stamp = RepositoryCacheStore.getStamp(repository);
+		assertEquals(-1, stamp);
+		RepositoryCacheStore.write(repository, stamp, -1, UNITS, List.of());
+
+		Content content = RepositoryCacheStore.read(repository);
+		assertNotNull(content);
+		assertEquals(UNITS, content.units());
+	}
+
+	private URI createRepository(String path, String metadataFile) throws IOException {
+		Path directory = folder.getRoot().toPath().resolve(path);
+		Files.createDirectories(directory);
+		Path file = Files.createFile(directory.resolve(metadataFile));
+		Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() - 60_000));
+		return directory.toUri();
+	}
+
+	private static void touch(URI repository, String metadataFile) throws IOException {
+		Path file = Path.of(repository).resolve(metadataFile);
+		Files.setLastModifiedTime(file, FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() + 10_000));
+	}
+}
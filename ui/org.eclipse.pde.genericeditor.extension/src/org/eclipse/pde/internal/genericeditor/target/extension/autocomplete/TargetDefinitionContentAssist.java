@@ -20,8 +20,6 @@ import java.util.Arrays;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import javax.xml.stream.XMLStreamException;
-
 import org.eclipse.jface.resource.JFaceResources;
 import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.IDocument;
@@ -91,11 +89,9 @@ public class TargetDefinitionContentAssist implements IContentAssistProcessor {
 	public ICompletionProposal[] computeCompletionProposals(ITextViewer viewer, int offset) {
 		IDocument document = viewer.getDocument();
 		String text = document.get();
-		try {
-			Parser.getDefault().parse(document);
-		} catch (XMLStreamException e) {
-			// TODO handle parsing errors
-		}
+		// completion works on incomplete documents, the syntax errors are
+		// reported by the validator
+		Parser.getDefault().parseModel(document);
 
 		int completionType = detectCompletionType(document, text, offset);
 		if (completionType == COMPLETION_TYPE_UNKNOWN) {
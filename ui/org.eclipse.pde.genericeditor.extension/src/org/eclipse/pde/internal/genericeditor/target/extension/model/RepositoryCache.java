@@ -16,6 +16,8 @@ package org.eclipse.pde.internal.genericeditor.target.extension.model;
 
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.LinkedHashMap;
@@ -43,7 +45,8 @@ import org.eclipse.pde.internal.genericeditor.target.extension.p2.P2Fetcher.Repo
  * versions.
  *
  * There will be only one cache shared between editors. In the future a function
- * will be added for the user to be able to flush this cache.
+ * will be added for the user to be able to flush this cache. The fetched
+ * content is also kept on disk, see {@link RepositoryCacheStore}.
  */
 public class RepositoryCache {
 
@@ -51,7 +54,33 @@ public class RepositoryCache {
 		// avoid instantiation
 	}
 
-	private static record RepositoryMetadata(Map<String, List<IVersionedId>> units, List<URI> children) {
+	/**
+	 * @param sortedIds
+	 *            the keys of {@code units} in natural order, to look up ids by
+	 *            prefix with a binary search
+	 */
+	private static record RepositoryMetadata(Map<String, List<IVersionedId>> units, List<URI> children,
+			String[] sortedIds) {
+
+		RepositoryMetadata(Map<String, List<IVersionedId>> units, List<URI> children) {
+			this(units, children, units.keySet().stream().sorted().toArray(String[]::new));
+		}
+
+		List<IVersionedId> getUnitsByPrefix(String prefix) {
+			int index = Arrays.binarySearch(sortedIds, prefix);
+			List<String> ids = new ArrayList<>();
+			for (int i = index < 0 ? -index - 1 : index; i < sortedIds.length && sortedIds[i].startsWith(prefix); i++) {
+				ids.add(sortedIds[i]);
+			}
+			// same order as the units map
+			ids.sort(String.CASE_INSENSITIVE_ORDER.thenComparing(Comparator.naturalOrder()));
+			return ids.stream().map(units::get).flatMap(List::stream).toList();
+		}
+
+		List<IVersionedId> getUnitsBySearchTerm(String searchTerm) {
+			return units.entrySet().stream().filter(e -> e.getKey().contains(searchTerm))
+					.flatMap(e -> e.getValue().stream()).toList();
+		}
 	}
 
 	private static final Map<URI, CompletableFuture<RepositoryMetadata>> CACHE = new ConcurrentHashMap<>();
@@ -103,10 +132,17 @@ public class RepositoryCache {
 			// time-wise. Thus it is done in a job.
 			Job job = Job.create(NLS.bind(Messages.UpdateJob_P2DataFetch, repo), m -> {
 				try {
+					RepositoryCacheStore.Content cached = RepositoryCacheStore.read(repo);
+					if (cached != null) {
+						future.complete(new RepositoryMetadata(toSortedMap(cached.units().stream()), cached.children()));
+						return;
+					}
+					long stamp = RepositoryCacheStore.getStamp(repo);
 					RepositoryContent content = P2Fetcher.fetchAvailableUnits(repo, m);
-					Map<String, List<IVersionedId>> units = toSortedMap(
-							content.units().stream().map(iu -> new VersionedId(iu.getId(), iu.getVersion())));
-					future.complete(new RepositoryMetadata(units, content.children()));
+					List<IVersionedId> fetched = content.units().stream()
+							.<IVersionedId> map(iu -> new VersionedId(iu.getId(), iu.getVersion())).toList();
+					future.complete(new RepositoryMetadata(toSortedMap(fetched.stream()), content.children()));
+					RepositoryCacheStore.write(repo, stamp, content.timestamp(), fetched, content.children());
 				} catch (Throwable e) {
 					future.completeExceptionally(e);
 					// Only log the failure, don't open an error-dialog.
@@ -155,9 +191,7 @@ public class RepositoryCache {
 	 * @return A list of IUs whose id starts with 'prefix'
 	 */
 	public static List<IVersionedId> getUnitsByPrefix(String repo, String prefix) {
-		Map<String, List<IVersionedId>> allUnits = fetchP2UnitsFromRepos(List.of(repo));
-		return allUnits.values().stream().flatMap(List::stream) //
-				.filter(unit -> unit.getId().startsWith(prefix)).toList();
+		return getFutureValue(fetchP2DataOfRepo(repo), m -> m.getUnitsByPrefix(prefix), List.of());
 	}
 
 	/**
@@ -179,8 +213,6 @@ public class RepositoryCache {
 	 * @return A list of IUs whose id contains 'searchTerm'
 	 */
 	public static List<IVersionedId> getUnitsBySearchTerm(String repo, String searchTerm) {
-		Map<String, List<IVersionedId>> allUnits = fetchP2UnitsFromRepos(List.of(repo));
-		return allUnits.values().stream().flatMap(List::stream) //
-				.filter(unit -> unit.getId().contains(searchTerm)).toList();
+		return getFutureValue(fetchP2DataOfRepo(repo), m -> m.getUnitsBySearchTerm(searchTerm), List.of());
 	}
 }
@@ -0,0 +1,284 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.genericeditor.target.extension.model;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.ILog;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.equinox.p2.metadata.IVersionedId;
+import org.eclipse.equinox.p2.metadata.Version;
+import org.eclipse.equinox.p2.metadata.VersionedId;
+import org.eclipse.pde.internal.genericeditor.target.extension.p2.P2Fetcher;
+import org.osgi.framework.FrameworkUtil;
+
+/**
+ * Keeps the ids and versions of the units of p2 repositories on disk, so that
+ * they are available for completion without fetching the repositories again
+ * after a restart.
+ * <p>
+ * The content of a local repository is reused as long as the modification
+ * times of its metadata files, and those of its children, are unchanged. The
+ * content of a remote repository is reused as long as its
+ * <code>p2.timestamp</code>, and those of its children, are unchanged. If a
+ * remote repository has no time stamp or cannot be reached, its content is
+ * reused for {@link #REMOTE_MAX_AGE} after it was fetched.
+ * </p>
+ * <p>
+ * Stored content not used for {@link #MAX_UNUSED_AGE} is deleted, and the
+ * least recently used content is deleted while the store is larger than
+ * {@link #MAX_SIZE}.
+ * </p>
+ */
+public final class RepositoryCacheStore {
+
+	private RepositoryCacheStore() {
+		// static use only
+	}
+
+	public record Content(List<IVersionedId> units, List<URI> children) {
+	}
+
+	private static final Duration REMOTE_MAX_AGE = Duration.ofDays(1);
+
+	private static final Duration MAX_UNUSED_AGE = Duration.ofDays(30);
+
+	private static final long MAX_SIZE = 32 * 1024 * 1024;
+
+	private static final String[] METADATA_FILES = { "content.jar", "content.xml", "content.xml.xz", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			"compositeContent.jar", "compositeContent.xml", "p2.index" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+	private static final String FORMAT = "p2 repository content 3"; //$NON-NLS-1$
+	private static final String CHILD = "C "; //$NON-NLS-1$
+	private static final String UNIT = "U "; //$NON-NLS-1$
+
+	private static final AtomicBoolean evicted = new AtomicBoolean();
+
+	/**
+	 * Returns the time stamp to pass to
+	 * {@link #write(URI, long, long, Collection, List)}, to be computed before
+	 * the given repository is fetched.
+	 *
+	 * @return the modification time of a local repository, or <code>-1</code>
+	 *         if it is not known or the repository is remote
+	 */
+	public static long getStamp(URI repository) {
+		return isLocal(repository) ? getLocalStamp(repository, List.of()) : -1;
+	}
+
+	/**
+	 * Reads the stored content of the given repository.
+	 *
+	 * @return the content or <code>null</code> if none is stored or if it is
+	 *         outdated
+	 */
+	public static Content read(URI repository) {
+		Path file = getFile(repository);
+		if (file == null || !Files.isRegularFile(file)) {
+			return null;
+		}
+		try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+			if (!FORMAT.equals(reader.readLine()) || !repository.toString().equals(reader.readLine())) {
+				return null;
+			}
+			long stamp = Long.parseLong(reader.readLine());
+			long fetched = Long.parseLong(reader.readLine());
+			List<IVersionedId> units = new ArrayList<>();
+			List<URI> children = new ArrayList<>();
+			for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+				if (line.startsWith(UNIT)) {
+					int separator = line.indexOf(' ', UNIT.length());
+					units.add(new VersionedId(line.substring(UNIT.length(), separator),
+							Version.create(line.substring(separator + 1))));
+				} else if (line.startsWith(CHILD)) {
+					children.add(new URI(line.substring(CHILD.length())));
+				}
+			}
+			long current = getCurrentStamp(repository, children);
+			boolean valid;
+			if (current > 0) {
+				valid = stamp == current;
+			} else { // a remote location does not tell, unless the repository itself is gone
+				valid = System.currentTimeMillis() - fetched < REMOTE_MAX_AGE.toMillis()
+						&& (!isLocal(repository) || getLocalStamp(repository) > 0);
+			}
+			if (!valid) {
+				return null;
+			}
+			Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis())); // last use
+			return new Content(units, children);
+		} catch (IOException | RuntimeException | URISyntaxException e) {
+			ILog.get().warn("Discarding cached content of " + repository, e); //$NON-NLS-1$
+			return null;
+		}
+	}
+
+	/**
+	 * Stores the content of the given repository.
+	 *
+	 * @param stamp
+	 *            the time stamp of the repository alone, see
+	 *            {@link #getStamp(URI)}
+	 * @param timestamp
+	 *            the <code>p2.timestamp</code> of the fetched repository and
+	 *            its children, or <code>-1</code> if not known
+	 */
+	public static void write(URI repository, long stamp, long timestamp, Collection<? extends IVersionedId> units,
+			List<URI> children) {
+		Path file = getFile(repository);
+		if (file == null) {
+			return;
+		}
+		if (stamp != getStamp(repository)) {
+			return; // modified while being fetched
+		}
+		stamp = isLocal(repository, children) ? getLocalStamp(repository, children) : timestamp;
+		try {
+			Files.createDirectories(file.getParent());
+			if (evicted.compareAndSet(false, true)) {
+				evict(file.getParent());
+			}
+			Path tmp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp"); //$NON-NLS-1$
+			try (BufferedWriter writer = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+				writer.write(FORMAT);
+				writer.newLine();
+				writer.write(repository.toString());
+				writer.newLine();
+				writer.write(Long.toString(stamp));
+				writer.newLine();
+				writer.write(Long.toString(System.currentTimeMillis()));
+				writer.newLine();
+				for (URI child : children) {
+					writer.write(CHILD + child);
+					writer.newLine();
+				}
+				for (IVersionedId unit : units) {
+					writer.write(UNIT + unit.getId() + ' ' + unit.getVersion());
+					writer.newLine();
+				}
+			}
+			Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			ILog.get().warn("Failed to cache content of " + repository, e); //$NON-NLS-1$
+		}
+	}
+
+	private static Path getFile(URI repository) {
+		try {
+			Path cache = Platform.getStateLocation(FrameworkUtil.getBundle(RepositoryCacheStore.class)).toPath()
+					.resolve("repositories"); //$NON-NLS-1$
+			byte[] key = repository.toString().getBytes(StandardCharsets.UTF_8);
+			return cache.resolve(UUID.nameUUIDFromBytes(key) + ".txt"); //$NON-NLS-1$
+		} catch (RuntimeException e) { // no instance location
+			return null;
+		}
+	}
+
+	/**
+	 * Deletes the content not used for {@link #MAX_UNUSED_AGE}, then the least
+	 * recently used content until the store is smaller than {@link #MAX_SIZE}.
+	 */
+	private static void evict(Path cache) {
+		long now = System.currentTimeMillis();
+		try (Stream<Path> files = Files.list(cache)) {
+			long size = 0;
+			for (Path file : files.sorted(Comparator.comparing(RepositoryCacheStore::getLastModified).reversed())
+					.toList()) {
+				size += Files.size(file);
+				if (size > MAX_SIZE || now - getLastModified(file) > MAX_UNUSED_AGE.toMillis()) {
+					Files.delete(file);
+				}
+			}
+		} catch (IOException | RuntimeException e) {
+			ILog.get().warn("Failed to clean up cached repository content", e); //$NON-NLS-1$
+		}
+	}
+
+	private static long getLastModified(Path file) {
+		try {
+			return Files.getLastModifiedTime(file).toMillis();
+		} catch (IOException e) { // deleted meanwhile, evict first
+			return 0;
+		}
+	}
+
+	private static boolean isLocal(URI repository, Collection<URI> children) {
+		return isLocal(repository)
+				&& children.stream().map(repository::resolve).allMatch(RepositoryCacheStore::isLocal);
+	}
+
+	private static boolean isLocal(URI location) {
+		return "file".equals(location.getScheme()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Returns the current time stamp of the given repository and its children,
+	 * asking a remote repository once for its <code>p2.timestamp</code>.
+	 */
+	private static long getCurrentStamp(URI repository, Collection<URI> children) {
+		if (isLocal(repository, children)) {
+			return getLocalStamp(repository, children);
+		}
+		try {
+			return P2Fetcher.getTimestamp(repository, null);
+		} catch (CoreException | RuntimeException e) { // offline or not allowed to ask
+			return -1;
+		}
+	}
+
+	private static long getLocalStamp(URI repository, Collection<URI> children) {
+		long stamp = getLocalStamp(repository);
+		for (URI child : children) {
+			if (stamp <= 0) {
+				break;
+			}
+			stamp = Math.max(stamp, getLocalStamp(repository.resolve(child)));
+		}
+		return stamp > 0 ? stamp : -1;
+	}
+
+	private static long getLocalStamp(URI location) {
+		try {
+			Path directory = Path.of(location);
+			long stamp = 0;
+			for (String name : METADATA_FILES) {
+				Path file = directory.resolve(name);
+				if (Files.isRegularFile(file)) {
+					stamp = Math.max(stamp, Files.getLastModifiedTime(file).toMillis());
+				}
+			}
+			return stamp;
+		} catch (IOException | RuntimeException e) {
+			return -1;
+		}
+	}
+}
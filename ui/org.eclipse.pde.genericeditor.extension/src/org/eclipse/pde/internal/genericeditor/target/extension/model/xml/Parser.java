@@ -16,7 +16,9 @@
 package org.eclipse.pde.internal.genericeditor.target.extension.model.xml;
 
 import java.io.ByteArrayInputStream;
-import java.util.Iterator;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -25,6 +27,7 @@ import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamException;
 
 import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentExtension4;
 import org.eclipse.pde.internal.genericeditor.target.extension.model.DependencyNode;
 import org.eclipse.pde.internal.genericeditor.target.extension.model.ITargetConstants;
 import org.eclipse.pde.internal.genericeditor.target.extension.model.LocationNode;
@@ -33,15 +36,36 @@ import org.eclipse.pde.internal.genericeditor.target.extension.model.UnitNode;
 
 /**
  * Class used to parse the XML code into the model.
+ * <p>
+ * The parser remembers the elements of the last parsed text. Parsing the same
+ * document again without modification reuses the last model, parsing a
+ * modified text only scans the region that differs from the last text for
+ * elements. Checking that the text is well-formed is a full pass over it with
+ * a StAX reader, it is done once per text and only by {@link #parse(IDocument)},
+ * {@link #parseModel(IDocument)} does without.
+ * </p>
  */
 public class Parser {
 
+	private static final Pattern TAG_PATTERN = Pattern.compile("<[\\w|/][^<]+?>", Pattern.DOTALL); //$NON-NLS-1$
+	private static final Pattern COMMENT_PATTERN = Pattern.compile("<!--.*?-->", Pattern.DOTALL); //$NON-NLS-1$
+	private static final String COMMENT_START = "<!--"; //$NON-NLS-1$
+	private static final String COMMENT_END = "-->"; //$NON-NLS-1$
+
 	private static Parser instance;
 
-	private Node target;
+	private volatile Node target;
 
 	private XMLInputFactory inputFactory;
 
+	// result of the last parse
+	private WeakReference<IDocument> lastDocument = new WeakReference<>(null);
+	private long lastModificationStamp = IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
+	private String lastText;
+	private List<XMLElement> lastElements = List.of();
+	private XMLStreamException lastError;
+	private boolean validated;
+
 	public Parser() {
 		initializeParser();
 	}
@@ -50,13 +74,71 @@ public class Parser {
 		inputFactory = XMLInputFactory.newInstance();
 	}
 
-	public void parse(IDocument document) throws XMLStreamException {
-		target = null;
+	/**
+	 * Updates the model of the given document and checks that the document is
+	 * well-formed.
+	 *
+	 * @throws XMLStreamException
+	 *             if the document is not well-formed, the model is updated
+	 *             nevertheless
+	 */
+	public synchronized void parse(IDocument document) throws XMLStreamException {
+		parseModel(document);
+		if (!validated) {
+			lastError = validate(lastText);
+			validated = true;
+		}
+		if (lastError != null) {
+			throw lastError;
+		}
+	}
+
+	/**
+	 * Updates the model of the given document without checking that the
+	 * document is well-formed.
+	 */
+	public synchronized void parseModel(IDocument document) {
+		long modificationStamp = document instanceof IDocumentExtension4 extension
+				? extension.getModificationStamp()
+				: IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
+		if (modificationStamp == IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP
+				|| modificationStamp != lastModificationStamp || document != lastDocument.get()) {
+			update(document.get());
+			lastDocument = new WeakReference<>(document);
+			lastModificationStamp = modificationStamp;
+		}
+	}
+
+	private void update(String text) {
+		if (text.equals(lastText)) {
+			return;
+		}
+		List<XMLElement> elements = lastText == null ? scan(text) : rescan(lastText, lastElements, text);
+		target = createModel(elements);
+		lastText = text;
+		lastElements = elements;
+		lastError = null;
+		validated = false;
+	}
+
+	private XMLStreamException validate(String text) {
+		try {
+			ByteArrayInputStream inputStream = new ByteArrayInputStream(text.getBytes());
+			XMLEventReader eventReader = inputFactory.createXMLEventReader(inputStream);
+			while (eventReader.hasNext()) {
+				eventReader.nextEvent();
+			}
+			return null;
+		} catch (XMLStreamException e) {
+			return e;
+		}
+	}
+
+	private static Node createModel(List<XMLElement> elements) {
+		Node target = null;
 		Node currentParent = null;
 		Node currentNode = null;
-		Iterator<XMLElement> tagReaderIterator = createXMLTagItterator(document.get());
-		while (tagReaderIterator.hasNext()) {
-			XMLElement event = tagReaderIterator.next();
+		for (XMLElement event : elements) {
 			if (event.isStartElement()) {
 				String name = event.getName();
 				if (ITargetConstants.UNIT_TAG.equalsIgnoreCase(name)) {
@@ -102,51 +184,114 @@ public class Parser {
 				}
 			}
 		}
-		ByteArrayInputStream inputStream = new ByteArrayInputStream(document.get().getBytes());
-		XMLEventReader eventReader = inputFactory.createXMLEventReader(inputStream);
-		while (eventReader.hasNext()) {
-			eventReader.nextEvent();
-		}
+		return target;
 	}
 
-	private Iterator<XMLElement> createXMLTagItterator(String document) {
-		return new Iterator<>() {
-			private final String tagRegex = "(?<tag><[\\w|/][^<]+?>)";
-			private final String commentRegex = "(<!--.*?-->)";
-			private final String beforeTagRegex = ".*?(?=".concat(tagRegex).concat(")");
-
-			private String text = document;
-
-			private final Pattern tagPattern = Pattern.compile(tagRegex, Pattern.DOTALL);
-			private final Pattern commentPattern = Pattern.compile(commentRegex, Pattern.DOTALL);
-			private final Pattern beforeTagPattern = Pattern.compile(beforeTagRegex, Pattern.DOTALL);
+	private static List<XMLElement> scan(String text) {
+		List<XMLElement> elements = new ArrayList<>();
+		ElementScanner scanner = new ElementScanner(text, 0);
+		for (XMLElement element = scanner.next(); element != null; element = scanner.next()) {
+			elements.add(element);
+		}
+		return elements;
+	}
 
-			@Override
-			public boolean hasNext() {
-				skipComments();
-				return text.length() > 0 && beforeTagPattern.matcher(text).find();
+	/**
+	 * Scans the given text for elements, reusing the elements of the old text
+	 * before and after the region that changed.
+	 */
+	private static List<XMLElement> rescan(String oldText, List<XMLElement> oldElements, String text) {
+		int max = Math.min(oldText.length(), text.length());
+		int prefix = 0;
+		while (prefix < max && oldText.charAt(prefix) == text.charAt(prefix)) {
+			prefix++;
+		}
+		int suffix = 0;
+		while (suffix < max - prefix
+				&& oldText.charAt(oldText.length() - 1 - suffix) == text.charAt(text.length() - 1 - suffix)) {
+			suffix++;
+		}
+		// a comment opened before the change may be closed by it, or not
+		// anymore, which affects all elements after its start
+		int unchanged = prefix;
+		for (int position = 0; position < prefix;) {
+			int commentStart = text.indexOf(COMMENT_START, position);
+			if (commentStart < 0 || commentStart >= prefix) {
+				break;
 			}
+			int commentEnd = text.indexOf(COMMENT_END, commentStart + COMMENT_START.length());
+			if (commentEnd < 0 || commentEnd + COMMENT_END.length() > prefix) {
+				unchanged = commentStart;
+				break;
+			}
+			position = commentEnd + COMMENT_END.length();
+		}
 
-			@Override
-			public XMLElement next() {
-				skipComments();
-				text = beforeTagPattern.matcher(text).replaceFirst("");
-				Matcher tag = tagPattern.matcher(text);
-				tag.find();
-				int offset = document.length() - text.length();
-				text = text.substring(tag.end());
-				return new XMLElement(tag.group("tag"), offset);
+		int kept = 0;
+		while (kept < oldElements.size() && oldElements.get(kept).getEndOffset() <= unchanged) {
+			kept++;
+		}
+		List<XMLElement> elements = new ArrayList<>(oldElements.subList(0, kept));
+		int delta = text.length() - oldText.length();
+		int unchangedSuffix = text.length() - suffix;
+		ElementScanner scanner = new ElementScanner(text, kept == 0 ? 0 : elements.get(kept - 1).getEndOffset());
+		for (XMLElement element = scanner.next(); element != null; element = scanner.next()) {
+			elements.add(element);
+			if (element.getEndOffset() >= unchangedSuffix) {
+				// the rest of the text is unchanged, once an old element ends
+				// at the same place the old elements that follow it are valid
+				int oldEnd = element.getEndOffset() - delta;
+				for (int i = kept; i < oldElements.size() && oldElements.get(i).getEndOffset() <= oldEnd; i++) {
+					if (oldElements.get(i).getEndOffset() == oldEnd) {
+						for (XMLElement old : oldElements.subList(i + 1, oldElements.size())) {
+							elements.add(old.shift(delta));
+						}
+						return elements;
+					}
+				}
 			}
+		}
+		return elements;
+	}
+
+	/**
+	 * Finds the elements of a text outside of comments, one after the other.
+	 */
+	private static final class ElementScanner {
+		private final Matcher tags;
+		private final Matcher comments;
+		private int position;
+		private int commentStart = -1;
+		private int commentEnd;
+
+		ElementScanner(String text, int position) {
+			this.tags = TAG_PATTERN.matcher(text);
+			this.comments = COMMENT_PATTERN.matcher(text);
+			this.position = position;
+		}
 
-			private void skipComments() {
-				Matcher comment = commentPattern.matcher(text);
-				Matcher tag = tagPattern.matcher(text);
-				if (comment.find() && tag.find() && comment.start() < tag.start()) {
-					text = text.substring(comment.end());
+		XMLElement next() {
+			while (tags.find(position)) {
+				if (commentStart < position) {
+					// the comment found last is behind, look for the next one
+					if (comments.find(position)) {
+						commentStart = comments.start();
+						commentEnd = comments.end();
+					} else {
+						commentStart = Integer.MAX_VALUE;
+					}
+				}
+				if (commentStart < tags.start()) {
+					position = commentEnd;
+					continue;
 				}
+				position = tags.end();
+				return new XMLElement(tags.group(), tags.start());
 			}
-		};
+			return null;
+		}
 	}
+
 	public static Parser getDefault() {
 		if (instance == null) {
 			instance = new Parser();
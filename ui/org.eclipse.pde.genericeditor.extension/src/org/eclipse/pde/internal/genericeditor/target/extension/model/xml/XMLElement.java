@@ -22,19 +22,22 @@ public class XMLElement {
 	private final String element;
 	private final int offset;
 	private final String name;
-	private final Map<String, String> attributes = new HashMap<>();
+	private final Map<String, String> attributes;
 	private final boolean isEndElement;
 	private final boolean isStartElement;
 
-	private final Pattern startElementNamePattern = Pattern.compile("<\\s*(?<name>\\w*).*", Pattern.DOTALL); //$NON-NLS-1$
-	private final Pattern endElementNamePattern = Pattern.compile("</\\s*(?<name>\\w*).*", Pattern.DOTALL); //$NON-NLS-1$
-	private final Pattern attributePattern = Pattern.compile("((?<key>\\w*)\\s*=\\s*\"(?<value>.*?)\")", Pattern.DOTALL);//$NON-NLS-1$
+	private static final Pattern startElementNamePattern = Pattern.compile("<\\s*(?<name>\\w*).*", Pattern.DOTALL); //$NON-NLS-1$
+	private static final Pattern endElementNamePattern = Pattern.compile("</\\s*(?<name>\\w*).*", Pattern.DOTALL); //$NON-NLS-1$
+	private static final Pattern attributePattern = Pattern.compile("((?<key>\\w*)\\s*=\\s*\"(?<value>.*?)\")", Pattern.DOTALL);//$NON-NLS-1$
+	private static final Pattern endElementPattern = Pattern.compile("</(.|\n)*|(.|\n)*/>(.|\n)*"); //$NON-NLS-1$
+	private static final Pattern startElementPattern = Pattern.compile("<[^/](.|\n)*"); //$NON-NLS-1$
 
 	public XMLElement(String element, int offset) {
 		this.element = element;
 		this.offset = offset;
-		this.isEndElement = element.matches("</(.|\n)*|(.|\n)*/>(.|\n)*"); //$NON-NLS-1$
-		this.isStartElement = element.matches("<[^/](.|\n)*"); //$NON-NLS-1$
+		this.attributes = new HashMap<>();
+		this.isEndElement = endElementPattern.matcher(element).matches();
+		this.isStartElement = startElementPattern.matcher(element).matches();
 
 		Pattern namePattern;
 		if (isStartElement()) {
@@ -53,6 +56,23 @@ public class XMLElement {
 			attributes.put(key, value);
 		}
 	}
+
+	private XMLElement(XMLElement element, int offset) {
+		this.element = element.element;
+		this.offset = offset;
+		this.attributes = element.attributes;
+		this.isEndElement = element.isEndElement;
+		this.isStartElement = element.isStartElement;
+		this.name = element.name;
+	}
+
+	/**
+	 * Returns this element moved by the given number of characters.
+	 */
+	XMLElement shift(int delta) {
+		return delta == 0 ? this : new XMLElement(this, offset + delta);
+	}
+
 	public boolean isEndElement() {
 		return isEndElement;
 	}
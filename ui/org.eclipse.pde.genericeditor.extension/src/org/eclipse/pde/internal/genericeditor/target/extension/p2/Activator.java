@@ -0,0 +1,33 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.genericeditor.target.extension.p2;
+
+import org.osgi.framework.BundleActivator;
+import org.osgi.framework.BundleContext;
+
+/**
+ * Releases the provisioning agent of the {@link P2Fetcher} when the bundle is
+ * stopped.
+ */
+public class Activator implements BundleActivator {
+
+	@Override
+	public void start(BundleContext context) {
+	}
+
+	@Override
+	public void stop(BundleContext context) {
+		P2Fetcher.stop();
+	}
+}
@@ -19,6 +19,7 @@ import java.util.stream.Stream;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.equinox.p2.core.IProvisioningAgent;
 import org.eclipse.equinox.p2.core.IProvisioningAgentProvider;
@@ -38,12 +39,23 @@ import org.osgi.framework.ServiceReference;
 /**
  * A utility class used to fetch IUs from a repository. Used for unit ids
  * completion.
+ * <p>
+ * All repositories are loaded by the same provisioning agent, which is
+ * created on first use and stopped with the bundle, see {@link #stop()}.
+ * </p>
  */
 public class P2Fetcher {
 
-	public static record RepositoryContent(IQueryResult<IInstallableUnit> units, List<URI> children) {
+	/**
+	 * @param timestamp
+	 *            the latest <code>p2.timestamp</code> of the repository and
+	 *            its children, or <code>-1</code> if one of them has none
+	 */
+	public static record RepositoryContent(IQueryResult<IInstallableUnit> units, List<URI> children, long timestamp) {
 	}
 
+	private static IProvisioningAgent agent;
+
 	/**
 	 * This methods goes 'online' to make contact with a p2 repo and query it.
 	 *
@@ -54,18 +66,83 @@ public class P2Fetcher {
 	public static RepositoryContent fetchAvailableUnits(URI repositoryLocation, IProgressMonitor monitor)
 			throws CoreException {
 		SubMonitor subMonitor = SubMonitor.convert(monitor, 31);
-		BundleContext context = FrameworkUtil.getBundle(P2Fetcher.class).getBundleContext();
-		ServiceReference<IProvisioningAgentProvider> sr = context.getServiceReference(IProvisioningAgentProvider.class);
+		IMetadataRepositoryManager manager = getRepositoryManager();
+		IMetadataRepository repository = manager.loadRepository(repositoryLocation, subMonitor.split(30));
+		IQueryResult<IInstallableUnit> allUnits = repository.query(QueryUtil.ALL_UNITS, subMonitor.split(1));
+		List<URI> children = allChildren(repository, manager).toList();
+		return new RepositoryContent(allUnits, children, getTimestamp(repository, manager));
+	}
+
+	/**
+	 * Loads the given repository to read its <code>p2.timestamp</code>. The
+	 * repository manager only downloads metadata that changed since it was
+	 * last loaded, and keeps the loaded repository for a following
+	 * {@link #fetchAvailableUnits(URI, IProgressMonitor)}.
+	 *
+	 * @param repositoryLocation
+	 *            URI pointing to the location of a p2 repository
+	 * @return the latest <code>p2.timestamp</code> of the repository and its
+	 *         children, or <code>-1</code> if one of them has none
+	 * @throws CoreException
+	 *             if the repository could not be loaded
+	 */
+	public static long getTimestamp(URI repositoryLocation, IProgressMonitor monitor) throws CoreException {
+		IMetadataRepositoryManager manager = getRepositoryManager();
+		return getTimestamp(manager.loadRepository(repositoryLocation, monitor), manager);
+	}
+
+	/**
+	 * Stops the provisioning agent used to load repositories, if one was
+	 * created.
+	 */
+	public static synchronized void stop() {
+		if (agent != null) {
+			agent.stop();
+			agent = null;
+		}
+	}
+
+	private static synchronized IMetadataRepositoryManager getRepositoryManager() throws CoreException {
+		if (agent == null) {
+			BundleContext context = FrameworkUtil.getBundle(P2Fetcher.class).getBundleContext();
+			ServiceReference<IProvisioningAgentProvider> sr = context
+					.getServiceReference(IProvisioningAgentProvider.class);
+			if (sr == null) {
+				throw new CoreException(Status.error("No provisioning agent provider")); //$NON-NLS-1$
+			}
+			try {
+				agent = context.getService(sr).createAgent(null);
+			} finally {
+				context.ungetService(sr);
+			}
+		}
+		IMetadataRepositoryManager manager = agent.getService(IMetadataRepositoryManager.class);
+		if (manager == null) {
+			throw new CoreException(Status.error("No metadata repository manager")); //$NON-NLS-1$
+		}
+		return manager;
+	}
+
+	private static long getTimestamp(IMetadataRepository repository, IMetadataRepositoryManager manager) {
+		long timestamp = getTimestamp(repository);
+		for (URI child : allChildren(repository, manager).toList()) {
+			if (timestamp < 0) {
+				break;
+			}
+			try { // repository should already been cached
+				timestamp = Math.max(timestamp, getTimestamp(manager.loadRepository(child, null)));
+			} catch (ProvisionException e) {
+				timestamp = -1;
+			}
+		}
+		return timestamp;
+	}
+
+	private static long getTimestamp(IRepository<?> repository) {
 		try {
-			IProvisioningAgentProvider agentProvider = context.getService(sr);
-			IProvisioningAgent agent = agentProvider.createAgent(null);
-			IMetadataRepositoryManager manager = agent.getService(IMetadataRepositoryManager.class);
-			IMetadataRepository repository = manager.loadRepository(repositoryLocation, subMonitor.split(30));
-			IQueryResult<IInstallableUnit> allUnits = repository.query(QueryUtil.ALL_UNITS, subMonitor.split(1));
-			List<URI> children = allChildren(repository, manager).toList();
-			return new RepositoryContent(allUnits, children);
-		} finally {
-			context.ungetService(sr);
+			return Long.parseLong(repository.getProperty(IRepository.PROP_TIMESTAMP));
+		} catch (NumberFormatException e) { // not set
+			return -1;
 		}
 	}
 
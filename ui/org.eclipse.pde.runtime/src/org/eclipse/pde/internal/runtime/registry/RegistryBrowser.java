@@ -17,7 +17,9 @@ package org.eclipse.pde.internal.runtime.registry;
 
 import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
@@ -643,6 +645,35 @@ public class RegistryBrowser extends ViewPart {
 		updateTitle();
 	}
 
+	/**
+	 * Adds the given objects, refreshing the tree or each parent at most once.
+	 */
+	public void add(Object[] objects) {
+		Set<Object> parents = new LinkedHashSet<>();
+		for (Object object : objects) {
+			Object parent = fContentProvider.getParent(object);
+			if (parent == null) {
+				// the whole tree is refreshed
+				add(fTreeViewer.getInput(), object);
+				return;
+			}
+			parents.add(parent);
+		}
+		if (!parents.isEmpty()) {
+			refresh(parents.toArray());
+		}
+	}
+
+	/**
+	 * Removes the given objects, refreshing the tree at most once.
+	 */
+	public void remove(Object[] objects) {
+		if (objects.length > 0) {
+			// the whole tree is refreshed
+			remove(objects[0]);
+		}
+	}
+
 	private boolean filtersEnabled() {
 		return fTreeViewer.getFilters().length > 0;
 	}
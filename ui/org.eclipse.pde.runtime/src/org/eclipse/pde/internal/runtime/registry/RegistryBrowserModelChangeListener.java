@@ -13,6 +13,11 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.runtime.registry;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
 import org.eclipse.core.runtime.Status;
 import org.eclipse.pde.internal.runtime.registry.model.Bundle;
 import org.eclipse.pde.internal.runtime.registry.model.Extension;
@@ -28,16 +33,35 @@ public class RegistryBrowserModelChangeListener implements ModelChangeListener {
 
 	private final RegistryBrowser fRegistryBrowser;
 
+	// deltas not handled by the update job yet
+	private final List<ModelChangeDelta> fPendingDeltas = new ArrayList<>();
+	private final UIJob fUpdateJob;
+
 	public RegistryBrowserModelChangeListener(RegistryBrowser registryBrowser) {
 		fRegistryBrowser = registryBrowser;
+		fUpdateJob = UIJob.create("Updating Registry", monitor -> { //$NON-NLS-1$
+			ModelChangeDelta[] deltas;
+			synchronized (fPendingDeltas) {
+				deltas = fPendingDeltas.toArray(new ModelChangeDelta[fPendingDeltas.size()]);
+				fPendingDeltas.clear();
+			}
+			update(deltas);
+			return Status.OK_STATUS;
+		});
+		fUpdateJob.setSystem(true);
 	}
 
+	/**
+	 * Queues the given deltas, the deltas received until the update job runs
+	 * are handled together, e.g. the bundles added while the registry is
+	 * initialized.
+	 */
 	@Override
 	public void modelChanged(final ModelChangeDelta[] delta) {
-		UIJob.create("Updating Registry", monitor -> { //$NON-NLS-1$
-			update(delta);
-			return Status.OK_STATUS;
-		}).schedule();
+		synchronized (fPendingDeltas) {
+			fPendingDeltas.addAll(List.of(delta));
+		}
+		fUpdateJob.schedule();
 	}
 
 	private boolean topLevelElement(Object object) {
@@ -107,21 +131,31 @@ public class RegistryBrowserModelChangeListener implements ModelChangeListener {
 		return null;
 	}
 
-	private void refreshTopLevelElements(Object object) {
+	private void collectTopLevelElements(Object object, Set<Object> elements) {
 		Object topLevelElement = getTopLevelElement(object);
 
 		if (topLevelElement == null)
 			return;
 
 		if (topLevelElement.getClass().isArray()) {
-			Object[] array = (Object[]) topLevelElement;
-			fRegistryBrowser.refresh(array);
+			for (Object element : (Object[]) topLevelElement) {
+				if (element != null) {
+					elements.add(element);
+				}
+			}
 		} else {
-			fRegistryBrowser.refresh(topLevelElement);
+			elements.add(topLevelElement);
 		}
 	}
 
+	/**
+	 * Updates the browser for the given deltas, adding, removing and
+	 * refreshing each element at most once.
+	 */
 	protected void update(ModelChangeDelta[] deltas) {
+		Set<Object> added = new LinkedHashSet<>();
+		Set<Object> removed = new LinkedHashSet<>();
+		Set<Object> refreshed = new LinkedHashSet<>();
 		for (ModelChangeDelta delta : deltas) {
 			ModelObject object = delta.getModelObject();
 			int flag = delta.getFlag();
@@ -129,16 +163,16 @@ public class RegistryBrowserModelChangeListener implements ModelChangeListener {
 			switch (flag) {
 				case ModelChangeDelta.ADDED :
 					if (topLevelElement(object)) {
-						fRegistryBrowser.add(object);
+						added.add(object);
 					} else {
-						refreshTopLevelElements(object);
+						collectTopLevelElements(object, refreshed);
 					}
 					break;
 				case ModelChangeDelta.REMOVED :
 					if (topLevelElement(object)) {
-						fRegistryBrowser.remove(object);
+						removed.add(object);
 					} else {
-						refreshTopLevelElements(object);
+						collectTopLevelElements(object, refreshed);
 					}
 					break;
 				case ModelChangeDelta.STARTED :
@@ -147,12 +181,21 @@ public class RegistryBrowserModelChangeListener implements ModelChangeListener {
 				case ModelChangeDelta.UNRESOLVED :
 				case ModelChangeDelta.UPDATED :
 					if (topLevelElement(object)) {
-						fRegistryBrowser.refresh(object);
+						refreshed.add(object);
 					} else {
-						refreshTopLevelElements(object);
+						collectTopLevelElements(object, refreshed);
 					}
 					break;
 			}
 		}
+		if (!removed.isEmpty()) {
+			fRegistryBrowser.remove(removed.toArray());
+		}
+		if (!added.isEmpty()) {
+			fRegistryBrowser.add(added.toArray());
+		}
+		if (!refreshed.isEmpty()) {
+			fRegistryBrowser.refresh(refreshed.toArray());
+		}
 	}
 }
@@ -39,6 +39,9 @@ public class Bundle extends ModelObject {
 	private String fragmentHost;
 	private String fragmentHostVersion;
 
+	// sets the prerequisites, libraries and packages on first access
+	private Runnable headersInitializer;
+
 	public void setFragmentHost(String fragmentHost) {
 		this.fragmentHost = fragmentHost;
 	}
@@ -93,11 +96,29 @@ public class Bundle extends ModelObject {
 		return symbolicName;
 	}
 
+	/**
+	 * Sets the initializer of the prerequisites, libraries and packages of the
+	 * bundle, it is run the first time one of them is requested.
+	 */
+	public synchronized void setHeadersInitializer(Runnable initializer) {
+		this.headersInitializer = initializer;
+	}
+
+	private synchronized void initializeHeaders() {
+		if (headersInitializer != null) {
+			Runnable initializer = headersInitializer;
+			headersInitializer = null;
+			initializer.run();
+		}
+	}
+
 	public BundlePrerequisite[] getImports() {
+		initializeHeaders();
 		return imports;
 	}
 
 	public BundleLibrary[] getLibraries() {
+		initializeHeaders();
 		return libraries;
 	}
 
@@ -221,6 +242,7 @@ public class Bundle extends ModelObject {
 	}
 
 	public BundlePrerequisite[] getImportedPackages() {
+		initializeHeaders();
 		return importedPackages;
 	}
 
@@ -229,6 +251,7 @@ public class Bundle extends ModelObject {
 	}
 
 	public BundlePrerequisite[] getExportedPackages() {
+		initializeHeaders();
 		return exportedPackages;
 	}
 }
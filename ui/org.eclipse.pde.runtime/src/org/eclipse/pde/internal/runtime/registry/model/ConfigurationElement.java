@@ -13,9 +13,12 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.runtime.registry.model;
 
+import java.util.function.Supplier;
+
 public class ConfigurationElement extends Attribute {
 
 	private Attribute[] elements = new Attribute[0];
+	private Supplier<Attribute[]> elementsProvider;
 
 	public void setElements(Attribute[] elements) {
 		if (elements == null)
@@ -24,7 +27,22 @@ public class ConfigurationElement extends Attribute {
 		this.elements = elements;
 	}
 
-	public Attribute[] getElements() {
+	/**
+	 * Sets the provider of the attributes and children, they are only created
+	 * once they are requested, e.g. when the element is expanded.
+	 */
+	public synchronized void setElements(Supplier<Attribute[]> provider) {
+		if (provider == null)
+			throw new IllegalArgumentException();
+
+		this.elementsProvider = provider;
+	}
+
+	public synchronized Attribute[] getElements() {
+		if (elementsProvider != null) {
+			elements = elementsProvider.get();
+			elementsProvider = null;
+		}
 		return elements;
 	}
 }
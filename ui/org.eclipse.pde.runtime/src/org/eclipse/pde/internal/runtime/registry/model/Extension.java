@@ -13,12 +13,15 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.runtime.registry.model;
 
+import java.util.function.Supplier;
+
 public class Extension extends ModelObject {
 
 	private String namespaceIdentifier;
 	private String label;
 	private String extensionPointUniqueIdentifier;
 	private ConfigurationElement[] configurationElements = new ConfigurationElement[0];
+	private Supplier<ConfigurationElement[]> configurationElementsProvider;
 	private Long contributor;
 
 	public void setNamespaceIdentifier(String namespaceIdentifier) {
@@ -40,11 +43,26 @@ public class Extension extends ModelObject {
 		this.configurationElements = configurationElements;
 	}
 
+	/**
+	 * Sets the provider of the configuration elements, they are only created
+	 * once they are requested, e.g. when the extension is expanded.
+	 */
+	public synchronized void setConfigurationElements(Supplier<ConfigurationElement[]> provider) {
+		if (provider == null)
+			throw new IllegalArgumentException();
+
+		this.configurationElementsProvider = provider;
+	}
+
 	public void setContributor(Long contributor) {
 		this.contributor = contributor;
 	}
 
-	public ConfigurationElement[] getConfigurationElements() {
+	public synchronized ConfigurationElement[] getConfigurationElements() {
+		if (configurationElementsProvider != null) {
+			configurationElements = configurationElementsProvider.get();
+			configurationElementsProvider = null;
+		}
 		return configurationElements;
 	}
 
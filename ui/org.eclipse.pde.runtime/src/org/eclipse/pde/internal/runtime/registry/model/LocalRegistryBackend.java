@@ -27,6 +27,7 @@ import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IRegistryEventListener;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.InvalidRegistryObjectException;
 import org.eclipse.core.runtime.MultiStatus;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
@@ -197,6 +198,13 @@ public class LocalRegistryBackend implements IRegistryEventListener, BundleListe
 			}
 		}
 
+		// the remaining headers are only parsed once the bundle is expanded
+		adapter.setHeadersInitializer(() -> initializeHeaders(adapter, bundle));
+
+		return adapter;
+	}
+
+	private void initializeHeaders(Bundle adapter, org.osgi.framework.Bundle bundle) {
 		BundlePrerequisite[] imports = (BundlePrerequisite[]) getManifestHeaderArray(bundle, Constants.REQUIRE_BUNDLE);
 		if (imports != null)
 			adapter.setImports(imports);
@@ -212,8 +220,6 @@ public class LocalRegistryBackend implements IRegistryEventListener, BundleListe
 		BundlePrerequisite[] exportPackages = (BundlePrerequisite[]) getManifestHeaderArray(bundle, Constants.EXPORT_PACKAGE);
 		if (exportPackages != null)
 			adapter.setExportedPackages(exportPackages);
-
-		return adapter;
 	}
 
 	private Extension createExtensionAdapter(IExtension extension) {
@@ -223,24 +229,38 @@ public class LocalRegistryBackend implements IRegistryEventListener, BundleListe
 		adapter.setExtensionPointUniqueIdentifier(extension.getExtensionPointUniqueIdentifier());
 		adapter.setContributor(getBundleId(extension.getContributor().getName()));
 
-		IConfigurationElement[] elements = extension.getConfigurationElements();
-		if (elements.length > 0) {
+		// configuration elements are only created once the extension is
+		// expanded
+		adapter.setConfigurationElements(() -> createConfigurationElements(extension));
+
+		return adapter;
+	}
+
+	private ConfigurationElement[] createConfigurationElements(IExtension extension) {
+		try {
+			IConfigurationElement[] elements = extension.getConfigurationElements();
 			ConfigurationElement[] configurationElements = new ConfigurationElement[elements.length];
 			for (int i = 0; i < elements.length; i++) {
 				configurationElements[i] = createConfigurationElement(elements[i]);
 			}
-			adapter.setConfigurationElements(configurationElements);
+			return configurationElements;
+		} catch (InvalidRegistryObjectException e) {
+			// extension removed in the meantime
+			return new ConfigurationElement[0];
 		}
-
-		return adapter;
 	}
 
 	private ConfigurationElement createConfigurationElement(IConfigurationElement config) {
 		ConfigurationElement element = new ConfigurationElement();
 		element.setName(createName(config));
-		Attribute[] attributes = createConfigurationElementAttributes(config);
-		if (attributes != null)
-			element.setElements(attributes);
+		element.setElements(() -> {
+			try {
+				return createConfigurationElementAttributes(config);
+			} catch (InvalidRegistryObjectException e) {
+				// extension removed in the meantime
+				return new Attribute[0];
+			}
+		});
 		return element;
 	}
 
@@ -288,25 +308,29 @@ public class LocalRegistryBackend implements IRegistryEventListener, BundleListe
 			service.setUsingBundles(usingBundlesIds);
 
 		String[] classes = (String[]) ref.getProperty(org.osgi.framework.Constants.OBJECTCLASS);
-		String[] propertyKeys = ref.getPropertyKeys();
-		Property[] properties = null;
-		if (propertyKeys != null) {
-			properties = new Property[propertyKeys.length];
-			for (int p = 0; p < propertyKeys.length; p++) {
-				String key = propertyKeys[p];
-				Object value = ref.getProperty(key);
-				properties[p] = new Property(key, ServiceRegistration.toString(value));
-			}
-		}
-
 		if (classes != null) {
 			Arrays.sort(classes);
 			service.setName(new ServiceName(classes, ref));
-			service.setProperties(properties);
+			// the properties are only converted once they are displayed
+			service.setProperties(() -> createProperties(ref));
 		}
 		return service;
 	}
 
+	private static Property[] createProperties(ServiceReference<?> ref) {
+		String[] propertyKeys = ref.getPropertyKeys();
+		if (propertyKeys == null) {
+			return new Property[0];
+		}
+		Property[] properties = new Property[propertyKeys.length];
+		for (int p = 0; p < propertyKeys.length; p++) {
+			String key = propertyKeys[p];
+			Object value = ref.getProperty(key);
+			properties[p] = new Property(key, ServiceRegistration.toString(value));
+		}
+		return properties;
+	}
+
 	private static String createLocation(org.osgi.framework.Bundle bundle) {
 		URL bundleEntry = null;
 
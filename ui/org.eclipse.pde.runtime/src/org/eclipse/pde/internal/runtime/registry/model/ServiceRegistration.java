@@ -16,6 +16,7 @@ package org.eclipse.pde.internal.runtime.registry.model;
 
 import java.util.HashSet;
 import java.util.Set;
+import java.util.function.Supplier;
 
 public class ServiceRegistration extends ModelObject implements Comparable<ServiceRegistration> {
 
@@ -24,6 +25,7 @@ public class ServiceRegistration extends ModelObject implements Comparable<Servi
 	private long[] usingBundles = new long[0];
 	private ServiceName name;
 	private Property[] properties = new Property[0];
+	private Supplier<Property[]> propertiesProvider;
 
 	public void setId(long id) {
 		this.id = id;
@@ -54,6 +56,17 @@ public class ServiceRegistration extends ModelObject implements Comparable<Servi
 		this.properties = properties;
 	}
 
+	/**
+	 * Sets the provider of the properties, they are only created once they
+	 * are requested.
+	 */
+	public synchronized void setProperties(Supplier<Property[]> provider) {
+		if (provider == null)
+			throw new IllegalArgumentException();
+
+		this.propertiesProvider = provider;
+	}
+
 	public long getId() {
 		return id;
 	}
@@ -85,12 +98,16 @@ public class ServiceRegistration extends ModelObject implements Comparable<Servi
 		return bundles.toArray(new Bundle[bundles.size()]);
 	}
 
-	public Property[] getProperties() {
+	public synchronized Property[] getProperties() {
+		if (propertiesProvider != null) {
+			properties = propertiesProvider.get();
+			propertiesProvider = null;
+		}
 		return properties;
 	}
 
 	public Property getProperty(String name) {
-		for (Property property : properties) {
+		for (Property property : getProperties()) {
 			if (name.equals(property.getName())) {
 				return property;
 			}
@@ -7,6 +7,10 @@ import org.junit.runners.Suite.SuiteClasses;
 @RunWith(Suite.class)
 @SuiteClasses({ //
 	DependencyManagerTest.class, //
+	DependentsIndexTest.class, //
+	PluginSearchIndexTest.class, //
+	SourceLocationManagerTest.class, //
+	VisiblePackagesCacheTest.class, //
 	WorkspaceModelManagerTest.class, //
 	WorkspaceProductModelManagerTest.class, //
 })
@@ -0,0 +1,201 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static java.util.Map.entry;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.pde.ui.tests.util.TargetPlatformUtil.bundle;
+import static org.eclipse.pde.ui.tests.util.TargetPlatformUtil.version;
+import static org.osgi.framework.Constants.EXPORT_PACKAGE;
+import static org.osgi.framework.Constants.FRAGMENT_HOST;
+import static org.osgi.framework.Constants.IMPORT_PACKAGE;
+import static org.osgi.framework.Constants.REQUIRE_BUNDLE;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.State;
+import org.eclipse.osgi.service.resolver.StateObjectFactory;
+import org.eclipse.pde.core.target.NameVersionDescriptor;
+import org.eclipse.pde.internal.core.DependentsIndex;
+import org.eclipse.pde.internal.core.PluginModelManager;
+import org.eclipse.pde.ui.tests.launcher.AbstractLaunchTest;
+import org.eclipse.pde.ui.tests.util.TargetPlatformUtil;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.rules.TestRule;
+import org.osgi.framework.FrameworkUtil;
+
+public class DependentsIndexTest {
+
+	@ClassRule
+	public static final TestRule RESTORE_TARGET_DEFINITION = TargetPlatformUtil.RESTORE_CURRENT_TARGET_DEFINITION_AFTER;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+	private Path tpJarDirectory;
+
+	@Before
+	public void setupBefore() throws IOException {
+		tpJarDirectory = folder.newFolder("TPJarDirectory").toPath();
+		// ensure PluginModelManager is initialized
+		PluginModelManager.getInstance().getState();
+	}
+
+	@Test
+	public void testGetDependents() throws Exception {
+
+		setTargetPlatform( //
+				bundle("bundle.a", "1.0.0", //
+						entry(EXPORT_PACKAGE, "bundle.a.pack" + version("1.0.0"))),
+
+				bundle("bundle.requireBundle", "1.0.0", //
+						entry(REQUIRE_BUNDLE, "bundle.a")),
+
+				bundle("bundle.importPackage", "1.0.0", //
+						entry(IMPORT_PACKAGE, "bundle.a.pack")),
+
+				bundle("bundle.fragment", "1.0.0", //
+						entry(FRAGMENT_HOST, "bundle.a")),
+
+				bundle("bundle.unrelated", "1.0.0"));
+
+		BundleDescription bundleA = bundleDescription("bundle.a", "1.0.0");
+		BundleDescription requireBundle = bundleDescription("bundle.requireBundle", "1.0.0");
+		BundleDescription importPackage = bundleDescription("bundle.importPackage", "1.0.0");
+		BundleDescription fragment = bundleDescription("bundle.fragment", "1.0.0");
+
+		DependentsIndex index = PluginModelManager.getInstance().getDependentsIndex();
+		assertThat(index.getDependents(bundleA)).containsExactlyInAnyOrder(requireBundle, importPackage, fragment);
+		assertThat(index.getDependents(requireBundle)).isEmpty();
+		assertThat(index.getRequirers("bundle.a")).isEqualTo(Set.of(requireBundle));
+		assertThat(index.getImporters("bundle.a.pack")).isEqualTo(Set.of(importPackage));
+		assertThat(index.getFragments("bundle.a")).isEqualTo(Set.of(fragment));
+	}
+
+	@Test
+	public void testGetDependents_multipleVersions() throws Exception {
+
+		setTargetPlatform( //
+				bundle("bundle.a", "1.0.0"),
+
+				bundle("bundle.a", "2.0.0"),
+
+				bundle("bundle.requireOld", "1.0.0", //
+						entry(REQUIRE_BUNDLE, "bundle.a;bundle-version=\"[1.0.0,2.0.0)\"")),
+
+				bundle("bundle.requireNew", "1.0.0", //
+						entry(REQUIRE_BUNDLE, "bundle.a;bundle-version=\"2.0.0\"")));
+
+		BundleDescription bundleA1 = bundleDescription("bundle.a", "1.0.0");
+		BundleDescription bundleA2 = bundleDescription("bundle.a", "2.0.0");
+		BundleDescription requireOld = bundleDescription("bundle.requireOld", "1.0.0");
+		BundleDescription requireNew = bundleDescription("bundle.requireNew", "1.0.0");
+
+		DependentsIndex index = PluginModelManager.getInstance().getDependentsIndex();
+		assertThat(index.getDependents(bundleA1)).containsExactly(requireOld);
+		assertThat(index.getDependents(bundleA2)).containsExactly(requireNew);
+		assertThat(index.getRequirers("bundle.a")).isEqualTo(Set.of(requireOld, requireNew));
+	}
+
+	@Test
+	public void testStateResolved() throws Exception {
+		State state = StateObjectFactory.defaultFactory.createState(true);
+		BundleDescription bundleA = addBundle(state, 1, Map.of( //
+				"Bundle-ManifestVersion", "2", //
+				"Bundle-SymbolicName", "bundle.a", //
+				EXPORT_PACKAGE, "bundle.a.pack"));
+		state.resolve(false);
+
+		DependentsIndex index = new DependentsIndex(state);
+		assertThat(index.getDependents(bundleA)).isEmpty();
+
+		BundleDescription importer = addBundle(state, 2, Map.of( //
+				"Bundle-ManifestVersion", "2", //
+				"Bundle-SymbolicName", "bundle.importer", //
+				IMPORT_PACKAGE, "bundle.a.pack"));
+		index.stateResolved(state.resolve(true));
+		assertThat(index.getDependents(bundleA)).containsExactly(importer);
+		assertThat(index.getImporters("bundle.a.pack")).isEqualTo(Set.of(importer));
+
+		state.removeBundle(importer);
+		index.stateResolved(state.resolve(true));
+		assertThat(index.getDependents(bundleA)).isEmpty();
+		assertThat(index.getImporters("bundle.a.pack")).isEmpty();
+	}
+
+	@Test
+	public void testIsBuilt() throws Exception {
+		State state = StateObjectFactory.defaultFactory.createState(true);
+		BundleDescription bundleA = addBundle(state, 1, Map.of( //
+				"Bundle-ManifestVersion", "2", //
+				"Bundle-SymbolicName", "bundle.a"));
+		state.resolve(false);
+
+		DependentsIndex index = new DependentsIndex(state);
+		assertThat(index.isBuilt(state)).isFalse();
+		index.build();
+		assertThat(index.isBuilt(state)).isTrue();
+
+		State other = StateObjectFactory.defaultFactory.createState(true);
+		assertThat(index.isBuilt(other)).isFalse();
+		index.setState(other);
+		assertThat(index.isBuilt(state)).isFalse();
+		assertThat(index.isBuilt(other)).isFalse();
+		assertThat(index.getDependents(bundleA)).isEmpty();
+		assertThat(index.isBuilt(other)).isTrue();
+	}
+
+	@Test
+	public void testGetBuiltDependentsIndex() throws Exception {
+		setTargetPlatform( //
+				bundle("bundle.a", "1.0.0"),
+
+				bundle("bundle.requireBundle", "1.0.0", //
+						entry(REQUIRE_BUNDLE, "bundle.a")));
+
+		PluginModelManager manager = PluginModelManager.getInstance();
+		manager.getDependentsIndex().build();
+		DependentsIndex index = manager.getBuiltDependentsIndex();
+		assertThat(index).isSameAs(manager.getDependentsIndex());
+		assertThat(index.getDependents(bundleDescription("bundle.a", "1.0.0")))
+				.containsExactly(bundleDescription("bundle.requireBundle", "1.0.0"));
+	}
+
+	// --- utility methods ---
+
+	@SafeVarargs
+	private void setTargetPlatform(Map.Entry<NameVersionDescriptor, Map<String, String>>... pluginDescriptions)
+			throws Exception {
+		TargetPlatformUtil.setDummyBundlesAsTarget(Map.ofEntries(pluginDescriptions), List.of(), tpJarDirectory);
+	}
+
+	private static BundleDescription bundleDescription(String id, String version) {
+		return AbstractLaunchTest.findTargetModel(id, version).getBundleDescription();
+	}
+
+	private static BundleDescription addBundle(State state, long id, Map<String, String> headers) throws Exception {
+		BundleDescription bundle = state.getFactory().createBundleDescription(state,
+				FrameworkUtil.asDictionary(headers), "location" + id, id);
+		state.addBundle(bundle);
+		return bundle;
+	}
+}
@@ -0,0 +1,223 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.jar.Attributes;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+import java.util.regex.Pattern;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.eclipse.pde.core.plugin.IPluginExtension;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.search.PluginSearchIndex;
+import org.eclipse.pde.internal.core.search.PluginSearchInput;
+import org.eclipse.pde.internal.core.search.PluginSearchOperation;
+import org.eclipse.pde.internal.core.search.PluginSearchScope;
+import org.eclipse.pde.internal.core.util.PatternConstructor;
+import org.eclipse.pde.ui.tests.launcher.AbstractLaunchTest;
+import org.eclipse.pde.ui.tests.util.TargetPlatformUtil;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.rules.TestRule;
+
+public class PluginSearchIndexTest {
+
+	private static final String PROVIDER = "search.index.provider";
+	private static final String CONSUMER = "search.index.consumer";
+	private static final String FRAGMENT = "search.index.fragment";
+	private static final String POINT = PROVIDER + ".point";
+
+	private static final String PROVIDER_XML = """
+			<?xml version="1.0" encoding="UTF-8"?>
+			<?eclipse version="3.4"?>
+			<plugin>
+			   <extension-point id="point" name="Point"/>
+			</plugin>
+			""";
+
+	private static final String CONSUMER_XML = """
+			<?xml version="1.0" encoding="UTF-8"?>
+			<?eclipse version="3.4"?>
+			<plugin>
+			   <extension point="search.index.provider.point">
+			      <element/>
+			   </extension>
+			</plugin>
+			""";
+
+	@ClassRule
+	public static final TestRule RESTORE_TARGET_DEFINITION = TargetPlatformUtil.RESTORE_CURRENT_TARGET_DEFINITION_AFTER;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private PluginSearchIndex index;
+
+	@Before
+	public void setUp() throws Exception {
+		Path target = folder.newFolder("target").toPath();
+		writeBundle(target, PROVIDER, null, PROVIDER_XML);
+		writeBundle(target, CONSUMER, "Require-Bundle: " + PROVIDER, CONSUMER_XML);
+		writeBundle(target, FRAGMENT, "Fragment-Host: " + PROVIDER, null);
+		setTarget(target);
+		index = new PluginSearchIndex();
+	}
+
+	@After
+	public void tearDown() {
+		index.shutdown();
+	}
+
+	@Test
+	public void testMatchingPlugins() {
+		IPluginModelBase provider = model(PROVIDER);
+		IPluginModelBase consumer = model(CONSUMER);
+		IPluginModelBase fragment = model(FRAGMENT);
+
+		PluginSearchInput declarations = input(PluginSearchInput.ELEMENT_EXTENSION_POINT, POINT,
+				PluginSearchInput.LIMIT_DECLARATIONS);
+		assertThat(mayMatch(provider, declarations)).isTrue();
+		PluginSearchInput references = input(PluginSearchInput.ELEMENT_EXTENSION_POINT, POINT,
+				PluginSearchInput.LIMIT_REFERENCES);
+		assertThat(mayMatch(consumer, references)).isTrue();
+		PluginSearchInput pluginReferences = input(PluginSearchInput.ELEMENT_PLUGIN, PROVIDER,
+				PluginSearchInput.LIMIT_REFERENCES);
+		assertThat(mayMatch(consumer, pluginReferences)).isTrue();
+		assertThat(mayMatch(fragment, pluginReferences)).isTrue();
+		assertThat(mayMatch(fragment, input(PluginSearchInput.ELEMENT_FRAGMENT, "search.index.*",
+				PluginSearchInput.LIMIT_ALL))).isTrue();
+	}
+
+	@Test
+	public void testNonMatchingPlugins() {
+		IPluginModelBase provider = model(PROVIDER);
+		IPluginModelBase consumer = model(CONSUMER);
+		IPluginModelBase fragment = model(FRAGMENT);
+
+		PluginSearchInput declarations = input(PluginSearchInput.ELEMENT_EXTENSION_POINT, POINT,
+				PluginSearchInput.LIMIT_DECLARATIONS);
+		assertThat(mayMatch(consumer, declarations)).isFalse();
+		assertThat(mayMatch(fragment, declarations)).isFalse();
+		PluginSearchInput references = input(PluginSearchInput.ELEMENT_EXTENSION_POINT, POINT,
+				PluginSearchInput.LIMIT_REFERENCES);
+		assertThat(mayMatch(provider, references)).isFalse();
+		assertThat(mayMatch(provider, input(PluginSearchInput.ELEMENT_PLUGIN, PROVIDER,
+				PluginSearchInput.LIMIT_REFERENCES))).isFalse();
+		assertThat(mayMatch(provider, input(PluginSearchInput.ELEMENT_FRAGMENT, "search.index.*",
+				PluginSearchInput.LIMIT_ALL))).isFalse();
+		PluginSearchInput other = input(PluginSearchInput.ELEMENT_EXTENSION_POINT, "other.*",
+				PluginSearchInput.LIMIT_ALL);
+		for (IPluginModelBase model : List.of(provider, consumer, fragment)) {
+			assertThat(mayMatch(model, other)).isFalse();
+		}
+	}
+
+	@Test
+	public void testSearchFindsIndexedMatches() {
+		PluginSearchInput input = input(PluginSearchInput.ELEMENT_EXTENSION_POINT, POINT,
+				PluginSearchInput.LIMIT_REFERENCES);
+		List<Object> matches = new ArrayList<>();
+		new PluginSearchOperation(input, matches::add).execute(null);
+		assertThat(matches).anySatisfy(match -> {
+			assertThat(match).isInstanceOf(IPluginExtension.class);
+			assertThat(((IPluginExtension) match).getPluginModel().getPluginBase().getId()).isEqualTo(CONSUMER);
+		});
+	}
+
+	@Test
+	public void testEntriesOfChangedTargetAreReplaced() throws Exception {
+		PluginSearchInput references = input(PluginSearchInput.ELEMENT_EXTENSION_POINT, POINT,
+				PluginSearchInput.LIMIT_REFERENCES);
+		IPluginModelBase consumer = model(CONSUMER);
+		assertThat(mayMatch(consumer, references)).isTrue();
+		assertThat(index.isIndexed(consumer)).isTrue();
+
+		// the consumer does no longer extend the point
+		Path target = folder.newFolder("changed").toPath();
+		writeBundle(target, PROVIDER, null, PROVIDER_XML);
+		writeBundle(target, CONSUMER, "Require-Bundle: " + PROVIDER, null);
+		setTarget(target);
+
+		IPluginModelBase changed = model(CONSUMER);
+		assertThat(changed).isNotSameAs(consumer);
+		assertThat(mayMatch(changed, references)).isFalse();
+		assertThat(mayMatch(changed, input(PluginSearchInput.ELEMENT_PLUGIN, PROVIDER,
+				PluginSearchInput.LIMIT_REFERENCES))).isTrue();
+	}
+
+	private boolean mayMatch(IPluginModelBase model, PluginSearchInput input) {
+		Pattern pattern = PatternConstructor.createPattern(input.getSearchString(), input.isCaseSensitive());
+		return index.mayMatch(model, input, pattern);
+	}
+
+	private static PluginSearchInput input(int element, String searchString, int limit) {
+		PluginSearchInput input = new PluginSearchInput();
+		input.setSearchElement(element);
+		input.setSearchString(searchString);
+		input.setSearchLimit(limit);
+		input.setSearchScope(new PluginSearchScope(PluginSearchScope.SCOPE_WORKSPACE,
+				PluginSearchScope.EXTERNAL_SCOPE_ALL, null));
+		return input;
+	}
+
+	private static IPluginModelBase model(String id) {
+		return AbstractLaunchTest.findTargetModel(id, "1.0.0");
+	}
+
+	private static void setTarget(Path directory) throws InterruptedException {
+		TargetPlatformUtil.createAndSetTarget(null,
+				List.of(TargetPlatformUtil.TPS.newDirectoryLocation(directory.toString())), null);
+		// entries are looked up by the models of the extension registry
+		PDECore.getDefault().getModelManager().getState();
+	}
+
+	private static void writeBundle(Path directory, String id, String header, String pluginXml) throws IOException {
+		Manifest manifest = new Manifest();
+		Attributes attributes = manifest.getMainAttributes();
+		attributes.put(Attributes.Name.MANIFEST_VERSION, "1.0");
+		attributes.putValue("Bundle-ManifestVersion", "2");
+		attributes.putValue("Bundle-SymbolicName", id + ";singleton:=true");
+		attributes.putValue("Bundle-Version", "1.0.0");
+		if (header != null) {
+			String[] nameValue = header.split(": ", 2);
+			attributes.putValue(nameValue[0], nameValue[1]);
+		}
+		Path plugins = Files.createDirectories(directory.resolve("plugins"));
+		try (OutputStream out = Files.newOutputStream(plugins.resolve(id + "_1.0.0.jar"));
+				ZipOutputStream zip = new ZipOutputStream(out)) {
+			zip.putNextEntry(new ZipEntry(JarFile.MANIFEST_NAME));
+			manifest.write(zip);
+			if (pluginXml != null) {
+				zip.putNextEntry(new ZipEntry(id.equals(FRAGMENT) ? "fragment.xml" : "plugin.xml"));
+				zip.write(pluginXml.getBytes(StandardCharsets.UTF_8));
+			}
+		}
+	}
+}
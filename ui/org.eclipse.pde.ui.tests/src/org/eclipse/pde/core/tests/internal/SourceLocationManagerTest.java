@@ -0,0 +1,171 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assume.assumeTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.pde.core.plugin.IPluginBase;
+import org.eclipse.pde.internal.core.BundleManifestSourceLocationManager;
+import org.eclipse.pde.internal.core.ICoreConstants;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.PDEPreferencesManager;
+import org.eclipse.pde.internal.core.SourceLocationManager;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class SourceLocationManagerTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private final PDEPreferencesManager preferences = PDECore.getDefault().getPreferencesManager();
+	private String originalLocations;
+	private File location;
+	private SourceLocationManager manager;
+
+	@Before
+	public void setUp() throws IOException {
+		originalLocations = preferences.getString(ICoreConstants.P_SOURCE_LOCATIONS);
+		location = folder.newFolder("sources");
+		setUserLocations(location);
+		manager = new SourceLocationManager() {
+			@Override
+			protected BundleManifestSourceLocationManager initializeBundleManifestLocations() {
+				return new BundleManifestSourceLocationManager();
+			}
+		};
+	}
+
+	@After
+	public void tearDown() {
+		preferences.setValue(ICoreConstants.P_SOURCE_LOCATIONS, originalLocations);
+	}
+
+	@Test
+	public void testFindSourcePath() throws IOException {
+		File source = new File(location, "bundle.a_1.0.0");
+		source.mkdir();
+		assertThat(manager.findSourcePath(plugin("bundle.a", "1.0.0"), null)).isEqualTo(path(source));
+		assertThat(manager.findSourcePath(plugin("bundle.b", "1.0.0"), null)).isNull();
+	}
+
+	@Test
+	public void testSourceAddedAfterLookup() throws IOException {
+		IPluginBase plugin = plugin("bundle.a", "1.0.0");
+		assertThat(manager.findSourcePath(plugin, null)).isNull();
+		assertThat(manager.findSourcePath(plugin, IPath.fromOSString("src.zip"))).isNull();
+
+		File source = new File(location, "bundle.a_1.0.0");
+		source.mkdir();
+		assertThat(manager.findSourcePath(plugin, null)).isEqualTo(path(source));
+		assertThat(manager.findSourcePath(plugin, IPath.fromOSString("src.zip"))).isNull();
+
+		File zip = new File(source, "src.zip");
+		Files.createFile(zip.toPath());
+		assertThat(manager.findSourcePath(plugin, IPath.fromOSString("src.zip"))).isEqualTo(path(zip));
+	}
+
+	@Test
+	public void testSourceRemovedAfterLookup() throws IOException {
+		IPluginBase plugin = plugin("bundle.a", "1.0.0");
+		File source = new File(location, "bundle.a_1.0.0");
+		source.mkdir();
+		assertThat(manager.findSourcePath(plugin, null)).isEqualTo(path(source));
+
+		source.delete();
+		assertThat(manager.findSourcePath(plugin, null)).isNull();
+	}
+
+	@Test
+	public void testMissRememberedUntilRootChanges() throws IOException {
+		IPluginBase plugin = plugin("bundle.a", "1.0.0");
+		File source = new File(location, "bundle.a_1.0.0");
+		source.mkdir();
+		// a root modified long enough ago is trusted
+		long modified = System.currentTimeMillis() - 60_000;
+		assertThat(location.setLastModified(modified)).isTrue();
+		IPath zipPath = IPath.fromOSString("src.zip");
+		assertThat(manager.findSourcePath(plugin, zipPath)).isNull();
+
+		// the miss is answered from the index while the root is unchanged
+		File zip = new File(source, "src.zip");
+		Files.createFile(zip.toPath());
+		assertThat(location.setLastModified(modified)).isTrue();
+		assertThat(manager.findSourcePath(plugin, zipPath)).isNull();
+
+		assertThat(location.setLastModified(modified + 10_000)).isTrue();
+		assertThat(manager.findSourcePath(plugin, zipPath)).isEqualTo(path(zip));
+	}
+
+	@Test
+	public void testLocationsChanged() throws IOException {
+		IPluginBase plugin = plugin("bundle.a", "1.0.0");
+		assertThat(manager.findSourcePath(plugin, null)).isNull();
+
+		File otherLocation = folder.newFolder("otherSources");
+		File source = new File(otherLocation, "bundle.a_1.0.0");
+		source.mkdir();
+		setUserLocations(location, otherLocation);
+		assertThat(manager.findSourcePath(plugin, null)).isEqualTo(path(source));
+	}
+
+	@Test
+	public void testCaseInsensitiveFileSystem() throws IOException {
+		File source = new File(location, "Bundle.A_1.0.0");
+		source.mkdir();
+		assumeTrue("File system is case sensitive", new File(location, "bundle.a_1.0.0").exists());
+
+		assertThat(manager.findSourcePath(plugin("bundle.a", "1.0.0"), null)).isNotNull();
+	}
+
+	@Test
+	public void testCaseSensitiveFileSystem() throws IOException {
+		File source = new File(location, "Bundle.A_1.0.0");
+		source.mkdir();
+		assumeTrue("File system is case insensitive", !new File(location, "bundle.a_1.0.0").exists());
+
+		assertThat(manager.findSourcePath(plugin("bundle.a", "1.0.0"), null)).isNull();
+		assertThat(manager.findSourcePath(plugin("Bundle.A", "1.0.0"), null)).isEqualTo(path(source));
+	}
+
+	private void setUserLocations(File... locations) {
+		StringBuilder value = new StringBuilder();
+		for (File userLocation : locations) {
+			value.append(userLocation.getAbsolutePath()).append(File.pathSeparatorChar);
+		}
+		preferences.setValue(ICoreConstants.P_SOURCE_LOCATIONS, value.toString());
+	}
+
+	private static IPath path(File file) {
+		return IPath.fromOSString(file.getAbsolutePath());
+	}
+
+	private static IPluginBase plugin(String id, String version) {
+		IPluginBase plugin = mock(IPluginBase.class);
+		when(plugin.getId()).thenReturn(id);
+		when(plugin.getVersion()).thenReturn(version);
+		return plugin;
+	}
+}
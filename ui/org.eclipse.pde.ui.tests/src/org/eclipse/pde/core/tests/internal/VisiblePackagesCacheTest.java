@@ -0,0 +1,144 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.osgi.framework.Constants.EXPORT_PACKAGE;
+import static org.osgi.framework.Constants.IMPORT_PACKAGE;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.ExportPackageDescription;
+import org.eclipse.osgi.service.resolver.State;
+import org.eclipse.osgi.service.resolver.StateDelta;
+import org.eclipse.osgi.service.resolver.StateObjectFactory;
+import org.eclipse.pde.internal.core.VisiblePackagesCache;
+import org.junit.Before;
+import org.junit.Test;
+import org.osgi.framework.FrameworkUtil;
+
+public class VisiblePackagesCacheTest {
+
+	private State state;
+	private BundleDescription exporter;
+	private BundleDescription importer;
+	private BundleDescription unrelated;
+	private final AtomicInteger computations = new AtomicInteger();
+	private final VisiblePackagesCache<String> cache = new VisiblePackagesCache<>();
+
+	@Before
+	public void setUp() throws Exception {
+		state = StateObjectFactory.defaultFactory.createState(true);
+		exporter = addBundle(1, "bundle.exporter", Map.of(EXPORT_PACKAGE, "bundle.exporter.pack"));
+		importer = addBundle(2, "bundle.importer", Map.of(IMPORT_PACKAGE, "bundle.exporter.pack"));
+		unrelated = addBundle(3, "bundle.unrelated", Map.of());
+		state.resolve(false);
+	}
+
+	@Test
+	public void testCached() {
+		Map<BundleDescription, String> packages = cache.get(importer, this::compute);
+		assertThat(packages).containsOnlyKeys(exporter);
+		assertThat(cache.get(importer, this::compute)).isSameAs(packages);
+		assertThat(computations).hasValue(1);
+	}
+
+	@Test
+	public void testInvalidateDelta() throws Exception {
+		cache.get(importer, this::compute);
+		cache.get(unrelated, this::compute);
+
+		BundleDescription newExporter = state.getFactory().createBundleDescription(state,
+				FrameworkUtil.asDictionary(headers("bundle.exporter", Map.of(EXPORT_PACKAGE, "bundle.exporter.pack"))),
+				"location1", 1);
+		state.updateBundle(newExporter);
+		StateDelta delta = state.resolve(true);
+		cache.invalidate(delta);
+
+		// the importer gets its packages from the changed exporter
+		assertThat(cache.contains(importer)).isFalse();
+		assertThat(cache.contains(unrelated)).isTrue();
+
+		computations.set(0);
+		assertThat(cache.get(importer, this::compute)).containsOnlyKeys(newExporter);
+		assertThat(cache.get(unrelated, this::compute)).isEmpty();
+		assertThat(computations).hasValue(1);
+	}
+
+	@Test
+	public void testInvalidateAll() {
+		cache.get(importer, this::compute);
+		cache.get(unrelated, this::compute);
+		cache.invalidate(null);
+		assertThat(cache.contains(importer)).isFalse();
+		assertThat(cache.contains(unrelated)).isFalse();
+	}
+
+	@Test
+	public void testInvalidateDuringComputation() throws Exception {
+		CountDownLatch computing = new CountDownLatch(1);
+		CountDownLatch invalidated = new CountDownLatch(1);
+		Function<BundleDescription, Map<BundleDescription, String>> slowComputer = desc -> {
+			computing.countDown();
+			try {
+				invalidated.await(10, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return compute(desc);
+		};
+		CompletableFuture<Map<BundleDescription, String>> result = CompletableFuture
+				.supplyAsync(() -> cache.get(importer, slowComputer));
+		assertThat(computing.await(10, TimeUnit.SECONDS)).isTrue();
+		cache.invalidate(null);
+		invalidated.countDown();
+
+		assertThat(result.get(10, TimeUnit.SECONDS)).containsOnlyKeys(exporter);
+		// the result computed before the invalidation is not cached
+		assertThat(cache.contains(importer)).isFalse();
+		cache.get(importer, this::compute);
+		assertThat(cache.contains(importer)).isTrue();
+		assertThat(computations).hasValue(2);
+	}
+
+	private Map<BundleDescription, String> compute(BundleDescription desc) {
+		computations.incrementAndGet();
+		Map<BundleDescription, String> packages = new HashMap<>();
+		for (ExportPackageDescription imported : desc.getResolvedImports()) {
+			packages.put(imported.getExporter(), imported.getName());
+		}
+		return packages;
+	}
+
+	private BundleDescription addBundle(long id, String name, Map<String, String> headers) throws Exception {
+		BundleDescription bundle = state.getFactory().createBundleDescription(state,
+				FrameworkUtil.asDictionary(headers(name, headers)), "location" + id, id);
+		state.addBundle(bundle);
+		return bundle;
+	}
+
+	private static Map<String, String> headers(String name, Map<String, String> headers) {
+		Map<String, String> all = new HashMap<>(headers);
+		all.put("Bundle-ManifestVersion", "2");
+		all.put("Bundle-SymbolicName", name);
+		return all;
+	}
+}
@@ -25,15 +25,19 @@ import org.eclipse.pde.ui.tests.ee.ExportBundleTests;
 import org.eclipse.pde.ui.tests.imports.AllImportTests;
 import org.eclipse.pde.ui.tests.launcher.AllLauncherTests;
 import org.eclipse.pde.ui.tests.model.bundle.AllBundleModelTests;
+import org.eclipse.pde.ui.tests.model.schema.AllSchemaModelTests;
 import org.eclipse.pde.ui.tests.model.xml.AllXMLModelTests;
 import org.eclipse.pde.ui.tests.nls.AllNLSTests;
 import org.eclipse.pde.ui.tests.preferences.AllPreferenceTests;
 import org.eclipse.pde.ui.tests.project.BundleRootTests;
+import org.eclipse.pde.ui.tests.project.ClassFileReferencesTest;
 import org.eclipse.pde.ui.tests.project.DynamicPluginProjectReferencesTest;
 import org.eclipse.pde.ui.tests.project.PluginRegistryTests;
 import org.eclipse.pde.ui.tests.project.ProjectCreationTests;
 import org.eclipse.pde.ui.tests.runtime.AllPDERuntimeTests;
 import org.eclipse.pde.ui.tests.target.AllTargetTests;
+import org.eclipse.pde.ui.tests.views.imagebrowser.AbstractRepositoryTest;
+import org.eclipse.pde.ui.tests.views.imagebrowser.ImageIndexTest;
 import org.eclipse.pde.ui.tests.views.log.AllLogViewTests;
 import org.eclipse.pde.ui.tests.wizards.AllNewProjectTests;
 import org.eclipse.ui.tests.smartimport.ProjectSmartImportTest;
@@ -48,6 +52,7 @@ import org.junit.runners.Suite.SuiteClasses;
 	AllPreferenceTests.class, //
 	AllImportTests.class, //
 	AllBundleModelTests.class, //
+	AllSchemaModelTests.class, //
 	AllXMLModelTests.class, //
 	AllValidatorTests.class, //
 	AllNLSTests.class, //
@@ -55,8 +60,11 @@ import org.junit.runners.Suite.SuiteClasses;
 	ExportBundleTests.class, //
 	AllLauncherTests.class, //
 	AllLogViewTests.class, //
+	ImageIndexTest.class, //
+	AbstractRepositoryTest.class, //
 	ProjectCreationTests.class, //
 	BundleRootTests.class, //
+	ClassFileReferencesTest.class, //
 	PluginRegistryTests.class, //
 	ClasspathResolverTest.class, //
 	ClasspathUpdaterTest.class, //
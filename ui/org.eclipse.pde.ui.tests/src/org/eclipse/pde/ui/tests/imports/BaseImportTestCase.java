@@ -18,14 +18,21 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.ResourcesPlugin;
@@ -44,6 +51,7 @@ import org.eclipse.pde.core.plugin.PluginRegistry;
 import org.eclipse.pde.internal.core.BinaryRepositoryProvider;
 import org.eclipse.pde.internal.core.PDECore;
 import org.eclipse.pde.internal.core.natures.PluginProject;
+import org.eclipse.pde.internal.ui.wizards.imports.PluginImportHelper;
 import org.eclipse.pde.internal.ui.wizards.imports.PluginImportOperation;
 import org.eclipse.pde.ui.tests.PDETestCase;
 import org.eclipse.team.core.RepositoryProvider;
@@ -121,6 +129,43 @@ public class BaseImportTestCase extends PDETestCase {
 		}
 	}
 
+	@Test
+	public void testImportMultipleWithSource() throws Exception {
+		// extracted concurrently, each with its source attached
+		List<IPluginModelBase> modelsToImport = Stream
+				.of("org.eclipse.core.filebuffers", "org.eclipse.jsch.core", "org.eclipse.jdt.debug").map(name -> {
+					IPluginModelBase model = PluginRegistry.findModel(name);
+					assertNotNull("No model found with name'" + name + "'", model);
+					assertNull("Workspace resource already exists for: " + name, model.getUnderlyingResource());
+					return model;
+				}).toList();
+		runOperation(modelsToImport, importType);
+		for (IPluginModelBase model : modelsToImport) {
+			verifyProject(model, true);
+		}
+	}
+
+	@Test
+	public void testExtractEntryOutsideDestination() throws Exception {
+		Path location = Files.createDirectories(getThisBundlesStateLocation().resolve("outside-" + importType));
+		Path archive = location.resolve("archive.zip");
+		try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(archive))) {
+			writeEntry(out, "inside/file.txt");
+			writeEntry(out, "../outside.txt");
+		}
+		Path destination = location.resolve("destination");
+
+		assertThrows(CoreException.class,
+				() -> PluginImportHelper.extractArchive(archive.toFile(), destination.toFile(), null, null));
+		assertFalse(Files.exists(location.resolve("outside.txt")));
+	}
+
+	private static void writeEntry(ZipOutputStream out, String name) throws IOException {
+		out.putNextEntry(new ZipEntry(name));
+		out.write(name.getBytes(StandardCharsets.UTF_8));
+		out.closeEntry();
+	}
+
 	protected void doSingleImport(String bundleSymbolicName, boolean isJava) throws Exception {
 		IPluginModelBase modelToImport = PluginRegistry.findModel(bundleSymbolicName);
 		assertNotNull("No model found with name'" + name + "'", modelToImport);
@@ -154,7 +199,6 @@ public class BaseImportTestCase extends PDETestCase {
 
 	protected void runOperation(List<IPluginModelBase> models, int type) throws InterruptedException {
 		PluginImportOperation job = new PluginImportOperation(models.toArray(IPluginModelBase[]::new), type, false);
-		job.setRule(ResourcesPlugin.getWorkspace().getRoot());
 		job.setSystem(true);
 		job.schedule();
 		job.join();
@@ -23,6 +23,6 @@ import org.junit.runners.Suite.SuiteClasses;
 	BundleActivatorTestCase.class, BundleNameTestCase.class, BundleLocalizationTestCase.class,
 	LazyStartTestCase.class, RequireBundleTestCase.class, ExecutionEnvironmentTestCase.class,
 	BundleSymbolicNameTestCase.class, BundleVendorTestCase.class, BundleVersionTestCase.class,
-	FragmentHostTestCase.class })
+	FragmentHostTestCase.class, WorkspaceModelSnapshotTestCase.class })
 public class AllBundleModelTests {
 }
@@ -0,0 +1,238 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.model.bundle;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IWorkspaceRoot;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.core.plugin.IFragment;
+import org.eclipse.pde.core.plugin.IPluginBase;
+import org.eclipse.pde.core.plugin.IPluginImport;
+import org.eclipse.pde.core.plugin.IPluginLibrary;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.internal.core.WorkspaceModelSnapshot;
+import org.eclipse.pde.internal.core.WorkspacePluginModelManager;
+import org.eclipse.pde.internal.core.ibundle.IBundle;
+import org.eclipse.pde.internal.core.ibundle.IBundlePluginModelBase;
+import org.eclipse.pde.internal.core.ibundle.IManifestHeader;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Checks that the bundle models restored from the snapshot of the workspace
+ * models are the same as the ones parsed from the manifests.
+ */
+public class WorkspaceModelSnapshotTestCase {
+
+	private static final String HOST = "snapshot.test.host";
+	private static final String FRAGMENT = "snapshot.test.fragment";
+
+	private static final String HOST_MANIFEST = """
+			Manifest-Version: 1.0
+			Bundle-ManifestVersion: 2
+			Bundle-Name: %pluginName
+			Bundle-Vendor: Snapshot Vendor
+			Bundle-SymbolicName: snapshot.test.host;singleton:=true
+			Bundle-Version: 1.2.3.qualifier
+			Bundle-Localization: plugin
+			Bundle-ActivationPolicy: lazy
+			Bundle-Activator: snapshot.test.host.Activator
+			Bundle-RequiredExecutionEnvironment: JavaSE-17
+			Bundle-ClassPath: .,
+			 lib/library.jar
+			Require-Bundle: org.eclipse.core.runtime;bundle-version="[3.29.0,4.0.0)",
+			 org.eclipse.core.resources;visibility:=reexport,
+			 org.eclipse.jdt.core;resolution:=optional
+			Import-Package: javax.xml.parsers,
+			 org.osgi.framework;version="[1.10.0,2.0.0)"
+			Export-Package: snapshot.test.host;version="1.2.3",
+			 snapshot.test.host.internal;x-internal:=true,
+			 snapshot.test.host.friends;x-friends:="snapshot.test.fragment,other.bundle"
+			Eclipse-BundleShape: dir
+			Snapshot-Custom-Header: a value with ; and , and "quotes"
+			""";
+
+	private static final String FRAGMENT_MANIFEST = """
+			Manifest-Version: 1.0
+			Bundle-ManifestVersion: 2
+			Bundle-Name: Snapshot Fragment
+			Bundle-SymbolicName: snapshot.test.fragment
+			Bundle-Version: 1.0.0
+			Fragment-Host: snapshot.test.host;bundle-version="[1.0.0,2.0.0)"
+			Import-Package: org.osgi.service.event;resolution:=optional
+			""";
+
+	private static final String PLUGIN_XML = """
+			<?xml version="1.0" encoding="UTF-8"?>
+			<?eclipse version="3.4"?>
+			<plugin>
+			   <extension point="org.eclipse.core.runtime.adapters">
+			      <factory adaptableType="java.lang.Object" class="Factory">
+			         <adapter type="java.lang.Runnable"/>
+			      </factory>
+			   </extension>
+			</plugin>
+			""";
+
+	/**
+	 * Gives access to the initialization of the workspace models, every
+	 * instance starts like a new session.
+	 */
+	private static class TestModelManager extends WorkspacePluginModelManager {
+		IPluginModelBase getModel(String project) {
+			return getModel(ResourcesPlugin.getWorkspace().getRoot().getProject(project));
+		}
+	}
+
+	@Before
+	public void setUp() throws CoreException {
+		IWorkspaceRoot root = ResourcesPlugin.getWorkspace().getRoot();
+		ResourcesPlugin.getWorkspace().run(monitor -> {
+			createProject(root.getProject(HOST), HOST_MANIFEST, PLUGIN_XML);
+			createProject(root.getProject(FRAGMENT), FRAGMENT_MANIFEST, null);
+		}, null);
+		WorkspaceModelSnapshot.clear();
+	}
+
+	@After
+	public void tearDown() throws CoreException {
+		IWorkspaceRoot root = ResourcesPlugin.getWorkspace().getRoot();
+		ResourcesPlugin.getWorkspace().run(monitor -> {
+			root.getProject(HOST).delete(true, true, null);
+			root.getProject(FRAGMENT).delete(true, true, null);
+		}, null);
+		WorkspaceModelSnapshot.clear();
+	}
+
+	@Test
+	public void testRestoredModelsMatchParsedModels() {
+		// the first session parses the manifests and writes the snapshot
+		TestModelManager parsing = new TestModelManager();
+		IPluginModelBase parsedHost = parsing.getModel(HOST);
+		IPluginModelBase parsedFragment = parsing.getModel(FRAGMENT);
+		parsing.shutdown();
+
+		Map<String, WorkspaceModelSnapshot.Entry> snapshot = WorkspaceModelSnapshot.read();
+		IWorkspaceRoot root = ResourcesPlugin.getWorkspace().getRoot();
+		assertThat(snapshot).containsKeys(HOST, FRAGMENT);
+		assertThat(snapshot.get(HOST).isValid(root.getProject(HOST))).isTrue();
+		assertThat(snapshot.get(FRAGMENT).isValid(root.getProject(FRAGMENT))).isTrue();
+
+		// the next session restores them from the snapshot
+		TestModelManager restoring = new TestModelManager();
+		try {
+			assertSameModel(parsedHost, restoring.getModel(HOST));
+			assertSameModel(parsedFragment, restoring.getModel(FRAGMENT));
+		} finally {
+			restoring.shutdown();
+		}
+	}
+
+	@Test
+	public void testChangedManifestIsParsed() throws CoreException {
+		TestModelManager parsing = new TestModelManager();
+		parsing.getModel(HOST);
+		parsing.shutdown();
+
+		IProject host = ResourcesPlugin.getWorkspace().getRoot().getProject(HOST);
+		write(host.getFile("META-INF/MANIFEST.MF"), HOST_MANIFEST.replace("1.2.3.qualifier", "2.0.0"));
+		assertThat(WorkspaceModelSnapshot.read().get(HOST).isValid(host)).isFalse();
+
+		TestModelManager restoring = new TestModelManager();
+		try {
+			IPluginModelBase model = restoring.getModel(HOST);
+			assertThat(model.getPluginBase().getVersion()).isEqualTo("2.0.0");
+			assertThat(((IBundlePluginModelBase) model).getBundleModel().getBundle()
+					.getHeader("Bundle-Version")).isEqualTo("2.0.0");
+		} finally {
+			restoring.shutdown();
+		}
+	}
+
+	private static void assertSameModel(IPluginModelBase expected, IPluginModelBase actual) {
+		assertThat(actual).isInstanceOf(expected.getClass());
+		IBundle expectedBundle = ((IBundlePluginModelBase) expected).getBundleModel().getBundle();
+		IBundle actualBundle = ((IBundlePluginModelBase) actual).getBundleModel().getBundle();
+		Map<String, IManifestHeader> expectedHeaders = expectedBundle.getManifestHeaders();
+		Map<String, IManifestHeader> actualHeaders = actualBundle.getManifestHeaders();
+		assertThat(actualHeaders).containsOnlyKeys(expectedHeaders.keySet());
+		expectedHeaders.forEach((key, header) -> {
+			assertThat(actualHeaders.get(key).getValue()).as(key).isEqualTo(header.getValue());
+			assertThat(actualBundle.getHeader(key)).as(key).isEqualTo(expectedBundle.getHeader(key));
+		});
+
+		IPluginBase expectedBase = expected.getPluginBase();
+		IPluginBase actualBase = actual.getPluginBase();
+		assertThat(actualBase.getId()).isEqualTo(expectedBase.getId());
+		assertThat(actualBase.getVersion()).isEqualTo(expectedBase.getVersion());
+		assertThat(actualBase.getName()).isEqualTo(expectedBase.getName());
+		assertThat(actualBase.getProviderName()).isEqualTo(expectedBase.getProviderName());
+		assertThat(actualBase.getLibraries()).extracting(IPluginLibrary::getName)
+				.containsExactly(getNames(expectedBase.getLibraries()));
+		IPluginImport[] expectedImports = expectedBase.getImports();
+		IPluginImport[] actualImports = actualBase.getImports();
+		assertThat(actualImports).hasSameSizeAs(expectedImports);
+		for (int i = 0; i < expectedImports.length; i++) {
+			assertThat(actualImports[i].getId()).isEqualTo(expectedImports[i].getId());
+			assertThat(actualImports[i].getVersion()).isEqualTo(expectedImports[i].getVersion());
+			assertThat(actualImports[i].getMatch()).isEqualTo(expectedImports[i].getMatch());
+			assertThat(actualImports[i].isReexported()).isEqualTo(expectedImports[i].isReexported());
+			assertThat(actualImports[i].isOptional()).isEqualTo(expectedImports[i].isOptional());
+		}
+		assertThat(actualBase.getExtensions()).hasSameSizeAs(expectedBase.getExtensions());
+		if (expectedBase instanceof IFragment fragment) {
+			assertThat(((IFragment) actualBase).getPluginId()).isEqualTo(fragment.getPluginId());
+			assertThat(((IFragment) actualBase).getPluginVersion()).isEqualTo(fragment.getPluginVersion());
+		}
+	}
+
+	private static String[] getNames(IPluginLibrary[] libraries) {
+		String[] names = new String[libraries.length];
+		for (int i = 0; i < libraries.length; i++) {
+			names[i] = libraries[i].getName();
+		}
+		return names;
+	}
+
+	private static void createProject(IProject project, String manifest, String pluginXml) throws CoreException {
+		if (!project.exists()) {
+			project.create(null);
+		}
+		project.open(null);
+		project.getFolder("META-INF").create(true, true, null);
+		write(project.getFile("META-INF/MANIFEST.MF"), manifest);
+		if (pluginXml != null) {
+			write(project.getFile("plugin.xml"), pluginXml);
+		}
+	}
+
+	private static void write(IFile file, String contents) throws CoreException {
+		ByteArrayInputStream stream = new ByteArrayInputStream(contents.getBytes(StandardCharsets.UTF_8));
+		if (file.exists()) {
+			file.setContents(stream, IResource.FORCE, null);
+		} else {
+			file.create(stream, true, null);
+		}
+	}
+}
@@ -13,6 +13,12 @@
  *******************************************************************************/
 package org.eclipse.pde.ui.tests.model.schema;
 
+import org.junit.runner.RunWith;
+import org.junit.runners.Suite;
+import org.junit.runners.Suite.SuiteClasses;
+
+@RunWith(Suite.class)
+@SuiteClasses({ SchemaIndexTestCase.class })
 public class AllSchemaModelTests {
 
 }
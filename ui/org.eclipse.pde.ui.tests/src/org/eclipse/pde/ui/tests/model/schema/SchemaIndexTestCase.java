@@ -0,0 +1,404 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.model.schema;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.eclipse.pde.internal.core.ischema.ISchema;
+import org.eclipse.pde.internal.core.ischema.ISchemaAttribute;
+import org.eclipse.pde.internal.core.ischema.ISchemaComplexType;
+import org.eclipse.pde.internal.core.ischema.ISchemaCompositor;
+import org.eclipse.pde.internal.core.ischema.ISchemaElement;
+import org.eclipse.pde.internal.core.ischema.ISchemaEnumeration;
+import org.eclipse.pde.internal.core.ischema.ISchemaInclude;
+import org.eclipse.pde.internal.core.ischema.ISchemaObject;
+import org.eclipse.pde.internal.core.ischema.ISchemaObjectReference;
+import org.eclipse.pde.internal.core.ischema.ISchemaRestriction;
+import org.eclipse.pde.internal.core.ischema.ISchemaRootElement;
+import org.eclipse.pde.internal.core.ischema.ISchemaSimpleType;
+import org.eclipse.pde.internal.core.ischema.ISchemaType;
+import org.eclipse.pde.internal.core.schema.Schema;
+import org.eclipse.pde.internal.core.schema.SchemaDescriptor;
+import org.eclipse.pde.internal.core.schema.SchemaIndex;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Checks that the abbreviated schemas restored from the schema index are the
+ * same as the ones parsed from the schema files.
+ */
+public class SchemaIndexTestCase {
+
+	private static final String MAIN_SCHEMA = """
+			<?xml version='1.0' encoding='UTF-8'?>
+			<schema targetNamespace="schema.index.test" xmlns="http://www.w3.org/2001/XMLSchema">
+			<annotation>
+			   <appInfo>
+			      <meta.schema plugin="schema.index.test" id="main" name="Main Point"/>
+			   </appInfo>
+			   <documentation>The main extension point.</documentation>
+			</annotation>
+			<include schemaLocation="shared.exsd"/>
+			<element name="extension">
+			   <annotation>
+			      <appInfo>
+			         <meta.element internal="true" deprecated="true" replacement="schema.index.test.other"/>
+			      </appInfo>
+			   </annotation>
+			   <complexType>
+			      <sequence>
+			         <element ref="item" minOccurs="1" maxOccurs="unbounded"/>
+			         <choice minOccurs="0" maxOccurs="1">
+			            <element ref="group"/>
+			            <element ref="shared"/>
+			         </choice>
+			      </sequence>
+			      <attribute name="point" type="string" use="required"/>
+			      <attribute name="id" type="string"/>
+			      <attribute name="name" type="string">
+			         <annotation>
+			            <appInfo>
+			               <meta.attribute translatable="true"/>
+			            </appInfo>
+			         </annotation>
+			      </attribute>
+			   </complexType>
+			</element>
+			<element name="item">
+			   <annotation>
+			      <appInfo>
+			         <meta.element labelAttribute="label" icon="icon"/>
+			      </appInfo>
+			      <documentation>A contributed item.</documentation>
+			   </annotation>
+			   <complexType>
+			      <sequence>
+			         <element ref="description" minOccurs="0" maxOccurs="1"/>
+			      </sequence>
+			      <attribute name="id" type="string" use="required">
+			         <annotation>
+			            <documentation>The identifier of the item.</documentation>
+			            <appInfo>
+			               <meta.attribute kind="identifier" basedOn="schema.index.test.main/group/@label"/>
+			            </appInfo>
+			         </annotation>
+			      </attribute>
+			      <attribute name="label" type="string">
+			         <annotation>
+			            <documentation>The label of the item.</documentation>
+			            <appInfo>
+			               <meta.attribute translatable="true"/>
+			            </appInfo>
+			         </annotation>
+			      </attribute>
+			      <attribute name="class" type="string">
+			         <annotation>
+			            <documentation>The implementation of the item.</documentation>
+			            <appInfo>
+			               <meta.attribute kind="java" basedOn="java.lang.Object:java.lang.Runnable"/>
+			            </appInfo>
+			         </annotation>
+			      </attribute>
+			      <attribute name="icon" type="string">
+			         <annotation>
+			            <appInfo>
+			               <meta.attribute kind="resource"/>
+			            </appInfo>
+			         </annotation>
+			      </attribute>
+			      <attribute name="enabled" type="boolean" use="default" value="true"/>
+			      <attribute name="mode" use="default" value="fast">
+			         <simpleType>
+			            <restriction base="string">
+			               <enumeration value="fast"/>
+			               <enumeration value="slow"/>
+			            </restriction>
+			         </simpleType>
+			      </attribute>
+			      <attribute name="old" type="string">
+			         <annotation>
+			            <appInfo>
+			               <meta.attribute deprecated="true"/>
+			            </appInfo>
+			         </annotation>
+			      </attribute>
+			   </complexType>
+			</element>
+			<element name="group">
+			   <annotation>
+			      <appInfo>
+			         <meta.element deprecated="true"/>
+			      </appInfo>
+			   </annotation>
+			   <complexType>
+			      <sequence minOccurs="0" maxOccurs="unbounded">
+			         <element ref="item"/>
+			      </sequence>
+			      <attribute name="label" type="string" use="required"/>
+			   </complexType>
+			</element>
+			<element name="description" type="string">
+			   <annotation>
+			      <appInfo>
+			         <meta.element translatable="true"/>
+			      </appInfo>
+			      <documentation>The description of an item.</documentation>
+			   </annotation>
+			</element>
+			</schema>
+			""";
+
+	private static final String SHARED_SCHEMA = """
+			<?xml version='1.0' encoding='UTF-8'?>
+			<schema targetNamespace="schema.index.test" xmlns="http://www.w3.org/2001/XMLSchema">
+			<annotation>
+			   <appInfo>
+			      <meta.schema plugin="schema.index.test" id="shared" name="Shared"/>
+			   </appInfo>
+			</annotation>
+			<element name="shared">
+			   <complexType>
+			      <attribute name="value" type="string" use="required">
+			         <annotation>
+			            <documentation>The shared value.</documentation>
+			         </annotation>
+			      </attribute>
+			   </complexType>
+			</element>
+			</schema>
+			""";
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private File schemaFile;
+	private Path indexFile;
+
+	@Before
+	public void setUp() throws IOException {
+		File schemaFolder = folder.newFolder("schema folder");
+		schemaFile = new File(schemaFolder, "main.exsd");
+		Files.writeString(schemaFile.toPath(), MAIN_SCHEMA, StandardCharsets.UTF_8);
+		Files.writeString(new File(schemaFolder, "shared.exsd").toPath(), SHARED_SCHEMA, StandardCharsets.UTF_8);
+		indexFile = folder.getRoot().toPath().resolve(".schema_index");
+	}
+
+	@Test
+	public void testRestoredSchemaMatchesParsedSchema() throws Exception {
+		ISchema parsed = new SchemaDescriptor(schemaFile).getSchema(true);
+		assertThat(parsed.getElements()).isNotEmpty();
+
+		// the first session parses the schema and writes the index
+		SchemaIndex parsing = new SchemaIndex(indexFile);
+		Schema indexed = getSchema(parsing);
+		assertThat(indexed.isLoaded()).isTrue();
+		parsing.save();
+		assertThat(indexFile).exists();
+
+		// the next session restores it from the index
+		SchemaIndex restoring = new SchemaIndex(indexFile);
+		assertThat(restoring.isIndexed(schemaFile.toURI().toURL())).isTrue();
+		Schema restored = getSchema(restoring);
+		assertThat(restored.isLoaded()).isTrue();
+		assertSameSchema(parsed, restored);
+
+		// the documentation omitted from abbreviated schemas is read from the
+		// schema file of the restored schema
+		ISchema full = new SchemaDescriptor(null, restored.getURL()).getSchema(false);
+		assertThat(full.getDescription()).isEqualTo("The main extension point.");
+		assertThat(full.findElement("item").getDescription()).isEqualTo("A contributed item.");
+		assertThat(full.findElement("description").getDescription()).isEqualTo("The description of an item.");
+	}
+
+	@Test
+	public void testChangedSchemaIsParsed() throws Exception {
+		SchemaIndex parsing = new SchemaIndex(indexFile);
+		getSchema(parsing);
+		parsing.save();
+
+		Files.writeString(schemaFile.toPath(), MAIN_SCHEMA.replace("\"mode\"", "\"speed\""), StandardCharsets.UTF_8);
+		assertThat(schemaFile.setLastModified(schemaFile.lastModified() + 2000)).isTrue();
+
+		SchemaIndex restoring = new SchemaIndex(indexFile);
+		assertThat(restoring.isIndexed(schemaFile.toURI().toURL())).isFalse();
+		Schema schema = getSchema(restoring);
+		assertThat(schema.findElement("item").getAttribute("speed")).isNotNull();
+		assertThat(schema.findElement("item").getAttribute("mode")).isNull();
+	}
+
+	private Schema getSchema(SchemaIndex index) throws IOException {
+		return index.getSchema(new SchemaDescriptor("schema.index.test.main", schemaFile.toURI().toURL(), index));
+	}
+
+	private static void assertSameSchema(ISchema expected, ISchema actual) {
+		assertThat(actual.getName()).isEqualTo(expected.getName());
+		assertThat(actual.getPluginId()).isEqualTo(expected.getPluginId());
+		assertThat(actual.getPointId()).isEqualTo(expected.getPointId());
+		assertThat(actual.isValid()).isEqualTo(expected.isValid());
+		assertThat(actual.getDescription()).isEqualTo(expected.getDescription());
+		assertThat(actual.isDeperecated()).isEqualTo(expected.isDeperecated());
+		assertThat(actual.isInternal()).isEqualTo(expected.isInternal());
+		assertThat(actual.getDeprecatedSuggestion()).isEqualTo(expected.getDeprecatedSuggestion());
+
+		ISchemaInclude[] expectedIncludes = expected.getIncludes();
+		ISchemaInclude[] actualIncludes = actual.getIncludes();
+		assertThat(actualIncludes).extracting(ISchemaInclude::getLocation)
+				.containsExactly(getLocations(expectedIncludes));
+		for (int i = 0; i < expectedIncludes.length; i++) {
+			ISchema expectedIncluded = expectedIncludes[i].getIncludedSchema();
+			ISchema actualIncluded = actualIncludes[i].getIncludedSchema();
+			assertThat(expectedIncluded).isNotNull();
+			assertThat(actualIncluded).isNotNull();
+			assertSameElements(expectedIncluded.getElements(), actualIncluded.getElements());
+		}
+		assertSameElements(expected.getElements(), actual.getElements());
+		assertThat(actual.getResolvedElements()).extracting(ISchemaElement::getName)
+				.containsExactly(getNames(expected.getResolvedElements()));
+	}
+
+	private static void assertSameElements(ISchemaElement[] expected, ISchemaElement[] actual) {
+		assertThat(actual).extracting(ISchemaElement::getName).containsExactly(getNames(expected));
+		for (int i = 0; i < expected.length; i++) {
+			assertSameElement(expected[i], actual[i]);
+		}
+	}
+
+	private static void assertSameElement(ISchemaElement expected, ISchemaElement actual) {
+		String name = expected.getName();
+		assertThat(actual).as(name).isInstanceOf(expected.getClass());
+		assertThat(actual.getMinOccurs()).as(name).isEqualTo(expected.getMinOccurs());
+		assertThat(actual.getMaxOccurs()).as(name).isEqualTo(expected.getMaxOccurs());
+		assertThat(actual.getLabelProperty()).as(name).isEqualTo(expected.getLabelProperty());
+		assertThat(actual.getIconProperty()).as(name).isEqualTo(expected.getIconProperty());
+		assertThat(actual.hasTranslatableContent()).as(name).isEqualTo(expected.hasTranslatableContent());
+		assertThat(actual.isDeprecated()).as(name).isEqualTo(expected.isDeprecated());
+		assertThat(actual.getDescription()).as(name).isEqualTo(expected.getDescription());
+		if (expected instanceof ISchemaRootElement root) {
+			assertThat(((ISchemaRootElement) actual).getDeprecatedSuggestion()).as(name)
+					.isEqualTo(root.getDeprecatedSuggestion());
+			assertThat(((ISchemaRootElement) actual).isInternal()).as(name).isEqualTo(root.isInternal());
+		}
+
+		ISchemaType expectedType = expected.getType();
+		ISchemaType actualType = actual.getType();
+		if (expectedType == null) {
+			assertThat(actualType).as(name).isNull();
+			return;
+		}
+		assertThat(actualType).as(name).isInstanceOf(expectedType.getClass());
+		assertThat(actualType.getName()).as(name).isEqualTo(expectedType.getName());
+		if (expectedType instanceof ISchemaComplexType complexType) {
+			ISchemaComplexType actualComplexType = (ISchemaComplexType) actualType;
+			assertThat(actualComplexType.isMixed()).as(name).isEqualTo(complexType.isMixed());
+			ISchemaAttribute[] expectedAttributes = complexType.getAttributes();
+			ISchemaAttribute[] actualAttributes = actualComplexType.getAttributes();
+			assertThat(actualAttributes).extracting(ISchemaAttribute::getName)
+					.containsExactly(getNames(expectedAttributes));
+			for (int i = 0; i < expectedAttributes.length; i++) {
+				assertSameAttribute(expectedAttributes[i], actualAttributes[i]);
+			}
+			assertSameCompositor(name, complexType.getCompositor(), actualComplexType.getCompositor());
+		}
+	}
+
+	private static void assertSameAttribute(ISchemaAttribute expected, ISchemaAttribute actual) {
+		String name = expected.getParent().getName() + '@' + expected.getName();
+		assertThat(actual.getUse()).as(name).isEqualTo(expected.getUse());
+		assertThat(String.valueOf(actual.getValue())).as(name).isEqualTo(String.valueOf(expected.getValue()));
+		assertThat(actual.getKind()).as(name).isEqualTo(expected.getKind());
+		assertThat(actual.getBasedOn()).as(name).isEqualTo(expected.getBasedOn());
+		assertThat(actual.isTranslatable()).as(name).isEqualTo(expected.isTranslatable());
+		assertThat(actual.isDeprecated()).as(name).isEqualTo(expected.isDeprecated());
+		assertThat(actual.getDescription()).as(name).isEqualTo(expected.getDescription());
+
+		ISchemaSimpleType expectedType = expected.getType();
+		ISchemaSimpleType actualType = actual.getType();
+		if (expectedType == null) {
+			assertThat(actualType).as(name).isNull();
+			return;
+		}
+		assertThat(actualType.getName()).as(name).isEqualTo(expectedType.getName());
+		ISchemaRestriction expectedRestriction = expectedType.getRestriction();
+		ISchemaRestriction actualRestriction = actualType.getRestriction();
+		if (expectedRestriction == null) {
+			assertThat(actualRestriction).as(name).isNull();
+		} else {
+			assertThat(actualRestriction).as(name).isNotNull();
+			assertThat(actualRestriction.getChildren()).as(name)
+					.extracting(choice -> ((ISchemaEnumeration) choice).getName())
+					.containsExactly(getChoices(expectedRestriction));
+		}
+	}
+
+	private static void assertSameCompositor(String name, ISchemaCompositor expected, ISchemaCompositor actual) {
+		if (expected == null) {
+			assertThat(actual).as(name).isNull();
+			return;
+		}
+		assertThat(actual).as(name).isNotNull();
+		assertThat(actual.getKind()).as(name).isEqualTo(expected.getKind());
+		assertThat(actual.getMinOccurs()).as(name).isEqualTo(expected.getMinOccurs());
+		assertThat(actual.getMaxOccurs()).as(name).isEqualTo(expected.getMaxOccurs());
+		ISchemaObject[] expectedChildren = expected.getChildren();
+		ISchemaObject[] actualChildren = actual.getChildren();
+		assertThat(actualChildren).as(name).hasSameSizeAs(expectedChildren);
+		for (int i = 0; i < expectedChildren.length; i++) {
+			if (expectedChildren[i] instanceof ISchemaCompositor compositor) {
+				assertSameCompositor(name, compositor, (ISchemaCompositor) actualChildren[i]);
+			} else {
+				ISchemaElement expectedReference = (ISchemaElement) expectedChildren[i];
+				ISchemaElement actualReference = (ISchemaElement) actualChildren[i];
+				assertThat(actualReference.getName()).as(name).isEqualTo(expectedReference.getName());
+				assertThat(actualReference.getMinOccurs()).as(name).isEqualTo(expectedReference.getMinOccurs());
+				assertThat(actualReference.getMaxOccurs()).as(name).isEqualTo(expectedReference.getMaxOccurs());
+				// references are resolved the same way
+				assertThat(((ISchemaObjectReference) actualReference).getReferencedObject() != null).as(name)
+						.isEqualTo(((ISchemaObjectReference) expectedReference).getReferencedObject() != null);
+			}
+		}
+	}
+
+	private static String[] getNames(ISchemaObject[] objects) {
+		String[] names = new String[objects.length];
+		for (int i = 0; i < objects.length; i++) {
+			names[i] = objects[i].getName();
+		}
+		return names;
+	}
+
+	private static String[] getLocations(ISchemaInclude[] includes) {
+		String[] locations = new String[includes.length];
+		for (int i = 0; i < includes.length; i++) {
+			locations[i] = includes[i].getLocation();
+		}
+		return locations;
+	}
+
+	private static String[] getChoices(ISchemaRestriction restriction) {
+		Object[] children = restriction.getChildren();
+		String[] choices = new String[children.length];
+		for (int i = 0; i < children.length; i++) {
+			choices[i] = ((ISchemaEnumeration) children[i]).getName();
+		}
+		return choices;
+	}
+}
@@ -13,11 +13,16 @@
  *******************************************************************************/
 package org.eclipse.pde.ui.tests.performance;
 
+import org.eclipse.pde.ui.tests.performance.parts.ArtifactMaterializerPerfTest;
+import org.eclipse.pde.ui.tests.performance.parts.DependencyClosurePerfTest;
 import org.eclipse.pde.ui.tests.performance.parts.OpenManifestEditorPerfTest;
 import org.eclipse.pde.ui.tests.performance.parts.PDEModelManagerPerfTest;
 import org.eclipse.pde.ui.tests.performance.parts.SchemaLoaderPerfTest;
 import org.eclipse.pde.ui.tests.performance.parts.SchemaTraversePerfTest;
 import org.eclipse.pde.ui.tests.performance.parts.TargetPlatformPerfTest;
+import org.eclipse.pde.ui.tests.performance.parts.TargetReloadPerfTest;
+import org.eclipse.pde.ui.tests.performance.parts.TargetResolutionCachePerfTest;
+import org.eclipse.pde.ui.tests.performance.parts.WorkspaceModelSnapshotPerfTest;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
@@ -25,7 +30,9 @@ import org.junit.runners.Suite.SuiteClasses;
 @RunWith(Suite.class)
 @SuiteClasses({
 	PDEModelManagerPerfTest.class, SchemaLoaderPerfTest.class, SchemaTraversePerfTest.class,
-	OpenManifestEditorPerfTest.class, TargetPlatformPerfTest.class
+	OpenManifestEditorPerfTest.class, TargetPlatformPerfTest.class, TargetResolutionCachePerfTest.class,
+	DependencyClosurePerfTest.class, WorkspaceModelSnapshotPerfTest.class, TargetReloadPerfTest.class,
+	ArtifactMaterializerPerfTest.class
 })
 public class PDEPerformanceTests {
 
@@ -0,0 +1,137 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.performance.parts;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.equinox.p2.metadata.IArtifactKey;
+import org.eclipse.equinox.p2.metadata.IInstallableUnit;
+import org.eclipse.equinox.p2.metadata.MetadataFactory;
+import org.eclipse.equinox.p2.metadata.MetadataFactory.InstallableUnitDescription;
+import org.eclipse.equinox.p2.metadata.Version;
+import org.eclipse.equinox.p2.repository.artifact.IArtifactRepository;
+import org.eclipse.equinox.p2.repository.artifact.IArtifactRepositoryManager;
+import org.eclipse.equinox.p2.repository.artifact.IFileArtifactRepository;
+import org.eclipse.pde.internal.core.target.ArtifactMaterializer;
+import org.eclipse.pde.internal.core.target.ArtifactMaterializer.Result;
+import org.eclipse.pde.internal.core.target.P2TargetUtils;
+import org.eclipse.pde.ui.tests.PDETestCase;
+import org.eclipse.test.performance.Dimension;
+import org.eclipse.test.performance.PerformanceTestCase;
+
+/**
+ * Tests the time it takes to materialize the artifacts of 500 units from a
+ * local repository into an empty bundle pool and into a pool that already
+ * contains them.
+ */
+public class ArtifactMaterializerPerfTest extends PerformanceTestCase {
+
+	private static final int ARTIFACTS = 500;
+	private static final int ARTIFACT_SIZE = 16 * 1024;
+
+	private Path root;
+	private IArtifactRepositoryManager manager;
+	private IArtifactRepository source;
+	private List<IInstallableUnit> units;
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		root = Files.createTempDirectory("materializer"); //$NON-NLS-1$
+		manager = P2TargetUtils.getArtifactRepositoryManager();
+		source = manager.createRepository(Files.createDirectory(root.resolve("source")).toUri(), "source", //$NON-NLS-1$ //$NON-NLS-2$
+				IArtifactRepositoryManager.TYPE_SIMPLE_REPOSITORY, null);
+		units = new ArrayList<>(ARTIFACTS);
+		byte[] content = new byte[ARTIFACT_SIZE];
+		for (int i = 0; i < ARTIFACTS; i++) {
+			String id = "materializer.perf.bundle" + i; //$NON-NLS-1$
+			Version version = Version.createOSGi(1, 0, i);
+			IArtifactKey key = source.createArtifactKey("osgi.bundle", id, version); //$NON-NLS-1$
+			Arrays.fill(content, (byte) i);
+			try (OutputStream stream = source.getOutputStream(source.createArtifactDescriptor(key))) {
+				stream.write(content);
+			}
+			InstallableUnitDescription description = new InstallableUnitDescription();
+			description.setId(id);
+			description.setVersion(version);
+			description.setArtifacts(new IArtifactKey[] { key });
+			units.add(MetadataFactory.createInstallableUnit(description));
+		}
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		manager.removeRepository(source.getLocation());
+		PDETestCase.delete(root.toFile());
+		super.tearDown();
+	}
+
+	public void testColdPool() throws Exception {
+		tagAsSummary("Materialize artifacts into an empty pool", Dimension.ELAPSED_PROCESS); //$NON-NLS-1$
+		// Warm-up Iterations
+		for (int i = 0; i < 3; i++) {
+			materialize(createPool("warmup" + i), false, ARTIFACTS); //$NON-NLS-1$
+		}
+		// Test Iterations
+		for (int i = 0; i < 10; i++) {
+			materialize(createPool("pool" + i), true, ARTIFACTS); //$NON-NLS-1$
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	public void testWarmPool() throws Exception {
+		tagAsSummary("Materialize artifacts into a complete pool", Dimension.ELAPSED_PROCESS); //$NON-NLS-1$
+		IFileArtifactRepository pool = createPool("pool"); //$NON-NLS-1$
+		materialize(pool, false, ARTIFACTS);
+		// Warm-up Iterations
+		for (int i = 0; i < 3; i++) {
+			materialize(pool, false, 0);
+		}
+		// Test Iterations
+		for (int i = 0; i < 20; i++) {
+			materialize(pool, true, 0);
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	private IFileArtifactRepository createPool(String name) throws Exception {
+		IFileArtifactRepository pool = (IFileArtifactRepository) manager.createRepository(
+				Files.createDirectory(root.resolve(name)).toUri(), name,
+				IArtifactRepositoryManager.TYPE_SIMPLE_REPOSITORY, null);
+		manager.removeRepository(pool.getLocation());
+		return pool;
+	}
+
+	private void materialize(IFileArtifactRepository pool, boolean measure, int expectedFetches)
+			throws Exception {
+		ArtifactMaterializer materializer = new ArtifactMaterializer(pool, List.of(source),
+				ArtifactMaterializer.DEFAULT_REPOSITORY_LIMIT);
+		if (measure) {
+			startMeasuring();
+		}
+		Result result = materializer.materialize(units, null);
+		if (measure) {
+			stopMeasuring();
+		}
+		assertEquals(expectedFetches, result.fetched());
+		assertEquals(ARTIFACTS - expectedFetches, result.skipped());
+	}
+}
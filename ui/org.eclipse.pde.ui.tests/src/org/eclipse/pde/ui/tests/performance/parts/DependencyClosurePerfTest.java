@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.performance.parts;
+
+import static org.eclipse.pde.internal.core.DependencyManager.Options.INCLUDE_ALL_FRAGMENTS;
+import static org.eclipse.pde.internal.core.DependencyManager.Options.INCLUDE_OPTIONAL_DEPENDENCIES;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.core.target.ITargetDefinition;
+import org.eclipse.pde.core.target.ITargetLocation;
+import org.eclipse.pde.core.target.ITargetPlatformService;
+import org.eclipse.pde.core.target.LoadTargetDefinitionJob;
+import org.eclipse.pde.internal.core.DependencyManager;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.ui.tests.util.TargetPlatformUtil;
+import org.eclipse.test.performance.Dimension;
+import org.eclipse.test.performance.PerformanceTestCase;
+import org.junit.Assert;
+
+/**
+ * Tests the time it takes to compute requirement closures with the
+ * {@link DependencyManager}.
+ *
+ * The target used is the one of {@link TargetPlatformPerfTest}: 1000 bundles
+ * where TestBundle_N requires TestBundle_1 to TestBundle_N-1, so the closure of
+ * the last bundle contains the whole target.
+ */
+public class DependencyClosurePerfTest extends PerformanceTestCase {
+
+	private static final String ROOT_BUNDLE = "TestBundle_1000";
+	private static final int CLOSURE_SIZE = 1000;
+
+	/**
+	 * Computes the closure of the bundle requiring all others repeatedly, as
+	 * done by "Add Required" in the launch configuration dialog.
+	 */
+	public void testRequirementsClosure() throws Exception {
+		tagAsSummary("Compute requirements closure", Dimension.ELAPSED_PROCESS); //$NON-NLS-1$
+		Path testBundles = TargetPlatformPerfTest.extractTargetPerfTestPlugins();
+		ITargetPlatformService tps = PDECore.getDefault().acquireService(ITargetPlatformService.class);
+		ITargetDefinition target = tps.newTarget();
+		target.setTargetLocations(new ITargetLocation[] { tps.newDirectoryLocation(testBundles.toString()) });
+		TargetPlatformUtil.loadAndSetTarget(target);
+		try {
+			IPluginModelBase model = PluginRegistry.findModel(ROOT_BUNDLE);
+			Assert.assertNotNull(model);
+			List<BundleDescription> roots = List.of(model.getBundleDescription());
+
+			// Warm-up Iterations
+			for (int i = 0; i < 10; i++) {
+				executeClosure(roots);
+			}
+			// Test Iterations
+			for (int i = 0; i < 100; i++) {
+				startMeasuring();
+				for (int j = 0; j < 100; j++) {
+					executeClosure(roots);
+				}
+				stopMeasuring();
+			}
+			commitMeasurements();
+			assertPerformance();
+		} finally {
+			// Restore the default target platform
+			ITargetDefinition defaultTarget = tps.newDefaultTarget();
+			LoadTargetDefinitionJob restoreJob = new LoadTargetDefinitionJob(defaultTarget);
+			restoreJob.runInWorkspace(null);
+		}
+	}
+
+	private void executeClosure(List<BundleDescription> roots) {
+		Set<BundleDescription> closure = DependencyManager.findRequirementsClosure(roots,
+				INCLUDE_OPTIONAL_DEPENDENCIES, INCLUDE_ALL_FRAGMENTS);
+		Assert.assertEquals(CLOSURE_SIZE, closure.size());
+	}
+}
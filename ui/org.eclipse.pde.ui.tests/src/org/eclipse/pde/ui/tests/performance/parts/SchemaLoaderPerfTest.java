@@ -14,11 +14,31 @@
 
 package org.eclipse.pde.ui.tests.performance.parts;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.pde.core.plugin.IPluginExtensionPoint;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.ischema.ISchema;
+import org.eclipse.pde.internal.core.ischema.ISchemaElement;
 import org.eclipse.pde.internal.core.schema.Schema;
 import org.eclipse.pde.internal.core.schema.SchemaDescriptor;
+import org.eclipse.pde.internal.core.schema.SchemaIndex;
+import org.eclipse.pde.internal.core.schema.SchemaRegistry;
+import org.eclipse.test.performance.Dimension;
 
 /**
  * SchemaLoaderPerfTest
+ *
+ * Also loads the schemas of all extension points of the target platform
+ * through the schema registry, from many threads at once and on a cold start
+ * with and without the schema index of the previous session.
  */
 public class SchemaLoaderPerfTest extends AbstractSchemaPerfTest {
 
@@ -40,6 +60,132 @@ public class SchemaLoaderPerfTest extends AbstractSchemaPerfTest {
 		executeTestRun();
 	}
 
+	public void testConcurrentLookup() throws Exception {
+		tagAsSummary("Concurrent schema lookup of all extension points", Dimension.ELAPSED_PROCESS); //$NON-NLS-1$
+		List<String> points = getExtensionPoints();
+		SchemaRegistry registry = PDECore.getDefault().getSchemaRegistry();
+		int threads = Runtime.getRuntime().availableProcessors();
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			// Warm-up Iterations, also loads the schemas
+			for (int i = 0; i < 3; i++) {
+				lookUp(executor, threads, registry, points);
+			}
+			// Test Iterations
+			for (int i = 0; i < 20; i++) {
+				startMeasuring();
+				lookUp(executor, threads, registry, points);
+				stopMeasuring();
+			}
+			commitMeasurements();
+			assertPerformance();
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	public void testColdStartWithoutIndex() throws Exception {
+		tagAsSummary("Load all extension point schemas without index", Dimension.ELAPSED_PROCESS); //$NON-NLS-1$
+		runColdStart(false);
+	}
+
+	public void testColdStartWithIndex() throws Exception {
+		tagAsSummary("Load all extension point schemas from index", Dimension.ELAPSED_PROCESS); //$NON-NLS-1$
+		runColdStart(true);
+	}
+
+	private void runColdStart(boolean indexed) {
+		List<String> points = getExtensionPoints();
+		try {
+			// the schemas parsed without index
+			List<String> expected = loadAll(points, false, false);
+			assertFalse("No extension point schema loaded", expected.isEmpty()); //$NON-NLS-1$
+			// Warm-up Iterations, also write the index
+			for (int i = 0; i < 3; i++) {
+				assertEquals(expected, loadAll(points, indexed, false));
+			}
+			// Test Iterations
+			for (int i = 0; i < 20; i++) {
+				assertEquals(expected, loadAll(points, indexed, true));
+			}
+			commitMeasurements();
+			assertPerformance();
+		} finally {
+			SchemaIndex.clear();
+		}
+	}
+
+	/**
+	 * Loads the schemas of the given extension points with a new registry.
+	 *
+	 * @return the element and attribute names of every loaded schema, to
+	 *         compare the schemas restored from the index with the parsed
+	 *         ones
+	 */
+	private List<String> loadAll(List<String> points, boolean indexed, boolean measure) {
+		if (!indexed) {
+			SchemaIndex.clear();
+		}
+		// every registry starts like a new session
+		SchemaRegistry registry = new SchemaRegistry();
+		if (measure) {
+			startMeasuring();
+		}
+		List<ISchema> schemas = new ArrayList<>(points.size());
+		for (String point : points) {
+			schemas.add(registry.getSchema(point));
+		}
+		if (measure) {
+			stopMeasuring();
+		}
+		List<String> loaded = new ArrayList<>();
+		for (int i = 0; i < points.size(); i++) {
+			ISchema schema = schemas.get(i);
+			if (schema != null && schema.getElements().length > 0) {
+				StringBuilder content = new StringBuilder(points.get(i));
+				for (ISchemaElement element : schema.getElements()) {
+					content.append(' ').append(element.getName()).append(Arrays.toString(element.getAttributeNames()));
+				}
+				loaded.add(content.toString());
+			}
+		}
+		registry.shutdown();
+		return loaded;
+	}
+
+	private static void lookUp(ExecutorService executor, int threads, SchemaRegistry registry, List<String> points)
+			throws Exception {
+		List<Future<Integer>> results = new ArrayList<>(threads);
+		for (int t = 0; t < threads; t++) {
+			int offset = t;
+			results.add(executor.submit(() -> {
+				int found = 0;
+				for (int i = 0; i < points.size(); i++) {
+					// start at a different point in every thread
+					if (registry.getSchema(points.get((i + offset) % points.size())) != null) {
+						found++;
+					}
+				}
+				return found;
+			}));
+		}
+		for (Future<Integer> result : results) {
+			assertTrue("No extension point schema found", result.get() > 0); //$NON-NLS-1$
+		}
+	}
+
+	private static List<String> getExtensionPoints() {
+		List<String> points = new ArrayList<>();
+		for (IPluginModelBase model : PluginRegistry.getActiveModels()) {
+			for (IPluginExtensionPoint point : PDECore.getDefault().getExtensionsRegistry()
+					.findExtensionPointsForPlugin(model)) {
+				points.add(point.getFullId());
+			}
+		}
+		assertFalse("No extension points in the target platform", points.isEmpty()); //$NON-NLS-1$
+		return points;
+	}
+
 	@Override
 	protected void executeTest() throws Exception {
 		SchemaDescriptor descriptor = new SchemaDescriptor(fXSDFile);
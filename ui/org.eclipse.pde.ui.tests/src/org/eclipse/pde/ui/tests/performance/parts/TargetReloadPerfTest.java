@@ -0,0 +1,210 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.performance.parts;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.jar.Attributes;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.osgi.service.resolver.BundleDelta;
+import org.eclipse.osgi.service.resolver.State;
+import org.eclipse.osgi.service.resolver.StateDelta;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.core.project.IRequiredBundleDescription;
+import org.eclipse.pde.core.target.ITargetDefinition;
+import org.eclipse.pde.core.target.ITargetLocation;
+import org.eclipse.pde.core.target.ITargetPlatformService;
+import org.eclipse.pde.core.target.LoadTargetDefinitionJob;
+import org.eclipse.pde.internal.core.IPluginModelListener;
+import org.eclipse.pde.internal.core.IStateDeltaListener;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.PluginModelManager;
+import org.eclipse.pde.ui.tests.PDETestCase;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.eclipse.test.performance.Dimension;
+import org.eclipse.test.performance.PerformanceTestCase;
+import org.osgi.framework.VersionRange;
+
+/**
+ * Loads target platforms of 3000 generated bundles that differ in the version
+ * of a single bundle and measures how long it takes to reload the plug-in
+ * models. The number of plug-in model notifications and of the entries they
+ * report is printed. Swapping the bundle must only notify the workspace
+ * plug-ins depending on it, so that only their projects are rebuilt.
+ */
+public class TargetReloadPerfTest extends PerformanceTestCase {
+
+	private static final int BUNDLES = 3000;
+	private static final String PREFIX = "reload.perf.bundle"; //$NON-NLS-1$
+	private static final String SWAPPED = PREFIX + "Swapped"; //$NON-NLS-1$
+
+	private Path root;
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		root = Files.createTempDirectory("targetReload"); //$NON-NLS-1$
+		Path common = Files.createDirectories(root.resolve("common")); //$NON-NLS-1$
+		for (int i = 1; i < BUNDLES; i++) {
+			createBundle(common, PREFIX + i, "1.0.0", i > 1 ? PREFIX + (i - 1) : null); //$NON-NLS-1$
+		}
+		createBundle(Files.createDirectories(root.resolve("v1")), SWAPPED, "1.0.0", PREFIX + 1); //$NON-NLS-1$ //$NON-NLS-2$
+		createBundle(Files.createDirectories(root.resolve("v2")), SWAPPED, "2.0.0", PREFIX + 1); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		ITargetPlatformService tps = PDECore.getDefault().acquireService(ITargetPlatformService.class);
+		new LoadTargetDefinitionJob(tps.newDefaultTarget()).runInWorkspace(null);
+		PDETestCase.delete(root.toFile());
+		super.tearDown();
+	}
+
+	public void testSwapOneBundle() throws Exception {
+		tagAsSummary("Reload target with one bundle swapped", Dimension.ELAPSED_PROCESS); //$NON-NLS-1$
+		ITargetDefinition[] targets = { createTarget("v1"), createTarget("v2") }; //$NON-NLS-1$ //$NON-NLS-2$
+		String[] versions = { "1.0.0", "2.0.0" }; //$NON-NLS-1$ //$NON-NLS-2$
+		PluginModelManager manager = PDECore.getDefault().getModelManager();
+		AtomicInteger notifications = new AtomicInteger();
+		AtomicInteger entries = new AtomicInteger();
+		IPluginModelListener listener = delta -> {
+			notifications.incrementAndGet();
+			entries.addAndGet(delta.getAddedEntries().length + delta.getRemovedEntries().length
+					+ delta.getChangedEntries().length);
+		};
+
+		new LoadTargetDefinitionJob(targets[0]).runInWorkspace(new NullProgressMonitor());
+		manager.addPluginModelListener(listener);
+		try {
+			// Warm-up Iterations
+			for (int i = 0; i < 3; i++) {
+				load(targets[(i + 1) % 2], versions[(i + 1) % 2], false);
+			}
+			notifications.set(0);
+			entries.set(0);
+			// Test Iterations
+			int iterations = 20;
+			for (int i = 0; i < iterations; i++) {
+				load(targets[i % 2], versions[i % 2], true);
+			}
+			System.out.println(String.format("Plug-in model notifications per reload: %.1f, entries per reload: %.1f", //$NON-NLS-1$
+					(double) notifications.get() / iterations, (double) entries.get() / iterations));
+			commitMeasurements();
+			assertPerformance();
+		} finally {
+			manager.removePluginModelListener(listener);
+		}
+	}
+
+	public void testSwapOneBundleOnlyAffectsDependents() throws Exception {
+		ITargetDefinition[] targets = { createTarget("v1"), createTarget("v2") }; //$NON-NLS-1$ //$NON-NLS-2$
+		new LoadTargetDefinitionJob(targets[0]).runInWorkspace(new NullProgressMonitor());
+		IProject dependent = createProject(PREFIX + "Dependent", SWAPPED); //$NON-NLS-1$
+		IProject unrelated = createProject(PREFIX + "Unrelated", PREFIX + 2); //$NON-NLS-1$
+		PluginModelManager manager = PDECore.getDefault().getModelManager();
+		// the PluginRebuilder touches all projects on a state change and the
+		// projects of the bundles in a state delta otherwise
+		AtomicBoolean stateChanged = new AtomicBoolean();
+		Set<String> resolved = new HashSet<>();
+		IStateDeltaListener listener = new IStateDeltaListener() {
+			@Override
+			public void stateResolved(StateDelta delta) {
+				if (delta == null) {
+					stateChanged.set(true);
+					return;
+				}
+				for (BundleDelta bundleDelta : delta.getChanges()) {
+					resolved.add(bundleDelta.getBundle().getSymbolicName());
+				}
+			}
+
+			@Override
+			public void stateChanged(State newState) {
+				stateChanged.set(true);
+			}
+		};
+		manager.addStateDeltaListener(listener);
+		try {
+			load(targets[1], "2.0.0", false); //$NON-NLS-1$
+		} finally {
+			manager.removeStateDeltaListener(listener);
+			dependent.delete(true, true, null);
+			unrelated.delete(true, true, null);
+		}
+		assertFalse("all projects are touched", stateChanged.get()); //$NON-NLS-1$
+		assertTrue(resolved.toString(), resolved.contains(PREFIX + "Dependent")); //$NON-NLS-1$
+		assertFalse(resolved.toString(), resolved.contains(PREFIX + "Unrelated")); //$NON-NLS-1$
+	}
+
+	private static IProject createProject(String symbolicName, String required) throws Exception {
+		return ProjectUtils.createPluginProject(symbolicName, symbolicName, "1.0.0", (description, service) -> { //$NON-NLS-1$
+			description.setRequiredBundles(new IRequiredBundleDescription[] {
+					service.newRequiredBundle(required, (VersionRange) null, false, false) });
+		});
+	}
+
+	private void load(ITargetDefinition target, String swappedVersion, boolean measure) throws Exception {
+		LoadTargetDefinitionJob job = new LoadTargetDefinitionJob(target);
+		if (measure) {
+			startMeasuring();
+		}
+		job.runInWorkspace(new NullProgressMonitor());
+		if (measure) {
+			stopMeasuring();
+		}
+		assertEquals(BUNDLES, PluginRegistry.getExternalModels().length);
+		IPluginModelBase swapped = PluginRegistry.findModel(SWAPPED);
+		assertNotNull(swapped);
+		assertEquals(swappedVersion, swapped.getPluginBase().getVersion());
+	}
+
+	private ITargetDefinition createTarget(String version) throws Exception {
+		ITargetPlatformService tps = PDECore.getDefault().acquireService(ITargetPlatformService.class);
+		ITargetDefinition target = tps.newTarget();
+		target.setTargetLocations(new ITargetLocation[] {
+				tps.newDirectoryLocation(root.resolve("common").toString()), //$NON-NLS-1$
+				tps.newDirectoryLocation(root.resolve(version).toString()) });
+		target.resolve(new NullProgressMonitor());
+		return target;
+	}
+
+	private static void createBundle(Path directory, String symbolicName, String version, String required)
+			throws IOException {
+		Manifest manifest = new Manifest();
+		Attributes attributes = manifest.getMainAttributes();
+		attributes.put(Attributes.Name.MANIFEST_VERSION, "1.0"); //$NON-NLS-1$
+		attributes.putValue("Bundle-ManifestVersion", "2"); //$NON-NLS-1$ //$NON-NLS-2$
+		attributes.putValue("Bundle-SymbolicName", symbolicName); //$NON-NLS-1$
+		attributes.putValue("Bundle-Version", version); //$NON-NLS-1$
+		attributes.putValue("Export-Package", symbolicName); //$NON-NLS-1$
+		if (required != null) {
+			attributes.putValue("Require-Bundle", required); //$NON-NLS-1$
+		}
+		Path jar = directory.resolve(symbolicName + "_" + version + ".jar"); //$NON-NLS-1$ //$NON-NLS-2$
+		try (OutputStream stream = Files.newOutputStream(jar); JarOutputStream out = new JarOutputStream(stream, manifest)) {
+			// manifest only
+		}
+	}
+}
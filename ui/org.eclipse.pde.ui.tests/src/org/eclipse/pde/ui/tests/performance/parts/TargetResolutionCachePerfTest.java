@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.performance.parts;
+
+import java.net.URI;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.pde.core.target.ITargetDefinition;
+import org.eclipse.pde.core.target.ITargetHandle;
+import org.eclipse.pde.core.target.ITargetLocation;
+import org.eclipse.pde.core.target.ITargetPlatformService;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.target.IUBundleContainer;
+import org.eclipse.pde.internal.core.target.P2TargetUtils;
+import org.eclipse.pde.internal.core.target.TargetResolutionCache;
+import org.eclipse.pde.ui.tests.target.IUBundleContainerTests;
+import org.eclipse.test.performance.Dimension;
+import org.eclipse.test.performance.PerformanceTestCase;
+
+/**
+ * Tests the time it takes to resolve a target definition with an IU location
+ * when the resolution is cached and when it has to be computed by the planner.
+ *
+ * The profile of the target is deleted before every iteration, so the target
+ * is provisioned again each time.
+ */
+public class TargetResolutionCachePerfTest extends PerformanceTestCase {
+
+	public void testResolveCacheMiss() throws Exception {
+		tagAsSummary("Resolve IU target, resolution not cached", Dimension.ELAPSED_PROCESS); //$NON-NLS-1$
+		runResolution(true);
+	}
+
+	public void testResolveCacheHit() throws Exception {
+		tagAsSummary("Resolve IU target, resolution cached", Dimension.ELAPSED_PROCESS); //$NON-NLS-1$
+		runResolution(false);
+	}
+
+	private void runResolution(boolean clearCache) throws Exception {
+		ITargetPlatformService tps = PDECore.getDefault().acquireService(ITargetPlatformService.class);
+		URI uri = IUBundleContainerTests.getURI("/tests/sites/site.a.b");
+		ITargetLocation location = tps.newIULocation(new String[] { "feature.b.feature.group" }, //$NON-NLS-1$
+				new String[] { "" }, new URI[] { uri }, IUBundleContainer.INCLUDE_REQUIRED); //$NON-NLS-1$
+		ITargetDefinition originalTarget = tps.newTarget();
+		originalTarget.setTargetLocations(new ITargetLocation[] { location });
+		tps.saveTargetDefinition(originalTarget);
+		ITargetHandle handle = originalTarget.getHandle();
+		try {
+			// Warm-up Iterations, also fills the cache
+			for (int i = 0; i < 3; i++) {
+				resolve(handle, clearCache, false);
+			}
+			// Test Iterations
+			for (int i = 0; i < 50; i++) {
+				resolve(handle, clearCache, true);
+			}
+			commitMeasurements();
+			assertPerformance();
+		} finally {
+			P2TargetUtils.deleteProfile(handle);
+			tps.deleteTarget(handle);
+			TargetResolutionCache.clear();
+		}
+	}
+
+	private void resolve(ITargetHandle handle, boolean clearCache, boolean measure) throws Exception {
+		P2TargetUtils.deleteProfile(handle);
+		if (clearCache) {
+			TargetResolutionCache.clear();
+		}
+		// Get the target definition inside the loop so that it is not resolved
+		ITargetDefinition target = handle.getTargetDefinition();
+		if (measure) {
+			startMeasuring();
+		}
+		target.resolve(new NullProgressMonitor());
+		if (measure) {
+			stopMeasuring();
+		}
+		assertTrue(target.getStatus().toString(), target.getStatus().isOK());
+		assertEquals(6, target.getBundles().length);
+	}
+}
@@ -0,0 +1,177 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.performance.parts;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IWorkspaceRoot;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.internal.core.WorkspaceModelSnapshot;
+import org.eclipse.pde.internal.core.WorkspacePluginModelManager;
+import org.eclipse.test.performance.Dimension;
+import org.eclipse.test.performance.PerformanceTestCase;
+
+/**
+ * Initializes the workspace plug-in models of a large generated workspace,
+ * once without a snapshot of the previous session (cold) and once with it
+ * (warm).
+ */
+public class WorkspaceModelSnapshotPerfTest extends PerformanceTestCase {
+
+	private static final String PREFIX = "snapshot.perf.bundle"; //$NON-NLS-1$
+	private static final int PROJECTS = 600;
+
+	/**
+	 * Gives access to the initialization of the workspace models, every
+	 * instance starts like a new session.
+	 */
+	private static class TestModelManager extends WorkspacePluginModelManager {
+		IPluginModelBase[] initializeModels() {
+			return getPluginModels();
+		}
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		IWorkspaceRoot root = ResourcesPlugin.getWorkspace().getRoot();
+		ResourcesPlugin.getWorkspace().run(monitor -> {
+			for (int i = 0; i < PROJECTS; i++) {
+				createPluginProject(root.getProject(PREFIX + i), i);
+			}
+		}, null);
+		WorkspaceModelSnapshot.clear();
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		IWorkspaceRoot root = ResourcesPlugin.getWorkspace().getRoot();
+		ResourcesPlugin.getWorkspace().run(monitor -> {
+			for (int i = 0; i < PROJECTS; i++) {
+				root.getProject(PREFIX + i).delete(true, true, null);
+			}
+		}, null);
+		WorkspaceModelSnapshot.clear();
+		super.tearDown();
+	}
+
+	public void testColdStartup() throws Exception {
+		tagAsSummary("Initialize workspace models without snapshot", Dimension.ELAPSED_PROCESS); //$NON-NLS-1$
+		runInitialization(false);
+	}
+
+	public void testWarmStartup() throws Exception {
+		tagAsSummary("Initialize workspace models from snapshot", Dimension.ELAPSED_PROCESS); //$NON-NLS-1$
+		runInitialization(true);
+	}
+
+	private void runInitialization(boolean warm) {
+		// Warm-up Iterations, also write the snapshot
+		for (int i = 0; i < 3; i++) {
+			initialize(warm, false);
+		}
+		// Test Iterations
+		for (int i = 0; i < 20; i++) {
+			initialize(warm, true);
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	private void initialize(boolean warm, boolean measure) {
+		if (!warm) {
+			WorkspaceModelSnapshot.clear();
+		}
+		TestModelManager manager = new TestModelManager();
+		try {
+			if (measure) {
+				startMeasuring();
+			}
+			IPluginModelBase[] models = manager.initializeModels();
+			if (measure) {
+				stopMeasuring();
+			}
+			int generated = 0;
+			for (IPluginModelBase model : models) {
+				String id = model.getPluginBase().getId();
+				if (id != null && id.startsWith(PREFIX)) {
+					generated++;
+					assertNotNull(model.getPluginBase().getVersion());
+					assertEquals(1, model.getPluginBase().getExtensions().length);
+				}
+			}
+			assertEquals(PROJECTS, generated);
+		} finally {
+			manager.shutdown();
+		}
+	}
+
+	private static void createPluginProject(IProject project, int index) throws CoreException {
+		if (!project.exists()) {
+			project.create(null);
+		}
+		project.open(null);
+		IFolder metaInf = project.getFolder("META-INF"); //$NON-NLS-1$
+		if (!metaInf.exists()) {
+			metaInf.create(true, true, null);
+		}
+		StringBuilder manifest = new StringBuilder();
+		manifest.append("Manifest-Version: 1.0\n"); //$NON-NLS-1$
+		manifest.append("Bundle-ManifestVersion: 2\n"); //$NON-NLS-1$
+		manifest.append("Bundle-Name: Snapshot Bundle ").append(index).append('\n'); //$NON-NLS-1$
+		manifest.append("Bundle-SymbolicName: ").append(PREFIX).append(index).append(";singleton:=true\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		manifest.append("Bundle-Version: 1.0.0.qualifier\n"); //$NON-NLS-1$
+		manifest.append("Bundle-RequiredExecutionEnvironment: JavaSE-17\n"); //$NON-NLS-1$
+		if (index > 0) {
+			manifest.append("Require-Bundle: ").append(PREFIX).append(index - 1).append(";bundle-version=\"1.0.0\"\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		manifest.append("Export-Package: "); //$NON-NLS-1$
+		for (int p = 0; p < 10; p++) {
+			if (p > 0) {
+				manifest.append(",\n "); //$NON-NLS-1$
+			}
+			manifest.append(PREFIX).append(index).append(".p").append(p).append(";version=\"1.0.0\""); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		manifest.append('\n');
+		write(metaInf.getFile("MANIFEST.MF"), manifest.toString()); //$NON-NLS-1$
+		write(project.getFile("plugin.xml"), """
+				<?xml version="1.0" encoding="UTF-8"?>
+				<?eclipse version="3.4"?>
+				<plugin>
+				   <extension point="org.eclipse.core.runtime.adapters">
+				      <factory adaptableType="java.lang.Object" class="Factory">
+				         <adapter type="java.lang.Runnable"/>
+				      </factory>
+				   </extension>
+				</plugin>
+				"""); //$NON-NLS-1$
+		write(project.getFile("build.properties"), "bin.includes = META-INF/,plugin.xml\n"); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	private static void write(IFile file, String contents) throws CoreException {
+		ByteArrayInputStream stream = new ByteArrayInputStream(contents.getBytes(StandardCharsets.UTF_8));
+		if (file.exists()) {
+			file.setContents(stream, IResource.FORCE, null);
+		} else {
+			file.create(stream, true, null);
+		}
+	}
+}
@@ -0,0 +1,172 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.project;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IncrementalProjectBuilder;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.pde.internal.ui.search.dependencies.ClassFileReferences;
+import org.eclipse.pde.ui.tests.runtime.TestUtils;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestName;
+import org.junit.rules.TestRule;
+
+public class ClassFileReferencesTest {
+
+	private static final String USES_CONCURRENT = """
+			package test.pack;
+			public class Sample {
+				public java.util.concurrent.Callable<String> task() {
+					return null;
+				}
+			}
+			""";
+
+	private static final String USES_NET = """
+			package test.pack;
+			public class Sample {
+				public java.net.URI location() {
+					return null;
+				}
+			}
+			""";
+
+	@Rule
+	public final TestRule deleteCreatedTestProjectsAfter = ProjectUtils.DELETE_CREATED_WORKSPACE_PROJECTS_AFTER;
+
+	@Rule
+	public final TestName name = new TestName();
+
+	private IJavaProject project;
+
+	@Before
+	public void setUp() throws Exception {
+		project = ProjectUtils.createPluginProject("test." + name.getMethodName().toLowerCase(), null);
+		project.getProject().getFolder(ProjectUtils.SRC_FOLDER + "/test").create(true, true, null);
+		project.getProject().getFolder(ProjectUtils.SRC_FOLDER + "/test/pack").create(true, true, null);
+	}
+
+	@Test
+	public void testReferences() throws Exception {
+		writeSource(USES_CONCURRENT);
+
+		ClassFileReferences references = ClassFileReferences.create(project, null);
+		assertThat(references.referencesPackage("java.util.concurrent")).isTrue();
+		assertThat(references.referencesPackage("java.net")).isFalse();
+		assertThat(references.isCompiled(getPackage())).isTrue();
+		assertThat(references.getApiReferences("test.pack")).contains("java.util.concurrent");
+
+		// read again from the unchanged class files
+		references = ClassFileReferences.create(project, null);
+		assertThat(references.referencesPackage("java.util.concurrent")).isTrue();
+		assertThat(references.getApiReferences("test.pack")).contains("java.util.concurrent");
+	}
+
+	@Test
+	public void testClassFileRebuilt() throws Exception {
+		writeSource(USES_CONCURRENT);
+		ageClassFile(60_000);
+		assertThat(ClassFileReferences.create(project, null).referencesPackage("java.util.concurrent")).isTrue();
+
+		writeSource(USES_NET);
+		ClassFileReferences references = ClassFileReferences.create(project, null);
+		assertThat(references.referencesPackage("java.net")).isTrue();
+		assertThat(references.referencesPackage("java.util.concurrent")).isFalse();
+		assertThat(references.getApiReferences("test.pack")).contains("java.net")
+				.doesNotContain("java.util.concurrent");
+	}
+
+	@Test
+	public void testClassFileChangedOnDisk() throws Exception {
+		writeSource(USES_CONCURRENT);
+		byte[] usesConcurrent = Files.readAllBytes(getClassFile().toPath());
+		writeSource(USES_NET);
+		ageClassFile(60_000);
+		assertThat(ClassFileReferences.create(project, null).referencesPackage("java.net")).isTrue();
+
+		// replaced without a refresh of the workspace
+		File classFile = getClassFile();
+		Files.write(classFile.toPath(), usesConcurrent);
+		ageClassFile(50_000);
+		ClassFileReferences references = ClassFileReferences.create(project, null);
+		assertThat(references.referencesPackage("java.util.concurrent")).isTrue();
+		assertThat(references.referencesPackage("java.net")).isFalse();
+	}
+
+	@Test
+	public void testClassFileRemoved() throws Exception {
+		writeSource(USES_CONCURRENT);
+		ageClassFile(60_000);
+		assertThat(ClassFileReferences.create(project, null).referencesPackage("java.util.concurrent")).isTrue();
+
+		getSourceFile().delete(true, null);
+		build();
+		ClassFileReferences references = ClassFileReferences.create(project, null);
+		assertThat(references.referencesPackage("java.util.concurrent")).isFalse();
+		assertThat(references.getApiReferences("test.pack")).isEmpty();
+	}
+
+	private void writeSource(String source) throws CoreException {
+		IFile file = getSourceFile();
+		ByteArrayInputStream contents = new ByteArrayInputStream(source.getBytes(StandardCharsets.UTF_8));
+		if (file.exists()) {
+			file.setContents(contents, true, false, null);
+		} else {
+			file.create(contents, true, null);
+		}
+		build();
+	}
+
+	private void build() throws CoreException {
+		project.getProject().build(IncrementalProjectBuilder.INCREMENTAL_BUILD, null);
+		TestUtils.waitForJobs(name.getMethodName(), 100, 10000);
+	}
+
+	private IFile getSourceFile() {
+		return project.getProject().getFile(ProjectUtils.SRC_FOLDER + "/test/pack/Sample.java");
+	}
+
+	private File getClassFile() {
+		IFolder output = project.getProject().getFolder(ProjectUtils.BIN_FOLDER);
+		File classFile = output.getFile("test/pack/Sample.class").getLocation().toFile();
+		assertThat(classFile).exists();
+		return classFile;
+	}
+
+	private IPackageFragment getPackage() {
+		return project.getPackageFragmentRoot(project.getProject().getFolder(ProjectUtils.SRC_FOLDER))
+				.getPackageFragment("test.pack");
+	}
+
+	/**
+	 * Moves the time stamp of the class file into the past, the class file is
+	 * then not read again as long as it does not change.
+	 */
+	private void ageClassFile(long age) {
+		assertThat(getClassFile().setLastModified(System.currentTimeMillis() - age)).isTrue();
+	}
+}
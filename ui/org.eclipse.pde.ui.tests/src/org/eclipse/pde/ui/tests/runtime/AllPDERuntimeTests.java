@@ -19,7 +19,7 @@ import org.junit.runners.Suite.SuiteClasses;
 
 
 @RunWith(Suite.class)
-@SuiteClasses({ LocalModelTest.class })
+@SuiteClasses({ LocalModelTest.class, LazyRegistryModelTest.class })
 public class AllPDERuntimeTests {
 
 }
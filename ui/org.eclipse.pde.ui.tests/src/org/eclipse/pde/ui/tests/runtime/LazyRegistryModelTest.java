@@ -0,0 +1,251 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.core.runtime.IConfigurationElement;
+import org.eclipse.core.runtime.IContributor;
+import org.eclipse.core.runtime.IExtension;
+import org.eclipse.core.runtime.IExtensionPoint;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.InvalidRegistryObjectException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.osgi.util.ManifestElement;
+import org.eclipse.pde.internal.runtime.registry.model.Attribute;
+import org.eclipse.pde.internal.runtime.registry.model.Bundle;
+import org.eclipse.pde.internal.runtime.registry.model.BundleLibrary;
+import org.eclipse.pde.internal.runtime.registry.model.BundlePrerequisite;
+import org.eclipse.pde.internal.runtime.registry.model.ConfigurationElement;
+import org.eclipse.pde.internal.runtime.registry.model.Extension;
+import org.eclipse.pde.internal.runtime.registry.model.ExtensionPoint;
+import org.eclipse.pde.internal.runtime.registry.model.LocalRegistryBackend;
+import org.eclipse.pde.internal.runtime.registry.model.ModelChangeDelta;
+import org.eclipse.pde.internal.runtime.registry.model.ModelChangeListener;
+import org.eclipse.pde.internal.runtime.registry.model.Property;
+import org.eclipse.pde.internal.runtime.registry.model.RegistryModel;
+import org.eclipse.pde.internal.runtime.registry.model.ServiceRegistration;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.osgi.framework.BundleException;
+import org.osgi.framework.Constants;
+import org.osgi.framework.FrameworkUtil;
+import org.osgi.framework.ServiceEvent;
+import org.osgi.framework.ServiceReference;
+
+/**
+ * Checks that the children the local registry backend creates on demand are
+ * the ones read directly from the framework and the extension registry.
+ */
+public class LazyRegistryModelTest implements ModelChangeListener {
+
+	private LocalRegistryBackend backend;
+	private RegistryModel model;
+	private final List<ModelChangeDelta> deltas = new ArrayList<>();
+
+	@Before
+	public void setUp() {
+		backend = new LocalRegistryBackend() {
+			@Override
+			public void connect(IProgressMonitor monitor) {
+				// events are sent by the test
+			}
+
+			@Override
+			public void disconnect() {
+				// empty
+			}
+		};
+		model = new RegistryModel(backend);
+		model.connect(new NullProgressMonitor(), true);
+		model.addModelChangeListener(this);
+	}
+
+	@After
+	public void tearDown() {
+		model.removeModelChangeListener(this);
+		model.disconnect();
+	}
+
+	@Override
+	public void modelChanged(ModelChangeDelta[] delta) {
+		deltas.addAll(Arrays.asList(delta));
+	}
+
+	@Test
+	public void testBundleHeaders() throws BundleException {
+		org.osgi.framework.Bundle[] bundles = FrameworkUtil.getBundle(LazyRegistryModelTest.class).getBundleContext()
+				.getBundles();
+		for (org.osgi.framework.Bundle bundle : bundles) {
+			Bundle adapter = model.getBundle(Long.valueOf(bundle.getBundleId()));
+			assertThat(adapter).as(bundle.getSymbolicName()).isNotNull();
+
+			assertPrerequisites(bundle, Constants.REQUIRE_BUNDLE, adapter.getImports());
+			assertPrerequisites(bundle, Constants.IMPORT_PACKAGE, adapter.getImportedPackages());
+			assertPrerequisites(bundle, Constants.EXPORT_PACKAGE, adapter.getExportedPackages());
+			ManifestElement[] libraries = parseHeader(bundle, Constants.BUNDLE_CLASSPATH);
+			assertThat(adapter.getLibraries()).extracting(BundleLibrary::getLibrary)
+					.containsExactly(Arrays.stream(libraries).map(ManifestElement::getValue).toArray(String[]::new));
+		}
+	}
+
+	@Test
+	public void testConfigurationElements() {
+		IExtensionPoint[] extensionPoints = { Platform.getExtensionRegistry().getExtensionPoint("org.eclipse.ui.views"),
+				Platform.getExtensionRegistry().getExtensionPoint("org.eclipse.ui.commands"),
+				Platform.getExtensionRegistry().getExtensionPoint("org.eclipse.core.runtime.preferences") };
+		for (IExtensionPoint extensionPoint : extensionPoints) {
+			ExtensionPoint adapter = model.getExtensionPoint(extensionPoint.getUniqueIdentifier());
+			assertThat(adapter).as(extensionPoint.getUniqueIdentifier()).isNotNull();
+			IExtension[] extensions = extensionPoint.getExtensions();
+			assertThat(adapter.getExtensions()).hasSize(extensions.length);
+			for (int i = 0; i < extensions.length; i++) {
+				ConfigurationElement[] elements = adapter.getExtensions().get(i).getConfigurationElements();
+				assertElements(extensions[i].getConfigurationElements(), elements);
+				// created once
+				assertThat(adapter.getExtensions().get(i).getConfigurationElements()).isSameAs(elements);
+			}
+		}
+	}
+
+	@Test
+	public void testConfigurationElementsRequestedConcurrently() throws Exception {
+		IExtension extension = Platform.getExtensionRegistry().getExtensionPoint("org.eclipse.ui.views")
+				.getExtensions()[0];
+		backend.added(new IExtension[] { extension });
+		Extension adapter = (Extension) deltas.get(deltas.size() - 1).getModelObject();
+
+		List<CompletableFuture<ConfigurationElement[]>> requests = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			requests.add(CompletableFuture.supplyAsync(adapter::getConfigurationElements));
+		}
+		ConfigurationElement[] elements = adapter.getConfigurationElements();
+		for (CompletableFuture<ConfigurationElement[]> request : requests) {
+			assertThat(request.get()).isSameAs(elements);
+		}
+		assertElements(extension.getConfigurationElements(), elements);
+	}
+
+	@Test
+	public void testRemovedExtension() {
+		IContributor contributor = mock(IContributor.class);
+		when(contributor.getName()).thenReturn("removed.bundle");
+		IExtension extension = mock(IExtension.class);
+		when(extension.getContributor()).thenReturn(contributor);
+		when(extension.getExtensionPointUniqueIdentifier()).thenReturn("org.eclipse.ui.views");
+		when(extension.getConfigurationElements()).thenThrow(new InvalidRegistryObjectException());
+		backend.added(new IExtension[] { extension });
+
+		Extension adapter = (Extension) deltas.get(deltas.size() - 1).getModelObject();
+		assertThat(adapter.getConfigurationElements()).isEmpty();
+	}
+
+	@Test
+	public void testServiceProperties() {
+		org.osgi.framework.ServiceRegistration<?> registration = FrameworkUtil.getBundle(LazyRegistryModelTest.class)
+				.getBundleContext().registerService(getClass().getName(), this,
+						FrameworkUtil.asDictionary(Map.of("test.key", new String[] { "a", "b" })));
+		try {
+			ServiceReference<?> reference = registration.getReference();
+			backend.serviceChanged(new ServiceEvent(ServiceEvent.REGISTERED, reference));
+			ServiceRegistration adapter = deltas.stream().map(ModelChangeDelta::getModelObject)
+					.filter(ServiceRegistration.class::isInstance).map(ServiceRegistration.class::cast).findFirst()
+					.orElseThrow();
+
+			Property[] properties = adapter.getProperties();
+			assertThat(properties).extracting(Property::getName).containsExactly(reference.getPropertyKeys());
+			for (Property property : properties) {
+				assertThat(property.getValue()).as(property.getName())
+						.isEqualTo(ServiceRegistration.toString(reference.getProperty(property.getName())));
+			}
+		} finally {
+			registration.unregister();
+		}
+	}
+
+	private static void assertPrerequisites(org.osgi.framework.Bundle bundle, String header,
+			BundlePrerequisite[] prerequisites) throws BundleException {
+		ManifestElement[] elements = parseHeader(bundle, header);
+		assertThat(prerequisites).as(bundle.getSymbolicName() + ' ' + header).hasSize(elements.length);
+		for (int i = 0; i < elements.length; i++) {
+			BundlePrerequisite prerequisite = prerequisites[i];
+			assertThat(prerequisite.getName()).isEqualTo(elements[i].getValue());
+			if (header.equals(Constants.REQUIRE_BUNDLE)) {
+				assertThat(prerequisite.isPackage()).isFalse();
+				assertThat(prerequisite.getVersion())
+						.isEqualTo(elements[i].getAttribute(Constants.BUNDLE_VERSION_ATTRIBUTE));
+				assertThat(prerequisite.isExported()).isEqualTo(
+						Constants.VISIBILITY_REEXPORT.equals(elements[i].getDirective(Constants.VISIBILITY_DIRECTIVE)));
+			} else {
+				assertThat(prerequisite.isPackage()).isTrue();
+				assertThat(prerequisite.getVersion()).isEqualTo(elements[i].getAttribute(Constants.VERSION_ATTRIBUTE));
+			}
+		}
+	}
+
+	private static ManifestElement[] parseHeader(org.osgi.framework.Bundle bundle, String header)
+			throws BundleException {
+		ManifestElement[] elements = ManifestElement.parseHeader(header, bundle.getHeaders().get(header));
+		return elements == null ? new ManifestElement[0] : elements;
+	}
+
+	private static void assertElements(IConfigurationElement[] expected, Attribute[] actual) {
+		assertThat(actual).hasSize(expected.length);
+		for (int i = 0; i < expected.length; i++) {
+			assertThat(actual[i]).isInstanceOf(ConfigurationElement.class);
+			assertElement(expected[i], (ConfigurationElement) actual[i]);
+		}
+	}
+
+	private static void assertElement(IConfigurationElement expected, ConfigurationElement actual) {
+		assertThat(actual.getName()).isEqualTo(getName(expected));
+		IConfigurationElement[] children = expected.getChildren();
+		String[] attributeNames = expected.getAttributeNames();
+		Attribute[] elements = actual.getElements();
+		// the children come first, followed by the attributes
+		assertThat(elements).hasSize(children.length + attributeNames.length);
+		assertElements(children, Arrays.copyOf(elements, children.length));
+		for (int i = 0; i < attributeNames.length; i++) {
+			Attribute attribute = elements[children.length + i];
+			assertThat(attribute).isNotInstanceOf(ConfigurationElement.class);
+			assertThat(attribute.getName()).isEqualTo(attributeNames[i]);
+			assertThat(attribute.getValue()).isEqualTo(expected.getAttribute(attributeNames[i]));
+		}
+	}
+
+	private static String getName(IConfigurationElement element) {
+		String label = element.getAttribute("label");
+		if (label == null) {
+			label = element.getName();
+		}
+		if (label == null) {
+			label = element.getAttribute("name");
+		}
+		if (label == null && element.getAttribute("id") != null) {
+			String[] segments = element.getAttribute("id").split("\\.");
+			label = segments.length == 0 ? null : segments[segments.length - 1];
+		}
+		return label;
+	}
+}
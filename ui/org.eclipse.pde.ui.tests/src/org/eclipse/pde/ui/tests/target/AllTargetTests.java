@@ -26,6 +26,7 @@ import org.junit.runners.Suite.SuiteClasses;
 		TargetDefinitionResolutionTests.class, //
 		TargetDefinitionFeatureResolutionTests.class, //
 		IUBundleContainerTests.class, //
+		ArtifactMaterializerTests.class, //
 		ProfileContainerTests.class })
 public class AllTargetTests {
 
@@ -0,0 +1,196 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.target;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+
+import org.eclipse.equinox.p2.metadata.IArtifactKey;
+import org.eclipse.equinox.p2.metadata.IInstallableUnit;
+import org.eclipse.equinox.p2.metadata.MetadataFactory;
+import org.eclipse.equinox.p2.metadata.MetadataFactory.InstallableUnitDescription;
+import org.eclipse.equinox.p2.metadata.Version;
+import org.eclipse.equinox.p2.repository.artifact.IArtifactRepository;
+import org.eclipse.equinox.p2.repository.artifact.IArtifactRepositoryManager;
+import org.eclipse.equinox.p2.repository.artifact.IFileArtifactRepository;
+import org.eclipse.equinox.p2.repository.artifact.spi.ArtifactDescriptor;
+import org.eclipse.pde.internal.core.target.ArtifactMaterializer;
+import org.eclipse.pde.internal.core.target.ArtifactMaterializer.Result;
+import org.eclipse.pde.internal.core.target.P2TargetUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests materializing artifacts from a generated local repository into a bundle
+ * pool.
+ */
+public class ArtifactMaterializerTests {
+
+	private static final int ARTIFACTS = 20;
+	private static final int ARTIFACT_SIZE = 1024;
+	private static final String SHA_256 = "artifact.checksum.sha-256"; //$NON-NLS-1$
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private IArtifactRepositoryManager manager;
+	private IFileArtifactRepository source;
+	private IFileArtifactRepository pool;
+	private List<IInstallableUnit> units;
+
+	@Before
+	public void setUp() throws Exception {
+		manager = P2TargetUtils.getArtifactRepositoryManager();
+		source = createRepository("source"); //$NON-NLS-1$
+		pool = createRepository("pool"); //$NON-NLS-1$
+		units = new ArrayList<>(ARTIFACTS);
+		for (int i = 0; i < ARTIFACTS; i++) {
+			String id = "materializer.bundle" + i; //$NON-NLS-1$
+			Version version = Version.createOSGi(1, 0, i);
+			IArtifactKey key = source.createArtifactKey("osgi.bundle", id, version); //$NON-NLS-1$
+			write(source, key, content(i));
+			InstallableUnitDescription description = new InstallableUnitDescription();
+			description.setId(id);
+			description.setVersion(version);
+			description.setArtifacts(new IArtifactKey[] { key });
+			units.add(MetadataFactory.createInstallableUnit(description));
+		}
+	}
+
+	@After
+	public void tearDown() {
+		for (URI location : new URI[] { source.getLocation(), pool.getLocation() }) {
+			manager.removeRepository(location);
+		}
+	}
+
+	@Test
+	public void testColdAndWarmPool() throws Exception {
+		ArtifactMaterializer materializer = new ArtifactMaterializer(pool, List.of(source),
+				ArtifactMaterializer.DEFAULT_REPOSITORY_LIMIT);
+
+		Result cold = materializer.materialize(units, null);
+		assertThat(cold.fetched()).isEqualTo(ARTIFACTS);
+		assertThat(cold.skipped()).isZero();
+		assertThat(cold.bytes()).isEqualTo((long) ARTIFACTS * ARTIFACT_SIZE);
+		for (int i = 0; i < ARTIFACTS; i++) {
+			IArtifactKey key = getKey(i);
+			assertThat(pool.getArtifactDescriptors(key)).hasSize(1);
+			assertThat(Files.readAllBytes(pool.getArtifactFile(key).toPath())).isEqualTo(content(i));
+		}
+
+		Result warm = materializer.materialize(units, null);
+		assertThat(warm.fetched()).isZero();
+		assertThat(warm.skipped()).isEqualTo(ARTIFACTS);
+		assertThat(warm.bytes()).isZero();
+	}
+
+	@Test
+	public void testMissingFileIsFetchedAgain() throws Exception {
+		ArtifactMaterializer materializer = new ArtifactMaterializer(pool, List.of(source), 1);
+		materializer.materialize(units, null);
+
+		IArtifactKey key = getKey(0);
+		assertThat(pool.getArtifactFile(key).delete()).isTrue();
+
+		Result result = materializer.materialize(units, null);
+		assertThat(result.fetched()).isEqualTo(1);
+		assertThat(result.skipped()).isEqualTo(ARTIFACTS - 1);
+		assertThat(pool.getArtifactDescriptors(key)).hasSize(1);
+		assertThat(Files.readAllBytes(pool.getArtifactFile(key).toPath())).isEqualTo(content(0));
+	}
+
+	@Test
+	public void testStaleArtifactReplacedWhenVerified() throws Exception {
+		IArtifactKey key = getKey(0);
+		byte[] stale = content(100);
+		write(pool, key, stale);
+		ArtifactMaterializer materializer = new ArtifactMaterializer(pool, List.of(source), 1);
+
+		// the source file does not match its checksum, the stale artifact is kept
+		File sourceFile = source.getArtifactFile(key);
+		Files.write(sourceFile.toPath(), content(200));
+		Result result = materializer.materialize(units, null);
+		assertThat(result.fetched()).isEqualTo(ARTIFACTS - 1);
+		assertThat(pool.getArtifactDescriptors(key)).hasSize(1);
+		assertThat(pool.getArtifactDescriptors(key)[0].getProperty(SHA_256)).isEqualTo(sha256(stale));
+		assertThat(Files.readAllBytes(pool.getArtifactFile(key).toPath())).isEqualTo(stale);
+
+		Files.write(sourceFile.toPath(), content(0));
+		result = materializer.materialize(units, null);
+		assertThat(result.fetched()).isEqualTo(1);
+		assertThat(result.skipped()).isEqualTo(ARTIFACTS - 1);
+		assertThat(pool.getArtifactDescriptors(key)).hasSize(1);
+		assertThat(pool.getArtifactDescriptors(key)[0].getProperty(SHA_256)).isEqualTo(sha256(content(0)));
+		assertThat(Files.readAllBytes(pool.getArtifactFile(key).toPath())).isEqualTo(content(0));
+	}
+
+	@Test
+	public void testTempFilesOfOtherMaterializationsKept() throws Exception {
+		Path tempFolder = Files.createDirectories(new File(pool.getLocation()).toPath().resolve(".tmp")); //$NON-NLS-1$
+		Path other = Files.createFile(tempFolder.resolve("other.part")); //$NON-NLS-1$
+		Path otherFolder = Files.createDirectory(tempFolder.resolve("materialize1")); //$NON-NLS-1$
+		Path otherInFolder = Files.createFile(otherFolder.resolve("bundle.part")); //$NON-NLS-1$
+
+		Result result = new ArtifactMaterializer(pool, List.of(source), ArtifactMaterializer.DEFAULT_REPOSITORY_LIMIT)
+				.materialize(units, null);
+		assertThat(result.fetched()).isEqualTo(ARTIFACTS);
+		assertThat(other).exists();
+		assertThat(otherInFolder).exists();
+		// the temporary folder of the materialization is removed
+		try (var files = Files.list(tempFolder)) {
+			assertThat(files).containsExactlyInAnyOrder(other, otherFolder);
+		}
+	}
+
+	private IFileArtifactRepository createRepository(String name) throws Exception {
+		return (IFileArtifactRepository) manager.createRepository(folder.newFolder(name).toURI(), name,
+				IArtifactRepositoryManager.TYPE_SIMPLE_REPOSITORY, null);
+	}
+
+	private IArtifactKey getKey(int artifact) {
+		return units.get(artifact).getArtifacts().iterator().next();
+	}
+
+	private static void write(IArtifactRepository repository, IArtifactKey key, byte[] content) throws Exception {
+		ArtifactDescriptor descriptor = new ArtifactDescriptor(key);
+		descriptor.setProperty(SHA_256, sha256(content));
+		try (OutputStream stream = repository.getOutputStream(descriptor)) {
+			stream.write(content);
+		}
+	}
+
+	private static byte[] content(int artifact) {
+		byte[] content = new byte[ARTIFACT_SIZE];
+		Arrays.fill(content, (byte) artifact);
+		return content;
+	}
+
+	private static String sha256(byte[] content) throws Exception {
+		return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content)); //$NON-NLS-1$
+	}
+}
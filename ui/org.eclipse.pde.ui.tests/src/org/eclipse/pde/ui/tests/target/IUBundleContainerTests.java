@@ -25,9 +25,12 @@ import java.io.File;
 import java.net.URI;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import javax.xml.parsers.DocumentBuilder;
 
@@ -60,6 +63,7 @@ import org.eclipse.pde.internal.core.target.P2TargetUtils;
 import org.eclipse.pde.internal.core.target.TargetDefinition;
 import org.eclipse.pde.internal.core.target.TargetDefinitionPersistenceHelper;
 import org.eclipse.pde.internal.core.target.TargetPersistence38Helper;
+import org.eclipse.pde.internal.core.target.TargetResolutionCache;
 import org.eclipse.pde.internal.core.target.VirtualArtifactRepository;
 import org.junit.Test;
 import org.osgi.framework.FrameworkUtil;
@@ -564,6 +568,64 @@ public class IUBundleContainerTests extends AbstractTargetTest {
 		assertTrue(profiles.isEmpty());
 	}
 
+	/**
+	 * Resolving a target again from the resolution cache after the profile
+	 * held the units of another target.
+	 */
+	@Test
+	public void testResolveFromCacheAfterOtherTarget() throws Exception {
+		TargetResolutionCache.clear();
+		ITargetDefinition target = getTargetService().newTarget();
+		getTargetService().saveTargetDefinition(target);
+		ITargetHandle handle = target.getHandle();
+		try {
+			Set<String> unitsA = resolveUnits(handle, "feature.b.feature.group",
+					"bundle.a1", "bundle.a2", "bundle.a3", "bundle.b1", "bundle.b2", "bundle.b3");
+			Set<String> unitsB = resolveUnits(handle, "feature.a.feature.group", "bundle.a1", "bundle.a2",
+					"bundle.a3");
+			assertTrue(unitsA.containsAll(unitsB));
+			assertNotEquals(unitsA, unitsB);
+			assertEquals(2, getCachedResolutions());
+
+			// resolved from the cache, the units of the other target are removed
+			assertEquals(unitsA, resolveUnits(handle, "feature.b.feature.group", "bundle.a1", "bundle.a2",
+					"bundle.a3", "bundle.b1", "bundle.b2", "bundle.b3"));
+			assertEquals(2, getCachedResolutions());
+		} finally {
+			getTargetService().deleteTarget(handle);
+			P2TargetUtils.cleanOrphanedTargetDefinitionProfiles();
+			TargetResolutionCache.clear();
+		}
+	}
+
+	/**
+	 * Resolves the target of the given handle with a single root unit and
+	 * checks the bundles it contains.
+	 *
+	 * @return the id and version of every unit in the profile of the target
+	 */
+	private Set<String> resolveUnits(ITargetHandle handle, String rootUnit, String... bundleIds) throws Exception {
+		ITargetDefinition target = handle.getTargetDefinition();
+		target.setTargetLocations(new ITargetLocation[] { createContainer(new String[] { rootUnit }) });
+		getTargetService().saveTargetDefinition(target);
+		target = handle.getTargetDefinition();
+		Set<String> units = new HashSet<>();
+		for (IInstallableUnit unit : P2TargetUtils.getIUs(target, null)) {
+			units.add(unit.getId() + '_' + unit.getVersion());
+		}
+		List<BundleInfo> infos = getAllBundleInfos(target);
+		assertEquals(Set.of(bundleIds), collectAllSymbolicNames(infos));
+		assertEquals(bundleIds.length, infos.size());
+		return units;
+	}
+
+	private static long getCachedResolutions() throws Exception {
+		try (Stream<Path> entries = Files.list(
+				PDECore.getDefault().getStateLocation().append(".resolution_cache").toPath())) {
+			return entries.filter(entry -> entry.getFileName().toString().endsWith(".units")).count();
+		}
+	}
+
 	/**
 	 * Tests overlapping IU containers.
 	 */
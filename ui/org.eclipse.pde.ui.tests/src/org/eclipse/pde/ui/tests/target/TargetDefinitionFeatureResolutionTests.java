@@ -17,15 +17,24 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.pde.core.plugin.TargetPlatform;
 import org.eclipse.pde.core.target.ITargetDefinition;
@@ -33,10 +42,14 @@ import org.eclipse.pde.core.target.ITargetLocation;
 import org.eclipse.pde.core.target.NameVersionDescriptor;
 import org.eclipse.pde.core.target.TargetBundle;
 import org.eclipse.pde.core.target.TargetFeature;
+import org.eclipse.pde.internal.core.ExternalFeatureModelManager;
 import org.eclipse.pde.internal.core.PDECore;
 import org.eclipse.pde.internal.core.ifeature.IFeatureModel;
+import org.eclipse.pde.internal.core.target.TargetDefinition;
 import org.eclipse.pde.ui.tests.PDETestCase;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 /**
  * Tests whether targets and bundle containers manage features correctly.
@@ -45,6 +58,9 @@ import org.junit.Test;
  */
 public class TargetDefinitionFeatureResolutionTests extends AbstractTargetTest {
 
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
 	/**
 	 * Tests that a directory bundle container provides the correct features to
 	 * a target
@@ -398,4 +414,98 @@ public class TargetDefinitionFeatureResolutionTests extends AbstractTargetTest {
 		assertEquals(features[0].getId(), possibleFeatures.get(0).getFeature().getId());
 	}
 
-}
\ No newline at end of file
+	/**
+	 * Tests that the features of a location read concurrently are the ones
+	 * found at the location, once per id and version, with the progress
+	 * reported from the calling thread
+	 */
+	@Test
+	public void testCreateFeatures() throws Exception {
+		File location = folder.newFolder("location");
+		for (int i = 0; i < 50; i++) {
+			writeFeature(new File(location, "features/feature" + i), "feature" + i, "1.0.0");
+		}
+		// the same feature in another directory
+		writeFeature(new File(location, "features/copy"), "feature0", "1.0.0");
+		// a directory without a feature
+		assertTrue(new File(location, "features/none").mkdirs());
+
+		Thread caller = Thread.currentThread();
+		AtomicInteger worked = new AtomicInteger();
+		List<Thread> reporters = new ArrayList<>();
+		NullProgressMonitor monitor = new NullProgressMonitor() {
+			@Override
+			public void worked(int work) {
+				reporters.add(Thread.currentThread());
+				worked.addAndGet(work);
+			}
+
+			@Override
+			public void internalWorked(double work) {
+				reporters.add(Thread.currentThread());
+			}
+		};
+		TargetFeature[] features = ExternalFeatureModelManager.createFeatures(location.getPath(), new ArrayList<>(),
+				monitor);
+
+		Set<String> ids = new HashSet<>();
+		for (TargetFeature feature : features) {
+			assertTrue("Duplicate feature in result: " + feature.getId(), ids.add(feature.getId()));
+			assertEquals("1.0.0", feature.getVersion());
+		}
+		assertEquals(50, ids.size());
+		assertTrue(worked.get() > 0);
+		assertTrue("Progress reported from another thread", reporters.stream().allMatch(caller::equals));
+
+		NullProgressMonitor canceled = new NullProgressMonitor();
+		canceled.setCanceled(true);
+		assertThrows(OperationCanceledException.class,
+				() -> ExternalFeatureModelManager.createFeatures(location.getPath(), new ArrayList<>(), canceled));
+	}
+
+	/**
+	 * Tests that the features cached for a location are read again once a
+	 * feature manifest changes, even if the directories are not modified
+	 */
+	@Test
+	public void testResolveFeaturesChangedInPlace() throws Exception {
+		File location = folder.newFolder("location");
+		File featureDir = new File(location, "features/feature");
+		writeFeature(featureDir, "feature", "1.0.0");
+		writeFeature(new File(location, "features/other"), "other", "1.0.0");
+		TargetDefinition definition = (TargetDefinition) getNewTarget();
+
+		TargetFeature[] features = definition.resolveFeatures(location.getPath(), null);
+		assertEquals(2, features.length);
+		assertSame(features, definition.resolveFeatures(location.getPath(), null));
+
+		File manifest = new File(featureDir, "feature.xml");
+		long manifestStamp = manifest.lastModified();
+		long[] directoryStamps = Arrays.stream(directories(location)).mapToLong(File::lastModified).toArray();
+		writeFeature(featureDir, "feature", "2.0.0");
+		assertTrue(manifest.setLastModified(manifestStamp + 10_000));
+		File[] directories = directories(location);
+		for (int i = 0; i < directories.length; i++) {
+			assertTrue(directories[i].setLastModified(directoryStamps[i]));
+		}
+
+		features = definition.resolveFeatures(location.getPath(), null);
+		assertEquals(2, features.length);
+		TargetFeature changed = Arrays.stream(features).filter(f -> f.getId().equals("feature")).findFirst()
+				.orElseThrow();
+		assertEquals("2.0.0", changed.getVersion());
+		assertSame(features, definition.resolveFeatures(location.getPath(), null));
+	}
+
+	private static File[] directories(File location) {
+		return new File[] { location, new File(location, "features"), new File(location, "features/feature") };
+	}
+
+	private static void writeFeature(File directory, String id, String version) throws IOException {
+		Files.createDirectories(directory.toPath());
+		Files.writeString(directory.toPath().resolve("feature.xml"),
+				"<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<feature id=\"" + id + "\" version=\"" + version
+						+ "\"/>\n");
+	}
+
+}
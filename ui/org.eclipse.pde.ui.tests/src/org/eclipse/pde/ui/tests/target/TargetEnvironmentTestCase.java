@@ -14,14 +14,22 @@
 package org.eclipse.pde.ui.tests.target;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.fail;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Dictionary;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.jar.Attributes;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -34,8 +42,13 @@ import org.eclipse.core.runtime.Platform;
 import org.eclipse.jdt.launching.IVMInstall;
 import org.eclipse.jdt.launching.JavaRuntime;
 import org.eclipse.jdt.launching.environments.IExecutionEnvironment;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.plugin.PluginRegistry;
 import org.eclipse.pde.core.plugin.TargetPlatform;
+import org.eclipse.pde.core.target.ITargetDefinition;
+import org.eclipse.pde.core.target.ITargetLocation;
 import org.eclipse.pde.internal.core.TargetPlatformHelper;
+import org.eclipse.pde.ui.tests.PDETestCase;
 import org.eclipse.pde.ui.tests.runtime.TestUtils;
 import org.eclipse.pde.ui.tests.util.ProjectUtils;
 import org.eclipse.pde.ui.tests.util.TargetPlatformUtil;
@@ -182,6 +195,68 @@ public class TargetEnvironmentTestCase {
 		return Arrays.stream(platformPackages.split(","));
 	}
 
+	/**
+	 * Switches between targets that only differ in their operating system, the
+	 * resolution of the bundles has to follow the platform filters.
+	 */
+	@Test
+	public void testSwitchTargetEnvironmentOnly() throws Exception {
+		Path directory = Files.createTempDirectory("targetEnvironment");
+		try {
+			createBundle(directory, "environment.linux", "(osgi.os=linux)");
+			createBundle(directory, "environment.win32", "(osgi.os=win32)");
+
+			loadTarget(directory, Platform.OS_LINUX);
+			assertResolved("environment.linux", true);
+			assertResolved("environment.win32", false);
+
+			loadTarget(directory, Platform.OS_WIN32);
+			assertEquals(Platform.OS_WIN32, TargetPlatform.getOS());
+			assertEquals(Platform.OS_WIN32, TargetPlatformHelper.getState().getPlatformProperties()[0].get("osgi.os"));
+			assertResolved("environment.linux", false);
+			assertResolved("environment.win32", true);
+
+			loadTarget(directory, Platform.OS_LINUX);
+			assertResolved("environment.linux", true);
+			assertResolved("environment.win32", false);
+		} finally {
+			TargetPlatformUtil.setRunningPlatformAsTarget();
+			PDETestCase.delete(directory.toFile());
+		}
+	}
+
+	private static void loadTarget(Path directory, String os) throws InterruptedException {
+		ITargetDefinition target = TargetPlatformUtil.TPS.newTarget();
+		target.setName("environment " + os);
+		target.setOS(os);
+		target.setWS(Platform.getWS());
+		target.setArch(Platform.getOSArch());
+		target.setNL(Platform.getNL());
+		target.setTargetLocations(
+				new ITargetLocation[] { TargetPlatformUtil.TPS.newDirectoryLocation(directory.toString()) });
+		TargetPlatformUtil.loadAndSetTarget(target);
+	}
+
+	private static void assertResolved(String id, boolean resolved) {
+		IPluginModelBase model = PluginRegistry.findModel(id);
+		assertNotNull(id, model);
+		assertEquals(id, resolved, model.getBundleDescription().isResolved());
+	}
+
+	private static void createBundle(Path directory, String symbolicName, String platformFilter) throws IOException {
+		Manifest manifest = new Manifest();
+		Attributes attributes = manifest.getMainAttributes();
+		attributes.put(Attributes.Name.MANIFEST_VERSION, "1.0");
+		attributes.putValue(Constants.BUNDLE_MANIFESTVERSION, "2");
+		attributes.putValue(Constants.BUNDLE_SYMBOLICNAME, symbolicName);
+		attributes.putValue(Constants.BUNDLE_VERSION, "1.0.0");
+		attributes.putValue("Eclipse-PlatformFilter", platformFilter);
+		Path jar = directory.resolve(symbolicName + "_1.0.0.jar");
+		try (OutputStream stream = Files.newOutputStream(jar); JarOutputStream out = new JarOutputStream(stream, manifest)) {
+			// manifest only
+		}
+	}
+
 	@Test
 	public void testProjectWithJVMImports() throws CoreException {
 		// A Java-1.7 VM does not provide the java.util.function package
@@ -0,0 +1,169 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.views.imagebrowser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.pde.internal.ui.views.imagebrowser.IImageTarget;
+import org.eclipse.pde.internal.ui.views.imagebrowser.ImageElement;
+import org.eclipse.pde.internal.ui.views.imagebrowser.repositories.AbstractRepository;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.ImageLoader;
+import org.eclipse.swt.graphics.PaletteData;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class AbstractRepositoryTest {
+
+	private static final int IMAGES = 100;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private File jar;
+
+	@Before
+	public void setUp() throws IOException {
+		jar = folder.newFile("images.jar");
+		try (ZipOutputStream out = new ZipOutputStream(new FileOutputStream(jar))) {
+			for (int i = 0; i < IMAGES; i++) {
+				out.putNextEntry(new ZipEntry("icons/image" + i + ".png"));
+				out.write(createPng(width(i), height(i)));
+				out.closeEntry();
+			}
+		}
+	}
+
+	@Test
+	public void testDecodeAhead() throws InterruptedException {
+		CollectingTarget target = new CollectingTarget();
+		JarRepository repository = new JarRepository(target, jar);
+		repository.schedule();
+		repository.join();
+
+		assertThat(target.elements).hasSize(IMAGES);
+		for (int i = 0; i < IMAGES; i++) {
+			ImageElement element = target.elements.get(i);
+			assertThat(element.getPath()).isEqualTo("icons/image" + i + ".png");
+			// the size is known from the index
+			assertThat(element.getWidth()).isEqualTo(width(i));
+			assertThat(element.getHeight()).isEqualTo(height(i));
+			ImageData imageData = element.getImageData();
+			assertThat(imageData.width).isEqualTo(width(i));
+			assertThat(imageData.height).isEqualTo(height(i));
+		}
+	}
+
+	@Test
+	public void testDecodeWhileDecodingAhead() throws Exception {
+		CollectingTarget target = new CollectingTarget();
+		JarRepository repository = new JarRepository(target, jar);
+		List<Exception> failures = new ArrayList<>();
+		repository.schedule();
+		// decodes the notified images while the job decodes the next ones
+		// from the jar it keeps open
+		int decoded = 0;
+		while (repository.getState() != Job.NONE || decoded < target.elements.size()) {
+			if (decoded < target.elements.size()) {
+				ImageElement element = target.elements.get(decoded);
+				try {
+					assertThat(repository.decode(element.getPath()).width).isEqualTo(width(decoded));
+				} catch (CoreException e) {
+					failures.add(e);
+				}
+				decoded++;
+			} else {
+				Thread.onSpinWait();
+			}
+		}
+		repository.join();
+
+		assertThat(failures).isEmpty();
+		assertThat(decoded).isEqualTo(IMAGES);
+		// the jar kept open has been closed, the images are read again
+		assertThat(repository.decode("icons/image0.png").width).isEqualTo(width(0));
+	}
+
+	private static int width(int image) {
+		return image % 40 + 1;
+	}
+
+	private static int height(int image) {
+		return image / 2 + 1;
+	}
+
+	private static byte[] createPng(int width, int height) {
+		ImageLoader loader = new ImageLoader();
+		loader.data = new ImageData[] { new ImageData(width, height, 24, new PaletteData(0xFF0000, 0xFF00, 0xFF)) };
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		loader.save(out, SWT.IMAGE_PNG);
+		return out.toByteArray();
+	}
+
+	private static class CollectingTarget implements IImageTarget {
+
+		final List<ImageElement> elements = new CopyOnWriteArrayList<>();
+
+		@Override
+		public void notifyImage(ImageElement element) {
+			elements.add(element);
+		}
+
+		@Override
+		public boolean needsMore() {
+			return true;
+		}
+	}
+
+	private static class JarRepository extends AbstractRepository {
+
+		private final File fJar;
+		private boolean fSearched;
+
+		JarRepository(IImageTarget target, File jar) {
+			super(target);
+			fJar = jar;
+		}
+
+		@Override
+		protected boolean populateCache(IProgressMonitor monitor) {
+			if (fSearched) {
+				return false;
+			}
+			fSearched = true;
+			searchJarFile(fJar, monitor);
+			return !mElementsCache.isEmpty();
+		}
+
+		ImageData decode(String entryName) throws CoreException {
+			return createImageData(fJar, entryName);
+		}
+	}
+}
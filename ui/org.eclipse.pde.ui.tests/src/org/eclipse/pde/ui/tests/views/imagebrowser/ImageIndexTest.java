@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.views.imagebrowser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.eclipse.pde.internal.ui.views.imagebrowser.repositories.ImageIndex;
+import org.eclipse.pde.internal.ui.views.imagebrowser.repositories.ImageIndex.Entry;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ImageIndexTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private static final List<Entry> ENTRIES = List.of(new Entry("icons/a.png", 16, 16),
+			new Entry("icons/b.gif", 8, 24), new Entry("icons/c.png", -1, -1));
+
+	private Path indexFile;
+	private File jar;
+
+	@Before
+	public void setUp() throws IOException {
+		indexFile = folder.getRoot().toPath().resolve("images.index");
+		jar = folder.newFile("bundle.jar");
+		Files.write(jar.toPath(), new byte[] { 1, 2, 3 });
+	}
+
+	@Test
+	public void testPutAndGet() {
+		ImageIndex index = new ImageIndex(indexFile);
+		assertThat(index.get(jar)).isNull();
+
+		index.put(jar, jar.lastModified(), jar.length(), ENTRIES);
+		assertThat(index.get(jar)).isEqualTo(ENTRIES);
+	}
+
+	@Test
+	public void testSaveAndLoad() {
+		ImageIndex index = new ImageIndex(indexFile);
+		index.put(jar, jar.lastModified(), jar.length(), ENTRIES);
+		index.save();
+
+		assertThat(new ImageIndex(indexFile).get(jar)).isEqualTo(ENTRIES);
+	}
+
+	@Test
+	public void testJarModified() throws IOException {
+		ImageIndex index = new ImageIndex(indexFile);
+		index.put(jar, jar.lastModified(), jar.length(), ENTRIES);
+
+		assertThat(jar.setLastModified(jar.lastModified() + 10_000)).isTrue();
+		assertThat(index.get(jar)).isNull();
+
+		// same time stamp, different length
+		long lastModified = jar.lastModified();
+		index.put(jar, lastModified, jar.length(), ENTRIES);
+		Files.write(jar.toPath(), new byte[] { 1, 2, 3, 4 });
+		assertThat(jar.setLastModified(lastModified)).isTrue();
+		assertThat(index.get(jar)).isNull();
+	}
+
+	@Test
+	public void testDeletedJarNotSaved() throws IOException {
+		File other = folder.newFile("other.jar");
+		ImageIndex index = new ImageIndex(indexFile);
+		index.put(jar, jar.lastModified(), jar.length(), ENTRIES);
+		index.put(other, other.lastModified(), other.length(), ENTRIES);
+		Files.delete(other.toPath());
+		index.save();
+
+		ImageIndex loaded = new ImageIndex(indexFile);
+		assertThat(loaded.get(jar)).isEqualTo(ENTRIES);
+		assertThat(other.createNewFile()).isTrue();
+		assertThat(loaded.get(other)).isNull();
+	}
+
+	@Test
+	public void testCorruptIndex() throws IOException {
+		Files.write(indexFile, new byte[] { 0, 0, 0, 1, 0, 0, 0, 5, 0 });
+		assertThat(new ImageIndex(indexFile).get(jar)).isNull();
+	}
+
+	@Test
+	public void testReadPngSize() throws IOException {
+		byte[] header = new byte[24];
+		System.arraycopy(new byte[] { (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n' }, 0, header, 0, 8);
+		// IHDR: width 300, height 70000
+		header[18] = 0x01;
+		header[19] = 0x2C;
+		header[21] = 0x01;
+		header[22] = 0x11;
+		header[23] = 0x70;
+		assertThat(ImageIndex.readSize(new ByteArrayInputStream(header))).containsExactly(300, 70000);
+	}
+
+	@Test
+	public void testReadGifSize() throws IOException {
+		// width 300, height 20 as little endian shorts
+		byte[] header = { 'G', 'I', 'F', '8', '9', 'a', 0x2C, 0x01, 0x14, 0x00 };
+		assertThat(ImageIndex.readSize(new ByteArrayInputStream(header))).containsExactly(300, 20);
+	}
+
+	@Test
+	public void testReadUnknownSize() throws IOException {
+		assertThat(ImageIndex.readSize(new ByteArrayInputStream(new byte[] { 'B', 'M', 0, 0 }))).isNull();
+		// truncated PNG header
+		assertThat(ImageIndex.readSize(new ByteArrayInputStream(new byte[] { (byte) 0x89, 'P', 'N', 'G' })))
+				.isNull();
+	}
+}
@@ -1737,6 +1737,7 @@ public class PDEUIMessages extends NLS {
 	public static String DependenciesView_callers_tree_title;
 	public static String DependenciesView_callers_list_title;
 	public static String DependenciesView_cycles_title;
+	public static String DependenciesView_callers_indexJob;
 	public static String DependenciesViewTreePage_CollapseAllAction_label;
 	public static String DependenciesViewTreePage_CollapseAllAction_description;
 	public static String DependenciesViewTreePage_CollapseAllAction_tooltip;
@@ -2686,6 +2687,8 @@ public class PDEUIMessages extends NLS {
 
 	public static String PluginImportOperation_WarningDialogMessagePlural;
 
+	public static String PluginImportHelper_entryOutsideDestination;
+
 	public static String PluginImportWizard_runningConfigDesc;
 
 	public static String PluginImportWizard_runningConfigsDesc;
@@ -30,7 +30,9 @@ import org.eclipse.pde.core.plugin.IFragmentModel;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.eclipse.pde.core.plugin.PluginRegistry;
 import org.eclipse.pde.internal.build.BundleHelper;
+import org.eclipse.pde.internal.core.DependentsIndex;
 import org.eclipse.pde.internal.core.ICoreConstants;
+import org.eclipse.pde.internal.core.PDECore;
 import org.osgi.framework.Constants;
 import org.osgi.resource.Resource;
 
@@ -63,7 +65,9 @@ public class FindReferenceOperation implements IWorkspaceRunnable {
 
 	private void findRequireBundleReferences(ArrayList<TextFileChange> changes, IProgressMonitor monitor) throws CoreException {
 		String oldId = fDesc.getSymbolicName();
-		BundleDescription[] dependents = fDesc.getDependents();
+		// don't wait for the index, the resolver knows the dependents too
+		DependentsIndex index = PDECore.getDefault().getModelManager().getBuiltDependentsIndex();
+		BundleDescription[] dependents = index != null ? index.getDependents(fDesc) : fDesc.getDependents();
 		SubMonitor subMonitor = SubMonitor.convert(monitor, dependents.length);
 		for (BundleDescription dependent : dependents) {
 			BundleSpecification[] requires = dependent.getRequiredBundles();
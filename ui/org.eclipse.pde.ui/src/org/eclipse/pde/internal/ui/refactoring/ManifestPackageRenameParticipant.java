@@ -31,6 +31,8 @@ import org.eclipse.osgi.service.resolver.ExportPackageDescription;
 import org.eclipse.osgi.service.resolver.ImportPackageSpecification;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.internal.core.DependentsIndex;
+import org.eclipse.pde.internal.core.PDECore;
 import org.eclipse.pde.internal.core.WorkspaceModelManager;
 import org.eclipse.pde.internal.core.ibundle.IBundlePluginModelBase;
 import org.eclipse.pde.internal.ui.PDEUIMessages;
@@ -70,7 +72,8 @@ public class ManifestPackageRenameParticipant extends PDERenameParticipant {
 		if (model != null) {
 			BundleDescription desc = model.getBundleDescription();
 			if (desc != null) {
-				BundleDescription[] dependents = desc.getDependents();
+				DependentsIndex index = PDECore.getDefault().getModelManager().getBuiltDependentsIndex();
+				BundleDescription[] dependents = index != null ? index.getDependents(desc) : desc.getDependents();
 				for (BundleDescription dependent : dependents) {
 					if (isAffected(desc, dependent)) {
 						IPluginModelBase candidate = PluginRegistry.findModel((Resource) dependent);
@@ -29,15 +29,19 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.jdt.core.Flags;
+import org.eclipse.jdt.core.IClassFile;
 import org.eclipse.jdt.core.IField;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IMethod;
 import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.ITypeRoot;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.Signature;
+import org.eclipse.jdt.core.ToolFactory;
+import org.eclipse.jdt.core.util.IClassFileReader;
 import org.eclipse.osgi.util.NLS;
 import org.eclipse.pde.internal.core.ibundle.IBundle;
 import org.eclipse.pde.internal.core.ibundle.IBundlePluginModelBase;
@@ -95,7 +99,10 @@ public class CalculateUsesOperation extends WorkspaceModifyOperation {
 		IJavaProject jp = JavaCore.create(fProject);
 		HashMap<String, HashSet<String>> pkgsAndUses = new HashMap<>();
 		IPackageFragment[] frags = PDEJavaHelper.getPackageFragments(jp, Collections.emptySet(), false);
-		SubMonitor subMonitor = SubMonitor.convert(monitor, frags.length * 2);
+		SubMonitor subMonitor = SubMonitor.convert(monitor, frags.length * 2 + 1);
+		// the compiled classes give the references of the source packages
+		// without resolving the signatures of every member
+		ClassFileReferences references = ClassFileReferences.create(jp, subMonitor.split(1));
 		for (IPackageFragment fragment : frags) {
 			SubMonitor iterationMonitor = subMonitor.split(2);
 			if (iterationMonitor.isCanceled()) {
@@ -107,8 +114,13 @@ public class CalculateUsesOperation extends WorkspaceModifyOperation {
 				HashSet<String> pkgs = new HashSet<>();
 				pkgsAndUses.put(fragment.getElementName(), pkgs);
 				try {
-					findReferences(fragment.getCompilationUnits(), pkgs, iterationMonitor.split(1), false);
-					findReferences(fragment.getClassFiles(), pkgs, iterationMonitor.split(1), true);
+					if (fragment.getKind() == IPackageFragmentRoot.K_SOURCE && references.isCompiled(fragment)) {
+						pkgs.addAll(references.getApiReferences(fragment.getElementName()));
+						iterationMonitor.worked(1);
+					} else {
+						findReferences(fragment.getCompilationUnits(), pkgs, iterationMonitor.split(1), false);
+					}
+					findReferences(fragment.getClassFiles(), pkgs, iterationMonitor.split(1));
 				} catch (JavaModelException e) {
 				}
 			}
@@ -123,6 +135,21 @@ public class CalculateUsesOperation extends WorkspaceModifyOperation {
 		}
 	}
 
+	/**
+	 * Adds the packages referenced by the API of the given binary classes,
+	 * read from their class files.
+	 */
+	protected void findReferences(IClassFile[] classFiles, Set<String> pkgs, IProgressMonitor monitor) {
+		SubMonitor subMonitor = SubMonitor.convert(monitor, classFiles.length);
+		for (IClassFile classFile : classFiles) {
+			IClassFileReader reader = ToolFactory.createDefaultClassFileReader(classFile, IClassFileReader.ALL);
+			if (reader != null && ClassFileReferences.isApi(reader)) {
+				ClassFileReferences.collectApiReferences(reader, pkgs);
+			}
+			subMonitor.worked(1);
+		}
+	}
+
 	protected void findReferences(IType type, Set<String> pkgs, boolean binary, IProgressMonitor monitor)
 			throws JavaModelException {
 		if (type == null)
@@ -0,0 +1,389 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 IBM Corporation and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.ui.search.dependencies;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.resources.IContainer;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.QualifiedName;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IOrdinaryClassFile;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.Signature;
+import org.eclipse.jdt.core.ToolFactory;
+import org.eclipse.jdt.core.util.IClassFileReader;
+import org.eclipse.jdt.core.util.IExceptionAttribute;
+import org.eclipse.jdt.core.util.IFieldInfo;
+import org.eclipse.jdt.core.util.IInnerClassesAttribute;
+import org.eclipse.jdt.core.util.IInnerClassesAttributeEntry;
+import org.eclipse.jdt.core.util.IMethodInfo;
+import org.eclipse.jdt.core.util.IModifierConstants;
+import org.eclipse.pde.internal.ui.PDEPlugin;
+
+/**
+ * The types and packages referenced by the compiled classes of a Java project,
+ * read once from the class files in the output locations of the project.
+ * <p>
+ * The references answer whether a dependency is used and which packages the
+ * API of an exported package uses without searching the Java model. Since a
+ * class file does not record everything the source refers to (e.g. inlined
+ * constants or source retention annotations), the absence of a reference is
+ * not a proof that a dependency is unused, callers have to confirm it with a
+ * search.
+ * </p>
+ * <p>
+ * What was read from a class file is kept with the project and reused as long
+ * as the time stamp and size of the file on disk do not change.
+ * </p>
+ */
+public final class ClassFileReferences {
+
+	private static final String CLASS_FILE_EXTENSION = ".class"; //$NON-NLS-1$
+	private static final String JAVA_FILE_EXTENSION = ".java"; //$NON-NLS-1$
+	private static final String PACKAGE_INFO = "package-info"; //$NON-NLS-1$
+	private static final String MODULE_INFO = "module-info"; //$NON-NLS-1$
+
+	// session property of the project holding the class files read last time
+	private static final QualifiedName CLASS_FILES = new QualifiedName(PDEPlugin.getPluginId(),
+			"classFileReferences"); //$NON-NLS-1$
+
+	// a file rewritten within this many milliseconds after it was read may
+	// still have the same time stamp
+	private static final long TIMESTAMP_GRANULARITY = 2000;
+
+	// fully qualified names of the top level types referenced by the classes
+	private final Set<String> fTypes = new HashSet<>();
+	private final Set<String> fPackages = new HashSet<>();
+	// fully qualified names of the top level types compiled
+	private final Set<String> fCompiledTypes = new HashSet<>();
+	// package name -> packages referenced by the API of its types
+	private final Map<String, Set<String>> fApiReferences = new HashMap<>();
+
+	/**
+	 * What was read from one class file, with the time stamp and size the file
+	 * had when it was read. The top level type is <code>null</code> for
+	 * <code>package-info</code> and <code>module-info</code> classes, the API
+	 * references are <code>null</code> if the class is not API.
+	 */
+	private record ClassFileInfo(long timeStamp, long length, long readTime, String topLevelType,
+			Set<String> types, String packageName, Set<String> apiReferences) {
+
+		boolean isCurrent(long currentTimeStamp, long currentLength) {
+			return timeStamp == currentTimeStamp && length == currentLength
+					&& readTime - timeStamp >= TIMESTAMP_GRANULARITY;
+		}
+	}
+
+	private ClassFileReferences() {
+	}
+
+	/**
+	 * Reads the class files in the output locations of the given project.
+	 * Class files that did not change since the last call for the project are
+	 * not read again.
+	 */
+	public static ClassFileReferences create(IJavaProject project, IProgressMonitor monitor) {
+		ClassFileReferences references = new ClassFileReferences();
+		List<IFile> classFiles = new ArrayList<>();
+		try {
+			for (IContainer output : getOutputContainers(project)) {
+				output.accept(proxy -> {
+					if (proxy.getType() == IResource.FILE) {
+						if (proxy.getName().endsWith(CLASS_FILE_EXTENSION)) {
+							classFiles.add((IFile) proxy.requestResource());
+						}
+						return false;
+					}
+					return true;
+				}, IResource.NONE);
+			}
+		} catch (CoreException e) {
+			PDEPlugin.logException(e);
+			return references;
+		}
+		Map<IPath, ClassFileInfo> previous = getClassFiles(project.getProject());
+		Map<IPath, ClassFileInfo> current = new HashMap<>();
+		SubMonitor subMonitor = SubMonitor.convert(monitor, classFiles.size());
+		for (IFile classFile : classFiles) {
+			if (subMonitor.isCanceled()) {
+				break;
+			}
+			IPath location = classFile.getLocation();
+			if (location != null) {
+				// the file on disk may have changed without a refresh
+				File file = location.toFile();
+				long timeStamp = file.lastModified();
+				long length = file.length();
+				ClassFileInfo info = previous.get(location);
+				if (info == null || !info.isCurrent(timeStamp, length)) {
+					info = read(location, timeStamp, length);
+				}
+				if (info != null) {
+					current.put(location, info);
+					references.add(info);
+				}
+			}
+			subMonitor.worked(1);
+		}
+		if (!subMonitor.isCanceled()) {
+			// only keeps the class files that still exist
+			setClassFiles(project.getProject(), current);
+		}
+		for (String type : references.fTypes) {
+			references.fPackages.add(PackageFinder.getPackage(type));
+		}
+		references.fPackages.remove(""); //$NON-NLS-1$
+		return references;
+	}
+
+	private static Set<IContainer> getOutputContainers(IJavaProject project) throws CoreException {
+		Set<IPath> outputs = new LinkedHashSet<>();
+		outputs.add(project.getOutputLocation());
+		for (IClasspathEntry entry : project.getRawClasspath()) {
+			if (entry.getEntryKind() == IClasspathEntry.CPE_SOURCE && entry.getOutputLocation() != null) {
+				outputs.add(entry.getOutputLocation());
+			}
+		}
+		Set<IContainer> containers = new LinkedHashSet<>();
+		for (IPath output : outputs) {
+			IResource resource = ResourcesPlugin.getWorkspace().getRoot().findMember(output);
+			if (resource instanceof IContainer container && container.isAccessible()) {
+				containers.add(container);
+			}
+		}
+		return containers;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Map<IPath, ClassFileInfo> getClassFiles(IProject project) {
+		try {
+			Object classFiles = project.getSessionProperty(CLASS_FILES);
+			if (classFiles instanceof Map<?, ?>) {
+				return (Map<IPath, ClassFileInfo>) classFiles;
+			}
+		} catch (CoreException e) {
+			// not accessible, nothing cached
+		}
+		return Map.of();
+	}
+
+	private static void setClassFiles(IProject project, Map<IPath, ClassFileInfo> classFiles) {
+		try {
+			project.setSessionProperty(CLASS_FILES, classFiles);
+		} catch (CoreException e) {
+			// not accessible anymore, nothing to keep
+		}
+	}
+
+	private static ClassFileInfo read(IPath location, long timeStamp, long length) {
+		long readTime = System.currentTimeMillis();
+		IClassFileReader reader = ToolFactory.createDefaultClassFileReader(location.toOSString(),
+				IClassFileReader.ALL);
+		if (reader == null) {
+			return null;
+		}
+		String className = new String(reader.getClassName()).replace('/', '.');
+		if (className.endsWith(PACKAGE_INFO) || className.equals(MODULE_INFO)) {
+			return new ClassFileInfo(timeStamp, length, readTime, null, Set.of(), null, null);
+		}
+		Set<String> types = new HashSet<>();
+		PackageFinder.computeReferencedTypeNames(reader, types);
+		Set<String> apiReferences = null;
+		if (isApi(reader)) {
+			apiReferences = new HashSet<>();
+			collectApiReferences(reader, apiReferences);
+		}
+		return new ClassFileInfo(timeStamp, length, readTime, toTopLevelName(className), types,
+				PackageFinder.getPackage(className), apiReferences);
+	}
+
+	private void add(ClassFileInfo info) {
+		if (info.topLevelType() == null) {
+			return;
+		}
+		fCompiledTypes.add(info.topLevelType());
+		fTypes.addAll(info.types());
+		if (info.apiReferences() != null) {
+			fApiReferences.computeIfAbsent(info.packageName(), p -> new HashSet<>()).addAll(info.apiReferences());
+		}
+	}
+
+	/**
+	 * Returns whether the compiled classes reference the given package.
+	 */
+	public boolean referencesPackage(String packageName) {
+		return fPackages.contains(packageName);
+	}
+
+	/**
+	 * Returns whether the compiled classes reference a type of one of the
+	 * given package fragments.
+	 */
+	public boolean referencesTypeOf(IPackageFragment[] fragments) throws JavaModelException {
+		for (IPackageFragment fragment : fragments) {
+			if (!referencesPackage(fragment.getElementName())) {
+				continue;
+			}
+			for (IJavaElement child : fragment.getChildren()) {
+				if (child instanceof IOrdinaryClassFile) {
+					String name = child.getElementName();
+					name = name.substring(0, name.length() - CLASS_FILE_EXTENSION.length());
+					if (fTypes.contains(toTopLevelName(qualify(fragment, name)))) {
+						return true;
+					}
+				} else if (child instanceof ICompilationUnit unit) {
+					for (IType type : unit.getTypes()) {
+						if (fTypes.contains(type.getFullyQualifiedName())) {
+							return true;
+						}
+					}
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns whether all compilation units of the given source package
+	 * fragment have been compiled into the output locations.
+	 */
+	public boolean isCompiled(IPackageFragment fragment) throws JavaModelException {
+		for (ICompilationUnit unit : fragment.getCompilationUnits()) {
+			String name = unit.getElementName();
+			name = name.substring(0, name.length() - JAVA_FILE_EXTENSION.length());
+			if (name.equals(PACKAGE_INFO) || name.equals(MODULE_INFO)) {
+				continue;
+			}
+			if (!fCompiledTypes.contains(qualify(fragment, name))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the packages used by the signatures of the non-private members
+	 * of the non-private types compiled in the given package.
+	 */
+	public Set<String> getApiReferences(String packageName) {
+		return fApiReferences.getOrDefault(packageName, Set.of());
+	}
+
+	/**
+	 * Adds the packages used by the super types and by the signatures of the
+	 * non-private members of the given class to the given set.
+	 */
+	static void collectApiReferences(IClassFileReader reader, Set<String> packages) {
+		char[] superclassName = reader.getSuperclassName();
+		if (superclassName != null) {
+			packages.add(PackageFinder.getPackage(new String(superclassName).replace('/', '.')));
+		}
+		char[][] interfaceNames = reader.getInterfaceNames();
+		if (interfaceNames != null) {
+			for (char[] interfaceName : interfaceNames) {
+				packages.add(PackageFinder.getPackage(new String(interfaceName).replace('/', '.')));
+			}
+		}
+		for (IFieldInfo field : reader.getFieldInfos()) {
+			if (!isPrivateOrSynthetic(field.getAccessFlags()) && !field.isSynthetic()) {
+				addPackage(new String(field.getDescriptor()), packages);
+			}
+		}
+		for (IMethodInfo method : reader.getMethodInfos()) {
+			if (isPrivateOrSynthetic(method.getAccessFlags()) || method.isSynthetic()) {
+				continue;
+			}
+			IExceptionAttribute exceptions = method.getExceptionAttribute();
+			if (exceptions != null) {
+				for (char[] exceptionName : exceptions.getExceptionNames()) {
+					packages.add(PackageFinder.getPackage(new String(exceptionName).replace('/', '.')));
+				}
+			}
+			String descriptor = new String(method.getDescriptor());
+			for (String parameterType : Signature.getParameterTypes(descriptor)) {
+				addPackage(parameterType, packages);
+			}
+			addPackage(Signature.getReturnType(descriptor), packages);
+		}
+		packages.remove(""); //$NON-NLS-1$
+	}
+
+	/**
+	 * Returns whether the class read is visible outside of its compilation
+	 * unit, i.e. it is neither a local or anonymous class nor private or
+	 * nested in a private class.
+	 */
+	static boolean isApi(IClassFileReader reader) {
+		if ((reader.getAccessFlags() & IModifierConstants.ACC_SYNTHETIC) != 0) {
+			return false;
+		}
+		IInnerClassesAttribute innerClasses = reader.getInnerClassesAttribute();
+		if (innerClasses == null) {
+			return true;
+		}
+		Map<String, IInnerClassesAttributeEntry> entries = new HashMap<>();
+		for (IInnerClassesAttributeEntry entry : innerClasses.getInnerClassAttributesEntries()) {
+			if (entry.getInnerClassName() != null) {
+				entries.put(new String(entry.getInnerClassName()), entry);
+			}
+		}
+		IInnerClassesAttributeEntry entry = entries.get(new String(reader.getClassName()));
+		while (entry != null) {
+			if (entry.getOuterClassName() == null || isPrivateOrSynthetic(entry.getAccessFlags())) {
+				return false;
+			}
+			entry = entries.get(new String(entry.getOuterClassName()));
+		}
+		return true;
+	}
+
+	private static boolean isPrivateOrSynthetic(int flags) {
+		return (flags & (IModifierConstants.ACC_PRIVATE | IModifierConstants.ACC_SYNTHETIC)) != 0;
+	}
+
+	private static void addPackage(String typeSignature, Set<String> packages) {
+		if (!PackageFinder.isPrimitiveTypeSignature(typeSignature)) {
+			packages.add(PackageFinder.getPackage(PackageFinder.extractFullyQualifiedTopLevelType(typeSignature)));
+		}
+	}
+
+	private static String qualify(IPackageFragment fragment, String typeName) {
+		return fragment.isDefaultPackage() ? typeName : fragment.getElementName() + '.' + typeName;
+	}
+
+	static String toTopLevelName(String qualifiedName) {
+		int innerClassIndicator = qualifiedName.indexOf('$');
+		return innerClassIndicator > 0 ? qualifiedName.substring(0, innerClassIndicator) : qualifiedName;
+	}
+}
@@ -78,6 +78,7 @@ public class GatherUnusedDependenciesOperation implements IRunnableWithProgress
 
 	private final IPluginModelBase fModel;
 	private ArrayList<Object> fList;
+	private ClassFileReferences fReferences;
 
 	public GatherUnusedDependenciesOperation(IPluginModelBase model) {
 		fModel = model;
@@ -110,8 +111,9 @@ public class GatherUnusedDependenciesOperation implements IRunnableWithProgress
 		}
 		IPluginImport[] imports = fModel.getPluginBase().getImports();
 
-		int totalWork = imports.length * 3 + (packages != null ? packages.length : 0) + 1;
+		int totalWork = imports.length * 3 + (packages != null ? packages.length : 0) + 2;
 		SubMonitor subMonitor = SubMonitor.convert(monitor, totalWork);
+		fReferences = createClassFileReferences(subMonitor.split(1));
 
 		HashMap<String, IPluginImport> usedPlugins = new HashMap<>();
 		fList = new ArrayList<>();
@@ -183,6 +185,22 @@ public class GatherUnusedDependenciesOperation implements IRunnableWithProgress
 		return !provideJavaClasses(pkg, monitor);
 	}
 
+	/**
+	 * Reads the references of the compiled classes of the project once, they
+	 * prove most dependencies to be used without a search.
+	 */
+	private ClassFileReferences createClassFileReferences(IProgressMonitor monitor) {
+		try {
+			IProject project = fModel.getUnderlyingResource().getProject();
+			if (project.hasNature(JavaCore.NATURE_ID)) {
+				return ClassFileReferences.create(JavaCore.create(project), monitor);
+			}
+		} catch (CoreException e) {
+			PDEPlugin.logException(e);
+		}
+		return null;
+	}
+
 	private boolean provideJavaClasses(IPluginModelBase[] models, IProgressMonitor monitor) {
 		try {
 			IProject project = fModel.getUnderlyingResource().getProject();
@@ -191,6 +209,10 @@ public class GatherUnusedDependenciesOperation implements IRunnableWithProgress
 
 			IJavaProject jProject = JavaCore.create(project);
 			IPackageFragment[] packageFragments = PluginJavaSearchUtil.collectPackageFragments(models, jProject, true);
+			if (fReferences != null && fReferences.referencesTypeOf(packageFragments)) {
+				return true;
+			}
+			// not referenced by the class files, confirm with a search
 			SearchEngine engine = new SearchEngine();
 			IJavaSearchScope searchScope = PluginJavaSearchUtil.createSeachScope(jProject);
 
@@ -260,6 +282,8 @@ public class GatherUnusedDependenciesOperation implements IRunnableWithProgress
 
 			if (!project.hasNature(JavaCore.NATURE_ID))
 				return false;
+			if (fReferences != null && fReferences.referencesPackage(pkg.getName()))
+				return true;
 
 			SubMonitor subMonitor = SubMonitor.convert(monitor, 1);
 			IJavaProject jProject = JavaCore.create(project);
@@ -64,18 +64,31 @@ public class PackageFinder {
 	}
 
 	static void computeReferencedTypes(IClassFileReader cfr, Set<String> packages) {
+		Set<String> types = new HashSet<>();
+		computeReferencedTypeNames(cfr, types);
+		for (String type : types) {
+			packages.add(getPackage(type));
+		}
+		packages.remove(""); // removes default package if it exists //$NON-NLS-1$
+	}
+
+	/**
+	 * Adds the fully qualified names of the top level types referenced by the
+	 * given class file to the given set.
+	 */
+	static void computeReferencedTypeNames(IClassFileReader cfr, Set<String> types) {
 
 		char[][] interfaces = cfr.getInterfaceNames();
 		if (interfaces != null) {
 			for (char[] interfaceName : interfaces) {
 				//note: have to convert names like Ljava/lang/Object; to java.lang.Object
-				packages.add(getPackage(new String(interfaceName).replace('/', '.')));
+				types.add(getTopLevelType(new String(interfaceName)));
 			}
 		}
 
 		char[] scn = cfr.getSuperclassName();
 		if (scn != null) {
-			packages.add(getPackage(new String(scn).replace('/', '.')));
+			types.add(getTopLevelType(new String(scn)));
 		}
 
 		IFieldInfo[] fieldInfos = cfr.getFieldInfos();
@@ -84,7 +97,7 @@ public class PackageFinder {
 			String fieldName = new String(fieldInfo.getDescriptor());
 			if (!isPrimitiveTypeSignature(fieldName)) {
 				String fieldDescriptor = extractFullyQualifiedTopLevelType(fieldName);
-				packages.add(getPackage(fieldDescriptor));
+				types.add(fieldDescriptor);
 			}
 		}
 
@@ -94,7 +107,7 @@ public class PackageFinder {
 			if (exceptionAttribute != null) {
 				char[][] exceptionNames = exceptionAttribute.getExceptionNames();
 				for (char[] exceptionName : exceptionNames) {
-					packages.add(getPackage(new String(exceptionName).replace('/', '.')));
+					types.add(getTopLevelType(new String(exceptionName)));
 				}
 			}
 
@@ -104,14 +117,14 @@ public class PackageFinder {
 			for (int j = 0; j < parameterTypes.length; j++) {
 				//have to parse to convert [Ljava/lang/String; to java.lang.String
 				if (!isPrimitiveTypeSignature(parameterTypes[j])) {
-					packages.add(getPackage(extractFullyQualifiedTopLevelType(parameterTypes[j])));
+					types.add(extractFullyQualifiedTopLevelType(parameterTypes[j]));
 				}
 			}
 			//add return type
 			String returnType = Signature.getReturnType(descriptor);
 			if (!isPrimitiveTypeSignature(returnType)) {
 				returnType = extractFullyQualifiedTopLevelType(returnType);
-				packages.add(getPackage(returnType));
+				types.add(returnType);
 			}
 		}
 
@@ -127,7 +140,7 @@ public class PackageFinder {
 					//note: may have to convert names like Ljava/lang/Object; to java.lang.Object
 					String className = new String(entry.getClassInfoName()).replace('/', '.');
 					className = className.indexOf(';') >= 0 ? extractFullyQualifiedTopLevelType(className) : className;
-					packages.add(getPackage(className));
+					types.add(getTopLevelType(className));
 					break;
 
 				case IConstantPoolConstant.CONSTANT_NameAndType :
@@ -145,28 +158,31 @@ public class PackageFinder {
 							String[] parameterTypes = Signature.getParameterTypes(descriptor);
 							for (int j = 0; j < parameterTypes.length; j++) {
 								if (!isPrimitiveTypeSignature(parameterTypes[j])) {
-									packages.add(getPackage(extractFullyQualifiedTopLevelType(parameterTypes[j])));
+									types.add(extractFullyQualifiedTopLevelType(parameterTypes[j]));
 								}
 							}
 							//add return type
 							String returnType = Signature.getReturnType(descriptor);
 							if (!isPrimitiveTypeSignature(returnType)) {
 								returnType = extractFullyQualifiedTopLevelType(returnType);
-								packages.add(getPackage(returnType));
+								types.add(returnType);
 							}
 
 						} else {
 							// Field type.
 							String typeString = new String(type);
 							if (!isPrimitiveTypeSignature(typeString)) {
-								packages.add(getPackage(extractFullyQualifiedTopLevelType(typeString)));
+								types.add(extractFullyQualifiedTopLevelType(typeString));
 							}
 						}
 					}
 					break;
 			}
 		}
-		packages.remove(""); // removes default package if it exists //$NON-NLS-1$
+	}
+
+	private static String getTopLevelType(String className) {
+		return ClassFileReferences.toTopLevelName(className.replace('/', '.'));
 	}
 
 	static boolean isPrimitiveTypeSignature(String typeSig) {
@@ -17,19 +17,46 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.pde.internal.core.DependentsIndex;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.ui.PDEUIMessages;
 
 public class CallersContentProvider extends DependenciesViewPageContentProvider {
+	/**
+	 * Builds the dependents index off the UI thread, which waits for the target
+	 * platform to be loaded, and shows the callers from the index when it is
+	 * done
+	 */
+	private final Job fIndexJob = Job.create(PDEUIMessages.DependenciesView_callers_indexJob, monitor -> {
+		PDECore.getDefault().getModelManager().getDependentsIndex().build();
+		asyncRefresh();
+	});
+
 	public CallersContentProvider(DependenciesView view) {
 		super(view);
+		fIndexJob.setSystem(true);
+	}
+
+	@Override
+	public void dispose() {
+		fIndexJob.cancel();
+		super.dispose();
 	}
 
 	protected Collection<BundleDescription> findReferences(BundleDescription desc) {
 		if (desc != null) {
 			// don't return any callers for fragments (since no one can depend on a fragment
 			if (desc.getHost() == null) {
-				BundleDescription[] dependents = desc.getDependents();
-				return Arrays.asList(dependents);
+				DependentsIndex index = PDECore.getDefault().getModelManager().getBuiltDependentsIndex();
+				if (index == null) {
+					// the resolver's dependents until the index is built for
+					// the current state
+					fIndexJob.schedule();
+					return Arrays.asList(desc.getDependents());
+				}
+				return Arrays.asList(index.getDependents(desc));
 			}
 			// for fragment, need to get the host bundle
 			return Arrays.asList(desc.getHost().getHosts());
@@ -88,6 +88,21 @@ public class DependenciesViewPageContentProvider implements IContentProvider, IP
 		this.fViewer = (StructuredViewer) viewer;
 	}
 
+	/**
+	 * Refreshes the viewer in the UI thread, for content that became available
+	 * in the background.
+	 */
+	protected void asyncRefresh() {
+		StructuredViewer viewer = fViewer;
+		if (viewer == null || viewer.getControl().isDisposed())
+			return;
+
+		viewer.getControl().getDisplay().asyncExec(() -> {
+			if (!viewer.getControl().isDisposed())
+				viewer.refresh();
+		});
+	}
+
 	@Override
 	public void modelsChanged(final PluginModelDelta delta) {
 		if (fViewer == null || fViewer.getControl().isDisposed())
@@ -29,4 +29,14 @@ public interface IImageTarget {
 	 * @return <code>true</code> when more images should be fetched
 	 */
 	boolean needsMore();
+
+	/**
+	 * Query the target whether the next images notified are going to be
+	 * displayed, in which case their image data may be decoded in advance.
+	 *
+	 * @return <code>true</code> when the next images are displayed
+	 */
+	default boolean displaysNext() {
+		return true;
+	}
 }
@@ -411,6 +411,12 @@ public class ImageBrowserView extends ViewPart implements IImageTarget {
 		return currentlyAvailable < requestedImages;
 	}
 
+	@Override
+	public boolean displaysNext() {
+		// images of the previous pages are only counted
+		return imageIndex >= page * maxImages;
+	}
+
 	private void scanImages() {
 		if (repository != null) {
 			repository.cancel();
@@ -567,8 +573,8 @@ public class ImageBrowserView extends ViewPart implements IImageTarget {
 				lblPlugin.setText(((ImageElement) data).getFullPlugin());
 				txtReference.setText("platform:/plugin/" + ((ImageElement) data).getPlugin() + "/" + ((ImageElement) data).getPath()); //$NON-NLS-1$ //$NON-NLS-2$
 
-				lblWidth.setText(NLS.bind(PDEUIMessages.ImageBrowserView_Pixels, Integer.toString(((ImageElement) data).getImageData().width)));
-				lblHeight.setText(NLS.bind(PDEUIMessages.ImageBrowserView_Pixels, Integer.toString(((ImageElement) data).getImageData().height)));
+				lblWidth.setText(NLS.bind(PDEUIMessages.ImageBrowserView_Pixels, Integer.toString(((ImageElement) data).getWidth())));
+				lblHeight.setText(NLS.bind(PDEUIMessages.ImageBrowserView_Pixels, Integer.toString(((ImageElement) data).getHeight())));
 
 				imageElement = (ImageElement) data;
 				saveAction.setEnabled(true);
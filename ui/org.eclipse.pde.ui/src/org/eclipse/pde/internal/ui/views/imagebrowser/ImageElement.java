@@ -31,12 +31,27 @@ public class ImageElement {
 	private final Callable<ImageData> mImageProvider;
 	private final String mPlugin;
 	private final String mPath;
+	private final int mWidth;
+	private final int mHeight;
 
 	public ImageElement(final Callable<ImageData> imageProvider, final String plugin, final String path) {
+		this(imageProvider, plugin, path, -1, -1);
+	}
+
+	/**
+	 * @param width
+	 *            the width of the image if known, <code>-1</code> otherwise
+	 * @param height
+	 *            the height of the image if known, <code>-1</code> otherwise
+	 */
+	public ImageElement(final Callable<ImageData> imageProvider, final String plugin, final String path,
+			final int width, final int height) {
 		mImageData = new SoftReference<>(null);
 		mImageProvider = imageProvider;
 		mPlugin = plugin;
 		mPath = path;
+		mWidth = width;
+		mHeight = height;
 	}
 
 	public String getFullPlugin() {
@@ -72,6 +87,22 @@ public class ImageElement {
 		return imageData;
 	}
 
+	/**
+	 * Returns the width of the image, the image is only decoded if its size is
+	 * not known yet.
+	 */
+	public int getWidth() {
+		return mWidth >= 0 ? mWidth : getImageData().width;
+	}
+
+	/**
+	 * Returns the height of the image, the image is only decoded if its size
+	 * is not known yet.
+	 */
+	public int getHeight() {
+		return mHeight >= 0 ? mHeight : getImageData().height;
+	}
+
 	public String getFileName() {
 		return IPath.fromOSString(mPath).lastSegment();
 	}
@@ -39,16 +39,16 @@ public class SizeFilter implements IFilter {
 
 
 		boolean accept = switch (mWidthType) {
-			case TYPE_EXACT -> element.getImageData().width == mWidth;
-			case TYPE_BIGGER_EQUALS -> element.getImageData().width >= mWidth;
-			case TYPE_SMALLER_EQUALS -> element.getImageData().width <= mWidth;
+			case TYPE_EXACT -> element.getWidth() == mWidth;
+			case TYPE_BIGGER_EQUALS -> element.getWidth() >= mWidth;
+			case TYPE_SMALLER_EQUALS -> element.getWidth() <= mWidth;
 			default -> true;
 		};
 
 		accept &= switch (mHeightType) {
-			case TYPE_EXACT -> (element.getImageData().height == mHeight);
-			case TYPE_BIGGER_EQUALS -> (element.getImageData().height >= mHeight);
-			case TYPE_SMALLER_EQUALS -> (element.getImageData().height <= mHeight);
+			case TYPE_EXACT -> (element.getHeight() == mHeight);
+			case TYPE_BIGGER_EQUALS -> (element.getHeight() >= mHeight);
+			case TYPE_SMALLER_EQUALS -> (element.getHeight() <= mHeight);
 			default -> accept;
 		};
 
@@ -19,13 +19,18 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
@@ -45,10 +50,24 @@ import org.eclipse.swt.graphics.ImageData;
 
 public abstract class AbstractRepository extends Job {
 
+	/**
+	 * Number of images decoded in parallel ahead of the target.
+	 */
+	private static final int PREFETCH_SIZE = 32;
+
 	protected List<ImageElement> mElementsCache = new LinkedList<>();
 
 	private final IImageTarget mTarget;
 
+	// number of elements at the head of the cache already decoded
+	private int mPrefetched;
+
+	// jars kept open while decoding images ahead, images are decoded from
+	// them while holding the read lock, they are closed with the write lock
+	private final Map<File, ZipFile> mOpenJars = new HashMap<>();
+	private final ReadWriteLock mOpenJarsLock = new ReentrantReadWriteLock();
+	private boolean mPrefetching;
+
 	public AbstractRepository(IImageTarget target) {
 		super(PDEUIMessages.AbstractRepository_ScanForUI);
 
@@ -59,25 +78,88 @@ public abstract class AbstractRepository extends Job {
 
 	@Override
 	protected synchronized IStatus run(IProgressMonitor monitor) {
-		while ((mTarget.needsMore()) && (!monitor.isCanceled())) {
-			if (mElementsCache.isEmpty()) {
-				// need more images in cache
-
-				if (!populateCache(monitor)) {
-					// could not populate cache, giving up
-					return Status.OK_STATUS;
+		try {
+			while ((mTarget.needsMore()) && (!monitor.isCanceled())) {
+				if (mElementsCache.isEmpty()) {
+					// need more images in cache
+					mPrefetched = 0;
+					if (!populateCache(monitor)) {
+						// could not populate cache, giving up
+						return Status.OK_STATUS;
+					}
+				} else {
+					if (mPrefetched == 0 && mTarget.displaysNext()) {
+						prefetch();
+					}
+					mPrefetched = Math.max(mPrefetched - 1, 0);
+					// return 1 image from cache
+					mTarget.notifyImage(mElementsCache.remove(0));
 				}
-			} else {
-				// return 1 image from cache
-				mTarget.notifyImage(mElementsCache.remove(0));
 			}
-		}
 
-		return Status.OK_STATUS;
+			return Status.OK_STATUS;
+		} finally {
+			ImageIndex.getDefault().save();
+		}
 	}
 
 	public synchronized void clearCache() {
 		mElementsCache.clear();
+		mPrefetched = 0;
+	}
+
+	/**
+	 * Decodes the next images of the cache in parallel, sharing one open file
+	 * per jar. The decoded images are only softly referenced by their elements
+	 * and at most {@link #PREFETCH_SIZE} are decoded at once.
+	 */
+	private void prefetch() {
+		List<ImageElement> next = mElementsCache.stream().limit(PREFETCH_SIZE).toList();
+		setPrefetching(true);
+		try {
+			next.parallelStream().forEach(ImageElement::getImageData);
+		} finally {
+			// waits for images still decoded from the open jars, e.g. by the
+			// UI thread, before closing them
+			setPrefetching(false);
+		}
+		mPrefetched = next.size();
+	}
+
+	private void setPrefetching(boolean prefetching) {
+		mOpenJarsLock.writeLock().lock();
+		try {
+			mPrefetching = prefetching;
+			if (!prefetching) {
+				closeJars();
+			}
+		} finally {
+			mOpenJarsLock.writeLock().unlock();
+		}
+	}
+
+	private ZipFile getOpenJar(File jarFile) throws IOException {
+		synchronized (mOpenJars) {
+			ZipFile zipFile = mOpenJars.get(jarFile);
+			if (zipFile == null) {
+				zipFile = new ZipFile(jarFile);
+				mOpenJars.put(jarFile, zipFile);
+			}
+			return zipFile;
+		}
+	}
+
+	private void closeJars() {
+		synchronized (mOpenJars) {
+			for (ZipFile zipFile : mOpenJars.values()) {
+				try {
+					zipFile.close();
+				} catch (IOException e) {
+					// ignore
+				}
+			}
+			mOpenJars.clear();
+		}
 	}
 
 	protected abstract boolean populateCache(IProgressMonitor monitor);
@@ -101,19 +183,42 @@ public abstract class AbstractRepository extends Job {
 	}
 
 	protected ImageData createImageData(final File jarFile, final ZipEntry entry) throws CoreException {
-		try (ZipFile zipFile = new ZipFile(jarFile)) {
-			try (InputStream inputStream = zipFile.getInputStream(entry)) {
-				return new ImageData(inputStream);
-			} catch (SWTException e) {
-				// invalid image format
-				throw new CoreException(Status.error(NLS.bind(PDEUIMessages.AbstractRepository_ErrorLoadingImageFromJar, jarFile.getAbsolutePath(), entry.getName()), e));
+		return createImageData(jarFile, entry.getName());
+	}
+
+	protected ImageData createImageData(final File jarFile, final String entryName) throws CoreException {
+		mOpenJarsLock.readLock().lock();
+		try {
+			if (mPrefetching) {
+				return createImageData(getOpenJar(jarFile), jarFile, entryName);
 			}
+		} catch (IOException e) {
+			// jar or entry could not be read, report it below
+		} finally {
+			mOpenJarsLock.readLock().unlock();
+		}
+		try (ZipFile zipFile = new ZipFile(jarFile)) {
+			return createImageData(zipFile, jarFile, entryName);
 		} catch (IOException e) {
 			throw new CoreException(Status.error(
 					"Failed to close stream on: " + jarFile.getAbsolutePath(), e)); //$NON-NLS-1$
 		}
 	}
 
+	private ImageData createImageData(final ZipFile zipFile, final File jarFile, final String entryName)
+			throws IOException, CoreException {
+		ZipEntry entry = zipFile.getEntry(entryName);
+		if (entry == null) {
+			throw new IOException("Missing entry " + entryName); //$NON-NLS-1$
+		}
+		try (InputStream inputStream = zipFile.getInputStream(entry)) {
+			return new ImageData(inputStream);
+		} catch (SWTException e) {
+			// invalid image format
+			throw new CoreException(Status.error(NLS.bind(PDEUIMessages.AbstractRepository_ErrorLoadingImageFromJar, jarFile.getAbsolutePath(), entryName), e));
+		}
+	}
+
 	protected boolean isImage(final File resource) {
 		if (resource.isFile())
 			return isImageName(resource.getName());
@@ -135,17 +240,45 @@ public abstract class AbstractRepository extends Job {
 	}
 
 	protected void searchJarFile(final File jarFile, final IProgressMonitor monitor) {
-		try (ZipFile zipFile = new ZipFile(jarFile)) {
-			Enumeration<? extends ZipEntry> entries = zipFile.entries();
-			while ((entries.hasMoreElements()) && (!monitor.isCanceled())) {
-				ZipEntry entry = entries.nextElement();
-				if (isImageName(entry.getName())) {
-					addImageElement(new ImageElement(() -> createImageData(jarFile, entry), jarFile.getName(), entry.getName()));
+		ImageIndex index = ImageIndex.getDefault();
+		List<ImageIndex.Entry> images = index.get(jarFile);
+		if (images == null) {
+			long lastModified = jarFile.lastModified();
+			long length = jarFile.length();
+			images = new ArrayList<>();
+			try (ZipFile zipFile = new ZipFile(jarFile)) {
+				Enumeration<? extends ZipEntry> entries = zipFile.entries();
+				while ((entries.hasMoreElements()) && (!monitor.isCanceled())) {
+					ZipEntry entry = entries.nextElement();
+					if (isImageName(entry.getName())) {
+						images.add(createIndexEntry(zipFile, entry));
+					}
 				}
+			} catch (IOException e) {
+				PDEPlugin.log(e);
+				return;
+			}
+			if (monitor.isCanceled()) {
+				return;
+			}
+			index.put(jarFile, lastModified, length, images);
+		}
+		for (ImageIndex.Entry image : images) {
+			addImageElement(new ImageElement(() -> createImageData(jarFile, image.name()), jarFile.getName(),
+					image.name(), image.width(), image.height()));
+		}
+	}
+
+	private ImageIndex.Entry createIndexEntry(final ZipFile zipFile, final ZipEntry entry) {
+		try (InputStream inputStream = zipFile.getInputStream(entry)) {
+			int[] size = ImageIndex.readSize(inputStream);
+			if (size != null) {
+				return new ImageIndex.Entry(entry.getName(), size[0], size[1]);
 			}
 		} catch (IOException e) {
-			PDEPlugin.log(e);
+			// size unknown, determined when the image is decoded
 		}
+		return new ImageIndex.Entry(entry.getName(), -1, -1);
 	}
 
 	protected void searchDirectory(File directory, final IProgressMonitor monitor) {
@@ -0,0 +1,208 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 IBM Corporation and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.pde.internal.ui.views.imagebrowser.repositories;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.pde.internal.ui.PDEPlugin;
+
+/**
+ * Persistent index of the images contained in the jars of the target platform.
+ * <p>
+ * For every jar the index keeps the names of the image entries along with
+ * their size, read from the image headers, so that browsing and filtering the
+ * images of a jar neither has to enumerate the jar nor decode its images
+ * again. The entries of a jar are discarded once its time stamp or length
+ * changes.
+ * </p>
+ */
+public final class ImageIndex {
+
+	/**
+	 * An image of a jar, width and height are <code>-1</code> if unknown.
+	 */
+	public record Entry(String name, int width, int height) {
+	}
+
+	private record Jar(long lastModified, long length, List<Entry> entries) {
+	}
+
+	private static final String INDEX_FILE = "imagebrowser.index"; //$NON-NLS-1$
+	private static final int VERSION = 1;
+
+	private static final byte[] PNG_SIGNATURE = { (byte) 0x89, 'P', 'N', 'G' };
+	private static final byte[] GIF_SIGNATURE = { 'G', 'I', 'F' };
+
+	private static ImageIndex instance;
+
+	private final Path fFile;
+	private final Map<String, Jar> fJars = new ConcurrentHashMap<>();
+	private volatile boolean fDirty;
+
+	/**
+	 * Creates an index stored in the given file, the file is read if it
+	 * exists.
+	 */
+	public ImageIndex(Path file) {
+		fFile = file;
+		load();
+	}
+
+	static synchronized ImageIndex getDefault() {
+		if (instance == null) {
+			instance = new ImageIndex(PDEPlugin.getDefault().getStateLocation().append(INDEX_FILE).toPath());
+		}
+		return instance;
+	}
+
+	/**
+	 * Returns the indexed images of the given jar or <code>null</code> if the
+	 * jar is not indexed or has changed since.
+	 */
+	public List<Entry> get(File jarFile) {
+		Jar jar = fJars.get(jarFile.getAbsolutePath());
+		if (jar == null || jar.lastModified() != jarFile.lastModified() || jar.length() != jarFile.length()) {
+			return null;
+		}
+		return jar.entries();
+	}
+
+	/**
+	 * Indexes the images of the given jar.
+	 *
+	 * @param lastModified
+	 *            the time stamp of the jar before it was read
+	 * @param length
+	 *            the length of the jar before it was read
+	 */
+	public void put(File jarFile, long lastModified, long length, List<Entry> entries) {
+		fJars.put(jarFile.getAbsolutePath(), new Jar(lastModified, length, List.copyOf(entries)));
+		fDirty = true;
+	}
+
+	/**
+	 * Writes the index to the state location of the plug-in if it was
+	 * modified. Jars that do not exist anymore are dropped.
+	 */
+	public synchronized void save() {
+		if (!fDirty) {
+			return;
+		}
+		fDirty = false;
+		fJars.keySet().removeIf(path -> !new File(path).isFile());
+		Path file = fFile;
+		try {
+			Path tmp = Files.createTempFile(file.getParent(), INDEX_FILE, ".tmp"); //$NON-NLS-1$
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+				out.writeInt(VERSION);
+				out.writeInt(fJars.size());
+				for (Map.Entry<String, Jar> jar : fJars.entrySet()) {
+					out.writeUTF(jar.getKey());
+					out.writeLong(jar.getValue().lastModified());
+					out.writeLong(jar.getValue().length());
+					List<Entry> entries = jar.getValue().entries();
+					out.writeInt(entries.size());
+					for (Entry entry : entries) {
+						out.writeUTF(entry.name());
+						out.writeInt(entry.width());
+						out.writeInt(entry.height());
+					}
+				}
+			}
+			Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			PDEPlugin.log(e);
+		}
+	}
+
+	private void load() {
+		Path file = fFile;
+		if (!Files.isRegularFile(file)) {
+			return;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+			if (in.readInt() != VERSION) {
+				return;
+			}
+			int jars = in.readInt();
+			for (int i = 0; i < jars; i++) {
+				String path = in.readUTF();
+				long lastModified = in.readLong();
+				long length = in.readLong();
+				int size = in.readInt();
+				List<Entry> entries = new ArrayList<>(size);
+				for (int j = 0; j < size; j++) {
+					entries.add(new Entry(in.readUTF(), in.readInt(), in.readInt()));
+				}
+				fJars.put(path, new Jar(lastModified, length, List.copyOf(entries)));
+			}
+		} catch (IOException e) {
+			// corrupt index, start over
+			fJars.clear();
+			PDEPlugin.log(e);
+		}
+	}
+
+	/**
+	 * Reads the size of a PNG or GIF image from its header.
+	 *
+	 * @return the width and height or <code>null</code> if the format is not
+	 *         recognized
+	 */
+	public static int[] readSize(InputStream stream) throws IOException {
+		byte[] header = stream.readNBytes(24);
+		if (startsWith(header, PNG_SIGNATURE) && header.length >= 24) {
+			// IHDR chunk: width and height as big endian integers
+			return new int[] { readBigEndian(header, 16), readBigEndian(header, 20) };
+		}
+		if (startsWith(header, GIF_SIGNATURE) && header.length >= 10) {
+			// logical screen descriptor: width and height as little endian
+			// shorts
+			return new int[] { (header[6] & 0xFF) | (header[7] & 0xFF) << 8,
+					(header[8] & 0xFF) | (header[9] & 0xFF) << 8 };
+		}
+		return null;
+	}
+
+	private static boolean startsWith(byte[] bytes, byte[] prefix) {
+		if (bytes.length < prefix.length) {
+			return false;
+		}
+		for (int i = 0; i < prefix.length; i++) {
+			if (bytes[i] != prefix[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static int readBigEndian(byte[] bytes, int offset) {
+		return (bytes[offset] & 0xFF) << 24 | (bytes[offset + 1] & 0xFF) << 16 | (bytes[offset + 2] & 0xFF) << 8
+				| (bytes[offset + 3] & 0xFF);
+	}
+}
@@ -15,22 +15,27 @@
 package org.eclipse.pde.internal.ui.wizards.imports;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.lang.reflect.InvocationTargetException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.zip.ZipFile;
 
-import org.eclipse.core.resources.IFile;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.osgi.util.NLS;
+import org.eclipse.pde.internal.ui.PDEUIMessages;
 import org.eclipse.ui.dialogs.IOverwriteQuery;
 import org.eclipse.ui.wizards.datatransfer.IImportStructureProvider;
 import org.eclipse.ui.wizards.datatransfer.ImportOperation;
@@ -38,7 +43,8 @@ import org.eclipse.ui.wizards.datatransfer.ZipFileStructureProvider;
 
 /**
  * Helper class for the plug-in import operation.  Contains methods to assist in the copying and extracting
- * of jar a folder files.
+ * of jar a folder files.  Content is extracted to the local file system so that several plug-ins can be
+ * extracted concurrently.
  */
 public class PluginImportHelper {
 
@@ -64,11 +70,71 @@ public class PluginImportHelper {
 		}
 	}
 
+	/**
+	 * Extracts the contents of a zip file or folder to a directory of the local file system. Unlike
+	 * {@link #importContent(Object, IPath, IImportStructureProvider, List, IProgressMonitor)} this does not
+	 * use the workspace, so it can run concurrently with other extractions.  The resources are created by
+	 * refreshing the containing project afterwards.
+	 * @param source the file or folder to extract from, should either be the root of the zip file or the File representing the folder
+	 * @param dstDir the directory to extract to
+	 * @param filesToImport the files and folders to extract, if <code>null</code> all content is extracted
+	 * @param monitor progress monitor, checked for cancellation between the extracted files
+	 */
+	public static void extractContent(Object source, File dstDir, IImportStructureProvider provider, List<Object> filesToImport, IProgressMonitor monitor) throws CoreException {
+		List<?> elements = filesToImport != null ? filesToImport : provider.getChildren(source);
+		if (elements == null) {
+			return;
+		}
+		SubMonitor subMonitor = SubMonitor.convert(monitor, elements.size());
+		int sourceSegments = IPath.fromOSString(provider.getFullPath(source)).segmentCount();
+		try {
+			for (Object element : elements) {
+				extractElement(element, sourceSegments, dstDir, provider, subMonitor);
+				subMonitor.split(1);
+			}
+		} catch (IOException e) {
+			IStatus status = Status.error(e.getMessage(), e);
+			throw new CoreException(status);
+		}
+	}
+
+	private static void extractElement(Object element, int sourceSegments, File dstDir, IImportStructureProvider provider, IProgressMonitor monitor) throws IOException {
+		if (monitor.isCanceled()) {
+			throw new OperationCanceledException();
+		}
+		// same layout as an ImportOperation not creating the container structure
+		IPath relativePath = IPath.fromOSString(provider.getFullPath(element)).removeFirstSegments(sourceSegments);
+		Path root = dstDir.toPath().toAbsolutePath().normalize();
+		Path target = root.resolve(relativePath.toOSString()).normalize();
+		// reject entries like '../file' that are written outside of the destination
+		if (!target.startsWith(root)) {
+			throw new IOException(NLS.bind(PDEUIMessages.PluginImportHelper_entryOutsideDestination,
+					provider.getFullPath(element), dstDir));
+		}
+		if (provider.isFolder(element)) {
+			Files.createDirectories(target);
+			List<?> children = provider.getChildren(element);
+			if (children != null) {
+				for (Object child : children) {
+					extractElement(child, sourceSegments, dstDir, provider, monitor);
+				}
+			}
+			return;
+		}
+		try (InputStream stream = provider.getContents(element)) {
+			if (stream != null) {
+				Files.createDirectories(target.getParent());
+				Files.copy(stream, target, StandardCopyOption.REPLACE_EXISTING);
+			}
+		}
+	}
+
 	/**
 	 * Extracts the contents of the specified zip file to the specified destination
+	 * @param dstDir directory of the local file system to extract to
 	 * @param collectedPackages will be updated with the set of packages the extracted source belongs to, if <code>null</code> this step will be skipped
 	 */
-	public static void extractArchive(File file, IPath dstPath, Set<IPath> collectedPackages, IProgressMonitor monitor) throws CoreException {
+	public static void extractArchive(File file, File dstDir, Set<IPath> collectedPackages, IProgressMonitor monitor) throws CoreException {
 		try (ZipFile zipFile = new ZipFile(file)) {
 			ZipFileStructureProvider provider = new ZipFileStructureProvider(zipFile);
 
@@ -79,7 +145,7 @@ public class PluginImportHelper {
 				collectJavaPackages(provider, collected, null, collectedPackages);
 			}
 
-			importContent(provider.getRoot(), dstPath, provider, null, monitor);
+			extractContent(provider.getRoot(), dstDir, provider, null, monitor);
 		} catch (IOException e) {
 			IStatus status = Status.error(e.getMessage(), e);
 			throw new CoreException(status);
@@ -90,13 +156,13 @@ public class PluginImportHelper {
 	 * Extracts all of the files and subfolders from a single folder within an archive file.
 	 * @param file archive file to search for files
 	 * @param folderPath path to the folder to extract from
-	 * @param dstPath destination to import content to
+	 * @param dstDir directory of the local file system to extract the content to
 	 * @param collectedPackages will be updated with the set of packages the extracted source belongs to, if <code>null</code> this step will be skipped
 	 * @param monitor progress monitor
 	 * @throws CoreException if a problem occurs while extracting
 	 * @since 3.4
 	 */
-	public static void extractFolderFromArchive(File file, IPath folderPath, IPath dstPath, Set<IPath> collectedPackages, IProgressMonitor monitor) throws CoreException {
+	public static void extractFolderFromArchive(File file, IPath folderPath, File dstDir, Set<IPath> collectedPackages, IProgressMonitor monitor) throws CoreException {
 		try (ZipFile zipFile = new ZipFile(file)) {
 			ZipFileStructureProvider provider = new ZipFileStructureProvider(zipFile);
 			ArrayList<Object> collected = new ArrayList<>();
@@ -104,7 +170,7 @@ public class PluginImportHelper {
 			if (collectedPackages != null) {
 				collectJavaPackages(provider, collected, folderPath, collectedPackages);
 			}
-			importContent(provider.getRoot(), dstPath, provider, collected, monitor);
+			extractContent(provider.getRoot(), dstDir, provider, collected, monitor);
 		} catch (IOException e) {
 			IStatus status = Status.error(e.getMessage(), e);
 			throw new CoreException(status);
@@ -117,12 +183,12 @@ public class PluginImportHelper {
 	 * folders to exclude.
 	 * @param file archive file to search for source in
 	 * @param excludeFolders list of IPaths describing folders to ignore while searching
-	 * @param dstPath full path to destination to put the extracted source
+	 * @param dstDir directory of the local file system to put the extracted source
 	 * @param collectedPackages will be updated with the set of packages the extracted source belongs to, if <code>null</code> this step will be skipped
 	 * @param monitor progress monitor
 	 * @throws CoreException if there is a problem extracting source from the zip
 	 */
-	public static void extractJavaSourceFromArchive(File file, List<IPath> excludeFolders, IPath dstPath, Set<IPath> collectedPackages, IProgressMonitor monitor) throws CoreException {
+	public static void extractJavaSourceFromArchive(File file, List<IPath> excludeFolders, File dstDir, Set<IPath> collectedPackages, IProgressMonitor monitor) throws CoreException {
 		try (ZipFile zipFile = new ZipFile(file);) {
 			ZipFileStructureProvider provider = new ZipFileStructureProvider(zipFile);
 			ArrayList<Object> collected = new ArrayList<>();
@@ -130,7 +196,7 @@ public class PluginImportHelper {
 			if (collectedPackages != null) {
 				collectJavaPackages(provider, collected, null, collectedPackages);
 			}
-			importContent(provider.getRoot(), dstPath, provider, collected, monitor);
+			extractContent(provider.getRoot(), dstDir, provider, collected, monitor);
 		} catch (IOException e) {
 			IStatus status = Status.error(e.getMessage(), e);
 			throw new CoreException(status);
@@ -172,15 +238,12 @@ public class PluginImportHelper {
 	}
 
 	/**
-	 * Copies an archive file to an IFile
+	 * Copies an archive file to a file of the local file system
 	 */
-	public static void copyArchive(File file, IFile dstFile, IProgressMonitor monitor) throws CoreException {
-		try (FileInputStream fstream = new FileInputStream(file)) {
-			if (dstFile.exists()) {
-				dstFile.setContents(fstream, true, false, monitor);
-			} else {
-				dstFile.create(fstream, true, monitor);
-			}
+	public static void copyArchive(File file, File dstFile) throws CoreException {
+		try {
+			Files.createDirectories(dstFile.toPath().getParent());
+			Files.copy(file.toPath(), dstFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
 		} catch (IOException e) {
 			IStatus status = Status.error(e.getMessage(), e);
 			throw new CoreException(status);
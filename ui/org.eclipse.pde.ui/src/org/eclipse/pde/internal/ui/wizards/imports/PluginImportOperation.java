@@ -23,10 +23,15 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Hashtable;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.zip.ZipException;
 import java.util.zip.ZipFile;
 
@@ -35,19 +40,24 @@ import org.eclipse.core.resources.IFolder;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IProjectDescription;
 import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceRuleFactory;
+import org.eclipse.core.resources.IWorkspace;
 import org.eclipse.core.resources.IncrementalProjectBuilder;
 import org.eclipse.core.resources.ResourcesPlugin;
-import org.eclipse.core.resources.WorkspaceJob;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IAdaptable;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.MultiStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.core.runtime.jobs.ISchedulingRule;
 import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.MultiRule;
 import org.eclipse.jdt.core.IClasspathEntry;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
@@ -104,7 +114,7 @@ import org.osgi.framework.BundleException;
  */
 @SuppressWarnings("restriction")
 // The IBundleImporter API is currently provisional
-public class PluginImportOperation extends WorkspaceJob {
+public class PluginImportOperation extends Job {
 
 	public static final int IMPORT_BINARY = 1;
 	public static final int IMPORT_BINARY_WITH_LINKS = 2;
@@ -225,85 +235,224 @@ public class PluginImportOperation extends WorkspaceJob {
 	}
 
 	@Override
-	public IStatus runInWorkspace(IProgressMonitor monitor) throws CoreException {
-		int ticks = (fImportType == IMPORT_FROM_REPOSITORY) ? fImportDescriptions.size() + 2 : fModels.length + 1;
+	protected IStatus run(IProgressMonitor monitor) {
+		int ticks = (fImportType == IMPORT_FROM_REPOSITORY) ? fImportDescriptions.size() + 2 : 3 * fModels.length + 3;
 		SubMonitor subMonitor = SubMonitor.convert(monitor, ticks);
 		MultiStatus multiStatus = new MultiStatus(PDEPlugin.getPluginId(), IStatus.OK,
 				PDEUIMessages.ImportWizard_operation_multiProblem, null);
+		IWorkspace workspace = ResourcesPlugin.getWorkspace();
+		try {
+			if (fImportType == IMPORT_FROM_REPOSITORY) {
+				workspace.run(m -> importFromRepositories(multiStatus, m), workspace.getRoot(),
+						IWorkspace.AVOID_UPDATE, subMonitor);
+			} else {
+				// Projects are created one after the other as the user may be
+				// asked whether to overwrite, their content is then extracted
+				// concurrently to the file system outside of a workspace
+				// operation so that the workspace is not locked meanwhile and
+				// finally the resources are created and the projects are set
+				// up one after the other
+				List<PluginImport> imports = new ArrayList<>(fModels.length);
+				workspace.run(m -> imports.addAll(createProjects(multiStatus, m)), workspace.getRoot(),
+						IWorkspace.AVOID_UPDATE, subMonitor.split(fModels.length + 2));
+				extract(imports, subMonitor.split(fModels.length));
+				workspace.run(m -> complete(imports, multiStatus, m), getCompleteRule(imports),
+						IWorkspace.AVOID_UPDATE, subMonitor.split(fModels.length + 1));
+			}
+		} catch (OperationCanceledException e) {
+			return Status.CANCEL_STATUS;
+		} catch (CoreException e) {
+			return e.getStatus();
+		}
+		if (!workspace.isAutoBuilding() && fForceAutobuild)
+			runBuildJob();
+		return multiStatus;
+	}
 
+	/**
+	 * Imports the projects described by the import descriptions with the
+	 * bundle importers, a warning lists the projects that were not imported.
+	 *
+	 * @param multiStatus the multi-status used to report problems
+	 * @param monitor progress monitor
+	 * @throws CoreException if a bundle importer fails
+	 */
+	private void importFromRepositories(MultiStatus multiStatus, IProgressMonitor monitor) throws CoreException {
+		SubMonitor subMonitor = SubMonitor.convert(monitor, fImportDescriptions.size() + 2);
 		deleteConflictingProjects(multiStatus, subMonitor.split(2));
 		if (subMonitor.isCanceled()) {
-			return Status.CANCEL_STATUS;
+			throw new OperationCanceledException();
 		}
 
-		if (fImportType == IMPORT_FROM_REPOSITORY) {
-			final List<String> namesOfNotImportedProjects = new ArrayList<>();
-			Iterator<Entry<IBundleImporter, ScmUrlImportDescription[]>> iterator = fImportDescriptions.entrySet()
-					.iterator();
-			while (iterator.hasNext()) {
-				Entry<IBundleImporter, ScmUrlImportDescription[]> entry = iterator.next();
-				IBundleImporter importer = entry.getKey();
-				ScmUrlImportDescription[] descriptions = entry.getValue();
-				if (descriptions.length == 0)
-					continue;
-				IProject[] importedProjects = importer.performImport(descriptions, subMonitor.split(1));
-				if (importedProjects != null && importedProjects.length == descriptions.length)
-					continue;
-
-				ArrayList<String> namesOfImportedProjects = new ArrayList<>(importedProjects.length);
-				for (IProject importedProject : importedProjects) {
-					namesOfImportedProjects.add(importedProject.getName());
-				}
-				for (ScmUrlImportDescription description : descriptions) {
-					String projectName = description.getProject();
-					if (!namesOfImportedProjects.contains(projectName)) {
-						namesOfNotImportedProjects.add(projectName);
-					}
+		final List<String> namesOfNotImportedProjects = new ArrayList<>();
+		Iterator<Entry<IBundleImporter, ScmUrlImportDescription[]>> iterator = fImportDescriptions.entrySet()
+				.iterator();
+		while (iterator.hasNext()) {
+			Entry<IBundleImporter, ScmUrlImportDescription[]> entry = iterator.next();
+			IBundleImporter importer = entry.getKey();
+			ScmUrlImportDescription[] descriptions = entry.getValue();
+			if (descriptions.length == 0)
+				continue;
+			IProject[] importedProjects = importer.performImport(descriptions, subMonitor.split(1));
+			if (importedProjects != null && importedProjects.length == descriptions.length)
+				continue;
+
+			ArrayList<String> namesOfImportedProjects = new ArrayList<>(importedProjects.length);
+			for (IProject importedProject : importedProjects) {
+				namesOfImportedProjects.add(importedProject.getName());
+			}
+			for (ScmUrlImportDescription description : descriptions) {
+				String projectName = description.getProject();
+				if (!namesOfImportedProjects.contains(projectName)) {
+					namesOfNotImportedProjects.add(projectName);
 				}
 			}
-			if (!namesOfNotImportedProjects.isEmpty()) {
-				UIJob job = UIJob.create(PDEUIMessages.PluginImportOperation_WarningDialogJob, m -> {
-					String dialogMessage = namesOfNotImportedProjects.size() == 1
-							? PDEUIMessages.PluginImportOperation_WarningDialogMessageSingular
-							: PDEUIMessages.PluginImportOperation_WarningDialogMessagePlural;
-					NotImportedProjectsWarningDialog dialog = new NotImportedProjectsWarningDialog(dialogMessage,
-							namesOfNotImportedProjects);
-					dialog.open();
-				});
-				try {
-					job.schedule();
-					job.join();
-				} catch (InterruptedException e1) {
+		}
+		if (!namesOfNotImportedProjects.isEmpty()) {
+			UIJob job = UIJob.create(PDEUIMessages.PluginImportOperation_WarningDialogJob, m -> {
+				String dialogMessage = namesOfNotImportedProjects.size() == 1
+						? PDEUIMessages.PluginImportOperation_WarningDialogMessageSingular
+						: PDEUIMessages.PluginImportOperation_WarningDialogMessagePlural;
+				NotImportedProjectsWarningDialog dialog = new NotImportedProjectsWarningDialog(dialogMessage,
+						namesOfNotImportedProjects);
+				dialog.open();
+			});
+			try {
+				job.schedule();
+				job.join();
+			} catch (InterruptedException e1) {
+			}
+		}
+	}
+
+	/**
+	 * Deletes the conflicting projects and creates the projects of the
+	 * plug-ins to import.  The source location managers are looked up for
+	 * each plug-in, so that they are initialized before the plug-ins are
+	 * extracted concurrently.
+	 *
+	 * @param multiStatus the multi-status used to report problems
+	 * @param monitor progress monitor
+	 * @return the imports of the plug-ins whose project was created
+	 */
+	private List<PluginImport> createProjects(MultiStatus multiStatus, IProgressMonitor monitor) {
+		SubMonitor subMonitor = SubMonitor.convert(monitor, fModels.length + 2);
+		deleteConflictingProjects(multiStatus, subMonitor.split(2));
+		if (subMonitor.isCanceled()) {
+			throw new OperationCanceledException();
+		}
+
+		List<PluginImport> imports = new ArrayList<>(fModels.length);
+		for (IPluginModelBase model : fModels) {
+			subMonitor.setTaskName(NLS.bind(PDEUIMessages.PluginImportOperation_Importing_plugin,
+					model.getPluginBase().getId()));
+			try {
+				IProject project = createProject(model, subMonitor.split(1));
+				if (project != null) {
+					SourceLocationManager sourceManager = getSourceManager(model);
+					boolean binary = fImportType == IMPORT_WITH_SOURCE && !canFindSource(model, sourceManager);
+					imports.add(new PluginImport(model, project, binary ? IMPORT_BINARY : fImportType, sourceManager));
 				}
+			} catch (CoreException e) {
+				multiStatus.merge(e.getStatus());
 			}
-		} else {
-			for (IPluginModelBase model : fModels) {
-				subMonitor.setTaskName(NLS.bind(PDEUIMessages.PluginImportOperation_Importing_plugin,
-						model.getPluginBase().getId()));
+		}
+		return imports;
+	}
+
+	/**
+	 * Extracts the content of the plug-ins concurrently, the progress is
+	 * reported from the calling thread. The extractions check for
+	 * cancellation between the entries they extract.
+	 *
+	 * @param imports the plug-ins to extract
+	 * @param monitor progress monitor
+	 */
+	private void extract(List<PluginImport> imports, IProgressMonitor monitor) {
+		SubMonitor subMonitor = SubMonitor.convert(monitor, imports.size());
+		// only asked for cancellation, so it can be used by all threads
+		IProgressMonitor cancelMonitor = new NullProgressMonitor() {
+			@Override
+			public boolean isCanceled() {
+				return subMonitor.isCanceled();
+			}
+		};
+		int threads = Math.min(imports.size(), Runtime.getRuntime().availableProcessors());
+		ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, threads));
+		try {
+			List<Future<?>> extractions = new ArrayList<>(imports.size());
+			for (PluginImport pluginImport : imports) {
+				extractions.add(executor.submit(() -> extract(pluginImport, cancelMonitor)));
+			}
+			for (Future<?> extraction : extractions) {
 				try {
-					importPlugin(model, fImportType, subMonitor.split(1));
-				} catch (CoreException e) {
-					multiStatus.merge(e.getStatus());
-				}
-				if (subMonitor.isCanceled()) {
-					try {
-						setClasspaths(subMonitor.split(1));
-					} catch (JavaModelException e) {
-						/* Do nothing as we are already cancelled */
-					}
-					return Status.CANCEL_STATUS;
+					extraction.get();
+				} catch (ExecutionException e) {
+					// extract() records the problems in the import
+					PDEPlugin.log(e.getCause());
 				}
+				subMonitor.worked(1);
 			}
-			subMonitor.setTaskName(PDEUIMessages.PluginImportOperation_Set_up_classpaths);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OperationCanceledException();
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Returns the rule to create the resources of the extracted plug-ins and
+	 * set up their projects with.
+	 *
+	 * @param imports the extracted plug-ins
+	 * @return the rule or <code>null</code> if there is nothing to import
+	 */
+	private static ISchedulingRule getCompleteRule(List<PluginImport> imports) {
+		IResourceRuleFactory ruleFactory = ResourcesPlugin.getWorkspace().getRuleFactory();
+		ISchedulingRule rule = null;
+		for (PluginImport pluginImport : imports) {
+			rule = MultiRule.combine(rule, ruleFactory.refreshRule(pluginImport.project));
+			rule = MultiRule.combine(rule, ruleFactory.modifyRule(pluginImport.project));
+		}
+		return rule;
+	}
+
+	/**
+	 * Creates the resources for the extracted plug-ins, sets up their projects
+	 * and their classpaths.
+	 *
+	 * @param imports the extracted plug-ins
+	 * @param multiStatus the multi-status used to report problems
+	 * @param monitor progress monitor
+	 */
+	private void complete(List<PluginImport> imports, MultiStatus multiStatus, IProgressMonitor monitor) {
+		SubMonitor subMonitor = SubMonitor.convert(monitor, imports.size() + 1);
+		for (PluginImport pluginImport : imports) {
+			subMonitor.setTaskName(NLS.bind(PDEUIMessages.PluginImportOperation_Importing_plugin,
+					pluginImport.model.getPluginBase().getId()));
 			try {
-				setClasspaths(subMonitor.split(1));
-			} catch (JavaModelException e) {
+				if (!subMonitor.isCanceled()) {
+					complete(pluginImport, subMonitor.split(1));
+				}
+			} catch (CoreException e) {
 				multiStatus.merge(e.getStatus());
 			}
+			if (subMonitor.isCanceled()) {
+				try {
+					setClasspaths(subMonitor.split(1));
+				} catch (JavaModelException e) {
+					/* Do nothing as we are already cancelled */
+				}
+				throw new OperationCanceledException();
+			}
+		}
+		subMonitor.setTaskName(PDEUIMessages.PluginImportOperation_Set_up_classpaths);
+		try {
+			setClasspaths(subMonitor.split(1));
+		} catch (JavaModelException e) {
+			multiStatus.merge(e.getStatus());
 		}
-		if (!ResourcesPlugin.getWorkspace().isAutoBuilding() && fForceAutobuild)
-			runBuildJob();
-		return multiStatus;
 	}
 
 	/**
@@ -468,53 +617,124 @@ public class PluginImportOperation extends WorkspaceJob {
 	}
 
 	/**
-	 * This method starts the import of a specific plugin.  Checks if the execution
-	 * environment is supported and also checks if the project already exists and
-	 * needs to be replaced.
-	 * @param model model representing the plugin to import
-	 * @param monitor progress monitor
-	 * @throws CoreException if a problem occurs while importing a plugin
+	 * The state of the import of a single plug-in, handed from the extraction
+	 * of its content to the set up of its project.
 	 */
-	private void importPlugin(IPluginModelBase model, int importType, IProgressMonitor monitor) throws CoreException {
-		SubMonitor subMonitor = SubMonitor.convert(monitor, 5);
+	private static final class PluginImport {
+		final IPluginModelBase model;
+		final IProject project;
+		// the location of the project in the local file system
+		final File location;
+		final int importType;
+		// imported as-is from a development workspace
+		boolean development;
+		// looked up before extracting, possibly null
+		final SourceLocationManager sourceManager;
+		Map<String, IPath> sourceMap;
+		// build entries of the source folders, applied once the content is
+		// in the workspace
+		final Map<String, String> buildEntries = new LinkedHashMap<>();
+		CoreException error;
+
+		PluginImport(IPluginModelBase model, IProject project, int importType, SourceLocationManager sourceManager) {
+			this.model = model;
+			this.project = project;
+			this.importType = importType;
+			this.sourceManager = sourceManager;
+			this.location = project.getLocation().toFile();
+		}
+	}
 
-		// Create the project or ask to overwrite if project exists
-		IProject project = createProject(model, subMonitor.split(1));
-		if (project == null) {
+	/**
+	 * Extracts and copies the content of a plug-in into the directory of its
+	 * project. Only the local file system is modified, so that several
+	 * plug-ins can be extracted concurrently, the workspace is updated by
+	 * {@link #complete(PluginImport, IProgressMonitor)}. A problem is
+	 * recorded in the given import.
+	 *
+	 * @param pluginImport
+	 *            the plug-in to extract
+	 * @param monitor
+	 *            progress monitor, only used to check for cancellation
+	 */
+	private void extract(PluginImport pluginImport, IProgressMonitor monitor) {
+		if (monitor.isCanceled()) {
 			return;
 		}
-
-		// Target Weaving: if we are importing plug-ins in the runtime workbench
-		// from the host workbench, import everything as-is and return
-		// Target weaving will also break things when importing from a
-		// non-default target because the dev.properties changes the libraries
-		// to 'bin/' see bug 294005
-		if (Platform.inDevelopmentMode()) {
-			File location = new File(model.getInstallLocation());
-			if (location.isDirectory()) {
-				File classpathFile = new File(location, ".classpath"); //$NON-NLS-1$
-				File projectFile = new File(location, ".project"); //$NON-NLS-1$
-				if (classpathFile.exists() && classpathFile.isFile() && projectFile.exists() && projectFile.isFile()) {
-					PluginImportHelper.importContent(location, project.getFullPath(),
-							FileSystemStructureProvider.INSTANCE, null, subMonitor.split(4));
-					return;
+		IPluginModelBase model = pluginImport.model;
+		try {
+			// Target Weaving: if we are importing plug-ins in the runtime workbench
+			// from the host workbench, import everything as-is and return
+			// Target weaving will also break things when importing from a
+			// non-default target because the dev.properties changes the libraries
+			// to 'bin/' see bug 294005
+			if (Platform.inDevelopmentMode()) {
+				File location = new File(model.getInstallLocation());
+				if (location.isDirectory()) {
+					File classpathFile = new File(location, ".classpath"); //$NON-NLS-1$
+					File projectFile = new File(location, ".project"); //$NON-NLS-1$
+					if (classpathFile.exists() && classpathFile.isFile() && projectFile.exists() && projectFile.isFile()) {
+						PluginImportHelper.extractContent(location, pluginImport.location,
+								FileSystemStructureProvider.INSTANCE, null, monitor);
+						pluginImport.development = true;
+						return;
+					}
 				}
 			}
+
+			// Perform the import
+			if (pluginImport.importType == IMPORT_BINARY) {
+				extractBinary(pluginImport, monitor);
+			} else if (pluginImport.importType == IMPORT_BINARY_WITH_LINKS) {
+				extractBinaryWithLinks(pluginImport);
+			} else if (pluginImport.importType == IMPORT_WITH_SOURCE) {
+				extractSource(pluginImport, monitor);
+			}
+		} catch (OperationCanceledException e) {
+			// the projects are completed as far as they were extracted
+		} catch (CoreException e) {
+			pluginImport.error = e;
+		} catch (RuntimeException e) {
+			pluginImport.error = new CoreException(Status.error(e.getMessage(), e));
+		}
+	}
+
+	/**
+	 * Creates the resources for the content extracted into the project of a
+	 * plug-in and sets up the project.
+	 *
+	 * @param pluginImport
+	 *            the plug-in to import
+	 * @param monitor
+	 *            progress monitor
+	 * @throws CoreException
+	 *             if a problem occurred while extracting or importing the
+	 *             plug-in
+	 */
+	private void complete(PluginImport pluginImport, IProgressMonitor monitor) throws CoreException {
+		SubMonitor subMonitor = SubMonitor.convert(monitor, 3);
+		IProject project = pluginImport.project;
+		IPluginModelBase model = pluginImport.model;
+		project.refreshLocal(IResource.DEPTH_INFINITE, subMonitor.split(1));
+		if (pluginImport.error != null) {
+			throw pluginImport.error;
+		}
+		if (pluginImport.development) {
+			return;
 		}
 
-		// Perform the import
-		Map<String, IPath> sourceMap = null;
-		if (importType == IMPORT_BINARY || (importType == IMPORT_WITH_SOURCE && !canFindSource(model))) {
-			sourceMap = importAsBinary(project, model, subMonitor.split(4));
-		} else if (importType == IMPORT_BINARY_WITH_LINKS) {
-			sourceMap = importAsBinaryWithLinks(project, model, subMonitor.split(4));
-		} else if (importType == IMPORT_WITH_SOURCE) {
-			importAsSource(project, model, subMonitor.split(4));
+		if (pluginImport.importType == IMPORT_BINARY) {
+			completeBinary(pluginImport);
+		} else if (pluginImport.importType == IMPORT_BINARY_WITH_LINKS) {
+			completeBinaryWithLinks(pluginImport, subMonitor.split(1));
+		} else if (pluginImport.importType == IMPORT_WITH_SOURCE) {
+			completeSource(pluginImport);
 		}
+		subMonitor.setWorkRemaining(1);
 
 		setProjectNatures(project, model);
 
-		if(importType == IMPORT_WITH_SOURCE) {
+		if (fImportType == IMPORT_WITH_SOURCE) {
 			// if the project has .api_description, then API nature must be
 			// added
 			if (project.findMember(".api_description") != null) { //$NON-NLS-1$
@@ -524,58 +744,78 @@ public class PluginImportOperation extends WorkspaceJob {
 
 		// Set the classpath
 		if (project.hasNature(JavaCore.NATURE_ID) && project.findMember(".classpath") == null) //$NON-NLS-1$
-			fProjectClasspaths.put(project, ClasspathComputer.getClasspath(project, model, sourceMap, true, false));
+			fProjectClasspaths.put(project,
+					ClasspathComputer.getClasspath(project, model, pluginImport.sourceMap, true, false));
+		subMonitor.worked(1);
 	}
 
 	/**
-	 * Imports the contents of the plugin and imports source files as binary files that will not be compiled.
-	 * @param project destination project of the import
-	 * @param model model representing the plugin to import
-	 * @param monitor progress monitor
-	 * @return a mapping of libraries to source locations to use in the classpath
-	 * @throws CoreException if there is a problem completing the import
+	 * Extracts the contents of the plugin and the source files as binary files that will not be compiled.
+	 * @param pluginImport the plug-in to extract, updated with the mapping of libraries to source locations to use in the classpath
+	 * @param monitor progress monitor, only used to check for cancellation
+	 * @throws CoreException if there is a problem extracting the content
 	 */
-	private Map<String, IPath> importAsBinary(IProject project, IPluginModelBase model, IProgressMonitor monitor) throws CoreException {
-		SubMonitor subMonitor = SubMonitor.convert(monitor, 4);
+	private void extractBinary(PluginImport pluginImport, IProgressMonitor monitor) throws CoreException {
+		IPluginModelBase model = pluginImport.model;
 
 		// Import the plug-in content
 		File srcFile = new File(model.getInstallLocation());
 		if (isJARd(model)) {
-			PluginImportHelper.copyArchive(srcFile, project.getFile(srcFile.getName()), subMonitor.split(1));
+			PluginImportHelper.copyArchive(srcFile, new File(pluginImport.location, srcFile.getName()));
 		} else {
-			PluginImportHelper.importContent(new File(model.getInstallLocation()), project.getFullPath(),
-					FileSystemStructureProvider.INSTANCE, null, subMonitor.split(1));
+			PluginImportHelper.extractContent(srcFile, pluginImport.location, FileSystemStructureProvider.INSTANCE,
+					null, monitor);
 		}
 
 		// Import source from known source locations
-		Map<String, IPath> sourceMap = importSourceArchives(project, model, IMPORT_BINARY, subMonitor.split(1));
+		pluginImport.sourceMap = importSourceArchives(pluginImport.project, model, pluginImport.sourceManager,
+				IMPORT_BINARY, monitor);
 
 		// Import additional source files such as schema files for easy access,
 		// see bug 139161
-		importAdditionalSourceFiles(project, model, subMonitor.split(1));
+		importAdditionalSourceFiles(pluginImport.location, model, pluginImport.sourceManager);
+
+		// Extract the required bundle files
+		importRequiredPluginFiles(pluginImport.location, model);
+	}
 
-		// Extract the required bundle files and modify the imported manifest to
-		// have the correct classpath
-		importRequiredPluginFiles(project, model, subMonitor.split(1));
-		modifyBundleClasspathHeader(project, model);
+	/**
+	 * Modifies the imported manifest to have the correct classpath and marks the project as binary
+	 * @throws CoreException if there is a problem setting up the project
+	 */
+	private void completeBinary(PluginImport pluginImport) throws CoreException {
+		IProject project = pluginImport.project;
+		modifyBundleClasspathHeader(project, pluginImport.model);
 
 		// Mark the project as binary
 		RepositoryProvider.map(project, PDECore.BINARY_REPOSITORY_PROVIDER);
 		project.setPersistentProperty(PDECore.EXTERNAL_PROJECT_PROPERTY, PDECore.BINARY_PROJECT_VALUE);
+	}
 
-		return sourceMap;
+	/**
+	 * Extracts the files of a plug-in imported with links that have to be copied into the project
+	 * @param pluginImport the plug-in to extract
+	 * @throws CoreException if there is a problem extracting the content
+	 */
+	private void extractBinaryWithLinks(PluginImport pluginImport) throws CoreException {
+		// Import additional source files such as schema files for easy access,
+		// see bug 139161
+		importAdditionalSourceFiles(pluginImport.location, pluginImport.model, pluginImport.sourceManager);
+
+		// Extract the required bundle files
+		importRequiredPluginFiles(pluginImport.location, pluginImport.model);
 	}
 
 	/**
 	 * Creates links to remote plugin and source locations and sets up the project
-	 * @param project destination project of the import
-	 * @param model model representing the plugin to import
+	 * @param pluginImport the plug-in to import, updated with the mapping of library name to path to source library (relative to project)
 	 * @param monitor progress monitor
-	 * @return mapping of library name to path to source library (relative to project)
 	 * @throws CoreException if there is a problem completing the import
 	 */
-	private Map<String, IPath> importAsBinaryWithLinks(IProject project, IPluginModelBase model, IProgressMonitor monitor) throws CoreException {
-		SubMonitor subMonitor = SubMonitor.convert(monitor, 4);
+	private void completeBinaryWithLinks(PluginImport pluginImport, IProgressMonitor monitor) throws CoreException {
+		SubMonitor subMonitor = SubMonitor.convert(monitor, 2);
+		IProject project = pluginImport.project;
+		IPluginModelBase model = pluginImport.model;
 
 		// Link the plug-in content
 		File srcFile = new File(model.getInstallLocation());
@@ -588,95 +828,77 @@ public class PluginImportOperation extends WorkspaceJob {
 		}
 
 		// Link source from known source locations
-		Map<String, IPath> sourceMap = importSourceArchives(project, model, IMPORT_BINARY_WITH_LINKS,
-				subMonitor.split(1));
+		pluginImport.sourceMap = importSourceArchives(project, model, pluginImport.sourceManager,
+				IMPORT_BINARY_WITH_LINKS, subMonitor.split(1));
 
-		// Import additional source files such as schema files for easy access,
-		// see bug 139161
-		importAdditionalSourceFiles(project, model, subMonitor.split(1));
-
-		// Extract the required bundle files and modify the imported manifest to
-		// have the correct classpath
-		importRequiredPluginFiles(project, model, subMonitor.split(1));
-		modifyBundleClasspathHeader(project, model);
-
-		// Mark the project as binary
-		RepositoryProvider.map(project, PDECore.BINARY_REPOSITORY_PROVIDER);
-		project.setPersistentProperty(PDECore.EXTERNAL_PROJECT_PROPERTY, PDECore.BINARY_PROJECT_VALUE);
-
-		return sourceMap;
+		completeBinary(pluginImport);
 	}
 
 	/**
-	 * Imports the contents of the plugin and imports source files to source folders that will be compiled.
-	 * @param project destination project of the import
-	 * @param model model representing the plugin to import
-	 * @param monitor progress monitor
-	 * @throws CoreException if there is a problem completing the import
+	 * Extracts the contents of the plugin and the source files to source folders that will be compiled.
+	 * @param pluginImport the plug-in to extract, updated with the build entries of the source folders
+	 * @param monitor progress monitor, only used to check for cancellation
+	 * @throws CoreException if there is a problem extracting the content
 	 */
-	private void importAsSource(IProject project, IPluginModelBase model, IProgressMonitor monitor)
-			throws CoreException {
+	private void extractSource(PluginImport pluginImport, IProgressMonitor monitor) throws CoreException {
+		IPluginModelBase model = pluginImport.model;
+		File projectDir = pluginImport.location;
 		try {
-			SubMonitor subMonitor = SubMonitor.convert(monitor, 4);
-
 			// Extract the source, track build entries and package locations
-			WorkspaceBuildModel buildModel = new WorkspaceBuildModel(PDEProject.getBuildProperties(project));
 			Map<IPath, IPath> packageLocations = new HashMap<>(); // maps package path to a src folder
-			boolean sourceFound = extractSourceFolders(project, model, buildModel, packageLocations,
-					subMonitor.split(1));
+			boolean sourceFound = extractSourceFolders(projectDir, model, pluginImport.sourceManager,
+					pluginImport.buildEntries, packageLocations, monitor);
 			// If no source was found previously, check if there was a source folder (src) inside the binary plug-in
 			if (!sourceFound) {
-				sourceFound = handleInternalSource(model, buildModel, packageLocations);
+				sourceFound = handleInternalSource(model, pluginImport.buildEntries, packageLocations);
 			}
 
 			// Extract additional non-java files from the source bundles
-			importAdditionalSourceFiles(project, model, subMonitor.split(1));
+			importAdditionalSourceFiles(projectDir, model, pluginImport.sourceManager);
 
 			// Extract the binary plug-in (for non-class files)
 			// Use the package locations map to put files that belong in the package directory structure into the proper source directory
 			if (isJARd(model)) {
-				SubMonitor iterationMonitor = subMonitor.split(1);
 				try (ZipFile zip = new ZipFile(new File(model.getInstallLocation()))) {
 					ZipFileStructureProvider provider = new ZipFileStructureProvider(zip);
 					Map<IPath, List<Object>> collected = new HashMap<>();
 					PluginImportHelper.collectBinaryFiles(provider, provider.getRoot(), packageLocations, collected);
-					iterationMonitor.setWorkRemaining(collected.size());
 					for (Entry<IPath, List<Object>> entry : collected.entrySet()) {
-						IPath currentDestination = entry.getKey();
-						IPath destination = project.getFullPath();
-						destination = destination.append(currentDestination);
-						PluginImportHelper.importContent(provider.getRoot(), destination, provider,
-								entry.getValue(), iterationMonitor.split(1));
-
+						File destination = new File(projectDir, entry.getKey().toOSString());
+						PluginImportHelper.extractContent(provider.getRoot(), destination, provider, entry.getValue(),
+								monitor);
 					}
 				}
 			} else {
-				SubMonitor iterationMonitor = subMonitor.split(1);
 				Map<IPath, List<Object>> collected = new HashMap<>();
 				File srcFile = new File(model.getInstallLocation());
 				PluginImportHelper.collectBinaryFiles(FileSystemStructureProvider.INSTANCE, srcFile, packageLocations, collected);
-				iterationMonitor.setWorkRemaining(collected.size());
 				for (Entry<IPath, List<Object>> entry : collected.entrySet()) {
-					IPath currentDestination = entry.getKey();
-					IPath destination = project.getFullPath();
-					destination = destination.append(currentDestination);
-					PluginImportHelper.importContent(srcFile, destination, FileSystemStructureProvider.INSTANCE,
-							entry.getValue(), iterationMonitor.split(1));
-
+					File destination = new File(projectDir, entry.getKey().toOSString());
+					PluginImportHelper.extractContent(srcFile, destination, FileSystemStructureProvider.INSTANCE,
+							entry.getValue(), monitor);
 				}
 			}
-
-			// If the source bundle had a pre-configured build.properties file, do not overwrite with the generated file (Bug 391801)
-			if (!PDEProject.getBuildProperties(project).exists()) {
-				configureBinIncludes(buildModel, model, project);
-				buildModel.save();
-			}
-			subMonitor.worked(1);
-
 		} catch (IOException e) {
 			throw new CoreException(Status.error(e.getMessage(), e));
 		}
+	}
 
+	/**
+	 * Writes the build.properties of a plug-in imported with source
+	 * @throws CoreException if there is a problem creating the build entries
+	 */
+	private void completeSource(PluginImport pluginImport) throws CoreException {
+		IProject project = pluginImport.project;
+		// If the source bundle had a pre-configured build.properties file, do not overwrite with the generated file (Bug 391801)
+		if (!PDEProject.getBuildProperties(project).exists()) {
+			WorkspaceBuildModel buildModel = new WorkspaceBuildModel(PDEProject.getBuildProperties(project));
+			for (Entry<String, String> entry : pluginImport.buildEntries.entrySet()) {
+				addBuildEntry(buildModel, entry.getKey(), entry.getValue());
+			}
+			configureBinIncludes(buildModel, pluginImport.model, project);
+			buildModel.save();
+		}
 	}
 
 	/**
@@ -781,11 +1003,12 @@ public class PluginImportOperation extends WorkspaceJob {
 	/**
 	 * Checks if we have a source location for the given model
 	 * @param model model to lookup source for
+	 * @param manager source location manager containing source for the plug-in or <code>null</code>
 	 * @return true if source was found for at least one library, false otherwise
 	 */
-	private boolean canFindSource(IPluginModelBase model) {
+	private boolean canFindSource(IPluginModelBase model, SourceLocationManager manager) {
 		// Check the manager(s) for source
-		if (getSourceManager(model) != null) {
+		if (manager != null) {
 			return true;
 		}
 
@@ -891,18 +1114,18 @@ public class PluginImportOperation extends WorkspaceJob {
 	 * constant that is passed to the method (IMPORT_BINARY or IMPORT_BINARY_WITH_LINKS).
 	 * @param project project destination
 	 * @param model model we are importing
+	 * @param manager source location manager containing source for the plug-in or <code>null</code>
 	 * @param mode either IMPORT_BINARY (copies source) or MPORT_BINARY_WITH_LINKS (links source)
 	 * @param monitor progress monitor
 	 * @return mapping of library name to the source location
 	 * @throws CoreException if there are problems importing an archive
 	 */
-	private Map<String, IPath> importSourceArchives(IProject project, IPluginModelBase model, int mode, IProgressMonitor monitor) throws CoreException {
+	private Map<String, IPath> importSourceArchives(IProject project, IPluginModelBase model, SourceLocationManager manager, int mode, IProgressMonitor monitor) throws CoreException {
 		String[] libraries = getLibraryNames(model);
 		SubMonitor subMonitor = SubMonitor.convert(monitor, PDEUIMessages.ImportWizard_operation_importingSource,
 				libraries.length);
 
 		Map<String, IPath> sourceMap = new HashMap<>(libraries.length);
-		SourceLocationManager manager = getSourceManager(model);
 		if (manager != null) {
 			for (int i = 0; i < libraries.length; i++) {
 				subMonitor.setWorkRemaining(libraries.length - i);
@@ -914,14 +1137,15 @@ public class PluginImportOperation extends WorkspaceJob {
 					zipName = srcPath.lastSegment();
 					IPath dstPath = IPath.fromOSString(zipName);
 					sourceMap.put(libraries[i], dstPath);
-					if (project.findMember(dstPath) == null) {
-						if (mode == IMPORT_BINARY) {
-							PluginImportHelper.copyArchive(new File(srcPath.toOSString()), project.getFile(dstPath),
-									subMonitor.split(1));
-						} else if (mode == IMPORT_BINARY_WITH_LINKS) {
-							IFile dstFile = project.getFile(dstPath);
-							dstFile.createLink(srcPath, IResource.NONE, subMonitor.split(1));
+					if (mode == IMPORT_BINARY) {
+						// copied while extracting, before the project is refreshed
+						File dstFile = new File(project.getLocation().toFile(), dstPath.toOSString());
+						if (!dstFile.exists()) {
+							PluginImportHelper.copyArchive(new File(srcPath.toOSString()), dstFile);
 						}
+					} else if (mode == IMPORT_BINARY_WITH_LINKS && project.findMember(dstPath) == null) {
+						IFile dstFile = project.getFile(dstPath);
+						dstFile.createLink(srcPath, IResource.NONE, subMonitor.split(1));
 					}
 				}
 			}
@@ -931,22 +1155,20 @@ public class PluginImportOperation extends WorkspaceJob {
 
 	/**
 	 * Looks up the source locations for the plug-in and imports the source for each library.  Each source root is
-	 * extracted to a source folder in the project and a build model containing the source entries is returned.
+	 * extracted to a source folder in the project directory and a build entry is recorded for it.
 	 *
-	 * @param project destination project
+	 * @param projectDir directory of the destination project in the local file system
 	 * @param model plug-in being imported
-	 * @param buildModel a workspace build model that entries for each created source folder will be added to
+	 * @param manager source location manager containing source for the plug-in or <code>null</code>
+	 * @param buildEntries map that entries for each created source folder will be added to
 	 * @param packageLocations map that will be updated with package locations (package path to a source foldeR)
-	 * @param monitor progress monitor
+	 * @param monitor progress monitor, only used to check for cancellation
 	 * @return whether a source location was found
-	 * @throws CoreException if there is a problem extracting the source or creating a build entry
+	 * @throws CoreException if there is a problem extracting the source
 	 */
-	private boolean extractSourceFolders(IProject project, IPluginModelBase model, WorkspaceBuildModel buildModel, Map<IPath, IPath> packageLocations, IProgressMonitor monitor) throws CoreException {
+	private boolean extractSourceFolders(File projectDir, IPluginModelBase model, SourceLocationManager manager, Map<String, String> buildEntries, Map<IPath, IPath> packageLocations, IProgressMonitor monitor) throws CoreException {
 		String[] libraries = getLibraryNames(model);
-		SubMonitor subMonitor = SubMonitor.convert(monitor, PDEUIMessages.ImportWizard_operation_importingSource,
-				libraries.length);
 
-		SourceLocationManager manager = getSourceManager(model);
 		if (manager != null) {
 
 			// Check if we have new style individual source bundles
@@ -957,7 +1179,7 @@ public class PluginImportOperation extends WorkspaceJob {
 					if (library.equals(DEFAULT_LIBRARY_NAME)) {
 						// Need to pull out any java source that is not in
 						// another source root
-						IResource destination = project.getFolder(DEFAULT_SOURCE_DIR);
+						File destination = new File(projectDir, DEFAULT_SOURCE_DIR);
 						if (!destination.exists()) {
 							List<IPath> excludeFolders = new ArrayList<>(sourceRoots.size());
 							for (String root : sourceRoots) {
@@ -966,19 +1188,19 @@ public class PluginImportOperation extends WorkspaceJob {
 								}
 							}
 							Set<IPath> collectedPackages = new HashSet<>();
-							PluginImportHelper.extractJavaSourceFromArchive(srcFile, excludeFolders,
-									destination.getFullPath(), collectedPackages, subMonitor.split(1));
-							addBuildEntry(buildModel, "source." + DEFAULT_LIBRARY_NAME, DEFAULT_SOURCE_DIR + "/"); //$NON-NLS-1$ //$NON-NLS-2$
+							PluginImportHelper.extractJavaSourceFromArchive(srcFile, excludeFolders, destination,
+									collectedPackages, monitor);
+							buildEntries.putIfAbsent("source." + DEFAULT_LIBRARY_NAME, DEFAULT_SOURCE_DIR + "/"); //$NON-NLS-1$ //$NON-NLS-2$
 							addPackageEntries(collectedPackages, IPath.fromOSString(DEFAULT_SOURCE_DIR), packageLocations);
 
 						}
 					} else if (sourceRoots.contains(getSourceDirName(library))) {
 						IPath sourceDir = IPath.fromOSString(getSourceDirName(library));
-						if (!project.getFolder(sourceDir).exists()) {
+						if (!new File(projectDir, sourceDir.toOSString()).exists()) {
 							Set<IPath> collectedPackages = new HashSet<>();
-							PluginImportHelper.extractFolderFromArchive(srcFile, sourceDir, project.getFullPath(),
-									collectedPackages, subMonitor.split(1));
-							addBuildEntry(buildModel, "source." + library, sourceDir.toString()); //$NON-NLS-1$
+							PluginImportHelper.extractFolderFromArchive(srcFile, sourceDir, projectDir,
+									collectedPackages, monitor);
+							buildEntries.putIfAbsent("source." + library, sourceDir.toString()); //$NON-NLS-1$
 							addPackageEntries(collectedPackages, sourceDir, packageLocations);
 						}
 					}
@@ -995,12 +1217,12 @@ public class PluginImportOperation extends WorkspaceJob {
 				if (srcPath != null) {
 					sourceFound = true;
 					IPath dstPath = IPath.fromOSString(getSourceDirName(library));
-					IResource destination = project.getFolder(dstPath);
+					File destination = new File(projectDir, dstPath.toOSString());
 					if (!destination.exists()) {
 						Set<IPath> collectedPackages = new HashSet<>();
-						PluginImportHelper.extractArchive(new File(srcPath.toOSString()), destination.getFullPath(),
-								collectedPackages, subMonitor.split(1));
-						addBuildEntry(buildModel, "source." + library, dstPath.toString()); //$NON-NLS-1$
+						PluginImportHelper.extractArchive(new File(srcPath.toOSString()), destination,
+								collectedPackages, monitor);
+						buildEntries.putIfAbsent("source." + library, dstPath.toString()); //$NON-NLS-1$
 						addPackageEntries(collectedPackages, dstPath, packageLocations);
 					}
 				}
@@ -1016,35 +1238,34 @@ public class PluginImportOperation extends WorkspaceJob {
 	 * that is handled when the binary plug-in is extracted.
 	 *
 	 * @param model plug-in model being imported
-	 * @param buildModel build model to update if source is found
+	 * @param buildEntries build entries to update if source is found
 	 * @param packageLocations package location map (package path to destination) to update if source is found
 	 * @return true if source was found inside the binary plug-in, false otherwise
 	 */
-	private boolean handleInternalSource(IPluginModelBase model, WorkspaceBuildModel buildModel, Map<IPath, IPath> packageLocations) throws CoreException, ZipException, IOException {
+	private boolean handleInternalSource(IPluginModelBase model, Map<String, String> buildEntries, Map<IPath, IPath> packageLocations) throws ZipException, IOException {
 		IPath defaultSourcePath = IPath.fromOSString(DEFAULT_SOURCE_DIR);
 		if (isJARd(model)) {
 			try (ZipFile zip = new ZipFile(new File(model.getInstallLocation()))) {
 				IImportStructureProvider provider = new ZipFileStructureProvider(zip);
 				Object root = ((ZipFileStructureProvider) provider).getRoot();
-				return handleInternalSource(buildModel, packageLocations, provider, root, defaultSourcePath, defaultSourcePath);
+				return handleInternalSource(buildEntries, packageLocations, provider, root, defaultSourcePath, defaultSourcePath);
 			}
 		}
 		IImportStructureProvider provider = FileSystemStructureProvider.INSTANCE;
 		File rootFile = new File(model.getInstallLocation());
 		IPath prefixPath = IPath.fromOSString(rootFile.getPath()).append(defaultSourcePath);
-		return handleInternalSource(buildModel, packageLocations, provider, rootFile, prefixPath, defaultSourcePath);
+		return handleInternalSource(buildEntries, packageLocations, provider, rootFile, prefixPath, defaultSourcePath);
 	}
 
-	private boolean handleInternalSource(WorkspaceBuildModel buildModel, Map<IPath, IPath> packageLocations,
-			IImportStructureProvider provider, Object root, IPath prefixPath, IPath defaultSourcePath)
-			throws CoreException {
+	private boolean handleInternalSource(Map<String, String> buildEntries, Map<IPath, IPath> packageLocations,
+			IImportStructureProvider provider, Object root, IPath prefixPath, IPath defaultSourcePath) {
 		ArrayList<Object> collected = new ArrayList<>();
 		PluginImportHelper.collectResourcesFromFolder(provider, root, defaultSourcePath, collected);
 		if (!collected.isEmpty()) {
 			Set<IPath> packages = new HashSet<>();
 			PluginImportHelper.collectJavaPackages(provider, collected, prefixPath, packages);
 			addPackageEntries(packages, defaultSourcePath, packageLocations);
-			addBuildEntry(buildModel, "source." + DEFAULT_LIBRARY_NAME, DEFAULT_SOURCE_DIR + "/"); //$NON-NLS-1$ //$NON-NLS-2$
+			buildEntries.putIfAbsent("source." + DEFAULT_LIBRARY_NAME, DEFAULT_SOURCE_DIR + "/"); //$NON-NLS-1$ //$NON-NLS-2$
 			return true;
 		}
 		return false;
@@ -1077,14 +1298,12 @@ public class PluginImportOperation extends WorkspaceJob {
 
 	/**
 	 * Extracts any additional files and folders that exist in the source location
-	 * @param project the destination project
+	 * @param projectDir directory of the destination project in the local file system
 	 * @param model the plugin being imported
-	 * @param monitor progress monitor
+	 * @param manager source location manager containing source for the plug-in or <code>null</code>
 	 * @throws CoreException is there is a problem importing the files
 	 */
-	private void importAdditionalSourceFiles(IProject project, IPluginModelBase model, IProgressMonitor monitor)
-			throws CoreException {
-		SourceLocationManager manager = getSourceManager(model);
+	private void importAdditionalSourceFiles(File projectDir, IPluginModelBase model, SourceLocationManager manager) throws CoreException {
 		if (manager != null) {
 			File sourceLocation = manager.findSourcePlugin(model.getPluginBase());
 			if (sourceLocation != null) {
@@ -1093,14 +1312,14 @@ public class PluginImportOperation extends WorkspaceJob {
 						ZipFileStructureProvider provider = new ZipFileStructureProvider(zip);
 						ArrayList<Object> collected = new ArrayList<>();
 						PluginImportHelper.collectNonJavaNonBuildFiles(provider, provider.getRoot(), collected);
-						PluginImportHelper.importContent(provider.getRoot(), project.getFullPath(), provider, collected, monitor);
+						PluginImportHelper.extractContent(provider.getRoot(), projectDir, provider, collected, null);
 					} catch (IOException e) {
 						throw new CoreException(Status.error(e.getMessage(), e));
 					}
 				} else {
 					ArrayList<Object> collected = new ArrayList<>();
 					PluginImportHelper.collectNonJavaNonBuildFiles(FileSystemStructureProvider.INSTANCE, sourceLocation, collected);
-					PluginImportHelper.importContent(sourceLocation, project.getFullPath(), FileSystemStructureProvider.INSTANCE, collected, monitor);
+					PluginImportHelper.extractContent(sourceLocation, projectDir, FileSystemStructureProvider.INSTANCE, collected, null);
 				}
 			}
 		}
@@ -1108,16 +1327,16 @@ public class PluginImportOperation extends WorkspaceJob {
 
 	/**
 	 * Imports files from the plug-in that are necessary to make the created project a plug-in project.
-	 * Specifically the manifest and related file are extracted.
+	 * Specifically the manifest and related file are extracted to the project directory.
 	 * @throws CoreException if there is a problem importing the content
 	 */
-	private void importRequiredPluginFiles(IProject project, IPluginModelBase model, IProgressMonitor monitor) throws CoreException {
+	private void importRequiredPluginFiles(File projectDir, IPluginModelBase model) throws CoreException {
 		if (isJARd(model)) {
 			try (ZipFile zip = new ZipFile(new File(model.getInstallLocation()))) {
 				ZipFileStructureProvider provider = new ZipFileStructureProvider(zip);
 				ArrayList<Object> collected = new ArrayList<>();
 				PluginImportHelper.collectRequiredBundleFiles(provider, provider.getRoot(), collected);
-				PluginImportHelper.importContent(provider.getRoot(), project.getFullPath(), provider, collected, monitor);
+				PluginImportHelper.extractContent(provider.getRoot(), projectDir, provider, collected, null);
 			} catch (IOException e) {
 				throw new CoreException(Status.error(e.getMessage(), e));
 			}
@@ -1125,7 +1344,7 @@ public class PluginImportOperation extends WorkspaceJob {
 			ArrayList<Object> collected = new ArrayList<>();
 			File file = new File(model.getInstallLocation());
 			PluginImportHelper.collectRequiredBundleFiles(FileSystemStructureProvider.INSTANCE, file, collected);
-			PluginImportHelper.importContent(file, project.getFullPath(), FileSystemStructureProvider.INSTANCE, collected, monitor);
+			PluginImportHelper.extractContent(file, projectDir, FileSystemStructureProvider.INSTANCE, collected, null);
 		}
 	}
 
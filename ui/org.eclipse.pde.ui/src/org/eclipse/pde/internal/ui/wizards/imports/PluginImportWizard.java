@@ -17,7 +17,6 @@ package org.eclipse.pde.internal.ui.wizards.imports;
 import java.util.HashSet;
 import java.util.Map;
 
-import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.ILaunch;
@@ -193,7 +192,6 @@ public class PluginImportWizard extends Wizard implements IImportWizard, IPageCh
 		job.setImportDescriptions(importerToDescriptions);
 		job.setAlternateSource(alternateSource);
 		job.setPluginsInUse(launchedConfiguration);
-		job.setRule(ResourcesPlugin.getWorkspace().getRoot());
 		job.setUser(true);
 		job.schedule();
 	}